@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+
+/**
+ * Helpers to create the input data of the benchmarks.
+ *
+ * @since 6.1
+ */
+abstract class BenchmarkData {
+
+	private BenchmarkData() {
+	}
+
+	/**
+	 * Create a temporary comma delimited file with the given number of persons.
+	 * @param lines the number of lines to write
+	 * @return the path of the created file, deleted on exit
+	 * @throws IOException if the file can not be written
+	 */
+	static Path createDelimitedFile(int lines) throws IOException {
+		Path file = Files.createTempFile("spring-batch-benchmark-", ".csv");
+		file.toFile().deleteOnExit();
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			for (long i = 0; i < lines; i++) {
+				Person person = Person.of(i);
+				writer.write(person.getId() + "," + person.getFirstName() + "," + person.getLastName() + ","
+						+ person.getAge() + "," + person.getEmail());
+				writer.newLine();
+			}
+		}
+		return file;
+	}
+
+	/**
+	 * Split the given number of persons in chunks of the given size.
+	 * @param items the total number of items
+	 * @param chunkSize the size of each chunk
+	 * @return the list of chunks
+	 */
+	static List<Chunk<Person>> createChunks(int items, int chunkSize) {
+		List<Chunk<Person>> chunks = new ArrayList<>();
+		Chunk<Person> chunk = new Chunk<>();
+		for (long i = 0; i < items; i++) {
+			chunk.add(Person.of(i));
+			if (chunk.size() == chunkSize) {
+				chunks.add(chunk);
+				chunk = new Chunk<>();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			chunks.add(chunk);
+		}
+		return chunks;
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.io.BufferedReader;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.batch.infrastructure.item.file.BufferedReaderFactory;
+import org.springframework.batch.infrastructure.item.file.DefaultBufferedReaderFactory;
+import org.springframework.batch.infrastructure.item.file.FileChannelBufferedReaderFactory;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Benchmark of the {@link BufferedReaderFactory} implementations reading all the lines of
+ * a delimited file. The score is the time needed to read the whole file.
+ *
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BufferedReaderFactoryBenchmark {
+
+	@Param({ "1000000" })
+	public int lines;
+
+	@Param({ "default", "fileChannel", "memoryMapped" })
+	public String bufferedReaderFactory;
+
+	private FileSystemResource resource = new FileSystemResource("");
+
+	private BufferedReaderFactory factory = new DefaultBufferedReaderFactory();
+
+	@Setup
+	public void setUp() throws Exception {
+		Path file = BenchmarkData.createDelimitedFile(this.lines);
+		this.resource = new FileSystemResource(file);
+		if (!this.bufferedReaderFactory.equals("default")) {
+			FileChannelBufferedReaderFactory fileChannelFactory = new FileChannelBufferedReaderFactory();
+			fileChannelFactory.setMemoryMapped(this.bufferedReaderFactory.equals("memoryMapped"));
+			this.factory = fileChannelFactory;
+		}
+	}
+
+	@Benchmark
+	public void readLines(Blackhole blackhole) throws Exception {
+		try (BufferedReader reader = this.factory.create(this.resource, "UTF-8")) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				blackhole.consume(line);
+			}
+		}
+	}
+
+}
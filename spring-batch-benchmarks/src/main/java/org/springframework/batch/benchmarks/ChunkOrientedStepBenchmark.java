@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.item.ChunkOrientedStep;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.support.ListItemReader;
+import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
+
+/**
+ * Benchmark of the framework overhead of a {@link ChunkOrientedStep} (transactions,
+ * listeners, contribution and step execution updates) with in-memory items and a
+ * {@link ResourcelessJobRepository}. The score is the time needed to execute the step
+ * with the given chunk size.
+ *
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkOrientedStepBenchmark {
+
+	@Param({ "100000" })
+	public int items;
+
+	@Param({ "1", "10", "100", "1000" })
+	public int chunkSize;
+
+	private List<Person> persons = new ArrayList<>();
+
+	private JobRepository jobRepository = new ResourcelessJobRepository();
+
+	@Setup
+	public void setUp() {
+		this.persons = new ArrayList<>(this.items);
+		for (long i = 0; i < this.items; i++) {
+			this.persons.add(Person.of(i));
+		}
+	}
+
+	@Benchmark
+	public StepExecution executeStep(Blackhole blackhole) throws Exception {
+		ChunkOrientedStep<Person, String> step = new StepBuilder("step", this.jobRepository)
+			.<Person, String>chunk(this.chunkSize)
+			.reader(new ListItemReader<>(this.persons))
+			.processor(Person::getEmail)
+			.writer(chunk -> blackhole.consume(chunk.getItems()))
+			.transactionManager(new ResourcelessTransactionManager())
+			.build();
+		JobInstance jobInstance = this.jobRepository.createJobInstance("job", new JobParameters());
+		JobExecution jobExecution = this.jobRepository.createJobExecution(jobInstance, new JobParameters(),
+				new ExecutionContext());
+		StepExecution stepExecution = this.jobRepository.createStepExecution("step", jobExecution);
+		step.execute(stepExecution);
+		return stepExecution;
+	}
+
+}
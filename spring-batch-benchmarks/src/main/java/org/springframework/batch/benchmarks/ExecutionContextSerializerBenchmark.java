@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.BinaryExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
+import org.springframework.batch.core.repository.dao.JacksonExecutionContextStringSerializer;
+
+/**
+ * Benchmark of the {@link ExecutionContextSerializer} implementations with an execution
+ * context similar to the one saved by item streams at each commit.
+ *
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionContextSerializerBenchmark {
+
+	@Param({ "default", "jackson", "jackson2", "binary" })
+	public String serializer;
+
+	@Param({ "5", "50" })
+	public int entries;
+
+	private ExecutionContextSerializer executionContextSerializer = new DefaultExecutionContextSerializer();
+
+	private Map<String, Object> context = new HashMap<>();
+
+	private byte[] serializedContext = new byte[0];
+
+	@Setup
+	@SuppressWarnings("removal")
+	public void setUp() throws Exception {
+		this.executionContextSerializer = switch (this.serializer) {
+			case "default" -> new DefaultExecutionContextSerializer();
+			case "jackson" -> new JacksonExecutionContextStringSerializer();
+			case "jackson2" -> new Jackson2ExecutionContextStringSerializer();
+			case "binary" -> new BinaryExecutionContextSerializer();
+			default -> throw new IllegalArgumentException("Unknown serializer: " + this.serializer);
+		};
+		this.context = new HashMap<>();
+		for (int i = 0; i < this.entries; i++) {
+			switch (i % 3) {
+				case 0 -> this.context.put("reader" + i + ".read.count", (long) i * 1000);
+				case 1 -> this.context.put("writer" + i + ".current.count", i);
+				default -> this.context.put("step" + i + ".key", "value" + i);
+			}
+		}
+		this.serializedContext = serialize();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+		this.executionContextSerializer.serialize(this.context, out);
+		return out.toByteArray();
+	}
+
+	@Benchmark
+	public Map<String, Object> deserialize() throws Exception {
+		return this.executionContextSerializer.deserialize(new ByteArrayInputStream(this.serializedContext));
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
+import org.springframework.batch.infrastructure.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.infrastructure.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.infrastructure.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.infrastructure.item.file.mapping.MethodHandleFieldSetMapper;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Benchmark of a {@link FlatFileItemReader} reading a delimited file with a
+ * {@link org.springframework.batch.infrastructure.item.file.transform.DelimitedLineTokenizer}
+ * and a {@link BeanWrapperFieldSetMapper} or a {@link MethodHandleFieldSetMapper}. The
+ * score is the time needed to read the whole file.
+ *
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlatFileItemReaderBenchmark {
+
+	@Param({ "100000" })
+	public int lines;
+
+	@Param({ "false", "true" })
+	public boolean reuseFieldSets;
+
+	@Param({ "beanWrapper", "methodHandle" })
+	public String fieldSetMapper;
+
+	private FileSystemResource resource = new FileSystemResource("");
+
+	@Setup
+	public void setUp() throws Exception {
+		Path file = BenchmarkData.createDelimitedFile(this.lines);
+		this.resource = new FileSystemResource(file);
+	}
+
+	@Benchmark
+	public void readDelimitedFile(Blackhole blackhole) throws Exception {
+		FieldSetMapper<Person> fieldSetMapper = createFieldSetMapper();
+		FlatFileItemReader<Person> reader = new FlatFileItemReaderBuilder<Person>().name("personReader")
+			.resource(this.resource)
+			.delimited()
+			.reuseFieldSets(this.reuseFieldSets)
+			.names(Person.FIELD_NAMES)
+			.fieldSetMapper(fieldSetMapper)
+			.build();
+		reader.open(new ExecutionContext());
+		try {
+			Person person;
+			while ((person = reader.read()) != null) {
+				blackhole.consume(person);
+			}
+		}
+		finally {
+			reader.close();
+		}
+	}
+
+	private FieldSetMapper<Person> createFieldSetMapper() throws Exception {
+		if (this.fieldSetMapper.equals("methodHandle")) {
+			return new MethodHandleFieldSetMapper<>(Person.class);
+		}
+		BeanWrapperFieldSetMapper<Person> beanWrapperFieldSetMapper = new BeanWrapperFieldSetMapper<>();
+		beanWrapperFieldSetMapper.setTargetType(Person.class);
+		beanWrapperFieldSetMapper.afterPropertiesSet();
+		return beanWrapperFieldSetMapper;
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.file.FlatFileItemWriter;
+import org.springframework.batch.infrastructure.item.file.builder.FlatFileItemWriterBuilder;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Benchmark of a {@link FlatFileItemWriter} writing delimited lines. The score is the
+ * time needed to write all items in chunks of the given size.
+ *
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlatFileItemWriterBenchmark {
+
+	@Param({ "100000" })
+	public int items;
+
+	@Param({ "10", "100", "1000" })
+	public int chunkSize;
+
+	private List<Chunk<Person>> chunks = new ArrayList<>();
+
+	private Path file = Path.of("");
+
+	@Setup
+	public void setUp() throws Exception {
+		this.file = Files.createTempFile("spring-batch-benchmark-", ".csv");
+		this.chunks = BenchmarkData.createChunks(this.items, this.chunkSize);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(this.file);
+	}
+
+	@Benchmark
+	public void writeDelimitedFile() throws Exception {
+		FlatFileItemWriter<Person> writer = new FlatFileItemWriterBuilder<Person>().name("personWriter")
+			.resource(new FileSystemResource(this.file))
+			.delimited()
+			.sourceType(Person.class)
+			.names(Person.FIELD_NAMES)
+			.build();
+		writer.open(new ExecutionContext());
+		try {
+			for (Chunk<Person> chunk : this.chunks) {
+				writer.write(chunk);
+			}
+		}
+		finally {
+			writer.close();
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.batch.infrastructure.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.infrastructure.item.database.JdbcBulkItemWriter;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcBulkItemWriterBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Benchmark of a {@link JdbcBatchItemWriter} or a {@link JdbcBulkItemWriter} inserting
+ * items in an embedded H2 database. Each chunk is written in its own transaction, as in a
+ * chunk-oriented step. The score is the time needed to write all items in chunks of the
+ * given size.
+ *
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcBatchItemWriterBenchmark {
+
+	@Param({ "10000" })
+	public int items;
+
+	@Param({ "10", "100", "1000" })
+	public int chunkSize;
+
+	@Param({ "batch", "bulk" })
+	public String writerType;
+
+	private List<Chunk<Person>> chunks = new ArrayList<>();
+
+	private EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+		.generateUniqueName(true)
+		.build();
+
+	private JdbcTemplate jdbcTemplate = new JdbcTemplate(this.database);
+
+	private TransactionTemplate transactionTemplate = new TransactionTemplate(
+			new DataSourceTransactionManager(this.database));
+
+	private ItemWriter<Person> writer = new JdbcBatchItemWriter<>();
+
+	@Setup
+	public void setUp() throws Exception {
+		this.jdbcTemplate.execute("CREATE TABLE PERSON (ID BIGINT PRIMARY KEY, FIRST_NAME VARCHAR(50), "
+				+ "LAST_NAME VARCHAR(50), AGE INT, EMAIL VARCHAR(100))");
+		if (this.writerType.equals("bulk")) {
+			this.writer = new JdbcBulkItemWriterBuilder<Person>().dataSource(this.database)
+				.table("PERSON")
+				.columns("ID", "FIRST_NAME", "LAST_NAME", "AGE", "EMAIL")
+				.fieldExtractor(person -> new Object[] { person.getId(), person.getFirstName(), person.getLastName(),
+						person.getAge(), person.getEmail() })
+				.build();
+		}
+		else {
+			this.writer = new JdbcBatchItemWriterBuilder<Person>().dataSource(this.database)
+				.sql("INSERT INTO PERSON (ID, FIRST_NAME, LAST_NAME, AGE, EMAIL) "
+						+ "VALUES (:id, :firstName, :lastName, :age, :email)")
+				.beanMapped()
+				.build();
+		}
+		this.chunks = BenchmarkData.createChunks(this.items, this.chunkSize);
+	}
+
+	@Setup(Level.Invocation)
+	public void truncate() {
+		this.jdbcTemplate.execute("TRUNCATE TABLE PERSON");
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.database.shutdown();
+	}
+
+	@Benchmark
+	public void writeChunks() {
+		for (Chunk<Person> chunk : this.chunks) {
+			this.transactionTemplate.executeWithoutResult(status -> {
+				try {
+					this.writer.write(chunk);
+				}
+				catch (Exception e) {
+					throw new IllegalStateException("Unable to write chunk", e);
+				}
+			});
+		}
+	}
+
+}
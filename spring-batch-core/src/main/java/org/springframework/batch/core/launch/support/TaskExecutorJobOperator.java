@@ -34,6 +34,7 @@ import org.springframework.batch.core.launch.JobExecutionAlreadyRunningException
 import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.launch.JobRestartException;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 
@@ -66,6 +67,11 @@ public class TaskExecutorJobOperator extends SimpleJobOperator {
 
 	protected @Nullable ObservationRegistry observationRegistry;
 
+	// the executor created by setVirtualThreads, if any
+	private @Nullable SimpleAsyncTaskExecutor virtualThreadTaskExecutor;
+
+	private int concurrencyLimit = SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY;
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		super.afterPropertiesSet();
@@ -93,6 +99,41 @@ public class TaskExecutorJobOperator extends SimpleJobOperator {
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * Launch each job in its own virtual thread. This is a shortcut for
+	 * {@link #setTaskExecutor(TaskExecutor)} with a {@link SimpleAsyncTaskExecutor} using
+	 * virtual threads and the {@link #setConcurrencyLimit(int) concurrency limit}.
+	 * Requires Java 21 or later.
+	 * @param virtualThreads true to launch jobs in virtual threads, false leaves the task
+	 * executor unchanged
+	 * @since 6.1
+	 */
+	public void setVirtualThreads(boolean virtualThreads) {
+		if (virtualThreads && this.virtualThreadTaskExecutor == null) {
+			SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("spring-batch-job-");
+			taskExecutor.setVirtualThreads(true);
+			taskExecutor.setConcurrencyLimit(this.concurrencyLimit);
+			this.virtualThreadTaskExecutor = taskExecutor;
+			this.taskExecutor = taskExecutor;
+		}
+	}
+
+	/**
+	 * Set the maximum number of jobs executed at the same time in virtual threads. Once
+	 * the limit is reached, launching a job blocks until a running one completes. Only
+	 * used with {@link #setVirtualThreads(boolean) virtual threads}. Defaults to no
+	 * limit.
+	 * @param concurrencyLimit the maximum number of jobs executed at the same time, or
+	 * {@link SimpleAsyncTaskExecutor#UNBOUNDED_CONCURRENCY} for no limit
+	 * @since 6.1
+	 */
+	public void setConcurrencyLimit(int concurrencyLimit) {
+		this.concurrencyLimit = concurrencyLimit;
+		if (this.virtualThreadTaskExecutor != null) {
+			this.virtualThreadTaskExecutor.setConcurrencyLimit(concurrencyLimit);
+		}
+	}
+
 	/**
 	 * Set the observation registry to use for observations. Defaults to
 	 * {@link ObservationRegistry#NOOP}.
@@ -16,8 +16,10 @@
 package org.springframework.batch.core.observability.micrometer;
 
 import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -82,6 +84,27 @@ public final class MicrometerMetrics {
 			.register(meterRegistry);
 	}
 
+	/**
+	 * Create a {@link Gauge}.
+	 * @param meterRegistry the meter registry to use
+	 * @param name of the gauge. Will be prefixed with
+	 * {@link BatchMetrics#METRICS_PREFIX}.
+	 * @param description of the gauge
+	 * @param stateObject the object whose state is measured
+	 * @param valueFunction the function returning the value of the gauge
+	 * @param tags of the gauge
+	 * @param <T> type of the state object
+	 * @return a new gauge instance
+	 * @since 6.1
+	 */
+	public static <T> Gauge createGauge(MeterRegistry meterRegistry, String name, String description, T stateObject,
+			ToDoubleFunction<T> valueFunction, Tag... tags) {
+		return Gauge.builder(BatchMetrics.METRICS_PREFIX + name, stateObject, valueFunction)
+			.description(description)
+			.tags(Arrays.asList(tags))
+			.register(meterRegistry);
+	}
+
 	/**
 	 * Create a new {@link Timer.Sample}.
 	 * @param meterRegistry the meter registry to use
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
+import org.springframework.batch.infrastructure.item.file.SeekableBufferedReader;
+import org.springframework.batch.infrastructure.item.file.separator.RecordSeparatorPolicy;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Implementation of {@link Partitioner} that splits a single flat file into byte ranges
+ * of roughly the same size, aligned on record boundaries. Creates an
+ * {@link ExecutionContext} per range with the URL of the file (under the "fileName" key
+ * by default) and the byte positions of the range (under the "startPosition" and
+ * "endPosition" keys), and labels them as
+ * <code>{partition0, partition1, ..., partitionN}</code>. Each range is meant to be read
+ * by a {@link FlatFileItemReader} configured with these positions, which makes the reader
+ * restartable per partition.
+ * <p>
+ * Header lines ({@link #setLinesToSkip(int)}) are excluded from all ranges. By default,
+ * each line is a record, and a boundary is found by moving to an approximate position and
+ * skipping to the start of the next line, without reading the rest of the file. If a
+ * {@link RecordSeparatorPolicy} is set (for instance to handle quoted multi-line
+ * records), the start of a record cannot be detected from an arbitrary position, so the
+ * file is scanned once, record by record, to find the boundaries.
+ * <p>
+ * Only UTF-8 and single byte encodings are supported.
+ *
+ * @since 6.1
+ * @see MultiResourcePartitioner
+ * @see FlatFileItemReader#setStartPosition(long)
+ * @see FlatFileItemReader#setEndPosition(long)
+ */
+public class FileRangePartitioner implements Partitioner {
+
+	/**
+	 * The key of the byte position of the first record of a range.
+	 */
+	public static final String START_POSITION_KEY = "startPosition";
+
+	/**
+	 * The key of the byte position of the end of a range (exclusive).
+	 */
+	public static final String END_POSITION_KEY = "endPosition";
+
+	private static final String DEFAULT_KEY_NAME = "fileName";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private final Resource resource;
+
+	private String keyName = DEFAULT_KEY_NAME;
+
+	private String encoding = FlatFileItemReader.DEFAULT_CHARSET;
+
+	private int linesToSkip = 0;
+
+	private String[] comments = FlatFileItemReader.DEFAULT_COMMENT_PREFIXES;
+
+	private @Nullable RecordSeparatorPolicy recordSeparatorPolicy;
+
+	/**
+	 * Create a new {@link FileRangePartitioner}.
+	 * @param resource the file to split
+	 */
+	public FileRangePartitioner(Resource resource) {
+		Assert.notNull(resource, "The resource must not be null");
+		this.resource = resource;
+	}
+
+	/**
+	 * The name of the key for the file name in each {@link ExecutionContext}. Defaults to
+	 * "fileName".
+	 * @param keyName the value of the key
+	 */
+	public void setKeyName(String keyName) {
+		this.keyName = keyName;
+	}
+
+	/**
+	 * The encoding of the file. Defaults to {@link FlatFileItemReader#DEFAULT_CHARSET}.
+	 * Only UTF-8 and single byte encodings are supported, since other encodings do not
+	 * allow to find the start of a line from an arbitrary byte position.
+	 * @param encoding the encoding of the file
+	 * @throws IllegalArgumentException if the encoding is not supported
+	 */
+	public void setEncoding(String encoding) {
+		Charset charset = Charset.forName(encoding);
+		Assert.isTrue(isSupported(charset),
+				() -> "Only UTF-8 and single byte encodings are supported, got [" + encoding + "]");
+		this.encoding = encoding;
+	}
+
+	private static boolean isSupported(Charset charset) {
+		return StandardCharsets.UTF_8.equals(charset)
+				|| (charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f);
+	}
+
+	/**
+	 * The number of header lines at the start of the file, which are excluded from all
+	 * ranges. Defaults to 0.
+	 * @param linesToSkip the number of lines to skip
+	 */
+	public void setLinesToSkip(int linesToSkip) {
+		this.linesToSkip = linesToSkip;
+	}
+
+	/**
+	 * The comment prefixes, used to ignore comment lines when scanning records with a
+	 * {@link RecordSeparatorPolicy}. Defaults to
+	 * {@link FlatFileItemReader#DEFAULT_COMMENT_PREFIXES}.
+	 * @param comments an array of comment line prefixes
+	 */
+	public void setComments(String[] comments) {
+		this.comments = comments.clone();
+	}
+
+	/**
+	 * The policy used by the readers to determine the end of records. Setting a policy
+	 * makes the partitioner scan the whole file to find the boundaries of the ranges. Not
+	 * set by default, meaning that each line is a record.
+	 * @param recordSeparatorPolicy the policy to use
+	 */
+	public void setRecordSeparatorPolicy(RecordSeparatorPolicy recordSeparatorPolicy) {
+		this.recordSeparatorPolicy = recordSeparatorPolicy;
+	}
+
+	/**
+	 * Split the file into at most {@code gridSize} ranges.
+	 *
+	 * @see Partitioner#partition(int)
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Assert.state(this.resource.exists(), "Resource does not exist: " + this.resource);
+		String fileName;
+		List<Long> boundaries;
+		long size;
+		try {
+			fileName = this.resource.getURL().toExternalForm();
+			size = this.resource.contentLength();
+			boundaries = findBoundaries(Math.max(gridSize, 1), size);
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("File could not be split: " + this.resource, e);
+		}
+		Map<String, ExecutionContext> map = CollectionUtils.newHashMap(boundaries.size());
+		for (int i = 0; i < boundaries.size(); i++) {
+			ExecutionContext context = new ExecutionContext();
+			context.putString(this.keyName, fileName);
+			context.putLong(START_POSITION_KEY, boundaries.get(i));
+			context.putLong(END_POSITION_KEY, i + 1 < boundaries.size() ? boundaries.get(i + 1) : size);
+			map.put(PARTITION_KEY + i, context);
+		}
+		return map;
+	}
+
+	private List<Long> findBoundaries(int gridSize, long size) throws IOException {
+		List<Long> boundaries = new ArrayList<>(gridSize);
+		try (SeekableBufferedReader reader = new SeekableBufferedReader(this.resource.getInputStream(),
+				Charset.forName(this.encoding))) {
+			for (int i = 0; i < this.linesToSkip; i++) {
+				reader.readLine();
+			}
+			long start = reader.getPosition();
+			boundaries.add(start);
+			for (int i = 1; i < gridSize; i++) {
+				long target = start + (size - start) * i / gridSize;
+				long position = reader.getPosition();
+				if (this.recordSeparatorPolicy == null) {
+					if (position < target) {
+						// the byte before the target ends the line to skip if the target
+						// is the start of a line
+						reader.seek(target - 1);
+						reader.readLine();
+					}
+				}
+				else {
+					boolean hasMoreRecords = true;
+					while (hasMoreRecords && reader.getPosition() < target) {
+						hasMoreRecords = readRecord(reader, this.recordSeparatorPolicy);
+					}
+				}
+				position = reader.getPosition();
+				if (position >= size) {
+					break;
+				}
+				if (position > boundaries.get(boundaries.size() - 1)) {
+					boundaries.add(position);
+				}
+			}
+		}
+		return boundaries;
+	}
+
+	private boolean readRecord(SeekableBufferedReader reader, RecordSeparatorPolicy policy) throws IOException {
+		String line;
+		do {
+			line = reader.readLine();
+			if (line == null) {
+				return false;
+			}
+		}
+		while (isComment(line));
+		String record = line;
+		while (!policy.isEndOfRecord(record)) {
+			line = reader.readLine();
+			if (line == null) {
+				break;
+			}
+			record = policy.preProcess(record) + line;
+		}
+		return true;
+	}
+
+	private boolean isComment(String line) {
+		for (String prefix : this.comments) {
+			if (line.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
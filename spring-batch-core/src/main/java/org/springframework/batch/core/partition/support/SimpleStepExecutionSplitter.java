@@ -18,6 +18,8 @@ package org.springframework.batch.core.partition.support;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -130,27 +132,27 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter {
 		Map<String, ExecutionContext> contexts = getContexts(stepExecution, gridSize);
 		Set<StepExecution> set = CollectionUtils.newHashSet(contexts.size());
 
+		// Load the last executions of all partitions at once on restart
+		List<String> stepNames = contexts.keySet().stream().map(this::getPartitionStepName).toList();
+		Map<String, StepExecution> lastStepExecutions = jobRepository
+			.getLastStepExecutions(jobExecution.getJobInstance(), stepNames);
+
+		// Create the step executions of all partitions at once
+		Map<String, ExecutionContext> executionContexts = new LinkedHashMap<>();
 		for (Entry<String, ExecutionContext> context : contexts.entrySet()) {
 
-			// Make the step execution name unique and repeatable
-			String stepName = this.stepName + STEP_NAME_SEPARATOR + context.getKey();
-			StepExecution lastStepExecution = jobRepository.getLastStepExecution(jobExecution.getJobInstance(),
-					stepName);
+			String stepName = getPartitionStepName(context.getKey());
+			StepExecution lastStepExecution = lastStepExecutions.get(stepName);
 			if (lastStepExecution == null) { // fresh start
-				StepExecution currentStepExecution = jobRepository.createStepExecution(stepName, jobExecution);
-				currentStepExecution.setExecutionContext(context.getValue());
-				jobRepository.updateExecutionContext(currentStepExecution);
-				set.add(currentStepExecution);
+				executionContexts.put(stepName, context.getValue());
 			}
 			else { // restart
 				if (shouldStart(allowStartIfComplete, stepExecution, lastStepExecution)) {
-					StepExecution currentStepExecution = jobRepository.createStepExecution(stepName, jobExecution);
-					currentStepExecution.setExecutionContext(lastStepExecution.getExecutionContext());
-					jobRepository.updateExecutionContext(currentStepExecution);
-					set.add(currentStepExecution);
+					executionContexts.put(stepName, lastStepExecution.getExecutionContext());
 				}
 			}
 		}
+		set.addAll(jobRepository.createStepExecutions(jobExecution, executionContexts));
 
 		Set<StepExecution> executions = CollectionUtils.newHashSet(set.size());
 		executions.addAll(set);
@@ -159,6 +161,13 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter {
 
 	}
 
+	/**
+	 * Make the step execution name unique and repeatable.
+	 */
+	private String getPartitionStepName(String partitionName) {
+		return this.stepName + STEP_NAME_SEPARATOR + partitionName;
+	}
+
 	private Map<String, ExecutionContext> getContexts(StepExecution stepExecution, int gridSize) {
 
 		ExecutionContext context = stepExecution.getExecutionContext();
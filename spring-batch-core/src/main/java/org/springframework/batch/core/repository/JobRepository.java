@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,8 +26,12 @@ import org.springframework.batch.core.repository.explore.JobExplorer;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -250,6 +254,26 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the last execution of each of the given steps for a job instance, with
+	 * their execution contexts. The default implementation calls
+	 * {@link #getLastStepExecution(JobInstance, String)} for each step name.
+	 * @param jobInstance {@link JobInstance} instance containing the step executions.
+	 * @param stepNames the names of the step executions that might have run.
+	 * @return the last execution of each step that has run, keyed by step name.
+	 * @since 6.1
+	 */
+	default Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> stepExecutions = new HashMap<>();
+		for (String stepName : stepNames) {
+			StepExecution stepExecution = getLastStepExecution(jobInstance, stepName);
+			if (stepExecution != null) {
+				stepExecutions.put(stepName, stepExecution);
+			}
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * @param jobInstance {@link JobInstance} instance containing the step executions.
 	 * @param stepName the name of the step execution that might have run.
@@ -341,6 +365,29 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Create a {@link StepExecution} for each of the given step names, with the
+	 * corresponding {@link ExecutionContext}, and associate them with the given
+	 * {@link JobExecution}. Implementations should create all the step executions and
+	 * their contexts in bulk. The default implementation creates them one at a time.
+	 * @param jobExecution the job execution to which the step executions belong
+	 * @param executionContexts the initial execution contexts of the step executions,
+	 * keyed by step name
+	 * @return the new step executions, in the iteration order of the given map
+	 * @since 6.1
+	 */
+	default List<StepExecution> createStepExecutions(JobExecution jobExecution,
+			Map<String, ExecutionContext> executionContexts) {
+		List<StepExecution> stepExecutions = new ArrayList<>(executionContexts.size());
+		for (Map.Entry<String, ExecutionContext> entry : executionContexts.entrySet()) {
+			StepExecution stepExecution = createStepExecution(entry.getKey(), jobExecution);
+			stepExecution.setExecutionContext(entry.getValue());
+			updateExecutionContext(stepExecution);
+			stepExecutions.add(stepExecution);
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Update the {@link StepExecution} (but not its {@link ExecutionContext}).
 	 * <p>
@@ -356,6 +403,25 @@ public interface JobRepository extends JobExplorer {
 	 */
 	void updateExecutionContext(StepExecution stepExecution);
 
+	/**
+	 * Persist the state of a {@link StepExecution} at a chunk commit point, that is its
+	 * {@link ExecutionContext} (if it has changed) and its counters. This is expected to
+	 * be called within the chunk transaction and is equivalent to calling
+	 * {@link #updateExecutionContext(StepExecution)} followed by
+	 * {@link #update(StepExecution)}, but implementations may combine these operations
+	 * and check less often whether the job execution has been stopped.
+	 * <p>
+	 * Preconditions: {@link StepExecution} must be saved (have an id assigned).
+	 * @param stepExecution {@link StepExecution} instance to be updated in the repo.
+	 * @since 6.1
+	 */
+	default void checkpoint(StepExecution stepExecution) {
+		if (stepExecution.getExecutionContext().isDirty()) {
+			updateExecutionContext(stepExecution);
+		}
+		update(stepExecution);
+	}
+
 	/**
 	 * Delete the step execution along with its execution context.
 	 * @param stepExecution the step execution to delete
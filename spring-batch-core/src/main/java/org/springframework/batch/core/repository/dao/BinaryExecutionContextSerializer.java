@@ -0,0 +1,580 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link ExecutionContextSerializer} that writes execution contexts in a compact,
+ * schema-less binary format, optionally compressed, and encoded in Base64 so that it can
+ * be stored in the text columns of the execution context tables.
+ * <p>
+ * Strings, primitive wrappers, {@link BigDecimal}, {@link BigInteger}, byte arrays,
+ * {@link Date}, {@link LocalDate}, {@link LocalTime}, {@link LocalDateTime},
+ * {@link Instant}, {@link Duration}, as well as {@link ArrayList}, {@link HashSet},
+ * {@link LinkedHashSet}, {@link HashMap} and {@link LinkedHashMap} instances of these
+ * types are written with a one byte type tag followed by their value. They are read back
+ * as {@link ArrayList}, {@link LinkedHashSet} and {@link LinkedHashMap}. Other values,
+ * including other collection types such as sorted or unmodifiable collections, must be
+ * {@link Serializable} and are written with Java serialization, which preserves their
+ * type.
+ * <p>
+ * Serialized contexts start with a {@code '~'} character, which cannot start the output
+ * of the other serializers. Contexts that do not start with this character (for instance
+ * contexts saved before switching to this serializer) are read with a fallback
+ * {@link Deserializer}, which is a {@link DefaultExecutionContextSerializer} by default.
+ *
+ * @since 6.1
+ * @see DefaultExecutionContextSerializer
+ */
+public class BinaryExecutionContextSerializer implements ExecutionContextSerializer {
+
+	/**
+	 * The default minimum size in bytes of contexts to compress, which is about the
+	 * largest size whose encoded form fits in the default {@code SHORT_CONTEXT} column.
+	 */
+	public static final int DEFAULT_COMPRESSION_THRESHOLD = 1800;
+
+	private static final int PREFIX = '~';
+
+	private static final byte FORMAT_PLAIN = 1;
+
+	private static final byte FORMAT_DEFLATE = 2;
+
+	private static final byte NULL = 0;
+
+	private static final byte STRING = 1;
+
+	private static final byte INTEGER = 2;
+
+	private static final byte LONG = 3;
+
+	private static final byte DOUBLE = 4;
+
+	private static final byte FLOAT = 5;
+
+	private static final byte BOOLEAN = 6;
+
+	private static final byte SHORT = 7;
+
+	private static final byte BYTE = 8;
+
+	private static final byte CHARACTER = 9;
+
+	private static final byte BIG_DECIMAL = 10;
+
+	private static final byte BIG_INTEGER = 11;
+
+	private static final byte BYTE_ARRAY = 12;
+
+	private static final byte DATE = 13;
+
+	private static final byte LOCAL_DATE = 14;
+
+	private static final byte LOCAL_TIME = 15;
+
+	private static final byte LOCAL_DATE_TIME = 16;
+
+	private static final byte INSTANT = 17;
+
+	private static final byte DURATION = 18;
+
+	private static final byte LIST = 19;
+
+	private static final byte SET = 20;
+
+	private static final byte MAP = 21;
+
+	private static final byte SERIALIZABLE = 22;
+
+	private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+
+	private int compressionLevel = Deflater.BEST_SPEED;
+
+	private Deserializer<Map<String, Object>> fallbackDeserializer = new DefaultExecutionContextSerializer();
+
+	/**
+	 * Set the minimum size in bytes of the binary form of a context for it to be
+	 * compressed with the deflate algorithm. A negative value disables compression.
+	 * Defaults to {@link #DEFAULT_COMPRESSION_THRESHOLD}.
+	 * @param compressionThreshold the minimum size of contexts to compress
+	 */
+	public void setCompressionThreshold(int compressionThreshold) {
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	/**
+	 * Set the deflate compression level, from 0 to 9. Defaults to
+	 * {@link Deflater#BEST_SPEED}.
+	 * @param compressionLevel the compression level
+	 */
+	public void setCompressionLevel(int compressionLevel) {
+		Assert.isTrue(compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION,
+				"The compression level must be between 0 and 9");
+		this.compressionLevel = compressionLevel;
+	}
+
+	/**
+	 * Set the {@link Deserializer} used to read contexts that were not written by this
+	 * serializer. Defaults to a {@link DefaultExecutionContextSerializer}.
+	 * @param fallbackDeserializer the deserializer of contexts in another format
+	 */
+	public void setFallbackDeserializer(Deserializer<Map<String, Object>> fallbackDeserializer) {
+		Assert.notNull(fallbackDeserializer, "The fallback deserializer must not be null");
+		this.fallbackDeserializer = fallbackDeserializer;
+	}
+
+	@Override
+	public void serialize(Map<String, Object> context, OutputStream out) throws IOException {
+		Assert.notNull(context, "context is required");
+		Assert.notNull(out, "OutputStream is required");
+
+		Output output = new Output(256);
+		output.writeByte(FORMAT_PLAIN);
+		output.writeVarLong(context.size());
+		for (Map.Entry<String, Object> entry : context.entrySet()) {
+			Assert.notNull(entry.getValue(), "A null value was found");
+			output.writeString(entry.getKey());
+			writeValue(output, entry.getValue());
+		}
+
+		byte[] content;
+		if (this.compressionThreshold >= 0 && output.size - 1 >= this.compressionThreshold) {
+			content = compress(output.buffer, output.size);
+		}
+		else {
+			content = Arrays.copyOf(output.buffer, output.size);
+		}
+		out.write(PREFIX);
+		out.write(Base64.getEncoder().encode(content));
+	}
+
+	private byte[] compress(byte[] buffer, int size) {
+		Output output = new Output(size / 2 + 16);
+		output.writeByte(FORMAT_DEFLATE);
+		Deflater deflater = new Deflater(this.compressionLevel);
+		try {
+			deflater.setInput(buffer, 1, size - 1);
+			deflater.finish();
+			while (!deflater.finished()) {
+				output.ensureCapacity(1024);
+				output.size += deflater.deflate(output.buffer, output.size, output.buffer.length - output.size);
+			}
+		}
+		finally {
+			deflater.end();
+		}
+		return Arrays.copyOf(output.buffer, output.size);
+	}
+
+	@Override
+	public Map<String, Object> deserialize(InputStream inputStream) throws IOException {
+		PushbackInputStream pushbackInputStream = new PushbackInputStream(inputStream, 1);
+		int first = pushbackInputStream.read();
+		if (first != PREFIX) {
+			if (first != -1) {
+				pushbackInputStream.unread(first);
+			}
+			return this.fallbackDeserializer.deserialize(pushbackInputStream);
+		}
+		byte[] content = Base64.getDecoder().decode(pushbackInputStream.readAllBytes());
+		if (content.length == 0) {
+			throw new IllegalArgumentException("Empty serialized context");
+		}
+		Input input = switch (content[0]) {
+			case FORMAT_PLAIN -> new Input(content, 1);
+			case FORMAT_DEFLATE -> new Input(decompress(content), 0);
+			default -> throw new IllegalArgumentException("Unknown serialized context format: " + content[0]);
+		};
+		try {
+			int size = input.readVarInt();
+			Map<String, Object> context = new HashMap<>((int) (size / 0.75f) + 1);
+			for (int i = 0; i < size; i++) {
+				String key = input.readString();
+				Object value = readValue(input);
+				Assert.state(value != null, () -> "A null value was found for key " + key);
+				context.put(key, value);
+			}
+			return context;
+		}
+		catch (IndexOutOfBoundsException | NegativeArraySizeException ex) {
+			throw new IllegalArgumentException("Truncated serialized context", ex);
+		}
+	}
+
+	private static byte[] decompress(byte[] content) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(content, 1, content.length - 1);
+			Output output = new Output(content.length * 4);
+			while (!inflater.finished()) {
+				output.ensureCapacity(1024);
+				int count = inflater.inflate(output.buffer, output.size, output.buffer.length - output.size);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalArgumentException("Truncated serialized context");
+				}
+				output.size += count;
+			}
+			return Arrays.copyOf(output.buffer, output.size);
+		}
+		catch (DataFormatException ex) {
+			throw new IllegalArgumentException("Malformed serialized context", ex);
+		}
+		finally {
+			inflater.end();
+		}
+	}
+
+	private void writeValue(Output out, @Nullable Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		}
+		else if (value instanceof String string) {
+			out.writeByte(STRING);
+			out.writeString(string);
+		}
+		else if (value instanceof Integer integer) {
+			out.writeByte(INTEGER);
+			out.writeVarLong(integer);
+		}
+		else if (value instanceof Long longValue) {
+			out.writeByte(LONG);
+			out.writeVarLong(longValue);
+		}
+		else if (value instanceof Double doubleValue) {
+			out.writeByte(DOUBLE);
+			out.writeLong(Double.doubleToRawLongBits(doubleValue));
+		}
+		else if (value instanceof Float floatValue) {
+			out.writeByte(FLOAT);
+			out.writeVarLong(Float.floatToRawIntBits(floatValue));
+		}
+		else if (value instanceof Boolean booleanValue) {
+			out.writeByte(BOOLEAN);
+			out.writeByte(booleanValue ? 1 : 0);
+		}
+		else if (value instanceof Short shortValue) {
+			out.writeByte(SHORT);
+			out.writeVarLong(shortValue);
+		}
+		else if (value instanceof Byte byteValue) {
+			out.writeByte(BYTE);
+			out.writeByte(byteValue);
+		}
+		else if (value instanceof Character character) {
+			out.writeByte(CHARACTER);
+			out.writeVarLong(character);
+		}
+		else if (value.getClass() == BigDecimal.class) {
+			BigDecimal bigDecimal = (BigDecimal) value;
+			out.writeByte(BIG_DECIMAL);
+			out.writeVarLong(bigDecimal.scale());
+			out.writeBytes(bigDecimal.unscaledValue().toByteArray());
+		}
+		else if (value.getClass() == BigInteger.class) {
+			out.writeByte(BIG_INTEGER);
+			out.writeBytes(((BigInteger) value).toByteArray());
+		}
+		else if (value instanceof byte[] bytes) {
+			out.writeByte(BYTE_ARRAY);
+			out.writeBytes(bytes);
+		}
+		else if (value.getClass() == Date.class) {
+			out.writeByte(DATE);
+			out.writeVarLong(((Date) value).getTime());
+		}
+		else if (value instanceof LocalDate localDate) {
+			out.writeByte(LOCAL_DATE);
+			out.writeVarLong(localDate.toEpochDay());
+		}
+		else if (value instanceof LocalTime localTime) {
+			out.writeByte(LOCAL_TIME);
+			out.writeVarLong(localTime.toNanoOfDay());
+		}
+		else if (value instanceof LocalDateTime localDateTime) {
+			out.writeByte(LOCAL_DATE_TIME);
+			out.writeVarLong(localDateTime.toLocalDate().toEpochDay());
+			out.writeVarLong(localDateTime.toLocalTime().toNanoOfDay());
+		}
+		else if (value instanceof Instant instant) {
+			out.writeByte(INSTANT);
+			out.writeVarLong(instant.getEpochSecond());
+			out.writeVarLong(instant.getNano());
+		}
+		else if (value instanceof Duration duration) {
+			out.writeByte(DURATION);
+			out.writeVarLong(duration.getSeconds());
+			out.writeVarLong(duration.getNano());
+		}
+		else if (value.getClass() == ArrayList.class) {
+			out.writeByte(LIST);
+			writeElements(out, (List<?>) value);
+		}
+		else if (value.getClass() == HashSet.class || value.getClass() == LinkedHashSet.class) {
+			out.writeByte(SET);
+			writeElements(out, (Set<?>) value);
+		}
+		else if (value.getClass() == HashMap.class || value.getClass() == LinkedHashMap.class) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			out.writeByte(MAP);
+			out.writeVarLong(map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				writeValue(out, entry.getKey());
+				writeValue(out, entry.getValue());
+			}
+		}
+		else if (value instanceof Serializable) {
+			out.writeByte(SERIALIZABLE);
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+			try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(bytes)) {
+				objectOutputStream.writeObject(value);
+			}
+			out.writeBytes(bytes.toByteArray());
+		}
+		else {
+			throw new IllegalArgumentException("Value: [" + value + "] must be serializable. " + "Object of class: ["
+					+ value.getClass().getName() + "] must be an instance of " + Serializable.class);
+		}
+	}
+
+	private void writeElements(Output out, Collection<?> elements) throws IOException {
+		out.writeVarLong(elements.size());
+		for (Object element : elements) {
+			writeValue(out, element);
+		}
+	}
+
+	private @Nullable Object readValue(Input in) throws IOException {
+		byte type = in.readByte();
+		return switch (type) {
+			case NULL -> null;
+			case STRING -> in.readString();
+			case INTEGER -> in.readVarInt();
+			case LONG -> in.readVarLong();
+			case DOUBLE -> Double.longBitsToDouble(in.readLong());
+			case FLOAT -> Float.intBitsToFloat(in.readVarInt());
+			case BOOLEAN -> in.readByte() != 0;
+			case SHORT -> (short) in.readVarInt();
+			case BYTE -> in.readByte();
+			case CHARACTER -> (char) in.readVarInt();
+			case BIG_DECIMAL -> {
+				int scale = in.readVarInt();
+				yield new BigDecimal(new BigInteger(in.readBytes()), scale);
+			}
+			case BIG_INTEGER -> new BigInteger(in.readBytes());
+			case BYTE_ARRAY -> in.readBytes();
+			case DATE -> new Date(in.readVarLong());
+			case LOCAL_DATE -> LocalDate.ofEpochDay(in.readVarLong());
+			case LOCAL_TIME -> LocalTime.ofNanoOfDay(in.readVarLong());
+			case LOCAL_DATE_TIME ->
+				LocalDateTime.of(LocalDate.ofEpochDay(in.readVarLong()), LocalTime.ofNanoOfDay(in.readVarLong()));
+			case INSTANT -> Instant.ofEpochSecond(in.readVarLong(), in.readVarInt());
+			case DURATION -> Duration.ofSeconds(in.readVarLong(), in.readVarInt());
+			case LIST -> {
+				int size = in.readVarInt();
+				List<@Nullable Object> list = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					list.add(readValue(in));
+				}
+				yield list;
+			}
+			case SET -> {
+				int size = in.readVarInt();
+				Set<@Nullable Object> set = new LinkedHashSet<>((int) (size / 0.75f) + 1);
+				for (int i = 0; i < size; i++) {
+					set.add(readValue(in));
+				}
+				yield set;
+			}
+			case MAP -> {
+				int size = in.readVarInt();
+				Map<@Nullable Object, @Nullable Object> map = new LinkedHashMap<>((int) (size / 0.75f) + 1);
+				for (int i = 0; i < size; i++) {
+					map.put(readValue(in), readValue(in));
+				}
+				yield map;
+			}
+			case SERIALIZABLE -> {
+				try (ObjectInputStream objectInputStream = new ObjectInputStream(
+						new ByteArrayInputStream(in.readBytes()))) {
+					yield objectInputStream.readObject();
+				}
+				catch (ClassNotFoundException ex) {
+					throw new IllegalStateException("Failed to deserialize object type", ex);
+				}
+			}
+			default -> throw new IllegalArgumentException("Unknown value type: " + type);
+		};
+	}
+
+	/**
+	 * Growable byte buffer. Numbers are written with a zigzag encoding followed by groups
+	 * of 7 bits, so that small positive and negative values take a single byte.
+	 */
+	private static final class Output {
+
+		private byte[] buffer;
+
+		private int size;
+
+		private Output(int capacity) {
+			this.buffer = new byte[capacity];
+		}
+
+		private void ensureCapacity(int count) {
+			if (this.size + count > this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.size + count));
+			}
+		}
+
+		private void writeByte(int value) {
+			ensureCapacity(1);
+			this.buffer[this.size++] = (byte) value;
+		}
+
+		private void writeLong(long value) {
+			ensureCapacity(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				this.buffer[this.size++] = (byte) (value >>> shift);
+			}
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity(10);
+			long zigzag = (value << 1) ^ (value >> 63);
+			while ((zigzag & ~0x7FL) != 0) {
+				this.buffer[this.size++] = (byte) ((zigzag & 0x7F) | 0x80);
+				zigzag >>>= 7;
+			}
+			this.buffer[this.size++] = (byte) zigzag;
+		}
+
+		private void writeBytes(byte[] bytes) {
+			writeVarLong(bytes.length);
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+			this.size += bytes.length;
+		}
+
+		private void writeString(String value) {
+			writeBytes(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+	}
+
+	/**
+	 * Reader of the content of an {@link Output}.
+	 */
+	private static final class Input {
+
+		private final byte[] buffer;
+
+		private int position;
+
+		private Input(byte[] buffer, int position) {
+			this.buffer = buffer;
+			this.position = position;
+		}
+
+		private byte readByte() {
+			return this.buffer[this.position++];
+		}
+
+		private long readLong() {
+			long value = 0;
+			for (int i = 0; i < 8; i++) {
+				value = (value << 8) | (this.buffer[this.position++] & 0xFF);
+			}
+			return value;
+		}
+
+		private long readVarLong() {
+			long zigzag = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = this.buffer[this.position++];
+				zigzag |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return (zigzag >>> 1) ^ -(zigzag & 1);
+				}
+			}
+			throw new IllegalArgumentException("Malformed variable-length number");
+		}
+
+		private int readVarInt() {
+			return (int) readVarLong();
+		}
+
+		private byte[] readBytes() {
+			int length = checkLength(readVarInt());
+			byte[] bytes = Arrays.copyOfRange(this.buffer, this.position, this.position + length);
+			this.position += length;
+			return bytes;
+		}
+
+		private String readString() {
+			int length = checkLength(readVarInt());
+			String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+			this.position += length;
+			return value;
+		}
+
+		private int checkLength(int length) {
+			if (length < 0 || length > this.buffer.length - this.position) {
+				throw new IndexOutOfBoundsException("Invalid length: " + length);
+			}
+			return length;
+		}
+
+	}
+
+}
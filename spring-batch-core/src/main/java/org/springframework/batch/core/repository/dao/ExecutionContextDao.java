@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2022 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
 package org.springframework.batch.core.repository.dao;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.step.StepExecution;
@@ -43,6 +45,23 @@ public interface ExecutionContextDao {
 	 */
 	ExecutionContext getExecutionContext(StepExecution stepExecution);
 
+	/**
+	 * Retrieve the execution contexts of the given step executions. The default
+	 * implementation calls {@link #getExecutionContext(StepExecution)} for each step
+	 * execution; implementations should override it to use a constant number of queries.
+	 * @param stepExecutions the {@link StepExecution}s whose contexts should be loaded
+	 * @return the execution contexts keyed by step execution id. Step executions without
+	 * a persisted context map to an empty context.
+	 * @since 6.1
+	 */
+	default Map<Long, ExecutionContext> getExecutionContexts(Collection<StepExecution> stepExecutions) {
+		Map<Long, ExecutionContext> executionContexts = new HashMap<>();
+		for (StepExecution stepExecution : stepExecutions) {
+			executionContexts.put(stepExecution.getId(), getExecutionContext(stepExecution));
+		}
+		return executionContexts;
+	}
+
 	/**
 	 * Persist the execution context associated with the given jobExecution, persistent
 	 * entry for the context should not exist yet.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,12 @@
 
 package org.springframework.batch.core.repository.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
@@ -39,6 +43,24 @@ public interface StepExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Create a new step execution with an assigned id for each of the given step names.
+	 * Like {@link #createStepExecution(String, JobExecution)}, this method should not add
+	 * the step executions to the job execution. Implementations should insert the step
+	 * executions in bulk. The default implementation creates them one at a time.
+	 * @param stepNames the names of the steps
+	 * @param jobExecution the job execution the step executions belong to
+	 * @return the new {@link StepExecution} instances, in the order of the given names
+	 * @since 6.1
+	 */
+	default List<StepExecution> createStepExecutions(Collection<String> stepNames, JobExecution jobExecution) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepNames.size());
+		for (String stepName : stepNames) {
+			stepExecutions.add(createStepExecution(stepName, jobExecution));
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Update the given StepExecution
 	 * <p>
@@ -89,6 +111,29 @@ public interface StepExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the last {@link StepExecution} of each of the given steps for a given
+	 * {@link JobInstance}, ordered by creation time and then id. The default
+	 * implementation calls {@link #getLastStepExecution(JobInstance, String)} for each
+	 * step name; implementations should override it to use a constant number of queries.
+	 * The execution contexts will not be loaded.
+	 * @param jobInstance the parent {@link JobInstance}
+	 * @param stepNames the names of the steps
+	 * @return the last {@link StepExecution} of each step, keyed by step name. Steps that
+	 * were never executed are not present in the map.
+	 * @since 6.1
+	 */
+	default Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> stepExecutions = new HashMap<>();
+		for (String stepName : stepNames) {
+			StepExecution stepExecution = getLastStepExecution(jobInstance, stepName);
+			if (stepExecution != null) {
+				stepExecutions.put(stepName, stepExecution);
+			}
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Retrieve all {@link StepExecution}s for a given {@link JobExecution}. The execution
 	 * context will not be loaded. If you need the execution context, use the job
@@ -24,15 +24,21 @@ import java.nio.charset.StandardCharsets;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.batch.core.job.JobExecution;
 
 import org.springframework.batch.core.step.StepExecution;
@@ -52,6 +58,12 @@ import org.springframework.util.CollectionUtils;
  * <p>
  * Stores execution context data related to both Step and Job using a different table for
  * each.
+ * <p>
+ * When {@link #setDeltaUpdates(boolean) delta updates} are enabled, updates of a step
+ * execution context only write the entries that changed since the last update to the
+ * {@code BATCH_STEP_CONTEXT_ENTRY} table. The entries are merged over the full context
+ * when it is read, and are periodically folded back into the full context (see
+ * {@link #setCompactionInterval(int)}).
  *
  * @author Lucas Ward
  * @author Robert Kasanicky
@@ -85,6 +97,12 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			WHERE STEP_EXECUTION_ID = ?
 			""";
 
+	private static final String FIND_STEP_EXECUTION_CONTEXTS = """
+			SELECT STEP_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT
+			FROM %PREFIX%STEP_EXECUTION_CONTEXT
+			WHERE STEP_EXECUTION_ID IN (%STEP_EXECUTION_IDS%)
+			""";
+
 	private static final String INSERT_STEP_EXECUTION_CONTEXT = """
 			INSERT INTO %PREFIX%STEP_EXECUTION_CONTEXT (SHORT_CONTEXT, SERIALIZED_CONTEXT, STEP_EXECUTION_ID)
 				VALUES(?, ?, ?)
@@ -106,14 +124,52 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			WHERE JOB_EXECUTION_ID = ?
 			""";
 
+	private static final String FIND_STEP_CONTEXT_ENTRIES = """
+			SELECT ENTRY_KEY, SHORT_VALUE, SERIALIZED_VALUE
+			FROM %PREFIX%STEP_CONTEXT_ENTRY
+			WHERE STEP_EXECUTION_ID = ?
+			""";
+
+	private static final String FIND_STEP_CONTEXT_ENTRIES_BY_IDS = """
+			SELECT STEP_EXECUTION_ID, ENTRY_KEY, SHORT_VALUE, SERIALIZED_VALUE
+			FROM %PREFIX%STEP_CONTEXT_ENTRY
+			WHERE STEP_EXECUTION_ID IN (%STEP_EXECUTION_IDS%)
+			""";
+
+	private static final String INSERT_STEP_CONTEXT_ENTRY = """
+			INSERT INTO %PREFIX%STEP_CONTEXT_ENTRY (SHORT_VALUE, SERIALIZED_VALUE, STEP_EXECUTION_ID, ENTRY_KEY)
+				VALUES(?, ?, ?, ?)
+			""";
+
+	private static final String UPDATE_STEP_CONTEXT_ENTRY = """
+			UPDATE %PREFIX%STEP_CONTEXT_ENTRY
+			SET SHORT_VALUE = ?, SERIALIZED_VALUE = ?
+			WHERE STEP_EXECUTION_ID = ? AND ENTRY_KEY = ?
+			""";
+
+	private static final String DELETE_STEP_CONTEXT_ENTRIES = """
+			DELETE FROM %PREFIX%STEP_CONTEXT_ENTRY
+			WHERE STEP_EXECUTION_ID = ?
+			""";
+
 	private Charset charset = StandardCharsets.UTF_8;
 
 	private static final int DEFAULT_MAX_VARCHAR_LENGTH = 2500;
 
+	private static final int MAX_ENTRY_KEY_LENGTH = 250;
+
+	private static final int DEFAULT_COMPACTION_INTERVAL = 100;
+
+	private static final int MAX_IN_CLAUSE_SIZE = 500;
+
 	private int shortContextLength = DEFAULT_MAX_VARCHAR_LENGTH;
 
 	private ExecutionContextSerializer serializer = new DefaultExecutionContextSerializer();
 
+	private boolean deltaUpdates = false;
+
+	private int compactionInterval = DEFAULT_COMPACTION_INTERVAL;
+
 	private final Lock lock = new ReentrantLock();
 
 	/**
@@ -149,6 +205,35 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		this.charset = charset;
 	}
 
+	/**
+	 * Whether updates of a step execution context should only write the entries that
+	 * changed since the last update instead of the whole context. Requires the
+	 * {@code BATCH_STEP_CONTEXT_ENTRY} table. Defaults to {@code false}.
+	 * <p>
+	 * Entries written in this mode are only visible to readers of this DAO with delta
+	 * updates enabled, so the mode should not be disabled while step executions that were
+	 * updated with it are still running or may be restarted.
+	 * @param deltaUpdates {@code true} to only write changed entries
+	 * @since 6.1
+	 */
+	public void setDeltaUpdates(boolean deltaUpdates) {
+		this.deltaUpdates = deltaUpdates;
+	}
+
+	/**
+	 * Set the number of commits after which the entries written in
+	 * {@link #setDeltaUpdates(boolean) delta} mode are folded back into the full step
+	 * execution context. Compaction also happens when the step execution is no longer
+	 * running and whenever a delta would not be smaller than the full context. Defaults
+	 * to 100.
+	 * @param compactionInterval the compaction interval in commits, must be positive
+	 * @since 6.1
+	 */
+	public void setCompactionInterval(int compactionInterval) {
+		Assert.isTrue(compactionInterval > 0, "Compaction interval must be greater than zero");
+		this.compactionInterval = compactionInterval;
+	}
+
 	@Override
 	public ExecutionContext getExecutionContext(JobExecution jobExecution) {
 		long executionId = jobExecution.getId();
@@ -169,12 +254,48 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 
 		List<ExecutionContext> results = getJdbcTemplate().query(getQuery(FIND_STEP_EXECUTION_CONTEXT),
 				new ExecutionContextRowMapper(), executionId);
-		if (results.size() > 0) {
-			return results.get(0);
+		ExecutionContext executionContext = results.size() > 0 ? results.get(0) : new ExecutionContext();
+		if (this.deltaUpdates) {
+			Map<String, Object> entries = new HashMap<>(executionContext.toMap());
+			getJdbcTemplate().query(getQuery(FIND_STEP_CONTEXT_ENTRIES), rs -> {
+				applyContextEntry(entries, rs);
+			}, executionId);
+			executionContext = new ExecutionContext(entries);
 		}
-		else {
-			return new ExecutionContext();
+		return executionContext;
+	}
+
+	/**
+	 * Load the contexts with one query per {@value #MAX_IN_CLAUSE_SIZE} step executions
+	 * (two in delta mode).
+	 */
+	@Override
+	public Map<Long, ExecutionContext> getExecutionContexts(Collection<StepExecution> stepExecutions) {
+		List<Long> executionIds = stepExecutions.stream().map(StepExecution::getId).distinct().toList();
+		Map<Long, Map<String, Object>> contexts = CollectionUtils.newHashMap(executionIds.size());
+		for (int from = 0; from < executionIds.size(); from += MAX_IN_CLAUSE_SIZE) {
+			List<Long> ids = executionIds.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, executionIds.size()));
+			getJdbcTemplate().query(getInQuery(FIND_STEP_EXECUTION_CONTEXTS, ids.size()), rs -> {
+				String serializedContext = rs.getString("SERIALIZED_CONTEXT");
+				if (serializedContext == null) {
+					serializedContext = rs.getString("SHORT_CONTEXT");
+				}
+				contexts.put(rs.getLong("STEP_EXECUTION_ID"), new HashMap<>(deserializeContext(serializedContext)));
+			}, ids.toArray());
+			if (this.deltaUpdates) {
+				getJdbcTemplate().query(getInQuery(FIND_STEP_CONTEXT_ENTRIES_BY_IDS, ids.size()), rs -> {
+					applyContextEntry(contexts.computeIfAbsent(rs.getLong("STEP_EXECUTION_ID"), id -> new HashMap<>()),
+							rs);
+				}, ids.toArray());
+			}
+		}
+		Map<Long, ExecutionContext> executionContexts = CollectionUtils.newHashMap(executionIds.size());
+		for (Long executionId : executionIds) {
+			Map<String, Object> context = contexts.get(executionId);
+			executionContexts.put(executionId,
+					context != null ? new ExecutionContext(context) : new ExecutionContext());
 		}
+		return executionContexts;
 	}
 
 	@Override
@@ -198,9 +319,20 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			ExecutionContext executionContext = stepExecution.getExecutionContext();
 			Assert.notNull(executionContext, "The ExecutionContext must not be null.");
 
+			if (this.deltaUpdates) {
+				Set<String> changedKeys = executionContext.getChangedKeys();
+				if (!isCompactionDue(stepExecution, changedKeys)) {
+					persistContextEntries(executionId, executionContext, changedKeys);
+					return;
+				}
+			}
+
 			String serializedContext = serializeContext(executionContext);
 
 			persistSerializedContext(executionId, serializedContext, UPDATE_STEP_EXECUTION_CONTEXT);
+			if (this.deltaUpdates) {
+				getJdbcTemplate().update(getQuery(DELETE_STEP_CONTEXT_ENTRIES), executionId);
+			}
 		}
 		finally {
 			this.lock.unlock();
@@ -258,6 +390,9 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 	 */
 	@Override
 	public void deleteExecutionContext(StepExecution stepExecution) {
+		if (this.deltaUpdates) {
+			getJdbcTemplate().update(getQuery(DELETE_STEP_CONTEXT_ENTRIES), stepExecution.getId());
+		}
 		getJdbcTemplate().update(getQuery(DELETE_STEP_EXECUTION_CONTEXT), stepExecution.getId());
 	}
 
@@ -299,6 +434,121 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		});
 	}
 
+	/**
+	 * A delta is only written if the context has pending changes that can be stored as
+	 * entries and that are fewer than the unchanged entries. Callers updating a context
+	 * without pending changes, or updating a step execution that is no longer running,
+	 * get the full context written.
+	 */
+	private boolean isCompactionDue(StepExecution stepExecution, Set<String> changedKeys) {
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		if (!executionContext.isDirty() || changedKeys.isEmpty()) {
+			return true;
+		}
+		if (stepExecution.getEndTime() != null || !stepExecution.getStatus().isRunning()) {
+			return true;
+		}
+		if (stepExecution.getCommitCount() % this.compactionInterval == 0) {
+			return true;
+		}
+		if (changedKeys.size() * 2 > executionContext.size()) {
+			return true;
+		}
+		for (String key : changedKeys) {
+			if (key.length() > MAX_ENTRY_KEY_LENGTH) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void applyContextEntry(Map<String, Object> context, ResultSet rs) throws SQLException {
+		String serializedEntry = rs.getString("SERIALIZED_VALUE");
+		if (serializedEntry == null) {
+			serializedEntry = rs.getString("SHORT_VALUE");
+		}
+		if (serializedEntry == null) {
+			context.remove(rs.getString("ENTRY_KEY"));
+		}
+		else {
+			context.putAll(deserializeContext(serializedEntry));
+		}
+	}
+
+	private String getInQuery(String base, int parameterCount) {
+		return getQuery(
+				base.replace("%STEP_EXECUTION_IDS%", String.join(", ", Collections.nCopies(parameterCount, "?"))));
+	}
+
+	/**
+	 * Upsert the entries of the given keys in batch: the entries are updated first, and
+	 * only those that were not found are inserted. A {@code null} value records the
+	 * removal of the entry.
+	 */
+	private void persistContextEntries(long executionId, ExecutionContext executionContext, Set<String> keys) {
+		List<ContextEntry> entries = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			entries.add(createContextEntry(key, executionContext.get(key)));
+		}
+		int[] updateCounts = batchUpdateContextEntries(UPDATE_STEP_CONTEXT_ENTRY, executionId, entries);
+		List<ContextEntry> missingEntries = new ArrayList<>();
+		for (int i = 0; i < entries.size(); i++) {
+			if (updateCounts[i] == 0) {
+				missingEntries.add(entries.get(i));
+			}
+		}
+		if (!missingEntries.isEmpty()) {
+			batchUpdateContextEntries(INSERT_STEP_CONTEXT_ENTRY, executionId, missingEntries);
+		}
+	}
+
+	private ContextEntry createContextEntry(String key, @Nullable Object value) {
+		if (value == null) {
+			return new ContextEntry(key, null, null);
+		}
+		Map<String, Object> entry = new HashMap<>();
+		entry.put(key, value);
+		String serializedEntry = serializeContext(entry);
+		if (serializedEntry.length() > shortContextLength) {
+			return new ContextEntry(key, serializedEntry.substring(0, shortContextLength - 8) + " ...",
+					serializedEntry);
+		}
+		return new ContextEntry(key, serializedEntry, null);
+	}
+
+	/**
+	 * @param sql with parameters (shortValue, serializedValue, executionId, key)
+	 */
+	private int[] batchUpdateContextEntries(String sql, long executionId, List<ContextEntry> entries) {
+		return getJdbcTemplate().batchUpdate(getQuery(sql), new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				ContextEntry entry = entries.get(i);
+				String shortValue = entry.shortValue();
+				String longValue = entry.longValue();
+				if (shortValue != null) {
+					ps.setString(1, shortValue);
+				}
+				else {
+					ps.setNull(1, Types.VARCHAR);
+				}
+				if (longValue != null) {
+					ps.setString(2, longValue);
+				}
+				else {
+					ps.setNull(2, getClobTypeToUse());
+				}
+				ps.setLong(3, executionId);
+				ps.setString(4, entry.key());
+			}
+
+			@Override
+			public int getBatchSize() {
+				return entries.size();
+			}
+		});
+	}
+
 	/**
 	 * @param serializedContexts the execution contexts to serialize
 	 * @param sql with parameters (shortContext, longContext, executionId)
@@ -347,7 +597,10 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		for (Entry<String, Object> me : ctx.entrySet()) {
 			m.put(me.getKey(), me.getValue());
 		}
+		return serializeContext(m);
+	}
 
+	private String serializeContext(Map<String, Object> m) {
 		ByteArrayOutputStream out = new ByteArrayOutputStream();
 		String results;
 
@@ -362,6 +615,22 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		return results;
 	}
 
+	private Map<String, Object> deserializeContext(String serializedContext) {
+		try {
+			ByteArrayInputStream in = new ByteArrayInputStream(serializedContext.getBytes(charset));
+			return serializer.deserialize(in);
+		}
+		catch (IOException ioe) {
+			throw new IllegalArgumentException("Unable to deserialize the execution context", ioe);
+		}
+	}
+
+	/*
+	 * Serialized value of a context entry, both values being null for a removed entry.
+	 */
+	private record ContextEntry(String key, @Nullable String shortValue, @Nullable String longValue) {
+	}
+
 	private class ExecutionContextRowMapper implements RowMapper<ExecutionContext> {
 
 		@Override
@@ -371,15 +640,7 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 				serializedContext = rs.getString("SHORT_CONTEXT");
 			}
 
-			Map<String, Object> map;
-			try {
-				ByteArrayInputStream in = new ByteArrayInputStream(serializedContext.getBytes(charset));
-				map = serializer.deserialize(in);
-			}
-			catch (IOException ioe) {
-				throw new IllegalArgumentException("Unable to deserialize the execution context", ioe);
-			}
-			return new ExecutionContext(map);
+			return new ExecutionContext(deserializeContext(serializedContext));
 		}
 
 	}
@@ -17,6 +17,7 @@
 package org.springframework.batch.core.repository.dao.jdbc;
 
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.*;
@@ -102,6 +103,14 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 			ORDER BY SE.CREATE_TIME DESC, SE.STEP_EXECUTION_ID DESC
 			""";
 
+	private static final String GET_LAST_STEP_EXECUTIONS = """
+			SELECT SE.STEP_EXECUTION_ID, SE.STEP_NAME, SE.START_TIME, SE.END_TIME, SE.STATUS, SE.COMMIT_COUNT, SE.READ_COUNT, SE.FILTER_COUNT, SE.WRITE_COUNT, SE.EXIT_CODE, SE.EXIT_MESSAGE, SE.READ_SKIP_COUNT, SE.WRITE_SKIP_COUNT, SE.PROCESS_SKIP_COUNT, SE.ROLLBACK_COUNT, SE.LAST_UPDATED, SE.VERSION, SE.CREATE_TIME, JE.JOB_EXECUTION_ID, JE.START_TIME, JE.END_TIME, JE.STATUS, JE.EXIT_CODE, JE.EXIT_MESSAGE, JE.CREATE_TIME, JE.LAST_UPDATED, JE.VERSION
+			FROM %PREFIX%JOB_EXECUTION JE
+				JOIN %PREFIX%STEP_EXECUTION SE ON SE.JOB_EXECUTION_ID = JE.JOB_EXECUTION_ID
+			WHERE JE.JOB_INSTANCE_ID = ? AND SE.STEP_NAME IN (%STEP_NAMES%)
+			ORDER BY SE.CREATE_TIME DESC, SE.STEP_EXECUTION_ID DESC
+			""";
+
 	private static final String CURRENT_VERSION_STEP_EXECUTION = """
 			SELECT VERSION FROM %PREFIX%STEP_EXECUTION
 			WHERE STEP_EXECUTION_ID=?
@@ -125,6 +134,8 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 			WHERE SE.STEP_EXECUTION_ID = ? AND JE.JOB_EXECUTION_ID = SE.JOB_EXECUTION_ID
 			""";
 
+	private static final int MAX_IN_CLAUSE_SIZE = 500;
+
 	private int exitMessageLength = DEFAULT_EXIT_MESSAGE_LENGTH;
 
 	private DataFieldMaxValueIncrementer stepExecutionIncrementer;
@@ -176,6 +187,31 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		return stepExecution;
 	}
 
+	/**
+	 * Create the step executions with a single JDBC batch insert.
+	 */
+	@Override
+	public List<StepExecution> createStepExecutions(Collection<String> stepNames, JobExecution jobExecution) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepNames.size());
+		if (stepNames.isEmpty()) {
+			return stepExecutions;
+		}
+		List<Object[]> batchArgs = new ArrayList<>(stepNames.size());
+		Object[] parameterTypes = new Object[0];
+		for (String stepName : stepNames) {
+			long id = this.stepExecutionIncrementer.nextLongValue();
+			StepExecution stepExecution = new StepExecution(id, stepName, jobExecution);
+			stepExecution.incrementVersion();
+			List<Object[]> parameters = buildStepExecutionParameters(stepExecution);
+			batchArgs.add(parameters.get(0));
+			parameterTypes = parameters.get(1);
+			stepExecutions.add(stepExecution);
+		}
+		int[] argTypes = Arrays.stream(parameterTypes).mapToInt(type -> (Integer) type).toArray();
+		getJdbcTemplate().batchUpdate(getQuery(SAVE_STEP_EXECUTION), batchArgs, argTypes);
+		return stepExecutions;
+	}
+
 	private List<Object[]> buildStepExecutionParameters(StepExecution stepExecution) {
 		validateStepExecution(stepExecution);
 		List<Object[]> parameters = new ArrayList<>();
@@ -336,20 +372,7 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 					statement.setString(2, stepName);
 					try (ResultSet rs = statement.executeQuery()) {
 						if (rs.next()) {
-							Long jobExecutionId = rs.getLong(19);
-							JobExecution jobExecution = new JobExecution(jobExecutionId, jobInstance,
-									jobExecutionDao.getJobParameters(jobExecutionId));
-							jobExecution.setStartTime(
-									rs.getTimestamp(20) == null ? null : rs.getTimestamp(20).toLocalDateTime());
-							jobExecution
-								.setEndTime(rs.getTimestamp(21) == null ? null : rs.getTimestamp(21).toLocalDateTime());
-							jobExecution.setStatus(BatchStatus.valueOf(rs.getString(22)));
-							jobExecution.setExitStatus(new ExitStatus(rs.getString(23), rs.getString(24)));
-							jobExecution.setCreateTime(
-									rs.getTimestamp(25) == null ? null : rs.getTimestamp(25).toLocalDateTime());
-							jobExecution.setLastUpdated(
-									rs.getTimestamp(26) == null ? null : rs.getTimestamp(26).toLocalDateTime());
-							jobExecution.setVersion(rs.getInt(27));
+							JobExecution jobExecution = mapJobExecution(rs, jobInstance);
 							return new StepExecutionRowMapper(jobExecution).mapRow(rs, 0);
 						}
 						return null;
@@ -357,6 +380,55 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 				});
 	}
 
+	/**
+	 * Retrieve the last step executions with one query per {@value #MAX_IN_CLAUSE_SIZE}
+	 * step names. Step executions of the same job execution share their parent.
+	 */
+	@Override
+	public Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		List<String> names = List.copyOf(new LinkedHashSet<>(stepNames));
+		Map<String, StepExecution> stepExecutions = new HashMap<>();
+		Map<Long, JobExecution> jobExecutions = new HashMap<>();
+		for (int from = 0; from < names.size(); from += MAX_IN_CLAUSE_SIZE) {
+			List<String> batch = names.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, names.size()));
+			String sql = GET_LAST_STEP_EXECUTIONS.replace("%STEP_NAMES%",
+					String.join(", ", Collections.nCopies(batch.size(), "?")));
+			Object[] parameters = new Object[batch.size() + 1];
+			parameters[0] = jobInstance.getInstanceId();
+			for (int i = 0; i < batch.size(); i++) {
+				parameters[i + 1] = batch.get(i);
+			}
+			getJdbcTemplate().query(getQuery(sql), rs -> {
+				// rows are sorted from the most recent, so the first one of each step
+				// wins
+				String stepName = rs.getString(2);
+				if (!stepExecutions.containsKey(stepName)) {
+					JobExecution jobExecution = jobExecutions.get(rs.getLong(19));
+					if (jobExecution == null) {
+						jobExecution = mapJobExecution(rs, jobInstance);
+						jobExecutions.put(jobExecution.getId(), jobExecution);
+					}
+					stepExecutions.put(stepName, new StepExecutionRowMapper(jobExecution).mapRow(rs, 0));
+				}
+			}, parameters);
+		}
+		return stepExecutions;
+	}
+
+	private JobExecution mapJobExecution(ResultSet rs, JobInstance jobInstance) throws SQLException {
+		long jobExecutionId = rs.getLong(19);
+		JobExecution jobExecution = new JobExecution(jobExecutionId, jobInstance,
+				jobExecutionDao.getJobParameters(jobExecutionId));
+		jobExecution.setStartTime(rs.getTimestamp(20) == null ? null : rs.getTimestamp(20).toLocalDateTime());
+		jobExecution.setEndTime(rs.getTimestamp(21) == null ? null : rs.getTimestamp(21).toLocalDateTime());
+		jobExecution.setStatus(BatchStatus.valueOf(rs.getString(22)));
+		jobExecution.setExitStatus(new ExitStatus(rs.getString(23), rs.getString(24)));
+		jobExecution.setCreateTime(rs.getTimestamp(25) == null ? null : rs.getTimestamp(25).toLocalDateTime());
+		jobExecution.setLastUpdated(rs.getTimestamp(26) == null ? null : rs.getTimestamp(26).toLocalDateTime());
+		jobExecution.setVersion(rs.getInt(27));
+		return jobExecution;
+	}
+
 	/**
 	 * Retrieve all {@link StepExecution}s for a given {@link JobExecution}. The execution
 	 * context will not be loaded. If you need the execution context, use the job
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,11 +17,16 @@ package org.springframework.batch.core.repository.dao.mongodb;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -69,6 +74,23 @@ public class MongoExecutionContextDao implements ExecutionContextDao {
 		return new ExecutionContext(execution.getExecutionContext().map());
 	}
 
+	@Override
+	public Map<Long, ExecutionContext> getExecutionContexts(Collection<StepExecution> stepExecutions) {
+		List<Long> stepExecutionIds = stepExecutions.stream().map(StepExecution::getId).distinct().toList();
+		Query query = query(where("stepExecutionId").in(stepExecutionIds));
+		Map<Long, ExecutionContext> executionContexts = new HashMap<>();
+		for (org.springframework.batch.core.repository.persistence.StepExecution execution : this.mongoOperations.find(
+				query, org.springframework.batch.core.repository.persistence.StepExecution.class,
+				STEP_EXECUTIONS_COLLECTION_NAME)) {
+			executionContexts.put(execution.getStepExecutionId(),
+					new ExecutionContext(execution.getExecutionContext().map()));
+		}
+		for (Long stepExecutionId : stepExecutionIds) {
+			executionContexts.putIfAbsent(stepExecutionId, new ExecutionContext());
+		}
+		return executionContexts;
+	}
+
 	@Override
 	public void saveExecutionContext(JobExecution jobExecution) {
 		ExecutionContext executionContext = jobExecution.getExecutionContext();
@@ -98,9 +120,21 @@ public class MongoExecutionContextDao implements ExecutionContextDao {
 
 	@Override
 	public void saveExecutionContexts(Collection<StepExecution> stepExecutions) {
+		if (stepExecutions.isEmpty()) {
+			return;
+		}
+		BulkOperations bulkOperations = this.mongoOperations.bulkOps(BulkMode.UNORDERED,
+				org.springframework.batch.core.repository.persistence.StepExecution.class,
+				STEP_EXECUTIONS_COLLECTION_NAME);
 		for (StepExecution stepExecution : stepExecutions) {
-			saveExecutionContext(stepExecution);
+			ExecutionContext executionContext = stepExecution.getExecutionContext();
+			Query query = query(where("stepExecutionId").is(stepExecution.getId()));
+			Update update = Update.update("executionContext",
+					new org.springframework.batch.core.repository.persistence.ExecutionContext(executionContext.toMap(),
+							executionContext.isDirty()));
+			bulkOperations.updateOne(query, update);
 		}
+		bulkOperations.execute();
 	}
 
 	@Override
@@ -15,7 +15,11 @@
  */
 package org.springframework.batch.core.repository.dao.mongodb;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
@@ -80,6 +84,26 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 		return stepExecution;
 	}
 
+	/**
+	 * Create the step executions with a single {@code insertMany} command.
+	 */
+	@Override
+	public List<StepExecution> createStepExecutions(Collection<String> stepNames, JobExecution jobExecution) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepNames.size());
+		List<org.springframework.batch.core.repository.persistence.StepExecution> stepExecutionsToSave = new ArrayList<>(
+				stepNames.size());
+		for (String stepName : stepNames) {
+			long id = stepExecutionIncrementer.nextLongValue();
+			StepExecution stepExecution = new StepExecution(id, stepName, jobExecution);
+			stepExecutionsToSave.add(this.stepExecutionConverter.fromStepExecution(stepExecution));
+			stepExecutions.add(stepExecution);
+		}
+		if (!stepExecutionsToSave.isEmpty()) {
+			this.mongoOperations.insert(stepExecutionsToSave, STEP_EXECUTIONS_COLLECTION_NAME);
+		}
+		return stepExecutions;
+	}
+
 	@Override
 	public void updateStepExecution(StepExecution stepExecution) {
 		Query query = query(where("stepExecutionId").is(stepExecution.getId()));
@@ -151,6 +175,38 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 		return this.stepExecutionConverter.toStepExecution(lastStepExecution, jobExecution);
 	}
 
+	@Override
+	public Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Query jobExecutionsQuery = query(where("jobInstanceId").is(jobInstance.getId()));
+		List<org.springframework.batch.core.repository.persistence.JobExecution> jobExecutions = this.mongoOperations
+			.find(jobExecutionsQuery, org.springframework.batch.core.repository.persistence.JobExecution.class,
+					JOB_EXECUTIONS_COLLECTION_NAME);
+		Map<String, StepExecution> lastStepExecutions = new HashMap<>();
+		if (jobExecutions.isEmpty() || stepNames.isEmpty()) {
+			return lastStepExecutions;
+		}
+		Map<Long, org.springframework.batch.core.repository.persistence.JobExecution> jobExecutionsById = new HashMap<>();
+		for (org.springframework.batch.core.repository.persistence.JobExecution jobExecution : jobExecutions) {
+			jobExecutionsById.put(jobExecution.getJobExecutionId(), jobExecution);
+		}
+		// sorted from the most recent, so the first step execution of each step wins
+		Query stepExecutionQuery = query(
+				where("jobExecutionId").in(jobExecutionsById.keySet()).and("name").in(stepNames))
+			.with(Sort.by(Sort.Direction.DESC, "createTime", "stepExecutionId"));
+		Map<Long, JobExecution> parents = new HashMap<>();
+		for (org.springframework.batch.core.repository.persistence.StepExecution stepExecution : this.mongoOperations
+			.find(stepExecutionQuery, org.springframework.batch.core.repository.persistence.StepExecution.class,
+					STEP_EXECUTIONS_COLLECTION_NAME)) {
+			if (!lastStepExecutions.containsKey(stepExecution.getName())) {
+				JobExecution jobExecution = parents.computeIfAbsent(stepExecution.getJobExecutionId(),
+						id -> this.jobExecutionConverter.toJobExecution(jobExecutionsById.get(id), jobInstance));
+				lastStepExecutions.put(stepExecution.getName(),
+						this.stepExecutionConverter.toStepExecution(stepExecution, jobExecution));
+			}
+		}
+		return lastStepExecutions;
+	}
+
 	/**
 	 * Retrieve all {@link StepExecution}s for a given {@link JobExecution}.
 	 * @param jobExecution the parent {@link JobExecution}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,7 +31,10 @@ import org.springframework.batch.core.repository.support.SimpleJobRepository;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -157,12 +160,12 @@ public class SimpleJobExplorer implements JobExplorer {
 	@Override
 	public List<JobExecution> getJobExecutions(JobInstance jobInstance) {
 		List<JobExecution> executions = jobExecutionDao.findJobExecutions(jobInstance);
+		List<StepExecution> stepExecutions = new ArrayList<>();
 		for (JobExecution jobExecution : executions) {
 			fillJobExecutionDependencies(jobExecution);
-			for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
-				fillStepExecutionDependencies(stepExecution);
-			}
+			stepExecutions.addAll(jobExecution.getStepExecutions());
 		}
+		fillStepExecutionDependencies(stepExecutions);
 		return executions;
 	}
 
@@ -172,9 +175,7 @@ public class SimpleJobExplorer implements JobExplorer {
 		JobExecution lastJobExecution = jobExecutionDao.getLastJobExecution(jobInstance);
 		if (lastJobExecution != null) {
 			fillJobExecutionDependencies(lastJobExecution);
-			for (StepExecution stepExecution : lastJobExecution.getStepExecutions()) {
-				fillStepExecutionDependencies(stepExecution);
-			}
+			fillStepExecutionDependencies(lastJobExecution.getStepExecutions());
 		}
 		return lastJobExecution;
 	}
@@ -207,12 +208,12 @@ public class SimpleJobExplorer implements JobExplorer {
 	@Override
 	public Set<JobExecution> findRunningJobExecutions(@Nullable String jobName) {
 		Set<JobExecution> executions = jobExecutionDao.findRunningJobExecutions(jobName);
+		List<StepExecution> stepExecutions = new ArrayList<>();
 		for (JobExecution jobExecution : executions) {
 			fillJobExecutionDependencies(jobExecution);
-			for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
-				fillStepExecutionDependencies(stepExecution);
-			}
+			stepExecutions.addAll(jobExecution.getStepExecutions());
 		}
+		fillStepExecutionDependencies(stepExecutions);
 		return executions;
 	}
 
@@ -224,9 +225,7 @@ public class SimpleJobExplorer implements JobExplorer {
 			return null;
 		}
 		fillJobExecutionDependencies(jobExecution);
-		for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
-			fillStepExecutionDependencies(stepExecution);
-		}
+		fillStepExecutionDependencies(jobExecution.getStepExecutions());
 		return jobExecution;
 	}
 
@@ -291,6 +290,23 @@ public class SimpleJobExplorer implements JobExplorer {
 		}
 	}
 
+	/**
+	 * Load the execution contexts of the given step executions with a constant number of
+	 * queries.
+	 * @param stepExecutions the step executions to fill
+	 * @since 6.1
+	 */
+	protected void fillStepExecutionDependencies(Collection<StepExecution> stepExecutions) {
+		if (stepExecutions.isEmpty()) {
+			return;
+		}
+		Map<Long, ExecutionContext> executionContexts = ecDao.getExecutionContexts(stepExecutions);
+		for (StepExecution stepExecution : stepExecutions) {
+			ExecutionContext executionContext = executionContexts.get(stepExecution.getId());
+			stepExecution.setExecutionContext(executionContext != null ? executionContext : new ExecutionContext());
+		}
+	}
+
 	/*
 	 * ===================================================================================
 	 * protected methods
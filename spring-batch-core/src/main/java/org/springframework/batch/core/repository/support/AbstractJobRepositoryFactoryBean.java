@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.batch.core.repository.support;
 
+import java.time.Duration;
 import java.util.Properties;
 
 import org.aopalliance.intercept.MethodInterceptor;
@@ -77,6 +78,8 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 
 	protected @Nullable JobKeyGenerator jobKeyGenerator;
 
+	protected Duration statusCheckInterval = Duration.ZERO;
+
 	/**
 	 * @return fully configured {@link JobInstanceDao} implementation.
 	 * @throws Exception thrown if error occurs creating JobInstanceDao.
@@ -186,6 +189,18 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 		this.jobKeyGenerator = jobKeyGenerator;
 	}
 
+	/**
+	 * Set the minimum interval between two checks of the status of a job execution at
+	 * chunk commit points. Defaults to {@link Duration#ZERO}, meaning that the status is
+	 * checked at every chunk commit.
+	 * @param statusCheckInterval the interval between two status checks
+	 * @since 6.1
+	 * @see SimpleJobRepository#setStatusCheckInterval(Duration)
+	 */
+	public void setStatusCheckInterval(Duration statusCheckInterval) {
+		this.statusCheckInterval = statusCheckInterval;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(transactionManager != null, "TransactionManager must not be null.");
@@ -224,8 +239,10 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 	}
 
 	protected Object getTarget() throws Exception {
-		return new SimpleJobRepository(createJobInstanceDao(), createJobExecutionDao(), createStepExecutionDao(),
-				createExecutionContextDao());
+		SimpleJobRepository jobRepository = new SimpleJobRepository(createJobInstanceDao(), createJobExecutionDao(),
+				createStepExecutionDao(), createExecutionContextDao());
+		jobRepository.setStatusCheckInterval(this.statusCheckInterval);
+		return jobRepository;
 	}
 
 	private static class DefaultJobRepositoryTransactionAttributeSource extends NameMatchTransactionAttributeSource {
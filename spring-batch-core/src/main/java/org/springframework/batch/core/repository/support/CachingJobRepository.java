@@ -0,0 +1,554 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.observability.BatchMetrics;
+import org.springframework.batch.core.observability.micrometer.MicrometerMetrics;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.NoSuchStepException;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.util.Assert;
+
+/**
+ * {@link JobRepository} decorator that caches the results of the queries that are
+ * typically issued at a high rate by dashboards and operators: {@link #getJobNames()},
+ * {@link #getJobInstances(String, int, int)},
+ * {@link #findJobInstancesByJobName(String, int, int)}, {@link #getJobInstance(long)},
+ * {@link #getJobExecution(long)} and {@link #findRunningJobExecutions(String)}. All other
+ * operations are delegated to the target repository.
+ * <p>
+ * Cached entries are evicted when they are modified through this repository. Changes made
+ * by other processes sharing the same database are only seen once the entries have
+ * expired, after the {@link #setTimeToLive(Duration) time to live}. Job instances, as
+ * well as job executions that are {@link BatchStatus#COMPLETED completed} or
+ * {@link BatchStatus#ABANDONED abandoned}, can not change anymore and are cached until
+ * they are deleted or evicted to respect the {@link #setMaximumSize(int) maximum size}.
+ * <p>
+ * Cached instances are shared between callers and must not be modified, except to update
+ * them through this repository. The number of cache hits and misses is recorded by the
+ * {@code spring.batch.job.repository.cache.gets} counter of the
+ * {@link #setMeterRegistry(MeterRegistry) meter registry}. Repositories recording to the
+ * same registry share this counter.
+ *
+ * @since 6.1
+ * @see SimpleJobRepository
+ */
+public class CachingJobRepository implements JobRepository {
+
+	private static final String METRIC_NAME = "job.repository.cache.gets";
+
+	private final JobRepository delegate;
+
+	private Duration timeToLive = Duration.ofSeconds(5);
+
+	private int maximumSize = 1000;
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	private final Cache<String, List<String>> jobNames = new Cache<>("jobNames");
+
+	private final Cache<JobInstancesKey, List<JobInstance>> jobInstances = new Cache<>("jobInstances");
+
+	private final Cache<JobInstancesKey, List<JobInstance>> jobInstancesByPattern = new Cache<>(
+			"jobInstancesByPattern");
+
+	private final Cache<Long, JobInstance> jobInstancesById = new Cache<>("jobInstancesById");
+
+	private final Cache<Long, JobExecution> jobExecutions = new Cache<>("jobExecutions");
+
+	private final Cache<String, Set<JobExecution>> runningJobExecutions = new Cache<>("runningJobExecutions");
+
+	private final List<Cache<?, ?>> caches = List.of(this.jobNames, this.jobInstances, this.jobInstancesByPattern,
+			this.jobInstancesById, this.jobExecutions, this.runningJobExecutions);
+
+	/**
+	 * Create a new {@link CachingJobRepository}.
+	 * @param delegate the job repository to cache the query results of
+	 */
+	public CachingJobRepository(JobRepository delegate) {
+		Assert.notNull(delegate, "The delegate job repository must not be null");
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Set the time after which entries that might be modified by other processes expire.
+	 * Defaults to five seconds. A time to live of zero disables the caching of these
+	 * entries, and only immutable entries are cached.
+	 * @param timeToLive the time to live of the cached entries
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "The time to live must not be null");
+		Assert.isTrue(!timeToLive.isNegative(), "The time to live must not be negative");
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Set the maximum number of entries of each cache. The least recently used entries
+	 * are evicted first. Defaults to 1000.
+	 * @param maximumSize the maximum number of entries of each cache
+	 */
+	public void setMaximumSize(int maximumSize) {
+		Assert.isTrue(maximumSize > 0, "The maximum size must be greater than zero");
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Set the meter registry to record cache hits and misses to. Defaults to
+	 * {@link Metrics#globalRegistry}. Counters are registered on the first cache get.
+	 * @param meterRegistry the meter registry to use
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "The meter registry must not be null");
+		this.meterRegistry = meterRegistry;
+		for (Cache<?, ?> cache : this.caches) {
+			cache.resetCounters();
+		}
+	}
+
+	/**
+	 * Evict all cached entries.
+	 */
+	public void clear() {
+		for (Cache<?, ?> cache : this.caches) {
+			cache.clear();
+		}
+	}
+
+	// Cached queries
+
+	@Override
+	public List<String> getJobNames() {
+		return this.jobNames.get("", key -> this.delegate.getJobNames(), this.timeToLive);
+	}
+
+	@Override
+	public List<JobInstance> getJobInstances(String jobName, int start, int count) {
+		return this.jobInstances.get(new JobInstancesKey(jobName, start, count),
+				key -> this.delegate.getJobInstances(jobName, start, count), this.timeToLive);
+	}
+
+	@SuppressWarnings("removal")
+	@Deprecated(since = "6.0", forRemoval = true)
+	@Override
+	public List<JobInstance> findJobInstancesByJobName(String jobName, int start, int count) {
+		return this.jobInstancesByPattern.get(new JobInstancesKey(jobName, start, count),
+				key -> this.delegate.findJobInstancesByJobName(jobName, start, count), this.timeToLive);
+	}
+
+	@Override
+	public @Nullable JobInstance getJobInstance(long jobInstanceId) {
+		return this.jobInstancesById.getIfPresent(jobInstanceId, () -> this.delegate.getJobInstance(jobInstanceId),
+				jobInstance -> null);
+	}
+
+	@Override
+	public @Nullable JobExecution getJobExecution(long executionId) {
+		return this.jobExecutions.getIfPresent(executionId, () -> this.delegate.getJobExecution(executionId),
+				this::getTimeToLive);
+	}
+
+	@Override
+	public Set<JobExecution> findRunningJobExecutions(String jobName) {
+		return this.runningJobExecutions.get(jobName, key -> this.delegate.findRunningJobExecutions(jobName),
+				this.timeToLive);
+	}
+
+	private @Nullable Duration getTimeToLive(JobExecution jobExecution) {
+		BatchStatus status = jobExecution.getStatus();
+		return status == BatchStatus.COMPLETED || status == BatchStatus.ABANDONED ? null : this.timeToLive;
+	}
+
+	// Writes evict the entries they modify
+
+	@Override
+	public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
+		try {
+			return this.delegate.createJobInstance(jobName, jobParameters);
+		}
+		finally {
+			evictJobInstances(jobName);
+		}
+	}
+
+	@Override
+	public void deleteJobInstance(JobInstance jobInstance) {
+		try {
+			this.delegate.deleteJobInstance(jobInstance);
+		}
+		finally {
+			this.jobInstancesById.evict(jobInstance.getInstanceId());
+			this.jobExecutions.evictIf(jobExecution -> jobExecution.getJobInstanceId() == jobInstance.getInstanceId());
+			evictJobInstances(jobInstance.getJobName());
+			this.runningJobExecutions.evict(jobInstance.getJobName());
+		}
+	}
+
+	@Override
+	public JobExecution createJobExecution(JobInstance jobInstance, JobParameters jobParameters,
+			ExecutionContext executionContext) {
+		try {
+			return this.delegate.createJobExecution(jobInstance, jobParameters, executionContext);
+		}
+		finally {
+			this.runningJobExecutions.evict(jobInstance.getJobName());
+		}
+	}
+
+	@Override
+	public void update(JobExecution jobExecution) {
+		try {
+			this.delegate.update(jobExecution);
+		}
+		finally {
+			evictJobExecution(jobExecution);
+		}
+	}
+
+	@Override
+	public void updateExecutionContext(JobExecution jobExecution) {
+		try {
+			this.delegate.updateExecutionContext(jobExecution);
+		}
+		finally {
+			this.jobExecutions.evict(jobExecution.getId());
+		}
+	}
+
+	@Override
+	public void deleteJobExecution(JobExecution jobExecution) {
+		try {
+			this.delegate.deleteJobExecution(jobExecution);
+		}
+		finally {
+			evictJobExecution(jobExecution);
+		}
+	}
+
+	@Override
+	public StepExecution createStepExecution(String stepName, JobExecution jobExecution) {
+		try {
+			return this.delegate.createStepExecution(stepName, jobExecution);
+		}
+		finally {
+			this.jobExecutions.evict(jobExecution.getId());
+		}
+	}
+
+	@Override
+	public List<StepExecution> createStepExecutions(JobExecution jobExecution,
+			Map<String, ExecutionContext> executionContexts) {
+		try {
+			return this.delegate.createStepExecutions(jobExecution, executionContexts);
+		}
+		finally {
+			this.jobExecutions.evict(jobExecution.getId());
+		}
+	}
+
+	@Override
+	public void update(StepExecution stepExecution) {
+		try {
+			this.delegate.update(stepExecution);
+		}
+		finally {
+			this.jobExecutions.evict(stepExecution.getJobExecutionId());
+		}
+	}
+
+	@Override
+	public void updateExecutionContext(StepExecution stepExecution) {
+		try {
+			this.delegate.updateExecutionContext(stepExecution);
+		}
+		finally {
+			this.jobExecutions.evict(stepExecution.getJobExecutionId());
+		}
+	}
+
+	@Override
+	public void checkpoint(StepExecution stepExecution) {
+		try {
+			this.delegate.checkpoint(stepExecution);
+		}
+		finally {
+			this.jobExecutions.evict(stepExecution.getJobExecutionId());
+		}
+	}
+
+	@Override
+	public void deleteStepExecution(StepExecution stepExecution) {
+		try {
+			this.delegate.deleteStepExecution(stepExecution);
+		}
+		finally {
+			this.jobExecutions.evict(stepExecution.getJobExecutionId());
+		}
+	}
+
+	private void evictJobInstances(String jobName) {
+		this.jobNames.clear();
+		this.jobInstances.evictKeysIf(key -> key.jobName().equals(jobName));
+		// patterns are not matched against the job name
+		this.jobInstancesByPattern.clear();
+	}
+
+	private void evictJobExecution(JobExecution jobExecution) {
+		this.jobExecutions.evict(jobExecution.getId());
+		this.runningJobExecutions.evict(jobExecution.getJobInstance().getJobName());
+	}
+
+	// Uncached queries
+
+	@Override
+	public List<JobInstance> findJobInstances(String jobName) {
+		return this.delegate.findJobInstances(jobName);
+	}
+
+	@SuppressWarnings("removal")
+	@Deprecated(since = "6.0", forRemoval = true)
+	@Override
+	public List<JobInstance> findJobInstancesByName(String jobName, int start, int count) {
+		return this.delegate.findJobInstancesByName(jobName, start, count);
+	}
+
+	@Override
+	public @Nullable JobInstance getLastJobInstance(String jobName) {
+		return this.delegate.getLastJobInstance(jobName);
+	}
+
+	@Override
+	public @Nullable JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
+		return this.delegate.getJobInstance(jobName, jobParameters);
+	}
+
+	@Override
+	public long getJobInstanceCount(String jobName) throws NoSuchJobException {
+		return this.delegate.getJobInstanceCount(jobName);
+	}
+
+	@Override
+	public List<JobExecution> getJobExecutions(JobInstance jobInstance) {
+		return this.delegate.getJobExecutions(jobInstance);
+	}
+
+	@SuppressWarnings("removal")
+	@Deprecated(since = "6.0", forRemoval = true)
+	@Override
+	public List<JobExecution> findJobExecutions(JobInstance jobInstance) {
+		return this.delegate.findJobExecutions(jobInstance);
+	}
+
+	@Override
+	public @Nullable JobExecution getLastJobExecution(JobInstance jobInstance) {
+		return this.delegate.getLastJobExecution(jobInstance);
+	}
+
+	@Override
+	public @Nullable JobExecution getLastJobExecution(String jobName, JobParameters jobParameters) {
+		return this.delegate.getLastJobExecution(jobName, jobParameters);
+	}
+
+	@SuppressWarnings("removal")
+	@Deprecated(since = "6.0", forRemoval = true)
+	@Override
+	public @Nullable StepExecution getStepExecution(long jobExecutionId, long stepExecutionId) {
+		return this.delegate.getStepExecution(jobExecutionId, stepExecutionId);
+	}
+
+	@Override
+	public @Nullable StepExecution getStepExecution(long stepExecutionId) {
+		return this.delegate.getStepExecution(stepExecutionId);
+	}
+
+	@Override
+	public @Nullable StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+		return this.delegate.getLastStepExecution(jobInstance, stepName);
+	}
+
+	@Override
+	public Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		return this.delegate.getLastStepExecutions(jobInstance, stepNames);
+	}
+
+	@Override
+	public long getStepExecutionCount(JobInstance jobInstance, String stepName) throws NoSuchStepException {
+		return this.delegate.getStepExecutionCount(jobInstance, stepName);
+	}
+
+	private record JobInstancesKey(String jobName, int start, int count) {
+	}
+
+	private record CacheEntry<V>(V value, boolean expiring, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return this.expiring && now - this.expiresAt >= 0;
+		}
+
+	}
+
+	/**
+	 * Least recently used cache of query results, with a time to live per entry.
+	 */
+	private final class Cache<K, V> {
+
+		private final String name;
+
+		private final Map<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+				return size() > maximumSize;
+			}
+		};
+
+		// incremented on each eviction, guarded by the entries
+		private long generation;
+
+		private volatile @Nullable Counter hits;
+
+		private volatile @Nullable Counter misses;
+
+		private Cache(String name) {
+			this.name = name;
+		}
+
+		private void resetCounters() {
+			this.hits = null;
+			this.misses = null;
+		}
+
+		private void recordHit() {
+			Counter hits = this.hits;
+			if (hits == null) {
+				hits = createCounter("hit");
+				this.hits = hits;
+			}
+			hits.increment();
+		}
+
+		private void recordMiss() {
+			Counter misses = this.misses;
+			if (misses == null) {
+				misses = createCounter("miss");
+				this.misses = misses;
+			}
+			misses.increment();
+		}
+
+		private Counter createCounter(String result) {
+			String tagPrefix = BatchMetrics.METRICS_PREFIX + METRIC_NAME;
+			return MicrometerMetrics.createCounter(meterRegistry, METRIC_NAME, "Job repository cache gets",
+					Tag.of(tagPrefix + ".name", this.name), Tag.of(tagPrefix + ".result", result));
+		}
+
+		/*
+		 * Return the cached value of the key, or load it and cache it for the time to
+		 * live.
+		 */
+		private V get(K key, Function<K, V> loader, Duration timeToLive) {
+			V value = getIfPresent(key, () -> loader.apply(key), loaded -> timeToLive);
+			Assert.state(value != null, "The loaded value must not be null");
+			return value;
+		}
+
+		/*
+		 * Return the cached value of the key, or load it and cache it for the time to
+		 * live computed from the loaded value. A null time to live caches the value until
+		 * it is evicted. Null values are not cached.
+		 */
+		private @Nullable V getIfPresent(K key, Supplier<@Nullable V> loader,
+				Function<V, @Nullable Duration> timeToLive) {
+			long now = System.nanoTime();
+			long generation;
+			synchronized (this.entries) {
+				CacheEntry<V> entry = this.entries.get(key);
+				if (entry != null && !entry.isExpired(now)) {
+					recordHit();
+					return entry.value();
+				}
+				this.entries.remove(key);
+				generation = this.generation;
+			}
+			recordMiss();
+			V value = loader.get();
+			if (value != null) {
+				Duration duration = timeToLive.apply(value);
+				if (duration == null || !duration.isZero()) {
+					CacheEntry<V> entry = duration == null ? new CacheEntry<>(value, false, 0)
+							: new CacheEntry<>(value, true, now + duration.toNanos());
+					synchronized (this.entries) {
+						// do not cache a value loaded before an eviction
+						if (generation == this.generation) {
+							this.entries.put(key, entry);
+						}
+					}
+				}
+			}
+			return value;
+		}
+
+		private void evict(K key) {
+			synchronized (this.entries) {
+				this.generation++;
+				this.entries.remove(key);
+			}
+		}
+
+		private void evictKeysIf(Predicate<K> predicate) {
+			synchronized (this.entries) {
+				this.generation++;
+				this.entries.keySet().removeIf(predicate);
+			}
+		}
+
+		private void evictIf(Predicate<V> predicate) {
+			synchronized (this.entries) {
+				this.generation++;
+				this.entries.values().removeIf(entry -> predicate.test(entry.value()));
+			}
+		}
+
+		private void clear() {
+			synchronized (this.entries) {
+				this.generation++;
+				this.entries.clear();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Moves the metadata of old job instances out of the tables of a JDBC job repository.
+ * <p>
+ * A job instance is archived when its last job execution ended before the
+ * {@link #setRetention(Duration) retention} period with one of the
+ * {@link #setBatchStatuses(BatchStatus...) configured statuses}. All its job executions,
+ * step executions, parameters and execution contexts are then copied to the tables with
+ * the {@link #setArchiveTablePrefix(String) archive table prefix} and deleted from the
+ * job repository. Without an archive table prefix, they are only deleted. The entries of
+ * step execution contexts written with delta context updates are archived as well when
+ * the job repository has a {@code BATCH_STEP_CONTEXT_ENTRY} table, in which case the
+ * archive must have it too.
+ * <p>
+ * Job instances are archived in small batches, each in its own transaction, so that the
+ * job repository can stay online while the archiver runs. The archive tables must have
+ * the same columns as the job repository tables, they can be created with the schema
+ * script of the database where the {@code BATCH_} prefix and, on databases where they
+ * must be unique, the constraint names are replaced.
+ * <p>
+ * Note that an archived job instance is no longer known to the job repository, so
+ * launching the job again with the same identifying parameters creates a new job
+ * instance.
+ *
+ * @since 6.1
+ */
+public class JdbcJobMetadataArchiver {
+
+	private static final Log logger = LogFactory.getLog(JdbcJobMetadataArchiver.class);
+
+	// ordered by job instance id so that candidates are fetched from the last archived id
+	private static final String FIND_JOB_INSTANCES_TO_ARCHIVE = """
+			SELECT JE.JOB_INSTANCE_ID
+			FROM %PREFIX%JOB_EXECUTION JE
+			WHERE JE.JOB_INSTANCE_ID > ? AND JE.END_TIME < ? AND JE.STATUS IN (%STATUSES%)
+				AND NOT EXISTS (SELECT 1 FROM %PREFIX%JOB_EXECUTION JE2 WHERE JE2.JOB_INSTANCE_ID = JE.JOB_INSTANCE_ID AND JE2.JOB_EXECUTION_ID > JE.JOB_EXECUTION_ID)
+			ORDER BY JE.JOB_INSTANCE_ID
+			""";
+
+	private static final String JOB_EXECUTION_IDS = "SELECT JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%IDS%)";
+
+	private static final String STEP_EXECUTION_IDS = "SELECT STEP_EXECUTION_ID FROM %PREFIX%STEP_EXECUTION WHERE JOB_EXECUTION_ID IN ("
+			+ JOB_EXECUTION_IDS + ")";
+
+	/**
+	 * Tables in foreign key order, parents first.
+	 */
+	private static final List<MetadataTable> TABLES = List.of(
+			new MetadataTable("JOB_INSTANCE", "JOB_INSTANCE_ID, VERSION, JOB_NAME, JOB_KEY",
+					"JOB_INSTANCE_ID IN (%IDS%)"),
+			new MetadataTable("JOB_EXECUTION",
+					"JOB_EXECUTION_ID, VERSION, JOB_INSTANCE_ID, CREATE_TIME, START_TIME, END_TIME, STATUS, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED",
+					"JOB_INSTANCE_ID IN (%IDS%)"),
+			new MetadataTable("JOB_EXECUTION_PARAMS",
+					"JOB_EXECUTION_ID, PARAMETER_NAME, PARAMETER_TYPE, PARAMETER_VALUE, IDENTIFYING",
+					"JOB_EXECUTION_ID IN (" + JOB_EXECUTION_IDS + ")"),
+			new MetadataTable("JOB_EXECUTION_CONTEXT", "JOB_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT",
+					"JOB_EXECUTION_ID IN (" + JOB_EXECUTION_IDS + ")"),
+			new MetadataTable("STEP_EXECUTION",
+					"STEP_EXECUTION_ID, VERSION, STEP_NAME, JOB_EXECUTION_ID, CREATE_TIME, START_TIME, END_TIME, STATUS, COMMIT_COUNT, READ_COUNT, FILTER_COUNT, WRITE_COUNT, READ_SKIP_COUNT, WRITE_SKIP_COUNT, PROCESS_SKIP_COUNT, ROLLBACK_COUNT, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED",
+					"JOB_EXECUTION_ID IN (" + JOB_EXECUTION_IDS + ")"),
+			new MetadataTable("STEP_EXECUTION_CONTEXT", "STEP_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT",
+					"STEP_EXECUTION_ID IN (" + STEP_EXECUTION_IDS + ")"));
+
+	/**
+	 * Table of the delta context updates, which does not exist in job repositories
+	 * created before version 6.1.
+	 */
+	private static final MetadataTable STEP_CONTEXT_ENTRIES = new MetadataTable("STEP_CONTEXT_ENTRY",
+			"STEP_EXECUTION_ID, ENTRY_KEY, SHORT_VALUE, SERIALIZED_VALUE",
+			"STEP_EXECUTION_ID IN (" + STEP_EXECUTION_IDS + ")");
+
+	private static final int MAX_BATCH_SIZE = 1000;
+
+	private final JdbcOperations jdbcOperations;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private String tablePrefix = AbstractJdbcBatchMetadataDao.DEFAULT_TABLE_PREFIX;
+
+	private @Nullable String archiveTablePrefix;
+
+	private Duration retention = Duration.ofDays(30);
+
+	private Set<BatchStatus> batchStatuses = EnumSet.of(BatchStatus.COMPLETED, BatchStatus.ABANDONED);
+
+	private int batchSize = 100;
+
+	/**
+	 * Create a new {@link JdbcJobMetadataArchiver}.
+	 * @param jdbcOperations the JDBC operations of the job repository database
+	 * @param transactionManager the transaction manager to archive each batch of job
+	 * instances in a separate transaction
+	 */
+	public JdbcJobMetadataArchiver(JdbcOperations jdbcOperations, PlatformTransactionManager transactionManager) {
+		Assert.notNull(jdbcOperations, "JdbcOperations must not be null");
+		Assert.notNull(transactionManager, "TransactionManager must not be null");
+		this.jdbcOperations = jdbcOperations;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Set the table prefix of the job repository. Defaults to
+	 * {@link AbstractJdbcBatchMetadataDao#DEFAULT_TABLE_PREFIX}.
+	 * @param tablePrefix the table prefix of the job repository
+	 */
+	public void setTablePrefix(String tablePrefix) {
+		Assert.hasText(tablePrefix, "The table prefix must not be empty");
+		this.tablePrefix = tablePrefix;
+	}
+
+	/**
+	 * Set the prefix of the tables to which the metadata is copied before being deleted
+	 * from the job repository. Defaults to {@code null}, in which case the metadata is
+	 * deleted without being copied.
+	 * @param archiveTablePrefix the table prefix of the archive tables
+	 */
+	public void setArchiveTablePrefix(@Nullable String archiveTablePrefix) {
+		Assert.isTrue(archiveTablePrefix == null || !archiveTablePrefix.equals(this.tablePrefix),
+				"The archive table prefix must differ from the table prefix");
+		this.archiveTablePrefix = archiveTablePrefix;
+	}
+
+	/**
+	 * Set how long the metadata of a job instance is kept in the job repository after its
+	 * last job execution ended. Defaults to 30 days.
+	 * @param retention the retention period
+	 */
+	public void setRetention(Duration retention) {
+		Assert.notNull(retention, "The retention must not be null");
+		Assert.isTrue(!retention.isNegative(), "The retention must not be negative");
+		this.retention = retention;
+	}
+
+	/**
+	 * Set the statuses the last job execution of a job instance can have for the job
+	 * instance to be archived. Defaults to {@link BatchStatus#COMPLETED} and
+	 * {@link BatchStatus#ABANDONED}, so that job instances which can still be restarted
+	 * are kept.
+	 * @param batchStatuses the statuses of the job executions to archive
+	 */
+	public void setBatchStatuses(BatchStatus... batchStatuses) {
+		Assert.notEmpty(batchStatuses, "At least one batch status must be provided");
+		Assert.isTrue(Arrays.stream(batchStatuses).noneMatch(BatchStatus::isRunning),
+				"Running job executions can not be archived");
+		this.batchStatuses = EnumSet.copyOf(Arrays.asList(batchStatuses));
+	}
+
+	/**
+	 * Set the number of job instances archived in each transaction. Defaults to 100.
+	 * @param batchSize the number of job instances per transaction, at most 1000
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0 && batchSize <= MAX_BATCH_SIZE,
+				"The batch size must be between 1 and " + MAX_BATCH_SIZE);
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Archive the job instances whose last job execution ended before the retention
+	 * period, one batch at a time. The entries of step execution contexts written with
+	 * {@link JdbcJobRepositoryFactoryBean#setDeltaContextUpdates(boolean) delta context
+	 * updates} are archived as well when their table exists. This method must not be
+	 * called within a transaction.
+	 * @return the number of archived job instances
+	 */
+	public int archive() {
+		Timestamp endedBefore = Timestamp.valueOf(LocalDateTime.now().minus(this.retention));
+		List<MetadataTable> tables = getTablesToArchive();
+		int archived = 0;
+		long lastArchivedId = -1;
+		while (true) {
+			long afterId = lastArchivedId;
+			List<Long> jobInstanceIds = this.transactionTemplate
+				.execute(status -> archiveBatch(tables, afterId, endedBefore));
+			if (jobInstanceIds == null || jobInstanceIds.isEmpty()) {
+				break;
+			}
+			archived += jobInstanceIds.size();
+			lastArchivedId = jobInstanceIds.get(jobInstanceIds.size() - 1);
+			if (jobInstanceIds.size() < this.batchSize) {
+				break;
+			}
+		}
+		if (logger.isInfoEnabled()) {
+			logger.info("Archived " + archived + " job instance(s) whose last execution ended before " + endedBefore);
+		}
+		return archived;
+	}
+
+	private List<MetadataTable> getTablesToArchive() {
+		List<MetadataTable> tables = new ArrayList<>(TABLES);
+		if (tableExists(this.tablePrefix + STEP_CONTEXT_ENTRIES.name())) {
+			Assert.state(
+					this.archiveTablePrefix == null
+							|| tableExists(this.archiveTablePrefix + STEP_CONTEXT_ENTRIES.name()),
+					() -> "The archive table " + this.archiveTablePrefix + STEP_CONTEXT_ENTRIES.name()
+							+ " must exist to archive the entries of step execution contexts");
+			tables.add(STEP_CONTEXT_ENTRIES);
+		}
+		return tables;
+	}
+
+	private boolean tableExists(String tableName) {
+		try {
+			this.jdbcOperations.queryForList("SELECT 1 FROM " + tableName + " WHERE 1 = 0");
+			return true;
+		}
+		catch (BadSqlGrammarException ex) {
+			return false;
+		}
+	}
+
+	private List<Long> archiveBatch(List<MetadataTable> tables, long afterId, Timestamp endedBefore) {
+		List<Long> jobInstanceIds = findJobInstancesToArchive(afterId, endedBefore);
+		if (jobInstanceIds.isEmpty()) {
+			return jobInstanceIds;
+		}
+		String ids = StringUtils.collectionToCommaDelimitedString(Collections.nCopies(jobInstanceIds.size(), "?"));
+		Object[] args = jobInstanceIds.toArray();
+
+		if (this.archiveTablePrefix != null) {
+			for (MetadataTable table : tables) {
+				String insert = "INSERT INTO " + this.archiveTablePrefix + table.name() + " (" + table.columns()
+						+ ") SELECT " + table.columns() + " FROM " + this.tablePrefix + table.name() + " WHERE "
+						+ table.condition();
+				this.jdbcOperations.update(getQuery(insert, ids), args);
+			}
+		}
+		List<MetadataTable> tablesToDelete = new ArrayList<>(tables);
+		Collections.reverse(tablesToDelete);
+		for (MetadataTable table : tablesToDelete) {
+			String delete = "DELETE FROM " + this.tablePrefix + table.name() + " WHERE " + table.condition();
+			this.jdbcOperations.update(getQuery(delete, ids), args);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Archived job instances " + jobInstanceIds);
+		}
+		return jobInstanceIds;
+	}
+
+	private List<Long> findJobInstancesToArchive(long afterId, Timestamp endedBefore) {
+		String statuses = StringUtils.collectionToCommaDelimitedString(
+				this.batchStatuses.stream().map(status -> "'" + status.name() + "'").toList());
+		String query = getQuery(FIND_JOB_INSTANCES_TO_ARCHIVE.replace("%STATUSES%", statuses), "");
+		List<Long> jobInstanceIds = this.jdbcOperations.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(query);
+			statement.setMaxRows(this.batchSize);
+			statement.setLong(1, afterId);
+			statement.setTimestamp(2, endedBefore);
+			return statement;
+		}, rs -> {
+			List<Long> ids = new ArrayList<>(this.batchSize);
+			while (ids.size() < this.batchSize && rs.next()) {
+				ids.add(rs.getLong(1));
+			}
+			return ids;
+		});
+		return jobInstanceIds == null ? new ArrayList<>() : jobInstanceIds;
+	}
+
+	private String getQuery(String base, String ids) {
+		return base.replace("%IDS%", ids).replace("%PREFIX%", this.tablePrefix);
+	}
+
+	private record MetadataTable(String name, String columns, String condition) {
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2025 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,12 +22,15 @@ import org.springframework.batch.core.repository.dao.jdbc.JdbcExecutionContextDa
 import org.springframework.batch.core.repository.dao.jdbc.JdbcJobExecutionDao;
 import org.springframework.batch.core.repository.dao.jdbc.JdbcStepExecutionDao;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.database.support.BlockAllocatingIncrementer;
 import org.springframework.batch.infrastructure.item.database.support.DataFieldMaxValueIncrementerFactory;
 import org.springframework.batch.infrastructure.item.database.support.DefaultDataFieldMaxValueIncrementerFactory;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.util.Assert;
 
 import javax.sql.DataSource;
 import java.nio.charset.Charset;
@@ -48,6 +51,12 @@ import java.nio.charset.Charset;
 @SuppressWarnings("removal")
 public class JdbcJobRepositoryFactoryBean extends JobRepositoryFactoryBean {
 
+	private boolean deltaContextUpdates = false;
+
+	private int contextCompactionInterval = 100;
+
+	private int incrementerBlockSize = 1;
+
 	/**
 	 * @param type a value from the {@link java.sql.Types} class to indicate the type to
 	 * use for a CLOB
@@ -207,9 +216,89 @@ public class JdbcJobRepositoryFactoryBean extends JobRepositoryFactoryBean {
 		super.setConversionService(conversionService);
 	}
 
+	/**
+	 * Whether step execution context updates should only write the entries that changed
+	 * since the last update. Requires the {@code BATCH_STEP_CONTEXT_ENTRY} table.
+	 * Defaults to {@code false}.
+	 * @param deltaContextUpdates {@code true} to only write changed entries
+	 * @see JdbcExecutionContextDao#setDeltaUpdates(boolean)
+	 * @since 6.1
+	 */
+	public void setDeltaContextUpdates(boolean deltaContextUpdates) {
+		this.deltaContextUpdates = deltaContextUpdates;
+	}
+
+	/**
+	 * Set the number of commits after which changed context entries are folded back into
+	 * the full step execution context. Only used with delta context updates. Defaults to
+	 * 100.
+	 * @param contextCompactionInterval the compaction interval in commits
+	 * @see JdbcExecutionContextDao#setCompactionInterval(int)
+	 * @since 6.1
+	 */
+	public void setContextCompactionInterval(int contextCompactionInterval) {
+		this.contextCompactionInterval = contextCompactionInterval;
+	}
+
+	/**
+	 * Set the number of ids reserved at once from the job instance, job execution and
+	 * step execution sequences. With a block size greater than 1, ids are handed out from
+	 * memory and the sequences are only queried once per block. All the job repositories
+	 * sharing the same database must use the same block size. Defaults to 1, which
+	 * queries the sequences for each id.
+	 * @param incrementerBlockSize the number of ids reserved per sequence call
+	 * @see BlockAllocatingIncrementer
+	 * @since 6.1
+	 */
+	public void setIncrementerBlockSize(int incrementerBlockSize) {
+		Assert.isTrue(incrementerBlockSize > 0, "The incrementer block size must be greater than zero");
+		this.incrementerBlockSize = incrementerBlockSize;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		super.afterPropertiesSet();
+		if (this.incrementerBlockSize > 1 && !(this.incrementerFactory instanceof BlockAllocatingIncrementerFactory)) {
+			this.incrementerFactory = new BlockAllocatingIncrementerFactory(this.incrementerFactory,
+					this.incrementerBlockSize);
+		}
+	}
+
+	@Override
+	protected JdbcExecutionContextDao createExecutionContextDao() {
+		JdbcExecutionContextDao dao = super.createExecutionContextDao();
+		dao.setDeltaUpdates(this.deltaContextUpdates);
+		dao.setCompactionInterval(this.contextCompactionInterval);
+		return dao;
+	}
+
+	private static final class BlockAllocatingIncrementerFactory implements DataFieldMaxValueIncrementerFactory {
+
+		private final DataFieldMaxValueIncrementerFactory delegate;
+
+		private final int blockSize;
+
+		private BlockAllocatingIncrementerFactory(DataFieldMaxValueIncrementerFactory delegate, int blockSize) {
+			this.delegate = delegate;
+			this.blockSize = blockSize;
+		}
+
+		@Override
+		public DataFieldMaxValueIncrementer getIncrementer(String databaseType, String incrementerName) {
+			return new BlockAllocatingIncrementer(this.delegate.getIncrementer(databaseType, incrementerName),
+					this.blockSize);
+		}
+
+		@Override
+		public boolean isSupportedIncrementerType(String databaseType) {
+			return this.delegate.isSupportedIncrementerType(databaseType);
+		}
+
+		@Override
+		public String[] getSupportedIncrementerTypes() {
+			return this.delegate.getSupportedIncrementerTypes();
+		}
+
 	}
 
 }
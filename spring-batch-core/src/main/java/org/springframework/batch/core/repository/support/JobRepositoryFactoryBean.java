@@ -127,7 +127,10 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		JdbcStepExecutionDao stepExecutionDao = createStepExecutionDao();
 		stepExecutionDao.setJobExecutionDao(jobExecutionDao);
 		JdbcExecutionContextDao executionContextDao = createExecutionContextDao();
-		return new SimpleJobRepository(jobInstanceDao, jobExecutionDao, stepExecutionDao, executionContextDao);
+		SimpleJobRepository jobRepository = new SimpleJobRepository(jobInstanceDao, jobExecutionDao, stepExecutionDao,
+				executionContextDao);
+		jobRepository.setStatusCheckInterval(this.statusCheckInterval);
+		return jobRepository;
 	}
 
 	/**
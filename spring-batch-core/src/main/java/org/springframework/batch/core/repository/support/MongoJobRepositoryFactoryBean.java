@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import org.springframework.batch.core.repository.dao.mongodb.MongoJobExecutionDa
 import org.springframework.batch.core.repository.dao.mongodb.MongoJobInstanceDao;
 import org.springframework.batch.core.repository.dao.mongodb.MongoSequenceIncrementer;
 import org.springframework.batch.core.repository.dao.mongodb.MongoStepExecutionDao;
+import org.springframework.batch.infrastructure.item.database.support.BlockAllocatingIncrementer;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
@@ -49,6 +50,8 @@ public class MongoJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryB
 
 	private @Nullable DataFieldMaxValueIncrementer stepExecutionIncrementer;
 
+	private int incrementerBlockSize = 1;
+
 	public void setMongoOperations(MongoOperations mongoOperations) {
 		this.mongoOperations = mongoOperations;
 	}
@@ -65,6 +68,21 @@ public class MongoJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryB
 		this.stepExecutionIncrementer = stepExecutionIncrementer;
 	}
 
+	/**
+	 * Set the number of ids reserved at once from the job instance, job execution and
+	 * step execution incrementers. With a block size greater than 1, ids are handed out
+	 * from memory and the sequences are only incremented once per block. All the job
+	 * repositories sharing the same database must use the same block size. Defaults to 1,
+	 * which increments the sequences for each id.
+	 * @param incrementerBlockSize the number of ids reserved per sequence increment
+	 * @see BlockAllocatingIncrementer
+	 * @since 6.1
+	 */
+	public void setIncrementerBlockSize(int incrementerBlockSize) {
+		Assert.isTrue(incrementerBlockSize > 0, "The incrementer block size must be greater than zero");
+		this.incrementerBlockSize = incrementerBlockSize;
+	}
+
 	@Override
 	protected Object getTarget() throws Exception {
 		MongoJobInstanceDao jobInstanceDao = createJobInstanceDao();
@@ -73,7 +91,10 @@ public class MongoJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryB
 		MongoStepExecutionDao stepExecutionDao = createStepExecutionDao();
 		stepExecutionDao.setJobExecutionDao(jobExecutionDao);
 		MongoExecutionContextDao executionContextDao = createExecutionContextDao();
-		return new SimpleJobRepository(jobInstanceDao, jobExecutionDao, stepExecutionDao, executionContextDao);
+		SimpleJobRepository jobRepository = new SimpleJobRepository(jobInstanceDao, jobExecutionDao, stepExecutionDao,
+				executionContextDao);
+		jobRepository.setStatusCheckInterval(this.statusCheckInterval);
+		return jobRepository;
 	}
 
 	@Override
@@ -118,6 +139,18 @@ public class MongoJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryB
 			this.stepExecutionIncrementer = new MongoSequenceIncrementer(this.mongoOperations,
 					"BATCH_STEP_EXECUTION_SEQ");
 		}
+		if (this.incrementerBlockSize > 1) {
+			this.jobInstanceIncrementer = blockAllocating(this.jobInstanceIncrementer);
+			this.jobExecutionIncrementer = blockAllocating(this.jobExecutionIncrementer);
+			this.stepExecutionIncrementer = blockAllocating(this.stepExecutionIncrementer);
+		}
+	}
+
+	private DataFieldMaxValueIncrementer blockAllocating(DataFieldMaxValueIncrementer incrementer) {
+		if (incrementer instanceof BlockAllocatingIncrementer) {
+			return incrementer;
+		}
+		return new BlockAllocatingIncrementer(incrementer, this.incrementerBlockSize);
 	}
 
 }
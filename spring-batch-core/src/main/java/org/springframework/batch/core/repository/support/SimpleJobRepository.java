@@ -32,10 +32,19 @@ import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *
@@ -65,11 +74,32 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 
 	private static final Log logger = LogFactory.getLog(SimpleJobRepository.class);
 
+	private long statusCheckInterval = 0;
+
+	// next status check of each running step execution, by step execution id
+	private final Map<Long, StatusCheck> nextStatusChecks = new ConcurrentHashMap<>();
+
 	public SimpleJobRepository(JobInstanceDao jobInstanceDao, JobExecutionDao jobExecutionDao,
 			StepExecutionDao stepExecutionDao, ExecutionContextDao ecDao) {
 		super(jobInstanceDao, jobExecutionDao, stepExecutionDao, ecDao);
 	}
 
+	/**
+	 * Set the minimum interval between two checks of the status of a job execution in
+	 * {@link #checkpoint(StepExecution)}. In between, the last known status is used, so a
+	 * step may process more chunks before noticing that its job execution has been
+	 * stopped by another process. Stopping a job execution through this repository
+	 * invalidates the last known status. Defaults to {@link Duration#ZERO}, meaning that
+	 * the status is checked at every chunk commit.
+	 * @param statusCheckInterval the interval between two status checks
+	 * @since 6.1
+	 */
+	public void setStatusCheckInterval(Duration statusCheckInterval) {
+		Assert.notNull(statusCheckInterval, "The status check interval must not be null");
+		Assert.isTrue(!statusCheckInterval.isNegative(), "The status check interval must not be negative");
+		this.statusCheckInterval = statusCheckInterval.toNanos();
+	}
+
 	/**
 	 * Fetch all {@link JobInstance} values for a given job name.
 	 * @param jobName The name of the job.
@@ -93,6 +123,25 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		return stepExecution;
 	}
 
+	/**
+	 * Load the last step executions, their contexts and the contexts of their job
+	 * executions with a constant number of queries per step execution batch.
+	 * @since 6.1
+	 */
+	@Override
+	public Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> stepExecutions = this.stepExecutionDao.getLastStepExecutions(jobInstance, stepNames);
+		fillStepExecutionDependencies(stepExecutions.values());
+		Map<Long, JobExecution> jobExecutions = new HashMap<>();
+		for (StepExecution stepExecution : stepExecutions.values()) {
+			jobExecutions.putIfAbsent(stepExecution.getJobExecutionId(), stepExecution.getJobExecution());
+		}
+		for (JobExecution jobExecution : jobExecutions.values()) {
+			jobExecution.setExecutionContext(this.ecDao.getExecutionContext(jobExecution));
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Create a new {@link JobExecution} for the given {@link JobInstance} and
 	 * {@link JobParameters}, and associate the provided {@link ExecutionContext} with the
@@ -136,6 +185,24 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		return stepExecution;
 	}
 
+	@Override
+	public List<StepExecution> createStepExecutions(JobExecution jobExecution,
+			Map<String, ExecutionContext> executionContexts) {
+		Assert.notNull(jobExecution, "JobExecution must not be null.");
+		Assert.notNull(executionContexts, "Execution contexts must not be null.");
+
+		List<StepExecution> stepExecutions = stepExecutionDao.createStepExecutions(executionContexts.keySet(),
+				jobExecution);
+		Iterator<ExecutionContext> contexts = executionContexts.values().iterator();
+		for (StepExecution stepExecution : stepExecutions) {
+			stepExecution.setExecutionContext(contexts.next());
+		}
+		ecDao.saveExecutionContexts(stepExecutions);
+		jobExecution.addStepExecutions(stepExecutions);
+
+		return stepExecutions;
+	}
+
 	@Override
 	public void update(JobExecution jobExecution) {
 
@@ -151,6 +218,10 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 			jobExecution.upgradeStatus(BatchStatus.STOPPED);
 		}
 		jobExecutionDao.updateJobExecution(jobExecution);
+		if (jobExecution.getEndTime() != null || jobExecution.isStopping()) {
+			long jobExecutionId = jobExecution.getId();
+			this.nextStatusChecks.values().removeIf(statusCheck -> statusCheck.jobExecutionId() == jobExecutionId);
+		}
 	}
 
 	@Override
@@ -169,6 +240,55 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		}
 
 		stepExecutionDao.updateStepExecution(stepExecution);
+		if (stepExecution.getEndTime() != null) {
+			this.nextStatusChecks.remove(stepExecution.getId());
+		}
+	}
+
+	/**
+	 * Persist the execution context of the step execution if it has changed, then update
+	 * the step execution. The status of the job execution is only synchronized if the
+	 * {@link #setStatusCheckInterval(Duration) status check interval} has elapsed since
+	 * the last check.
+	 */
+	@Override
+	public void checkpoint(StepExecution stepExecution) {
+		validateStepExecution(stepExecution);
+		Assert.notNull(stepExecution.getId(), "StepExecution must already be saved (have an id assigned)");
+
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		if (executionContext.isDirty()) {
+			this.ecDao.updateExecutionContext(stepExecution);
+			clearDirtyFlag(executionContext);
+		}
+
+		stepExecution.setLastUpdated(LocalDateTime.now());
+
+		JobExecution jobExecution = stepExecution.getJobExecution();
+		if (isStatusCheckDue(stepExecution)) {
+			this.jobExecutionDao.synchronizeStatus(jobExecution);
+		}
+
+		if (jobExecution.isStopped() || jobExecution.isStopping()) {
+			this.stepExecutionDao.synchronizeStatus(stepExecution);
+			stepExecution.setTerminateOnly();
+		}
+
+		this.stepExecutionDao.updateStepExecution(stepExecution);
+	}
+
+	private boolean isStatusCheckDue(StepExecution stepExecution) {
+		if (this.statusCheckInterval == 0) {
+			return true;
+		}
+		long now = System.nanoTime();
+		StatusCheck nextStatusCheck = this.nextStatusChecks.get(stepExecution.getId());
+		if (nextStatusCheck != null && now - nextStatusCheck.time() < 0) {
+			return false;
+		}
+		this.nextStatusChecks.put(stepExecution.getId(),
+				new StatusCheck(stepExecution.getJobExecutionId(), now + this.statusCheckInterval));
+		return true;
 	}
 
 	private void validateStepExecution(StepExecution stepExecution) {
@@ -182,7 +302,27 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		validateStepExecution(stepExecution);
 		Assert.notNull(stepExecution.getId(), "StepExecution must already be saved (have an id assigned)");
 		ecDao.updateExecutionContext(stepExecution);
-		stepExecution.getExecutionContext().clearDirtyFlag();
+		clearDirtyFlag(stepExecution.getExecutionContext());
+	}
+
+	/*
+	 * Clear the changes of a step execution context once they have been written. If the
+	 * transaction they have been written in is rolled back, the changed keys are marked
+	 * again, so that they are written by the next (delta) update.
+	 */
+	private void clearDirtyFlag(ExecutionContext executionContext) {
+		Set<String> changedKeys = executionContext.getChangedKeys();
+		executionContext.clearDirtyFlag();
+		if (!changedKeys.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						executionContext.markChanged(changedKeys);
+					}
+				}
+			});
+		}
 	}
 
 	@Override
@@ -224,4 +364,11 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		return jobInstanceDao.createJobInstance(jobName, jobParameters);
 	}
 
+	/**
+	 * Time (in nanoseconds) of the next status check of the job execution of a step
+	 * execution.
+	 */
+	private record StatusCheck(long jobExecutionId, long time) {
+	}
+
 }
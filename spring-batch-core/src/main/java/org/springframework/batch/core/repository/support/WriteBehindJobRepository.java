@@ -0,0 +1,634 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.NoSuchStepException;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link JobRepository} decorator that defers the chunk {@link #checkpoint(StepExecution)
+ * checkpoints} of step executions and writes them in batches, for steps that commit many
+ * small chunks. Consecutive checkpoints of the same step execution are coalesced, so that
+ * only the latest state of each step execution is written once per flush. All other
+ * operations are delegated to the target repository, after pending checkpoints of the
+ * step executions involved have been written.
+ * <p>
+ * Two {@link FlushMode flush modes} are available:
+ * <ul>
+ * <li>{@link FlushMode#WRITE_BEHIND} (the default): checkpoints are queued once the chunk
+ * transaction has committed and written by a background thread every
+ * {@link #setFlushInterval(Duration) flush interval}. The metadata can lag behind the
+ * business data by up to this interval, so a restart after a crash may process again the
+ * items of the last chunks. Item writers are expected to be idempotent.</li>
+ * <li>{@link FlushMode#BEFORE_COMMIT}: checkpoints are written in the chunk transaction,
+ * right before it commits, so the metadata is always consistent with the business
+ * data.</li>
+ * </ul>
+ * <p>
+ * Checkpoints are written with a snapshot of the step execution taken when
+ * {@link #checkpoint(StepExecution)} is called, attached to a detached copy of its job
+ * execution, and each checkpoint is written with a single
+ * {@link JobRepository#checkpoint(StepExecution)} call on the target repository. The keys
+ * of the execution context changed since the previous checkpoint are kept in the
+ * snapshot, so that delta context updates are supported. The version of the step
+ * execution is tracked by this repository, and applied back to the step execution before
+ * it is updated synchronously, to comply with the optimistic locking of the target
+ * repository. A failure to write a checkpoint in the background is rethrown by the next
+ * operation on the same step execution. A stop of the job execution detected while
+ * writing a checkpoint in the background is recorded by this repository, and applied to
+ * the step execution by the next checkpoint or update made by the step. Values of the
+ * execution context are not copied, so they must not be modified in place once they have
+ * been put in the context.
+ *
+ * @since 6.1
+ * @see SimpleJobRepository
+ */
+public class WriteBehindJobRepository implements JobRepository, InitializingBean, DisposableBean {
+
+	/**
+	 * Modes of writing checkpoints.
+	 */
+	public enum FlushMode {
+
+		/**
+		 * Write checkpoints in the chunk transaction, right before it commits.
+		 */
+		BEFORE_COMMIT,
+
+		/**
+		 * Write checkpoints in the background after the chunk transaction has committed.
+		 */
+		WRITE_BEHIND
+
+	}
+
+	private static final Log logger = LogFactory.getLog(WriteBehindJobRepository.class);
+
+	private final JobRepository delegate;
+
+	private FlushMode flushMode = FlushMode.WRITE_BEHIND;
+
+	private Duration flushInterval = Duration.ofSeconds(1);
+
+	private @Nullable ScheduledExecutorService scheduler;
+
+	private final Map<Long, PendingCheckpoint> pendingCheckpoints = new ConcurrentHashMap<>();
+
+	// versions of the step executions whose checkpoints have been written
+	private final Map<Long, Integer> flushedVersions = new ConcurrentHashMap<>();
+
+	private final Map<Long, RuntimeException> flushFailures = new ConcurrentHashMap<>();
+
+	// step executions whose job execution has been stopped, to be terminated by the step
+	private final Set<Long> stopRequests = ConcurrentHashMap.newKeySet();
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	/**
+	 * Create a new {@link WriteBehindJobRepository}.
+	 * @param delegate the job repository to write checkpoints to
+	 */
+	public WriteBehindJobRepository(JobRepository delegate) {
+		Assert.notNull(delegate, "The delegate job repository must not be null");
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Set the flush mode. Defaults to {@link FlushMode#WRITE_BEHIND}.
+	 * @param flushMode the flush mode
+	 */
+	public void setFlushMode(FlushMode flushMode) {
+		Assert.notNull(flushMode, "The flush mode must not be null");
+		this.flushMode = flushMode;
+	}
+
+	/**
+	 * Set the interval between two flushes of pending checkpoints in
+	 * {@link FlushMode#WRITE_BEHIND} mode, which is the maximum lag of the metadata
+	 * behind the business data (plus the time to write the checkpoints). Defaults to one
+	 * second.
+	 * @param flushInterval the interval between two flushes
+	 */
+	public void setFlushInterval(Duration flushInterval) {
+		Assert.notNull(flushInterval, "The flush interval must not be null");
+		Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "The flush interval must be positive");
+		this.flushInterval = flushInterval;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (this.flushMode == FlushMode.WRITE_BEHIND && this.scheduler == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("job-repository-flush-");
+			threadFactory.setDaemon(true);
+			ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			long interval = this.flushInterval.toNanos();
+			scheduler.scheduleWithFixedDelay(this::flushInBackground, interval, interval, TimeUnit.NANOSECONDS);
+			this.scheduler = scheduler;
+		}
+	}
+
+	/**
+	 * Stop the background thread and write pending checkpoints.
+	 */
+	@Override
+	public void destroy() throws Exception {
+		ScheduledExecutorService scheduler = this.scheduler;
+		if (scheduler != null) {
+			scheduler.shutdown();
+			scheduler.awaitTermination(this.flushInterval.toMillis() + 1000, TimeUnit.MILLISECONDS);
+			this.scheduler = null;
+		}
+		flush();
+	}
+
+	/**
+	 * Write all pending checkpoints.
+	 * @throws RuntimeException the first failure to write a checkpoint, if any
+	 */
+	public void flush() {
+		RuntimeException failure = null;
+		this.flushLock.lock();
+		try {
+			for (Long stepExecutionId : new ArrayList<>(this.pendingCheckpoints.keySet())) {
+				try {
+					flushPendingCheckpoint(stepExecutionId);
+				}
+				catch (RuntimeException e) {
+					if (failure == null) {
+						failure = e;
+					}
+				}
+			}
+		}
+		finally {
+			this.flushLock.unlock();
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Record the state of the step execution, to be written according to the
+	 * {@link FlushMode flush mode}. If no transaction synchronization is active, the
+	 * checkpoint is queued (or written in {@link FlushMode#BEFORE_COMMIT} mode)
+	 * immediately.
+	 */
+	@Override
+	public void checkpoint(StepExecution stepExecution) {
+		Assert.notNull(stepExecution, "StepExecution cannot be null.");
+		rethrowFlushFailure(stepExecution);
+		applyStopRequest(stepExecution);
+		PendingCheckpoint checkpoint = new PendingCheckpoint(stepExecution);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void beforeCommit(boolean readOnly) {
+					if (flushMode == FlushMode.BEFORE_COMMIT) {
+						enqueueAndFlush(checkpoint);
+					}
+				}
+
+				@Override
+				public void afterCommit() {
+					if (flushMode == FlushMode.WRITE_BEHIND) {
+						enqueue(checkpoint);
+					}
+				}
+			});
+		}
+		else if (this.flushMode == FlushMode.BEFORE_COMMIT) {
+			enqueueAndFlush(checkpoint);
+		}
+		else {
+			enqueue(checkpoint);
+		}
+	}
+
+	private void enqueue(PendingCheckpoint checkpoint) {
+		checkpoint.stepExecution.getExecutionContext().clearDirtyFlag();
+		this.pendingCheckpoints.merge(checkpoint.stepExecution.getId(), checkpoint, PendingCheckpoint::coalesce);
+	}
+
+	private void enqueueAndFlush(PendingCheckpoint checkpoint) {
+		this.flushLock.lock();
+		try {
+			enqueue(checkpoint);
+			flushPendingCheckpoint(checkpoint.stepExecution.getId());
+			// written by the step thread
+			applyStopRequest(checkpoint.stepExecution);
+		}
+		finally {
+			this.flushLock.unlock();
+		}
+	}
+
+	private void flushInBackground() {
+		try {
+			flush();
+		}
+		catch (RuntimeException e) {
+			// already recorded for the step execution
+		}
+	}
+
+	/*
+	 * Write the pending checkpoint of a step execution, if any. Must be called with the
+	 * flush lock held.
+	 */
+	private void flushPendingCheckpoint(long stepExecutionId) {
+		PendingCheckpoint checkpoint = this.pendingCheckpoints.remove(stepExecutionId);
+		if (checkpoint == null) {
+			return;
+		}
+		StepExecution snapshot = checkpoint.snapshot;
+		Integer version = this.flushedVersions.get(stepExecutionId);
+		Integer currentVersion = version != null ? version : checkpoint.stepExecution.getVersion();
+		if (currentVersion != null) {
+			snapshot.setVersion(currentVersion);
+		}
+		try {
+			checkpoint.markContextChanges();
+			this.delegate.checkpoint(snapshot);
+		}
+		catch (RuntimeException e) {
+			logger.error("Failed to write the checkpoint of step execution id=" + stepExecutionId, e);
+			this.flushFailures.put(stepExecutionId, e);
+			throw e;
+		}
+		Integer flushedVersion = snapshot.getVersion();
+		if (flushedVersion != null) {
+			this.flushedVersions.put(stepExecutionId, flushedVersion);
+		}
+		if (snapshot.isTerminateOnly()) {
+			// the step execution is not thread safe, so it is only modified by the step
+			this.stopRequests.add(stepExecutionId);
+		}
+	}
+
+	private void applyStopRequest(StepExecution stepExecution) {
+		if (this.stopRequests.remove(stepExecution.getId())) {
+			stepExecution.setTerminateOnly();
+		}
+	}
+
+	/*
+	 * Write the pending checkpoint of a step execution and apply the version of the last
+	 * written checkpoint to the step execution, before it is updated synchronously. Must
+	 * be called with the flush lock held.
+	 */
+	private void synchronize(StepExecution stepExecution) {
+		rethrowFlushFailure(stepExecution);
+		flushPendingCheckpoint(stepExecution.getId());
+		applyStopRequest(stepExecution);
+		Integer version = this.flushedVersions.remove(stepExecution.getId());
+		if (version != null) {
+			stepExecution.setVersion(version);
+		}
+	}
+
+	private void rethrowFlushFailure(StepExecution stepExecution) {
+		RuntimeException failure = this.flushFailures.remove(stepExecution.getId());
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	@Override
+	public void update(StepExecution stepExecution) {
+		this.flushLock.lock();
+		try {
+			synchronize(stepExecution);
+			this.delegate.update(stepExecution);
+		}
+		finally {
+			this.flushLock.unlock();
+		}
+	}
+
+	@Override
+	public void updateExecutionContext(StepExecution stepExecution) {
+		this.flushLock.lock();
+		try {
+			synchronize(stepExecution);
+			this.delegate.updateExecutionContext(stepExecution);
+		}
+		finally {
+			this.flushLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteStepExecution(StepExecution stepExecution) {
+		this.flushLock.lock();
+		try {
+			discard(stepExecution);
+			this.delegate.deleteStepExecution(stepExecution);
+		}
+		finally {
+			this.flushLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteJobExecution(JobExecution jobExecution) {
+		this.flushLock.lock();
+		try {
+			jobExecution.getStepExecutions().forEach(this::discard);
+			this.delegate.deleteJobExecution(jobExecution);
+		}
+		finally {
+			this.flushLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteJobInstance(JobInstance jobInstance) {
+		flush();
+		this.delegate.deleteJobInstance(jobInstance);
+	}
+
+	private void discard(StepExecution stepExecution) {
+		this.pendingCheckpoints.remove(stepExecution.getId());
+		this.flushedVersions.remove(stepExecution.getId());
+		this.flushFailures.remove(stepExecution.getId());
+		this.stopRequests.remove(stepExecution.getId());
+	}
+
+	@Override
+	public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
+		return this.delegate.createJobInstance(jobName, jobParameters);
+	}
+
+	@Override
+	public JobExecution createJobExecution(JobInstance jobInstance, JobParameters jobParameters,
+			ExecutionContext executionContext) {
+		return this.delegate.createJobExecution(jobInstance, jobParameters, executionContext);
+	}
+
+	@Override
+	public StepExecution createStepExecution(String stepName, JobExecution jobExecution) {
+		return this.delegate.createStepExecution(stepName, jobExecution);
+	}
+
+	@Override
+	public List<StepExecution> createStepExecutions(JobExecution jobExecution,
+			Map<String, ExecutionContext> executionContexts) {
+		return this.delegate.createStepExecutions(jobExecution, executionContexts);
+	}
+
+	@Override
+	public void update(JobExecution jobExecution) {
+		this.delegate.update(jobExecution);
+	}
+
+	@Override
+	public void updateExecutionContext(JobExecution jobExecution) {
+		this.delegate.updateExecutionContext(jobExecution);
+	}
+
+	// Read operations write pending checkpoints first
+
+	@Override
+	public List<String> getJobNames() {
+		flush();
+		return this.delegate.getJobNames();
+	}
+
+	@Override
+	public List<JobInstance> getJobInstances(String jobName, int start, int count) {
+		flush();
+		return this.delegate.getJobInstances(jobName, start, count);
+	}
+
+	@SuppressWarnings("removal")
+	@Deprecated(since = "6.0", forRemoval = true)
+	@Override
+	public List<JobInstance> findJobInstancesByJobName(String jobName, int start, int count) {
+		flush();
+		return this.delegate.findJobInstancesByJobName(jobName, start, count);
+	}
+
+	@SuppressWarnings("removal")
+	@Deprecated(since = "6.0", forRemoval = true)
+	@Override
+	public List<JobInstance> findJobInstancesByName(String jobName, int start, int count) {
+		flush();
+		return this.delegate.findJobInstancesByName(jobName, start, count);
+	}
+
+	@Override
+	public List<JobInstance> findJobInstances(String jobName) {
+		flush();
+		return this.delegate.findJobInstances(jobName);
+	}
+
+	@SuppressWarnings("removal")
+	@Deprecated(since = "6.0", forRemoval = true)
+	@Override
+	public boolean isJobInstanceExists(String jobName, JobParameters jobParameters) {
+		flush();
+		return this.delegate.isJobInstanceExists(jobName, jobParameters);
+	}
+
+	@Override
+	public @Nullable JobInstance getJobInstance(long jobInstanceId) {
+		flush();
+		return this.delegate.getJobInstance(jobInstanceId);
+	}
+
+	@Override
+	public @Nullable JobInstance getLastJobInstance(String jobName) {
+		flush();
+		return this.delegate.getLastJobInstance(jobName);
+	}
+
+	@Override
+	public @Nullable JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
+		flush();
+		return this.delegate.getJobInstance(jobName, jobParameters);
+	}
+
+	@Override
+	public long getJobInstanceCount(String jobName) throws NoSuchJobException {
+		flush();
+		return this.delegate.getJobInstanceCount(jobName);
+	}
+
+	@Override
+	public @Nullable JobExecution getJobExecution(long executionId) {
+		flush();
+		return this.delegate.getJobExecution(executionId);
+	}
+
+	@Override
+	public List<JobExecution> getJobExecutions(JobInstance jobInstance) {
+		flush();
+		return this.delegate.getJobExecutions(jobInstance);
+	}
+
+	@SuppressWarnings("removal")
+	@Deprecated(since = "6.0", forRemoval = true)
+	@Override
+	public List<JobExecution> findJobExecutions(JobInstance jobInstance) {
+		flush();
+		return this.delegate.findJobExecutions(jobInstance);
+	}
+
+	@Override
+	public @Nullable JobExecution getLastJobExecution(JobInstance jobInstance) {
+		flush();
+		return this.delegate.getLastJobExecution(jobInstance);
+	}
+
+	@Override
+	public @Nullable JobExecution getLastJobExecution(String jobName, JobParameters jobParameters) {
+		flush();
+		return this.delegate.getLastJobExecution(jobName, jobParameters);
+	}
+
+	@Override
+	public Set<JobExecution> findRunningJobExecutions(String jobName) {
+		flush();
+		return this.delegate.findRunningJobExecutions(jobName);
+	}
+
+	@SuppressWarnings("removal")
+	@Deprecated(since = "6.0", forRemoval = true)
+	@Override
+	public @Nullable StepExecution getStepExecution(long jobExecutionId, long stepExecutionId) {
+		flush();
+		return this.delegate.getStepExecution(jobExecutionId, stepExecutionId);
+	}
+
+	@Override
+	public @Nullable StepExecution getStepExecution(long stepExecutionId) {
+		flush();
+		return this.delegate.getStepExecution(stepExecutionId);
+	}
+
+	@Override
+	public @Nullable StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+		flush();
+		return this.delegate.getLastStepExecution(jobInstance, stepName);
+	}
+
+	@Override
+	public Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		flush();
+		return this.delegate.getLastStepExecutions(jobInstance, stepNames);
+	}
+
+	@Override
+	public long getStepExecutionCount(JobInstance jobInstance, String stepName) throws NoSuchStepException {
+		flush();
+		return this.delegate.getStepExecutionCount(jobInstance, stepName);
+	}
+
+	/**
+	 * Snapshot of a step execution at a chunk commit point.
+	 */
+	private static final class PendingCheckpoint {
+
+		private final StepExecution stepExecution;
+
+		private final StepExecution snapshot;
+
+		private final Set<String> changedKeys;
+
+		private PendingCheckpoint(StepExecution stepExecution) {
+			this.stepExecution = stepExecution;
+			this.changedKeys = new HashSet<>(stepExecution.getExecutionContext().getChangedKeys());
+			// the target repository may synchronize the status of the job execution,
+			// which must not happen on the job execution used by the step
+			JobExecution jobExecution = stepExecution.getJobExecution();
+			JobExecution detachedJobExecution = new JobExecution(jobExecution.getId(), jobExecution.getJobInstance(),
+					jobExecution.getJobParameters());
+			detachedJobExecution.setStatus(jobExecution.getStatus());
+			Integer jobExecutionVersion = jobExecution.getVersion();
+			if (jobExecutionVersion != null) {
+				detachedJobExecution.setVersion(jobExecutionVersion);
+			}
+			StepExecution snapshot = new StepExecution(stepExecution.getId(), stepExecution.getStepName(),
+					detachedJobExecution);
+			snapshot.setExecutionContext(new ExecutionContext(stepExecution.getExecutionContext()));
+			snapshot.setStatus(stepExecution.getStatus());
+			snapshot.setExitStatus(stepExecution.getExitStatus());
+			snapshot.setReadCount(stepExecution.getReadCount());
+			snapshot.setWriteCount(stepExecution.getWriteCount());
+			snapshot.setFilterCount(stepExecution.getFilterCount());
+			snapshot.setCommitCount(stepExecution.getCommitCount());
+			snapshot.setRollbackCount(stepExecution.getRollbackCount());
+			snapshot.setReadSkipCount(stepExecution.getReadSkipCount());
+			snapshot.setProcessSkipCount(stepExecution.getProcessSkipCount());
+			snapshot.setWriteSkipCount(stepExecution.getWriteSkipCount());
+			snapshot.setCreateTime(stepExecution.getCreateTime());
+			if (stepExecution.getStartTime() != null) {
+				snapshot.setStartTime(stepExecution.getStartTime());
+			}
+			if (stepExecution.getEndTime() != null) {
+				snapshot.setEndTime(stepExecution.getEndTime());
+			}
+			this.snapshot = snapshot;
+		}
+
+		private static PendingCheckpoint coalesce(PendingCheckpoint previous, PendingCheckpoint next) {
+			// the previous context changes have not been written yet
+			next.changedKeys.addAll(previous.changedKeys);
+			return next;
+		}
+
+		/*
+		 * Mark the captured keys as changed on the context of the snapshot, so that it is
+		 * dirty and tracks these keys like the context of the step execution did.
+		 */
+		private void markContextChanges() {
+			this.snapshot.getExecutionContext().markChanged(this.changedKeys);
+			this.changedKeys.clear();
+		}
+
+	}
+
+}
@@ -110,7 +110,13 @@ public abstract class SynchronizationManagerSupport<E, C> {
 	}
 
 	private void decrement() {
-		E current = getCurrent().pop();
+		Stack<E> executions = getCurrent();
+		E current = executions.pop();
+		if (executions.isEmpty()) {
+			// do not keep state for threads that are not used for batch processing
+			// anymore (e.g. pooled threads or long-lived virtual threads)
+			executionHolder.remove();
+		}
 		if (current != null) {
 			int remaining = counts.get(current).decrementAndGet();
 			if (remaining <= 0) {
@@ -97,6 +97,15 @@ public class StepContribution implements Serializable {
 		readCount++;
 	}
 
+	/**
+	 * Increment the counter for the number of items read.
+	 * @param count The {@code long} amount to increment by.
+	 * @since 6.1
+	 */
+	public void incrementReadCount(long count) {
+		readCount += count;
+	}
+
 	/**
 	 * Increment the counter for the number of items written.
 	 * @param count The {@code long} amount to increment by.
@@ -48,6 +48,7 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.StepInterruptionPolicy;
 import org.springframework.batch.core.step.ThreadStepInterruptionPolicy;
 import org.springframework.batch.core.step.item.ChunkOrientedStep;
+import org.springframework.batch.core.step.item.ChunkSizePolicy;
 import org.springframework.batch.core.step.skip.NeverSkipItemSkipPolicy;
 import org.springframework.batch.core.step.skip.LimitCheckingExceptionHierarchySkipPolicy;
 import org.springframework.batch.core.step.skip.SkipLimitExceededException;
@@ -61,6 +62,7 @@ import org.springframework.batch.infrastructure.support.transaction.Resourceless
 import org.springframework.core.retry.RetryListener;
 import org.springframework.core.retry.RetryPolicy;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
 import org.springframework.transaction.interceptor.TransactionAttribute;
@@ -115,6 +117,18 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 
 	private @Nullable AsyncTaskExecutor asyncTaskExecutor;
 
+	private boolean virtualThreads;
+
+	private @Nullable Integer concurrencyLimit;
+
+	private @Nullable Integer processingBatchSize;
+
+	private @Nullable ChunkSizePolicy chunkSizePolicy;
+
+	private @Nullable AsyncTaskExecutor pipelineTaskExecutor;
+
+	private boolean processAhead;
+
 	private @Nullable ObservationRegistry observationRegistry;
 
 	ChunkOrientedStepBuilder(StepBuilderHelper<?> parent, int chunkSize) {
@@ -385,6 +399,91 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		return self();
 	}
 
+	/**
+	 * Process items concurrently in virtual threads, one virtual thread per item
+	 * processing task. This is a shortcut for {@link #taskExecutor(AsyncTaskExecutor)}
+	 * with a {@link VirtualThreadTaskExecutor} and is well suited to item processors
+	 * making blocking calls (like HTTP or JDBC calls). Use {@link #concurrencyLimit(int)}
+	 * to bound the number of concurrent calls. Requires Java 21 or later.
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 */
+	public ChunkOrientedStepBuilder<I, O> virtualThreads() {
+		this.virtualThreads = true;
+		return self();
+	}
+
+	/**
+	 * Set the maximum number of item processing tasks that can be in flight at the same
+	 * time when a {@link #taskExecutor(AsyncTaskExecutor) task executor} is set. When the
+	 * limit is reached, the step thread waits for a task to complete before submitting a
+	 * new one. Defaults to no limit.
+	 * @param concurrencyLimit the maximum number of in-flight item processing tasks
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 */
+	public ChunkOrientedStepBuilder<I, O> concurrencyLimit(int concurrencyLimit) {
+		Assert.isTrue(concurrencyLimit > 0, "concurrencyLimit must be positive");
+		this.concurrencyLimit = concurrencyLimit;
+		return self();
+	}
+
+	/**
+	 * Set the number of items processed sequentially by each item processing task when a
+	 * {@link #taskExecutor(AsyncTaskExecutor) task executor} is set. Defaults to 1.
+	 * @param processingBatchSize the number of items processed by each task
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 */
+	public ChunkOrientedStepBuilder<I, O> processingBatchSize(int processingBatchSize) {
+		Assert.isTrue(processingBatchSize > 0, "processingBatchSize must be positive");
+		this.processingBatchSize = processingBatchSize;
+		return self();
+	}
+
+	/**
+	 * Set the {@link ChunkSizePolicy} to use to determine the size of each chunk, like an
+	 * {@link org.springframework.batch.core.step.item.AdaptiveChunkSizePolicy} that
+	 * adapts the chunk size to the measured duration of chunk transactions. The chunk
+	 * size of this builder is then used as the initial chunk size.
+	 * @param chunkSizePolicy the chunk size policy to use
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 */
+	public ChunkOrientedStepBuilder<I, O> chunkSizePolicy(ChunkSizePolicy chunkSizePolicy) {
+		Assert.notNull(chunkSizePolicy, "chunkSizePolicy must not be null");
+		this.chunkSizePolicy = chunkSizePolicy;
+		return self();
+	}
+
+	/**
+	 * Enable the pipelined mode of the step: the next chunk is read on a thread of the
+	 * given task executor while the current chunk is being written and committed. The
+	 * item reader does not need to be thread-safe as it is never called concurrently, but
+	 * it should not be transactional since items are read outside the transaction of the
+	 * chunk they belong to. Can not be used with
+	 * {@link #taskExecutor(AsyncTaskExecutor)}.
+	 * @param pipelineTaskExecutor the task executor to use to read ahead
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 */
+	public ChunkOrientedStepBuilder<I, O> pipelined(AsyncTaskExecutor pipelineTaskExecutor) {
+		this.pipelineTaskExecutor = pipelineTaskExecutor;
+		return self();
+	}
+
+	/**
+	 * In pipelined mode, process items of the next chunk on the read-ahead thread as
+	 * well. Defaults to processing items on the step thread.
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 * @see #pipelined(AsyncTaskExecutor)
+	 */
+	public ChunkOrientedStepBuilder<I, O> processAhead() {
+		this.processAhead = true;
+		return self();
+	}
+
 	/**
 	 * Set the observation registry to be used for collecting metrics during step
 	 * execution. This allows for monitoring and analyzing the performance of the step. If
@@ -437,9 +536,25 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		}
 		chunkOrientedStep.setSkipPolicy(this.skipPolicy);
 		chunkOrientedStep.setFaultTolerant(this.faultTolerant);
+		if (this.virtualThreads && this.asyncTaskExecutor == null) {
+			this.asyncTaskExecutor = new VirtualThreadTaskExecutor(this.getName() + "-");
+		}
 		if (this.asyncTaskExecutor != null) {
 			chunkOrientedStep.setTaskExecutor(this.asyncTaskExecutor);
 		}
+		if (this.concurrencyLimit != null) {
+			chunkOrientedStep.setConcurrencyLimit(this.concurrencyLimit);
+		}
+		if (this.processingBatchSize != null) {
+			chunkOrientedStep.setProcessingBatchSize(this.processingBatchSize);
+		}
+		if (this.chunkSizePolicy != null) {
+			chunkOrientedStep.setChunkSizePolicy(this.chunkSizePolicy);
+		}
+		if (this.pipelineTaskExecutor != null) {
+			chunkOrientedStep.setPipelineTaskExecutor(this.pipelineTaskExecutor);
+			chunkOrientedStep.setProcessAhead(this.processAhead);
+		}
 		streams.forEach(chunkOrientedStep::registerItemStream);
 		stepListeners.forEach(stepListener -> registerTypedListener(stepListener, chunkOrientedStep));
 		properties.getStepExecutionListeners()
@@ -27,6 +27,7 @@ import org.springframework.batch.core.partition.StepExecutionAggregator;
 import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 
 /**
  * Step builder for {@link PartitionStep} instances. A partition step executes the same
@@ -109,6 +110,18 @@ public class PartitionStepBuilder extends StepBuilderHelper<PartitionStepBuilder
 		return this;
 	}
 
+	/**
+	 * Execute each partition of the {@link #step(Step)} in its own virtual thread. This
+	 * is a shortcut for {@link #taskExecutor(TaskExecutor)} with a
+	 * {@link VirtualThreadTaskExecutor}. Requires Java 21 or later.
+	 * @return this for fluent chaining
+	 * @since 6.1
+	 */
+	public PartitionStepBuilder virtualThreads() {
+		this.taskExecutor = new VirtualThreadTaskExecutor(getName() + "-");
+		return this;
+	}
+
 	/**
 	 * Provide an explicit partition handler that will carry out the work of the partition
 	 * step. The partition handler is the main SPI for adapting a partition step to a
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+
+import org.springframework.batch.core.observability.BatchMetrics;
+import org.springframework.batch.core.observability.micrometer.MicrometerMetrics;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ChunkSizePolicy} that adapts the chunk size so that each chunk transaction takes
+ * about a given target duration. The time spent per item is measured on each committed
+ * chunk and smoothed over the previous chunks, and the size of the next chunk is set to
+ * the number of items that fit in the target duration. The size can at most double or
+ * halve from one chunk to the next, and is kept between a minimum and a maximum size.
+ * <p>
+ * When a chunk is rolled back, the chunk size is multiplied by a back-off factor (halved
+ * by default) so that fewer items are exposed to the next failure.
+ * <p>
+ * The first chunk uses the chunk size configured on the step. The chunk size is adapted
+ * separately for each step execution, so a single policy can be shared by the partitions
+ * of a partitioned step. The current chunk size is reported with a
+ * {@code spring.batch.step.chunk.size} gauge tagged with the job and step names, like the
+ * other batch meters, so there is one gauge per partition of a partitioned step. When
+ * several executions of the same step run at the same time, the gauge reports the last
+ * chunk size set by any of them. The gauge is removed when the last execution of the step
+ * ends.
+ *
+ * @since 6.1
+ */
+public class AdaptiveChunkSizePolicy implements ChunkSizePolicy {
+
+	private static final double SMOOTHING_FACTOR = 0.5;
+
+	private final Duration targetDuration;
+
+	private int minChunkSize = 1;
+
+	private int maxChunkSize = 10_000;
+
+	private double backoffFactor = 0.5;
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	private final Map<Long, ChunkSizeState> states = new ConcurrentHashMap<>();
+
+	private final Map<StepKey, StepGauge> gauges = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link AdaptiveChunkSizePolicy}.
+	 * @param targetDuration the target duration of each chunk transaction
+	 */
+	public AdaptiveChunkSizePolicy(Duration targetDuration) {
+		Assert.notNull(targetDuration, "The target duration must not be null");
+		Assert.isTrue(!targetDuration.isNegative() && !targetDuration.isZero(), "The target duration must be positive");
+		this.targetDuration = targetDuration;
+	}
+
+	/**
+	 * Set the minimum chunk size. Defaults to 1.
+	 * @param minChunkSize the minimum chunk size
+	 */
+	public void setMinChunkSize(int minChunkSize) {
+		Assert.isTrue(minChunkSize > 0, "The minimum chunk size must be greater than 0");
+		this.minChunkSize = minChunkSize;
+	}
+
+	/**
+	 * Set the maximum chunk size. Defaults to 10000.
+	 * @param maxChunkSize the maximum chunk size
+	 */
+	public void setMaxChunkSize(int maxChunkSize) {
+		Assert.isTrue(maxChunkSize > 0, "The maximum chunk size must be greater than 0");
+		this.maxChunkSize = maxChunkSize;
+	}
+
+	/**
+	 * Set the factor applied to the chunk size after a rollback. Defaults to 0.5.
+	 * @param backoffFactor the back-off factor, greater than 0 and lower than 1
+	 */
+	public void setBackoffFactor(double backoffFactor) {
+		Assert.isTrue(backoffFactor > 0 && backoffFactor < 1, "The back-off factor must be between 0 and 1");
+		this.backoffFactor = backoffFactor;
+	}
+
+	/**
+	 * Set the meter registry to use to report the chunk size. Defaults to
+	 * {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the meter registry to use
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "The meter registry must not be null");
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void open(StepExecution stepExecution, int chunkSize) {
+		Assert.state(this.minChunkSize <= this.maxChunkSize,
+				"The minimum chunk size must not be greater than the maximum chunk size");
+		StepKey stepKey = new StepKey(stepExecution.getJobExecution().getJobInstance().getJobName(),
+				stepExecution.getStepName());
+		StepGauge stepGauge = this.gauges.compute(stepKey, (key, existing) -> {
+			StepGauge result = (existing != null) ? existing : createGauge(key);
+			result.executionCount++;
+			return result;
+		});
+		ChunkSizeState state = new ChunkSizeState(stepKey, stepGauge);
+		setChunkSize(state, clamp(chunkSize));
+		this.states.put(stepExecution.getId(), state);
+	}
+
+	@Override
+	public int getChunkSize(StepExecution stepExecution) {
+		return getState(stepExecution).chunkSize.get();
+	}
+
+	@Override
+	public void onCommit(StepExecution stepExecution, int itemCount, Duration duration) {
+		if (itemCount <= 0) {
+			return;
+		}
+		ChunkSizeState state = getState(stepExecution);
+		synchronized (state) {
+			double itemNanos = (double) duration.toNanos() / itemCount;
+			state.averageItemNanos = (state.averageItemNanos == 0) ? itemNanos
+					: SMOOTHING_FACTOR * itemNanos + (1 - SMOOTHING_FACTOR) * state.averageItemNanos;
+			int currentChunkSize = state.chunkSize.get();
+			double targetChunkSize = this.targetDuration.toNanos() / state.averageItemNanos;
+			double nextChunkSize = Math.max(Math.min(targetChunkSize, currentChunkSize * 2.0), currentChunkSize / 2.0);
+			setChunkSize(state, clamp((long) nextChunkSize));
+		}
+	}
+
+	@Override
+	public void onRollback(StepExecution stepExecution, int itemCount, Duration duration) {
+		ChunkSizeState state = getState(stepExecution);
+		synchronized (state) {
+			setChunkSize(state, clamp((long) (state.chunkSize.get() * this.backoffFactor)));
+		}
+	}
+
+	@Override
+	public void close(StepExecution stepExecution) {
+		ChunkSizeState state = this.states.remove(stepExecution.getId());
+		if (state != null) {
+			this.gauges.computeIfPresent(state.stepKey, (key, stepGauge) -> {
+				if (--stepGauge.executionCount > 0) {
+					return stepGauge;
+				}
+				this.meterRegistry.remove(stepGauge.gauge);
+				return null;
+			});
+		}
+	}
+
+	private StepGauge createGauge(StepKey stepKey) {
+		AtomicInteger chunkSize = new AtomicInteger();
+		String fullyQualifiedMetricName = BatchMetrics.METRICS_PREFIX + "step.chunk.size";
+		Gauge gauge = MicrometerMetrics.createGauge(this.meterRegistry, "step.chunk.size", "Current chunk size",
+				chunkSize, AtomicInteger::get, Tag.of(fullyQualifiedMetricName + ".job.name", stepKey.jobName()),
+				Tag.of(fullyQualifiedMetricName + ".step.name", stepKey.stepName()));
+		return new StepGauge(chunkSize, gauge);
+	}
+
+	private static void setChunkSize(ChunkSizeState state, int chunkSize) {
+		state.chunkSize.set(chunkSize);
+		state.stepGauge.chunkSize.set(chunkSize);
+	}
+
+	private ChunkSizeState getState(StepExecution stepExecution) {
+		ChunkSizeState state = this.states.get(stepExecution.getId());
+		Assert.state(state != null,
+				() -> "The chunk size policy has not been opened for step execution with id " + stepExecution.getId());
+		return state;
+	}
+
+	private int clamp(long size) {
+		return (int) Math.max(this.minChunkSize, Math.min(this.maxChunkSize, size));
+	}
+
+	/*
+	 * Chunk size and average time per item of a step execution.
+	 */
+	private static final class ChunkSizeState {
+
+		private final AtomicInteger chunkSize = new AtomicInteger();
+
+		private final StepKey stepKey;
+
+		private final StepGauge stepGauge;
+
+		// guarded by the state
+		private double averageItemNanos;
+
+		private ChunkSizeState(StepKey stepKey, StepGauge stepGauge) {
+			this.stepKey = stepKey;
+			this.stepGauge = stepGauge;
+		}
+
+	}
+
+	/*
+	 * Job and step names the chunk size gauge is tagged with.
+	 */
+	private record StepKey(String jobName, String stepName) {
+	}
+
+	/*
+	 * Chunk size gauge shared by the running executions of a step.
+	 */
+	private static final class StepGauge {
+
+		private final AtomicInteger chunkSize;
+
+		private final Gauge gauge;
+
+		// guarded by the gauges map
+		private int executionCount;
+
+		private StepGauge(AtomicInteger chunkSize, Gauge gauge) {
+			this.chunkSize = chunkSize;
+			this.gauge = gauge;
+		}
+
+	}
+
+}
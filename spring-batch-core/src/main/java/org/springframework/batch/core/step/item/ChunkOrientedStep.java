@@ -15,9 +15,13 @@
  */
 package org.springframework.batch.core.step.item;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import io.micrometer.observation.Observation;
 import org.apache.commons.logging.Log;
@@ -84,6 +88,27 @@ import static org.springframework.batch.core.observability.BatchMetrics.METRICS_
  * Step implementation for the chunk-oriented processing model. This class also supports
  * faut-tolerance features (retry and skip) as well as concurrent item processing when a
  * {@link AsyncTaskExecutor} is provided.
+ * <p>
+ * In concurrent mode, items of each chunk are read by the step thread and then dispatched
+ * to the task executor in batches of {@link #setProcessingBatchSize(int)} items. The
+ * number of batches being processed at the same time can be bounded with
+ * {@link #setConcurrencyLimit(int)}, in which case the step thread waits for a batch to
+ * complete before submitting a new one. Processed items are written in the same order as
+ * they were read.
+ * <p>
+ * When a pipeline task executor is provided, the step runs in pipelined mode: the next
+ * chunk is read (and optionally processed) on a separate thread while the current chunk
+ * is being written and committed. The state of the read side (the item reader and the
+ * registered streams that are {@link ItemReader}s, like the delegates of a reader
+ * wrapper) is captured right after each chunk is read, and only the state of the chunk
+ * being committed is saved in the execution context, so restart data always reflects the
+ * last committed chunk. Other registered streams are updated when the chunk is committed.
+ * Note that in this mode, items are read outside the transaction of the chunk they belong
+ * to, so transactional readers (like JMS readers) should not be used.
+ * <p>
+ * When a {@link ChunkSizePolicy} is set, the size of each chunk is provided by the
+ * policy, which is notified of the duration and outcome of every chunk transaction. The
+ * chunk size passed to the constructor is then only used as the initial size.
  *
  * @param <I> type of input items
  * @param <O> type of output items
@@ -162,6 +187,26 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	@SuppressWarnings("NullAway.Init")
 	private AsyncTaskExecutor taskExecutor;
 
+	private int concurrencyLimit = Integer.MAX_VALUE;
+
+	private int processingBatchSize = 1;
+
+	/*
+	 * Pipelining parameters
+	 */
+	private @Nullable AsyncTaskExecutor pipelineTaskExecutor;
+
+	private boolean processAhead = false;
+
+	private @Nullable ChunkSizePolicy chunkSizePolicy;
+
+	// the item reader and registered streams that are item readers, whose state is
+	// captured on the read-ahead thread in pipelined mode
+	private final CompositeItemStream readSideItemStream = new CompositeItemStream();
+
+	// all other registered streams, updated when a chunk is committed
+	private final CompositeItemStream writeSideItemStream = new CompositeItemStream();
+
 	/**
 	 * Create a new {@link ChunkOrientedStep}.
 	 * @param name the name of the step
@@ -200,12 +245,20 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 	/**
 	 * Register an {@link ItemStream} with this step. The stream will be opened and closed
-	 * as part of the step's lifecycle.
+	 * as part of the step's lifecycle. In pipelined mode, the state of a stream that is
+	 * also an {@link ItemReader} (and not an {@link ItemWriter}) is captured on the
+	 * read-ahead thread along with the state of the item reader.
 	 * @param stream the item stream to register
 	 */
 	public void registerItemStream(ItemStream stream) {
 		Assert.notNull(stream, "Item stream must not be null");
 		this.compositeItemStream.register(stream);
+		if (stream == this.itemReader || (stream instanceof ItemReader && !(stream instanceof ItemWriter))) {
+			this.readSideItemStream.register(stream);
+		}
+		else {
+			this.writeSideItemStream.register(stream);
+		}
 	}
 
 	/**
@@ -283,6 +336,63 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		this.taskExecutor = asyncTaskExecutor;
 	}
 
+	/**
+	 * Set the maximum number of item processing tasks submitted to the task executor that
+	 * can be in flight at the same time in concurrent mode. Defaults to no limit.
+	 * @param concurrencyLimit the maximum number of in-flight item processing tasks
+	 * @since 6.1
+	 */
+	public void setConcurrencyLimit(int concurrencyLimit) {
+		Assert.isTrue(concurrencyLimit > 0, "Concurrency limit must be greater than 0");
+		this.concurrencyLimit = concurrencyLimit;
+	}
+
+	/**
+	 * Set the number of items processed sequentially by each item processing task in
+	 * concurrent mode. Using batches of several items reduces the overhead of submitting
+	 * tasks when the item processor is cheap. Defaults to 1.
+	 * @param processingBatchSize the number of items processed by each task
+	 * @since 6.1
+	 */
+	public void setProcessingBatchSize(int processingBatchSize) {
+		Assert.isTrue(processingBatchSize > 0, "Processing batch size must be greater than 0");
+		this.processingBatchSize = processingBatchSize;
+	}
+
+	/**
+	 * Set the {@link ChunkSizePolicy} to use to determine the size of each chunk. By
+	 * default, all chunks have the size passed to the constructor.
+	 * @param chunkSizePolicy the chunk size policy to use
+	 * @since 6.1
+	 */
+	public void setChunkSizePolicy(ChunkSizePolicy chunkSizePolicy) {
+		Assert.notNull(chunkSizePolicy, "Chunk size policy must not be null");
+		this.chunkSizePolicy = chunkSizePolicy;
+	}
+
+	/**
+	 * Set the {@link AsyncTaskExecutor} to use for reading the next chunk while the
+	 * current one is being written and committed. Setting this executor enables the
+	 * pipelined mode of this step.
+	 * @param pipelineTaskExecutor the task executor to use to read ahead
+	 * @since 6.1
+	 */
+	public void setPipelineTaskExecutor(AsyncTaskExecutor pipelineTaskExecutor) {
+		Assert.notNull(pipelineTaskExecutor, "Pipeline task executor must not be null");
+		this.pipelineTaskExecutor = pipelineTaskExecutor;
+	}
+
+	/**
+	 * Set whether items of the next chunk should also be processed on the read-ahead
+	 * thread in pipelined mode. Only used if a pipeline task executor is set. Defaults to
+	 * {@code false}, in which case items are processed on the step thread.
+	 * @param processAhead true to process items on the read-ahead thread
+	 * @since 6.1
+	 */
+	public void setProcessAhead(boolean processAhead) {
+		this.processAhead = processAhead;
+	}
+
 	/**
 	 * Set the {@link RetryPolicy} for this step.
 	 * @param retryPolicy the retry policy to set
@@ -336,14 +446,16 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		Assert.isTrue(this.chunkSize > 0, "Chunk size must be greater than 0");
 		Assert.notNull(this.itemReader, "Item reader must not be null");
 		Assert.notNull(this.itemWriter, "Item writer must not be null");
+		Assert.state(!(isPipelined() && isConcurrent()),
+				"Pipelined mode and concurrent item processing can not be used together");
 		if (this.itemReader instanceof ItemStream itemStream) {
-			this.compositeItemStream.register(itemStream);
+			registerItemStream(itemStream);
 		}
 		if (this.itemWriter instanceof ItemStream itemStream) {
-			this.compositeItemStream.register(itemStream);
+			registerItemStream(itemStream);
 		}
 		if (this.itemProcessor instanceof ItemStream itemStream) {
-			this.compositeItemStream.register(itemStream);
+			registerItemStream(itemStream);
 		}
 		this.transactionTemplate = new TransactionTemplate(this.transactionManager, this.transactionAttribute);
 		if (this.faultTolerant) {
@@ -360,20 +472,43 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 	@Override
 	protected void close(ExecutionContext executionContext) throws Exception {
-		this.chunkTracker.get().reset();
+		// remove the tracker so that no state is retained by (pooled) step threads
+		this.chunkTracker.remove();
 		this.compositeItemStream.close();
 	}
 
 	@Override
 	protected void doExecute(StepExecution stepExecution) throws Exception {
 		stepExecution.getExecutionContext().put(STEP_TYPE_KEY, this.getClass().getName());
+		if (this.chunkSizePolicy != null) {
+			this.chunkSizePolicy.open(stepExecution, this.chunkSize);
+		}
+		try {
+			if (this.pipelineTaskExecutor != null) {
+				doExecutePipelined(stepExecution, this.pipelineTaskExecutor);
+			}
+			else {
+				doExecuteSequential(stepExecution);
+			}
+		}
+		finally {
+			if (this.chunkSizePolicy != null) {
+				this.chunkSizePolicy.close(stepExecution);
+			}
+		}
+	}
+
+	private void doExecuteSequential(StepExecution stepExecution) {
 		while (this.chunkTracker.get().moreItems() && !interrupted(stepExecution)) {
+			boolean scanMode = this.chunkTracker.get().isScanMode();
+			long startTime = System.nanoTime();
+			long rollbackCount = stepExecution.getRollbackCount();
+			StepContribution contribution = stepExecution.createStepContribution();
 			// process next chunk in its own transaction
 			this.transactionTemplate.executeWithoutResult(transactionStatus -> {
 				ChunkTransactionEvent chunkTransactionEvent = new ChunkTransactionEvent(stepExecution.getStepName(),
 						stepExecution.getId());
 				chunkTransactionEvent.begin();
-				StepContribution contribution = stepExecution.createStepContribution();
 				processNextChunk(transactionStatus, contribution, stepExecution);
 
 				// Skip update during rollback to avoid OptimisticLockingFailureException
@@ -389,88 +524,169 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 				}
 
 				this.compositeItemStream.update(stepExecution.getExecutionContext());
-				getJobRepository().updateExecutionContext(stepExecution);
-				getJobRepository().update(stepExecution);
+				getJobRepository().checkpoint(stepExecution);
 				chunkTransactionEvent.transactionStatus = BatchMetrics.STATUS_COMMITTED;
 				chunkTransactionEvent.commit();
 			});
+			if (!scanMode) {
+				onChunkCompleted(stepExecution, contribution, startTime, rollbackCount);
+			}
 		}
 	}
 
-	private void processNextChunk(TransactionStatus status, StepContribution contribution,
-			StepExecution stepExecution) {
-		if (isConcurrent()) {
-			processChunkConcurrently(status, contribution, stepExecution);
+	private void doExecutePipelined(StepExecution stepExecution, AsyncTaskExecutor pipelineTaskExecutor)
+			throws Exception {
+		ChunkTracker<O> tracker = this.chunkTracker.get();
+		Future<ReadAheadChunk<I, O>> nextChunk = null;
+		ExecutionContext scannedReaderState = new ExecutionContext();
+		try {
+			while (tracker.moreItems() && !interrupted(stepExecution)) {
+				if (tracker.isScanMode()) {
+					// the chunk read ahead (if any) is kept until the scan is complete
+					this.transactionTemplate.executeWithoutResult(transactionStatus -> {
+						StepContribution contribution = stepExecution.createStepContribution();
+						processNextChunk(transactionStatus, contribution, stepExecution);
+						if (!transactionStatus.isRollbackOnly()) {
+							updateExecutionContext(stepExecution, scannedReaderState);
+							getJobRepository().checkpoint(stepExecution);
+						}
+					});
+					continue;
+				}
+				ReadAheadChunk<I, O> currentChunk = (nextChunk != null) ? nextChunk.get()
+						: readAhead(stepExecution, false);
+				nextChunk = null;
+				if (!currentChunk.moreItems) {
+					tracker.reset();
+				}
+				else if (currentChunk.failure == null) {
+					// read the next chunk while the current one is written and committed
+					nextChunk = pipelineTaskExecutor.submit(() -> readAhead(stepExecution, true));
+				}
+				long startTime = System.nanoTime();
+				long rollbackCount = stepExecution.getRollbackCount();
+				// process current chunk in its own transaction
+				this.transactionTemplate.executeWithoutResult(transactionStatus -> {
+					ChunkTransactionEvent chunkTransactionEvent = new ChunkTransactionEvent(stepExecution.getStepName(),
+							stepExecution.getId());
+					chunkTransactionEvent.begin();
+					processReadAheadChunk(transactionStatus, currentChunk, stepExecution);
+
+					if (transactionStatus.isRollbackOnly()) {
+						// see doExecute
+						transactionStatus.setRollbackOnly();
+						// items of this chunk will be committed during the scan
+						currentChunk.readerState.entrySet()
+							.forEach(entry -> scannedReaderState.put(entry.getKey(), entry.getValue()));
+						chunkTransactionEvent.transactionStatus = BatchMetrics.STATUS_ROLLED_BACK;
+						chunkTransactionEvent.commit();
+						return;
+					}
+
+					updateExecutionContext(stepExecution, currentChunk.readerState);
+					getJobRepository().checkpoint(stepExecution);
+					chunkTransactionEvent.transactionStatus = BatchMetrics.STATUS_COMMITTED;
+					chunkTransactionEvent.commit();
+				});
+				onChunkCompleted(stepExecution, currentChunk.contribution, startTime, rollbackCount);
+			}
+		}
+		finally {
+			// make sure the reader is not used anymore before streams are closed
+			if (nextChunk != null) {
+				try {
+					nextChunk.get();
+				}
+				catch (Exception e) {
+					logger.debug("Discarding chunk read ahead", e);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Report the duration and outcome of a chunk transaction to the chunk size policy.
+	 * The duration is measured around the same boundaries as the chunk transaction event,
+	 * plus the commit or rollback itself.
+	 */
+	private void onChunkCompleted(StepExecution stepExecution, StepContribution contribution, long startTime,
+			long rollbackCount) {
+		if (this.chunkSizePolicy == null) {
+			return;
+		}
+		Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+		int itemCount = (int) (contribution.getReadCount() + contribution.getReadSkipCount());
+		if (stepExecution.getRollbackCount() > rollbackCount) {
+			this.chunkSizePolicy.onRollback(stepExecution, itemCount, duration);
 		}
 		else {
-			processChunkSequentially(status, contribution, stepExecution);
+			this.chunkSizePolicy.onCommit(stepExecution, itemCount, duration);
 		}
 	}
 
-	private void processChunkConcurrently(TransactionStatus status, StepContribution contribution,
-			StepExecution stepExecution) {
-		List<Future<O>> itemProcessingTasks = new LinkedList<>();
-		Chunk<O> processedChunk = new Chunk<>();
-		ChunkTracker<O> tracker = this.chunkTracker.get();
+	/*
+	 * Save the state of the read side as it was right after reading the chunk being
+	 * committed, along with the current state of the other streams.
+	 */
+	private void updateExecutionContext(StepExecution stepExecution, ExecutionContext readerState) {
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		this.writeSideItemStream.update(executionContext);
+		readerState.entrySet().forEach(entry -> executionContext.put(entry.getKey(), entry.getValue()));
+	}
 
+	/*
+	 * Read (and optionally process) the next chunk. This is called on the read-ahead
+	 * thread, except for the first chunk which is read on the step thread.
+	 */
+	private ReadAheadChunk<I, O> readAhead(StepExecution stepExecution, boolean readAheadThread) {
+		ReadAheadChunk<I, O> readAheadChunk = new ReadAheadChunk<>(stepExecution.createStepContribution());
+		ChunkTracker<O> tracker = this.chunkTracker.get();
+		if (readAheadThread) {
+			StepSynchronizationManager.register(stepExecution);
+			tracker.init();
+		}
 		try {
-			if (tracker.isScanMode()) {
-				logger.info("Executing scan in new transaction after rollback");
-				O item = tracker.pollNextScanItem();
-				if (item != null) {
-					Chunk<O> singleItemChunk = new Chunk<>(item);
-					ChunkScanEvent chunkScanEvent = new ChunkScanEvent(stepExecution.getStepName(),
-							stepExecution.getId());
-					chunkScanEvent.begin();
-					compositeChunkListener.beforeChunk(singleItemChunk);
-					scan(singleItemChunk, contribution, status);
-					if (!status.isRollbackOnly()) {
-						compositeChunkListener.afterChunk(singleItemChunk);
-					}
-					chunkScanEvent.skipCount = contribution.getSkipCount();
-					chunkScanEvent.commit();
-				}
-				if (!tracker.hasPendingScanItems()) {
-					logger.info("Chunk scan completed");
-					tracker.exitScanMode();
-					if (!status.isRollbackOnly()) {
-						stepExecution.incrementCommitCount();
-					}
-				}
-				return;
+			readAheadChunk.inputChunk = readChunk(readAheadChunk.contribution);
+			this.readSideItemStream.update(readAheadChunk.readerState);
+			if (this.processAhead && !readAheadChunk.inputChunk.isEmpty()) {
+				this.compositeChunkListener.beforeChunk(readAheadChunk.inputChunk);
+				readAheadChunk.processedChunk = processChunk(readAheadChunk.inputChunk, readAheadChunk.contribution);
 			}
+			readAheadChunk.moreItems = tracker.moreItems();
+		}
+		catch (Exception e) {
+			readAheadChunk.failure = e;
+		}
+		finally {
+			if (readAheadThread) {
+				this.chunkTracker.remove();
+				StepSynchronizationManager.close();
+			}
+		}
+		return readAheadChunk;
+	}
 
-			// read items and submit concurrent item processing tasks
-			for (int i = 0; i < this.chunkSize && this.chunkTracker.get().moreItems(); i++) {
-				I item = readItem(contribution);
-				if (item != null) {
-					Future<O> itemProcessingFuture = this.taskExecutor.submit(() -> {
-						try {
-							StepSynchronizationManager.register(stepExecution);
-							return processItem(item, contribution);
-						}
-						finally {
-							StepSynchronizationManager.close();
-						}
-					});
-					itemProcessingTasks.add(itemProcessingFuture);
-				}
+	private void processReadAheadChunk(TransactionStatus status, ReadAheadChunk<I, O> readAheadChunk,
+			StepExecution stepExecution) {
+		StepContribution contribution = readAheadChunk.contribution;
+		Chunk<O> processedChunk = new Chunk<>();
+		try {
+			if (readAheadChunk.failure != null) {
+				throw readAheadChunk.failure;
 			}
-			// exclude empty chunks (when the total items is a multiple of the chunk size)
-			if (itemProcessingTasks.isEmpty()) {
+			Chunk<I> inputChunk = readAheadChunk.inputChunk;
+			if (inputChunk.isEmpty()) {
 				return;
 			}
-
-			// collect processed items
-			for (Future<O> future : itemProcessingTasks) {
-				O processedItem = future.get();
-				if (processedItem != null) {
-					processedChunk.add(processedItem);
-				}
+			if (readAheadChunk.processedChunk != null) {
+				processedChunk = readAheadChunk.processedChunk;
+			}
+			else {
+				compositeChunkListener.beforeChunk(inputChunk);
+				processedChunk = processChunk(inputChunk, contribution);
 			}
-
-			// write processed items
 			writeChunk(processedChunk, contribution);
+			compositeChunkListener.afterChunk(processedChunk);
 			stepExecution.incrementCommitCount();
 		}
 		catch (Exception e) {
@@ -478,15 +694,12 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 			status.setRollbackOnly();
 			stepExecution.incrementRollbackCount();
 
-			if (tracker.isScanMode()) {
-				if (e instanceof SkipLimitExceededException || e instanceof NonSkippableWriteException) {
-					tracker.exitScanMode();
-					throw new FatalStepExecutionException("Unable to process chunk during scan", e);
-				}
+			if (this.chunkTracker.get().isScanMode()) {
 				logger.info("Rollback complete, scan will execute in next transaction");
 				return;
 			}
 
+			compositeChunkListener.onChunkError(e, processedChunk);
 			throw new FatalStepExecutionException("Unable to process chunk", e);
 		}
 		finally {
@@ -494,7 +707,7 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		}
 	}
 
-	private void processChunkSequentially(TransactionStatus status, StepContribution contribution,
+	private void processNextChunk(TransactionStatus status, StepContribution contribution,
 			StepExecution stepExecution) {
 		Chunk<I> inputChunk = new Chunk<>();
 		Chunk<O> processedChunk = new Chunk<>();
@@ -502,28 +715,7 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 		try {
 			if (tracker.isScanMode()) {
-				logger.info("Executing scan in new transaction after rollback");
-				O item = tracker.pollNextScanItem();
-				if (item != null) {
-					Chunk<O> singleItemChunk = new Chunk<>(item);
-					ChunkScanEvent chunkScanEvent = new ChunkScanEvent(stepExecution.getStepName(),
-							stepExecution.getId());
-					chunkScanEvent.begin();
-					compositeChunkListener.beforeChunk(singleItemChunk);
-					scan(singleItemChunk, contribution, status);
-					if (!status.isRollbackOnly()) {
-						compositeChunkListener.afterChunk(singleItemChunk);
-					}
-					chunkScanEvent.skipCount = contribution.getSkipCount();
-					chunkScanEvent.commit();
-				}
-				if (!tracker.hasPendingScanItems()) {
-					logger.info("Chunk scan completed");
-					tracker.exitScanMode();
-					if (!status.isRollbackOnly()) {
-						stepExecution.incrementCommitCount();
-					}
-				}
+				scanNextItem(status, contribution, stepExecution);
 				return;
 			}
 
@@ -532,7 +724,8 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 				return;
 			}
 			compositeChunkListener.beforeChunk(inputChunk);
-			processedChunk = processChunk(inputChunk, contribution);
+			processedChunk = isConcurrent() ? processChunkConcurrently(inputChunk, contribution, stepExecution)
+					: processChunk(inputChunk, contribution);
 			writeChunk(processedChunk, contribution);
 			compositeChunkListener.afterChunk(processedChunk);
 			stepExecution.incrementCommitCount();
@@ -560,6 +753,108 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		}
 	}
 
+	/*
+	 * Write the next item of a chunk being scanned after a failed write, in its own
+	 * transaction.
+	 */
+	private void scanNextItem(TransactionStatus status, StepContribution contribution, StepExecution stepExecution) {
+		ChunkTracker<O> tracker = this.chunkTracker.get();
+		logger.info("Executing scan in new transaction after rollback");
+		O item = tracker.pollNextScanItem();
+		if (item != null) {
+			Chunk<O> singleItemChunk = new Chunk<>(item);
+			ChunkScanEvent chunkScanEvent = new ChunkScanEvent(stepExecution.getStepName(), stepExecution.getId());
+			chunkScanEvent.begin();
+			compositeChunkListener.beforeChunk(singleItemChunk);
+			scan(singleItemChunk, contribution, status);
+			if (!status.isRollbackOnly()) {
+				compositeChunkListener.afterChunk(singleItemChunk);
+			}
+			chunkScanEvent.skipCount = contribution.getSkipCount();
+			chunkScanEvent.commit();
+		}
+		if (!tracker.hasPendingScanItems()) {
+			logger.info("Chunk scan completed");
+			tracker.exitScanMode();
+			if (!status.isRollbackOnly()) {
+				stepExecution.incrementCommitCount();
+			}
+		}
+	}
+
+	/*
+	 * Process items of the chunk concurrently. Items are split into batches of
+	 * processingBatchSize items, each of which is processed sequentially by a single
+	 * task. No more than concurrencyLimit tasks are in flight at any time: the step
+	 * thread blocks until a task completes before submitting a new one. Processed items
+	 * are collected in the order of the input chunk.
+	 */
+	private Chunk<O> processChunkConcurrently(Chunk<I> chunk, StepContribution contribution,
+			StepExecution stepExecution) throws Exception {
+		List<I> items = chunk.getItems();
+		List<Future<List<O>>> itemProcessingTasks = new ArrayList<>(items.size() / this.processingBatchSize + 1);
+		Semaphore inFlightTasks = new Semaphore(this.concurrencyLimit);
+		try {
+			for (int start = 0; start < items.size(); start += this.processingBatchSize) {
+				List<I> batch = items.subList(start, Math.min(start + this.processingBatchSize, items.size()));
+				inFlightTasks.acquire();
+				try {
+					itemProcessingTasks.add(this.taskExecutor.submit(() -> {
+						try {
+							StepSynchronizationManager.register(stepExecution);
+							return processBatch(batch, contribution);
+						}
+						finally {
+							StepSynchronizationManager.close();
+							inFlightTasks.release();
+						}
+					}));
+				}
+				catch (RuntimeException exception) {
+					inFlightTasks.release();
+					throw exception;
+				}
+			}
+
+			// collect processed items in order
+			Chunk<O> processedChunk = new Chunk<>();
+			for (Future<List<O>> itemProcessingTask : itemProcessingTasks) {
+				for (O processedItem : getProcessedItems(itemProcessingTask)) {
+					processedChunk.add(processedItem);
+				}
+			}
+			return processedChunk;
+		}
+		finally {
+			// no-op for completed tasks
+			itemProcessingTasks.forEach(itemProcessingTask -> itemProcessingTask.cancel(false));
+		}
+	}
+
+	private List<O> processBatch(List<I> batch, StepContribution contribution) throws Exception {
+		List<O> processedItems = new ArrayList<>(batch.size());
+		for (I item : batch) {
+			O processedItem = processItem(item, contribution);
+			if (processedItem != null) {
+				processedItems.add(processedItem);
+			}
+		}
+		return processedItems;
+	}
+
+	private List<O> getProcessedItems(Future<List<O>> itemProcessingTask) throws Exception {
+		try {
+			return itemProcessingTask.get();
+		}
+		catch (ExecutionException executionException) {
+			// rethrow the original exception as in sequential processing
+			if (executionException.getCause() instanceof Exception exception) {
+				throw exception;
+			}
+			throw executionException;
+		}
+	}
+
 	/*
 	 * Check if the step has been interrupted either internally via user defined policy or
 	 * externally via job operator. This will be checked at chunk boundaries.
@@ -581,6 +876,8 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 	private Chunk<I> readChunk(StepContribution contribution) throws Exception {
 		Chunk<I> chunk = new Chunk<>();
+		int chunkSize = (this.chunkSizePolicy != null)
+				? this.chunkSizePolicy.getChunkSize(contribution.getStepExecution()) : this.chunkSize;
 		for (int i = 0; i < chunkSize && this.chunkTracker.get().moreItems(); i++) {
 			I item = readItem(contribution);
 			if (item != null) {
@@ -853,6 +1150,34 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		return this.taskExecutor != null;
 	}
 
+	private boolean isPipelined() {
+		return this.pipelineTaskExecutor != null;
+	}
+
+	/*
+	 * A chunk read ahead, along with the contribution and the state of the reader
+	 * captured right after reading it.
+	 */
+	private static class ReadAheadChunk<I, O> {
+
+		private final StepContribution contribution;
+
+		private final ExecutionContext readerState = new ExecutionContext();
+
+		private Chunk<I> inputChunk = new Chunk<>();
+
+		private @Nullable Chunk<O> processedChunk;
+
+		private boolean moreItems;
+
+		private @Nullable Exception failure;
+
+		ReadAheadChunk(StepContribution contribution) {
+			this.contribution = contribution;
+		}
+
+	}
+
 	private static class ChunkTracker<O> {
 
 		static <T> ChunkTracker<T> create() {
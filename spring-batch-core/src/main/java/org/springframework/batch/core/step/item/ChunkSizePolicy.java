@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.time.Duration;
+
+import org.springframework.batch.core.step.StepExecution;
+
+/**
+ * Strategy to determine the number of items read in each chunk of a
+ * {@link ChunkOrientedStep}. The step asks the policy for the size of every chunk it
+ * reads, and reports the outcome of each chunk transaction so that the policy can adapt
+ * the size of the next chunks.
+ * <p>
+ * All methods receive the step execution the chunk belongs to. A policy can be shared by
+ * step executions that run concurrently (like the partitions of a partitioned step), so
+ * implementations should keep their state per step execution.
+ *
+ * @since 6.1
+ * @see AdaptiveChunkSizePolicy
+ */
+public interface ChunkSizePolicy {
+
+	/**
+	 * Called before the first chunk of the given step execution is read.
+	 * @param stepExecution the current step execution
+	 * @param chunkSize the chunk size configured on the step
+	 */
+	default void open(StepExecution stepExecution, int chunkSize) {
+	}
+
+	/**
+	 * Return the maximum number of items to read in the next chunk of the given step
+	 * execution.
+	 * @param stepExecution the current step execution
+	 * @return the size of the next chunk, greater than 0
+	 */
+	int getChunkSize(StepExecution stepExecution);
+
+	/**
+	 * Called after the transaction of a chunk has been committed.
+	 * @param stepExecution the current step execution
+	 * @param itemCount the number of items read in the chunk
+	 * @param duration the time spent processing the chunk, including the commit
+	 */
+	void onCommit(StepExecution stepExecution, int itemCount, Duration duration);
+
+	/**
+	 * Called after the transaction of a chunk has been rolled back.
+	 * @param stepExecution the current step execution
+	 * @param itemCount the number of items read in the chunk
+	 * @param duration the time spent processing the chunk, including the rollback
+	 */
+	void onRollback(StepExecution stepExecution, int itemCount, Duration duration);
+
+	/**
+	 * Called after the last chunk of the given step execution has been processed.
+	 * @param stepExecution the current step execution
+	 */
+	default void close(StepExecution stepExecution) {
+	}
+
+}
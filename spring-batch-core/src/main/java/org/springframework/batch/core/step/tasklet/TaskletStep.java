@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -454,14 +454,11 @@ public class TaskletStep extends AbstractStep {
 				try {
 					// Going to attempt a commit. If it fails this flag will
 					// stay false and we can use that later.
-					if (stepExecution.getExecutionContext().isDirty()) {
-						getJobRepository().updateExecutionContext(stepExecution);
-					}
 					stepExecution.incrementCommitCount();
 					if (logger.isDebugEnabled()) {
 						logger.debug("Saving step execution before commit: " + stepExecution);
 					}
-					getJobRepository().update(stepExecution);
+					getJobRepository().checkpoint(stepExecution);
 				}
 				catch (Exception e) {
 					// If we get to here there was a problem saving the step
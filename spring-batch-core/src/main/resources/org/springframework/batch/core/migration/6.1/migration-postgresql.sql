@@ -0,0 +1,12 @@
+-- Migration script for Spring Batch 6.1
+-- Adds the table used to store execution context entries when delta updates are enabled
+
+CREATE TABLE BATCH_STEP_CONTEXT_ENTRY (
+	STEP_EXECUTION_ID BIGINT NOT NULL,
+	ENTRY_KEY VARCHAR(250) NOT NULL,
+	SHORT_VALUE VARCHAR(2500),
+	SERIALIZED_VALUE TEXT,
+	constraint STEP_CTX_ENTRY_PK primary key (STEP_EXECUTION_ID, ENTRY_KEY),
+	constraint STEP_CTX_ENTRY_FK foreign key (STEP_EXECUTION_ID)
+	references BATCH_STEP_EXECUTION(STEP_EXECUTION_ID)
+) ;
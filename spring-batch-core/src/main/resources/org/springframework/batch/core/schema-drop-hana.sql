@@ -1,4 +1,5 @@
 -- Autogenerated: do not edit this file
+DROP TABLE  BATCH_STEP_CONTEXT_ENTRY ;
  DROP TABLE  BATCH_STEP_EXECUTION_CONTEXT ;
 DROP TABLE  BATCH_JOB_EXECUTION_CONTEXT ;
 DROP TABLE  BATCH_JOB_EXECUTION_PARAMS ;
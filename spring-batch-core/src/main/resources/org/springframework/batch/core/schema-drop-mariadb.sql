@@ -1,3 +1,4 @@
+DROP TABLE IF EXISTS BATCH_STEP_CONTEXT_ENTRY;
 DROP TABLE IF EXISTS BATCH_STEP_EXECUTION_CONTEXT;
 DROP TABLE IF EXISTS BATCH_JOB_EXECUTION_CONTEXT;
 DROP TABLE IF EXISTS BATCH_STEP_EXECUTION;
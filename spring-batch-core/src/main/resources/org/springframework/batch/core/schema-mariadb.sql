@@ -63,6 +63,16 @@ CREATE TABLE BATCH_STEP_EXECUTION_CONTEXT (
 	references BATCH_STEP_EXECUTION(STEP_EXECUTION_ID)
 ) ENGINE=InnoDB;
 
+CREATE TABLE BATCH_STEP_CONTEXT_ENTRY (
+	STEP_EXECUTION_ID BIGINT NOT NULL,
+	ENTRY_KEY VARCHAR(250) NOT NULL,
+	SHORT_VALUE VARCHAR(2500),
+	SERIALIZED_VALUE TEXT,
+	constraint STEP_CTX_ENTRY_PK primary key (STEP_EXECUTION_ID, ENTRY_KEY),
+	constraint STEP_CTX_ENTRY_FK foreign key (STEP_EXECUTION_ID)
+	references BATCH_STEP_EXECUTION(STEP_EXECUTION_ID)
+) ENGINE=InnoDB;
+
 CREATE TABLE BATCH_JOB_EXECUTION_CONTEXT (
 	JOB_EXECUTION_ID BIGINT NOT NULL PRIMARY KEY,
 	SHORT_CONTEXT VARCHAR(2500) NOT NULL,
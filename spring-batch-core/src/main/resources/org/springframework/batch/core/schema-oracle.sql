@@ -65,6 +65,16 @@ CREATE TABLE BATCH_STEP_EXECUTION_CONTEXT (
 	references BATCH_STEP_EXECUTION(STEP_EXECUTION_ID)
 ) SEGMENT CREATION IMMEDIATE;
 
+CREATE TABLE BATCH_STEP_CONTEXT_ENTRY (
+	STEP_EXECUTION_ID NUMBER(19,0) NOT NULL,
+	ENTRY_KEY VARCHAR2(250 char) NOT NULL,
+	SHORT_VALUE VARCHAR2(2500 char),
+	SERIALIZED_VALUE CLOB,
+	constraint STEP_CTX_ENTRY_PK primary key (STEP_EXECUTION_ID, ENTRY_KEY),
+	constraint STEP_CTX_ENTRY_FK foreign key (STEP_EXECUTION_ID)
+	references BATCH_STEP_EXECUTION(STEP_EXECUTION_ID)
+) SEGMENT CREATION IMMEDIATE;
+
 CREATE TABLE BATCH_JOB_EXECUTION_CONTEXT (
 	JOB_EXECUTION_ID NUMBER(19,0) NOT NULL PRIMARY KEY,
 	SHORT_CONTEXT VARCHAR2(2500 char) NOT NULL,
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
+import org.springframework.batch.infrastructure.item.file.SeekableBufferedReaderFactory;
+import org.springframework.batch.infrastructure.item.file.mapping.PassThroughLineMapper;
+import org.springframework.batch.infrastructure.item.file.separator.DefaultRecordSeparatorPolicy;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.UrlResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileRangePartitionerTests {
+
+	@TempDir
+	private Path directory;
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 3, 7, 100 })
+	void testRangesCoverAllLinesOnce(int gridSize) throws Exception {
+		StringBuilder content = new StringBuilder("header1\nheader2\n");
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			String line = "line" + i + "x".repeat(i % 5);
+			expected.add(line);
+			content.append(line).append(i % 2 == 0 ? "\n" : "\r\n");
+		}
+		FileRangePartitioner partitioner = new FileRangePartitioner(createFile(content.toString()));
+		partitioner.setLinesToSkip(2);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(gridSize);
+
+		assertEquals(Math.min(gridSize, 20), partitions.size());
+		assertEquals(expected, readAll(partitions, false));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 3, 5, 50 })
+	void testRangesAreAlignedOnMultiLineRecords(int gridSize) throws Exception {
+		StringBuilder content = new StringBuilder("id,value\n");
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			String record = i % 3 == 0 ? i + ",\"multi\nline\nvalue\"" : i + ",value";
+			expected.add(record);
+			content.append(record).append("\n");
+			if (i == 4) {
+				content.append("# comment\n");
+			}
+		}
+		FileRangePartitioner partitioner = new FileRangePartitioner(createFile(content.toString()));
+		partitioner.setLinesToSkip(1);
+		partitioner.setRecordSeparatorPolicy(new DefaultRecordSeparatorPolicy());
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(gridSize);
+
+		assertEquals(expected, readAll(partitions, true));
+	}
+
+	@Test
+	void testRestartPartition() throws Exception {
+		FileRangePartitioner partitioner = new FileRangePartitioner(createFile("a\nb\nc\nd\ne\nf\ng\nh\n"));
+		ExecutionContext context = partitioner.partition(2).get("partition1");
+
+		FlatFileItemReader<String> reader = createReader(context, false);
+		reader.open(context);
+		assertEquals("e", reader.read());
+		reader.update(context);
+		reader.close();
+
+		reader = createReader(context, false);
+		reader.open(context);
+		assertEquals("f", reader.read());
+		assertEquals("g", reader.read());
+		assertEquals("h", reader.read());
+		assertEquals(null, reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testEmptyFile() throws Exception {
+		FileRangePartitioner partitioner = new FileRangePartitioner(createFile("header\n"));
+		partitioner.setLinesToSkip(1);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		assertEquals(1, partitions.size());
+		assertEquals(List.of(), readAll(partitions, false));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "UTF-16", "UTF-16LE", "UTF-32" })
+	void testUnsupportedEncoding(String encoding) throws Exception {
+		FileRangePartitioner partitioner = new FileRangePartitioner(createFile("a\nb\n"));
+		assertThrows(IllegalArgumentException.class, () -> partitioner.setEncoding(encoding));
+	}
+
+	@Test
+	void testMissingResource() {
+		FileRangePartitioner partitioner = new FileRangePartitioner(new FileSystemResource("does-not-exist"));
+		assertThrows(IllegalStateException.class, () -> partitioner.partition(2));
+	}
+
+	private List<String> readAll(Map<String, ExecutionContext> partitions, boolean multiLine) throws Exception {
+		List<String> items = new ArrayList<>();
+		for (int i = 0; i < partitions.size(); i++) {
+			ExecutionContext context = partitions.get("partition" + i);
+			FlatFileItemReader<String> reader = createReader(context, multiLine);
+			reader.open(new ExecutionContext());
+			String item;
+			while ((item = reader.read()) != null) {
+				items.add(item);
+			}
+			reader.close();
+		}
+		return items;
+	}
+
+	private FlatFileItemReader<String> createReader(ExecutionContext context, boolean multiLine) throws Exception {
+		FlatFileItemReader<String> reader = new FlatFileItemReader<>(new PassThroughLineMapper());
+		reader.setResource(new UrlResource(context.getString("fileName")));
+		reader.setBufferedReaderFactory(new SeekableBufferedReaderFactory());
+		reader.setStartPosition(context.getLong(FileRangePartitioner.START_POSITION_KEY));
+		reader.setEndPosition(context.getLong(FileRangePartitioner.END_POSITION_KEY));
+		if (multiLine) {
+			reader.setRecordSeparatorPolicy(new DefaultRecordSeparatorPolicy());
+		}
+		return reader;
+	}
+
+	private FileSystemResource createFile(String content) throws Exception {
+		Path file = Files.writeString(this.directory.resolve("input.csv"), content, StandardCharsets.UTF_8);
+		return new FileSystemResource(file);
+	}
+
+}
@@ -23,9 +23,13 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobExecutionException;
@@ -128,4 +132,65 @@ class TaskExecutorPartitionHandlerTests {
 		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
 	}
 
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void testVirtualThreads() throws Exception {
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		handler.setStep(new StepSupport() {
+			@Override
+			public void execute(StepExecution stepExecution) {
+				threadNames.add(Thread.currentThread().getName());
+			}
+		});
+		handler.setGridSize(3);
+		handler.setVirtualThreads(true);
+		Collection<StepExecution> executions = handler.handle(stepExecutionSplitter, stepExecution);
+		assertEquals(3, executions.size());
+		assertEquals(3, threadNames.size());
+		assertTrue(threadNames.stream().allMatch(threadName -> threadName.startsWith("spring-batch-partition-")));
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void testVirtualThreadsWithConcurrencyLimit() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		handler.setStep(new StepSupport() {
+			@Override
+			public void execute(StepExecution stepExecution) throws JobInterruptedException {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(50);
+				}
+				catch (InterruptedException e) {
+					throw new JobInterruptedException("Interrupted");
+				}
+				finally {
+					running.decrementAndGet();
+				}
+			}
+		});
+		handler.setGridSize(6);
+		handler.setConcurrencyLimit(2);
+		handler.setVirtualThreads(true);
+		Collection<StepExecution> executions = handler.handle(stepExecutionSplitter, stepExecution);
+		assertEquals(6, executions.size());
+		assertTrue(maxRunning.get() <= 2, "At most 2 partitions should be executed at the same time");
+	}
+
+	@Test
+	void testDisablingVirtualThreadsKeepsTaskExecutor() throws Exception {
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		handler.setStep(new StepSupport() {
+			@Override
+			public void execute(StepExecution stepExecution) {
+				threadNames.add(Thread.currentThread().getName());
+			}
+		});
+		handler.setTaskExecutor(new SimpleAsyncTaskExecutor("custom-"));
+		handler.setVirtualThreads(false);
+		handler.handle(stepExecutionSplitter, stepExecution);
+		assertTrue(threadNames.stream().allMatch(threadName -> threadName.startsWith("custom-")));
+	}
+
 }
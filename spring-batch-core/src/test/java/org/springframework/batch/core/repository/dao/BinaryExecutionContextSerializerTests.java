@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryExecutionContextSerializerTests extends AbstractExecutionContextSerializerTests {
+
+	private final BinaryExecutionContextSerializer serializer = new BinaryExecutionContextSerializer();
+
+	@Test
+	void testSerializeCommonTypes() throws Exception {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("string", "välue");
+		m1.put("int", -42);
+		m1.put("long", Long.MIN_VALUE);
+		m1.put("double", 1.5D);
+		m1.put("float", 2.5F);
+		m1.put("boolean", true);
+		m1.put("short", (short) 7);
+		m1.put("byte", (byte) -1);
+		m1.put("char", 'c');
+		m1.put("bigDecimal", new BigDecimal("-12345.678"));
+		m1.put("bigInteger", new BigInteger("123456789012345678901234567890"));
+		m1.put("date", new Date(123456790123L));
+		m1.put("localDate", LocalDate.of(2026, 1, 31));
+		m1.put("localTime", LocalTime.of(23, 59, 59, 999));
+		m1.put("localDateTime", LocalDateTime.of(1900, 2, 3, 4, 5, 6, 7));
+		m1.put("instant", Instant.ofEpochSecond(-100, 5));
+		m1.put("duration", Duration.ofMillis(1500));
+		m1.put("list", List.of(1L, "two", List.of(3)));
+		m1.put("set", Set.of("a", "b"));
+		m1.put("map", Map.of("key", 1, 2, "value"));
+
+		Map<String, Object> m2 = serializationRoundTrip(m1);
+
+		assertEquals(m1, m2);
+	}
+
+	@Test
+	void testCollectionTypesArePreserved() throws Exception {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("arrayList", new ArrayList<>(List.of(1, 2)));
+		m1.put("treeMap", new TreeMap<>(Map.of("b", 2, "a", 1)));
+		m1.put("enumSet", EnumSet.of(TimeUnit.SECONDS, TimeUnit.DAYS));
+		m1.put("unmodifiableList", Collections.unmodifiableList(new ArrayList<>(List.of("a"))));
+
+		Map<String, Object> m2 = serializationRoundTrip(m1);
+
+		assertEquals(m1, m2);
+		assertInstanceOf(ArrayList.class, m2.get("arrayList"));
+		assertInstanceOf(TreeMap.class, m2.get("treeMap"));
+		assertInstanceOf(EnumSet.class, m2.get("enumSet"));
+		assertEquals(m1.get("unmodifiableList").getClass(), m2.get("unmodifiableList").getClass());
+	}
+
+	@Test
+	void testSerializeByteArrayAndNullElements() throws Exception {
+		List<Object> list = new ArrayList<>();
+		list.add(null);
+		Map<String, Object> m1 = Map.of("bytes", new byte[] { 1, 2, 3 }, "list", list);
+
+		Map<String, Object> m2 = serializationRoundTrip(m1);
+
+		assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) m2.get("bytes"));
+		assertEquals(list, m2.get("list"));
+	}
+
+	@Test
+	void testCompression() throws Exception {
+		Map<String, Object> m1 = new HashMap<>();
+		for (int i = 0; i < 100; i++) {
+			m1.put("reader" + i + ".read.count", (long) i);
+		}
+		this.serializer.setCompressionThreshold(-1);
+		int plainSize = serialize(m1).length;
+		this.serializer.setCompressionThreshold(0);
+		int compressedSize = serialize(m1).length;
+
+		assertTrue(compressedSize < plainSize / 2);
+		assertEquals(m1, serializationRoundTrip(m1));
+	}
+
+	@Test
+	void testSmallerThanDefaultSerializer() throws Exception {
+		Map<String, Object> m1 = Map.of("reader.read.count", 12345L, "writer.written", 3);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new DefaultExecutionContextSerializer().serialize(m1, out);
+
+		assertTrue(serialize(m1).length < out.size() / 4);
+	}
+
+	@Test
+	void testReadContextOfDefaultSerializer() throws Exception {
+		Map<String, Object> m1 = Map.of("key", "value", "count", 3L);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new DefaultExecutionContextSerializer().serialize(m1, out);
+
+		assertEquals(m1, this.serializer.deserialize(new ByteArrayInputStream(out.toByteArray())));
+	}
+
+	@Test
+	void testReadContextWithFallbackDeserializer() throws Exception {
+		Map<String, Object> m1 = Map.of("key", "value", "count", 3L);
+		JacksonExecutionContextStringSerializer jacksonSerializer = new JacksonExecutionContextStringSerializer();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		jacksonSerializer.serialize(m1, out);
+		this.serializer.setFallbackDeserializer(jacksonSerializer);
+
+		assertEquals(m1, this.serializer.deserialize(new ByteArrayInputStream(out.toByteArray())));
+	}
+
+	@Test
+	void testSerializeNonSerializable() {
+		Map<String, Object> m1 = Map.of("object", new Object());
+
+		assertThrows(IllegalArgumentException.class, () -> serialize(m1));
+	}
+
+	@Test
+	void testUnknownFormat() {
+		byte[] content = "~Aw==".getBytes(StandardCharsets.UTF_8);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> this.serializer.deserialize(new ByteArrayInputStream(content)));
+	}
+
+	private byte[] serialize(Map<String, Object> context) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		this.serializer.serialize(context, out);
+		return out.toByteArray();
+	}
+
+	@Override
+	protected ExecutionContextSerializer getSerializer() {
+		return this.serializer;
+	}
+
+}
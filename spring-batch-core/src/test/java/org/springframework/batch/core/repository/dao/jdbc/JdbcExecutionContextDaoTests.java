@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2025 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package org.springframework.batch.core.repository.dao.jdbc;
 
+import java.util.List;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
@@ -22,11 +23,13 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
@@ -127,4 +130,148 @@ class JdbcExecutionContextDaoTests {
 		Assertions.assertTrue(((String) shortContext).contains("\"name\":\"foo\""));
 	}
 
+	@Test
+	void testDeltaUpdateOfStepExecutionContext() {
+		// given
+		jdbcExecutionContextDao.setDeltaUpdates(true);
+		StepExecution stepExecution = createStepExecutionWithContext();
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		executionContext.putLong("count", 2);
+		executionContext.remove("name");
+
+		// when
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertEquals(2, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_CONTEXT_ENTRY"));
+		String shortContext = jdbcTemplate.queryForObject(
+				"select SHORT_CONTEXT from BATCH_STEP_EXECUTION_CONTEXT where STEP_EXECUTION_ID = ?", String.class,
+				stepExecution.getId());
+		Assertions.assertTrue(shortContext.contains("\"name\":\"foo\""));
+		ExecutionContext reloaded = jdbcExecutionContextDao.getExecutionContext(stepExecution);
+		Assertions.assertEquals(executionContext, reloaded);
+		Assertions.assertFalse(reloaded.isDirty());
+	}
+
+	@Test
+	void testDeltaUpdateOfExistingAndNewEntries() {
+		// given
+		jdbcExecutionContextDao.setDeltaUpdates(true);
+		StepExecution stepExecution = createStepExecutionWithContext();
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		executionContext.putLong("count", 2);
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		executionContext.clearDirtyFlag();
+		executionContext.putLong("count", 3);
+		executionContext.putString("status", "running");
+
+		// when
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertEquals(2, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_CONTEXT_ENTRY"));
+		ExecutionContext reloaded = jdbcExecutionContextDao.getExecutionContext(stepExecution);
+		Assertions.assertEquals(3, reloaded.getLong("count"));
+		Assertions.assertEquals("running", reloaded.getString("status"));
+	}
+
+	@Test
+	void testDeltaUpdateCompactsWhenStepExecutionEnds() {
+		// given
+		jdbcExecutionContextDao.setDeltaUpdates(true);
+		StepExecution stepExecution = createStepExecutionWithContext();
+		stepExecution.getExecutionContext().putLong("count", 2);
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		stepExecution.getExecutionContext().clearDirtyFlag();
+		stepExecution.getExecutionContext().putLong("count", 3);
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+
+		// when
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_CONTEXT_ENTRY"));
+		jdbcExecutionContextDao.setDeltaUpdates(false);
+		Assertions.assertEquals(3L, jdbcExecutionContextDao.getExecutionContext(stepExecution).getLong("count"));
+	}
+
+	@Test
+	void testDeltaUpdateCompactsAtCompactionInterval() {
+		// given
+		jdbcExecutionContextDao.setDeltaUpdates(true);
+		jdbcExecutionContextDao.setCompactionInterval(2);
+		StepExecution stepExecution = createStepExecutionWithContext();
+		stepExecution.getExecutionContext().putLong("count", 2);
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		stepExecution.getExecutionContext().clearDirtyFlag();
+		stepExecution.getExecutionContext().putLong("count", 3);
+		stepExecution.setCommitCount(2);
+
+		// when
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_CONTEXT_ENTRY"));
+		Assertions.assertEquals(3L, jdbcExecutionContextDao.getExecutionContext(stepExecution).getLong("count"));
+	}
+
+	@Test
+	void testDeleteStepExecutionContextWithDeltaUpdates() {
+		// given
+		jdbcExecutionContextDao.setDeltaUpdates(true);
+		StepExecution stepExecution = createStepExecutionWithContext();
+		stepExecution.getExecutionContext().putLong("count", 2);
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// when
+		jdbcExecutionContextDao.deleteExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_CONTEXT_ENTRY"));
+		Assertions.assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_EXECUTION_CONTEXT"));
+	}
+
+	@Test
+	void testGetStepExecutionContexts() {
+		// given
+		jdbcExecutionContextDao.setDeltaUpdates(true);
+		StepExecution first = createStepExecutionWithContext();
+		first.getExecutionContext().putLong("count", 2);
+		jdbcExecutionContextDao.updateExecutionContext(first);
+		StepExecution second = createStepExecutionWithContext("step2", first.getJobExecution());
+		StepExecution withoutContext = jdbcStepExecutionDao.createStepExecution("step3", first.getJobExecution());
+
+		// when
+		Map<Long, ExecutionContext> contexts = jdbcExecutionContextDao
+			.getExecutionContexts(List.of(first, second, withoutContext));
+
+		// then
+		Assertions.assertEquals(3, contexts.size());
+		Assertions.assertEquals(2L, contexts.get(first.getId()).getLong("count"));
+		Assertions.assertEquals(second.getExecutionContext(), contexts.get(second.getId()));
+		Assertions.assertTrue(contexts.get(withoutContext.getId()).isEmpty());
+	}
+
+	private StepExecution createStepExecutionWithContext() {
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		return createStepExecutionWithContext("step", jobExecution);
+	}
+
+	private StepExecution createStepExecutionWithContext(String stepName, JobExecution jobExecution) {
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution(stepName, jobExecution);
+		stepExecution.setStatus(BatchStatus.STARTED);
+		stepExecution.setCommitCount(1);
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		executionContext.putString("name", "foo");
+		executionContext.putLong("count", 1);
+		executionContext.putString("reader", "bar");
+		executionContext.putString("writer", "baz");
+		executionContext.putString("type", "chunk");
+		jdbcExecutionContextDao.saveExecutionContext(stepExecution);
+		executionContext.clearDirtyFlag();
+		return stepExecution;
+	}
+
 }
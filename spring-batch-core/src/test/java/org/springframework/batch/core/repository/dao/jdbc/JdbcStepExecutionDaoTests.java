@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2025 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,9 @@
  */
 package org.springframework.batch.core.repository.dao.jdbc;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +35,8 @@ import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncremente
 import org.springframework.test.jdbc.JdbcTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JdbcStepExecutionDaoTests {
@@ -158,4 +163,66 @@ class JdbcStepExecutionDaoTests {
 		Assertions.assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_EXECUTION"));
 	}
 
+	@Test
+	void testGetLastStepExecutions() {
+		// Given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution firstJobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		jdbcStepExecutionDao.createStepExecution("step1", firstJobExecution);
+		StepExecution step2 = jdbcStepExecutionDao.createStepExecution("step2", firstJobExecution);
+		JobExecution secondJobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution step1 = jdbcStepExecutionDao.createStepExecution("step1", secondJobExecution);
+
+		// When
+		Map<String, StepExecution> result = jdbcStepExecutionDao.getLastStepExecutions(jobInstance,
+				List.of("step1", "step2", "step3"));
+
+		// Then
+		assertEquals(2, result.size());
+		assertEquals(step1.getId(), result.get("step1").getId());
+		assertEquals(secondJobExecution.getId(), result.get("step1").getJobExecutionId());
+		assertEquals(step2.getId(), result.get("step2").getId());
+		assertEquals(firstJobExecution.getId(), result.get("step2").getJobExecutionId());
+	}
+
+	@Test
+	void testCreateStepExecutions() {
+		// Given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+
+		// When
+		List<StepExecution> stepExecutions = jdbcStepExecutionDao
+			.createStepExecutions(List.of("step:partition1", "step:partition2", "step:partition3"), jobExecution);
+
+		// Then
+		assertEquals(List.of("step:partition1", "step:partition2", "step:partition3"),
+				stepExecutions.stream().map(StepExecution::getStepName).toList());
+		for (StepExecution stepExecution : stepExecutions) {
+			StepExecution persisted = jdbcStepExecutionDao.getStepExecution(stepExecution.getId());
+			assertNotNull(persisted);
+			assertEquals(stepExecution.getStepName(), persisted.getStepName());
+			assertEquals(stepExecution.getVersion(), persisted.getVersion());
+		}
+	}
+
+	@Test
+	void testGetLastStepExecutionsShareJobExecution() {
+		// Given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		jdbcStepExecutionDao.createStepExecution("step1", jobExecution);
+		jdbcStepExecutionDao.createStepExecution("step2", jobExecution);
+
+		// When
+		Map<String, StepExecution> result = jdbcStepExecutionDao.getLastStepExecutions(jobInstance,
+				List.of("step1", "step2"));
+
+		// Then
+		assertSame(result.get("step1").getJobExecution(), result.get("step2").getJobExecution());
+	}
+
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJobRepositoryTests {
+
+	private final JobRepository delegate = mock();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final JobInstance jobInstance = new JobInstance(1L, "job");
+
+	private CachingJobRepository jobRepository;
+
+	@BeforeEach
+	void setUp() {
+		this.jobRepository = new CachingJobRepository(this.delegate);
+		this.jobRepository.setMeterRegistry(this.meterRegistry);
+	}
+
+	@Test
+	void testCountersAreRegisteredOnFirstGet() {
+		SimpleMeterRegistry otherMeterRegistry = new SimpleMeterRegistry();
+		this.jobRepository.setMeterRegistry(otherMeterRegistry);
+		assertTrue(otherMeterRegistry.getMeters().isEmpty());
+
+		this.jobRepository.getJobExecution(1L);
+
+		assertEquals(1,
+				otherMeterRegistry.get("spring.batch.job.repository.cache.gets")
+					.tag("spring.batch.job.repository.cache.gets.name", "jobExecutions")
+					.tag("spring.batch.job.repository.cache.gets.result", "miss")
+					.counter()
+					.count());
+		assertTrue(this.meterRegistry.getMeters().isEmpty());
+	}
+
+	@Test
+	void testCompletedJobExecutionIsCachedWithoutTimeToLive() {
+		JobExecution jobExecution = new JobExecution(1L, this.jobInstance, new JobParameters());
+		jobExecution.setStatus(BatchStatus.COMPLETED);
+		when(this.delegate.getJobExecution(1L)).thenReturn(jobExecution);
+		this.jobRepository.setTimeToLive(Duration.ZERO);
+
+		assertSame(jobExecution, this.jobRepository.getJobExecution(1L));
+		assertSame(jobExecution, this.jobRepository.getJobExecution(1L));
+
+		verify(this.delegate, times(1)).getJobExecution(1L);
+		assertEquals(1, getCount("jobExecutions", "hit"));
+		assertEquals(1, getCount("jobExecutions", "miss"));
+	}
+
+	@Test
+	void testRunningJobExecutionIsNotCachedWithoutTimeToLive() {
+		JobExecution jobExecution = new JobExecution(1L, this.jobInstance, new JobParameters());
+		jobExecution.setStatus(BatchStatus.STARTED);
+		when(this.delegate.getJobExecution(1L)).thenReturn(jobExecution);
+		this.jobRepository.setTimeToLive(Duration.ZERO);
+
+		this.jobRepository.getJobExecution(1L);
+		this.jobRepository.getJobExecution(1L);
+
+		verify(this.delegate, times(2)).getJobExecution(1L);
+		assertEquals(2, getCount("jobExecutions", "miss"));
+	}
+
+	@Test
+	void testJobExecutionIsEvictedOnUpdate() {
+		JobExecution jobExecution = new JobExecution(1L, this.jobInstance, new JobParameters());
+		jobExecution.setStatus(BatchStatus.STARTED);
+		when(this.delegate.getJobExecution(1L)).thenReturn(jobExecution);
+
+		this.jobRepository.getJobExecution(1L);
+		this.jobRepository.getJobExecution(1L);
+		verify(this.delegate, times(1)).getJobExecution(1L);
+
+		this.jobRepository.update(new StepExecution(2L, "step", jobExecution));
+		this.jobRepository.getJobExecution(1L);
+		verify(this.delegate, times(2)).getJobExecution(1L);
+
+		this.jobRepository.update(jobExecution);
+		this.jobRepository.getJobExecution(1L);
+		verify(this.delegate, times(3)).getJobExecution(1L);
+	}
+
+	@Test
+	void testMissingJobExecutionIsNotCached() {
+		assertNull(this.jobRepository.getJobExecution(1L));
+		assertNull(this.jobRepository.getJobExecution(1L));
+
+		verify(this.delegate, times(2)).getJobExecution(1L);
+	}
+
+	@Test
+	void testJobNamesAndInstancesAreEvictedOnJobInstanceCreation() {
+		when(this.delegate.getJobNames()).thenReturn(List.of("job"));
+		when(this.delegate.getJobInstances("job", 0, 10)).thenReturn(List.of(this.jobInstance));
+
+		this.jobRepository.getJobNames();
+		this.jobRepository.getJobNames();
+		this.jobRepository.getJobInstances("job", 0, 10);
+		this.jobRepository.getJobInstances("job", 0, 10);
+		verify(this.delegate, times(1)).getJobNames();
+		verify(this.delegate, times(1)).getJobInstances("job", 0, 10);
+
+		this.jobRepository.createJobInstance("job", new JobParameters());
+		this.jobRepository.getJobNames();
+		this.jobRepository.getJobInstances("job", 0, 10);
+		verify(this.delegate, times(2)).getJobNames();
+		verify(this.delegate, times(2)).getJobInstances("job", 0, 10);
+	}
+
+	@SuppressWarnings("removal")
+	@Test
+	void testJobInstancesByJobNameAreCachedAndEvictedOnJobInstanceCreation() {
+		when(this.delegate.findJobInstancesByJobName("j*", 0, 10)).thenReturn(List.of(this.jobInstance));
+
+		assertEquals(List.of(this.jobInstance), this.jobRepository.findJobInstancesByJobName("j*", 0, 10));
+		this.jobRepository.findJobInstancesByJobName("j*", 0, 10);
+		verify(this.delegate, times(1)).findJobInstancesByJobName("j*", 0, 10);
+
+		this.jobRepository.createJobInstance("job", new JobParameters());
+		this.jobRepository.findJobInstancesByJobName("j*", 0, 10);
+		verify(this.delegate, times(2)).findJobInstancesByJobName("j*", 0, 10);
+	}
+
+	@SuppressWarnings("removal")
+	@Test
+	void testDeprecatedQueriesAreDelegated() {
+		JobExecution jobExecution = new JobExecution(1L, this.jobInstance, new JobParameters());
+		when(this.delegate.findJobInstancesByName("job", 0, 10)).thenReturn(List.of(this.jobInstance));
+		when(this.delegate.findJobExecutions(this.jobInstance)).thenReturn(List.of(jobExecution));
+
+		assertEquals(List.of(this.jobInstance), this.jobRepository.findJobInstancesByName("job", 0, 10));
+		assertEquals(List.of(jobExecution), this.jobRepository.findJobExecutions(this.jobInstance));
+	}
+
+	@Test
+	void testRunningJobExecutionsAreEvictedOnJobExecutionCreation() {
+		when(this.delegate.findRunningJobExecutions("job")).thenReturn(Set.of());
+
+		this.jobRepository.findRunningJobExecutions("job");
+		this.jobRepository.findRunningJobExecutions("job");
+		verify(this.delegate, times(1)).findRunningJobExecutions("job");
+
+		this.jobRepository.createJobExecution(this.jobInstance, new JobParameters(), new ExecutionContext());
+		this.jobRepository.findRunningJobExecutions("job");
+		verify(this.delegate, times(2)).findRunningJobExecutions("job");
+	}
+
+	@Test
+	void testLeastRecentlyUsedJobInstanceIsEvicted() {
+		when(this.delegate.getJobInstance(1L)).thenReturn(this.jobInstance);
+		when(this.delegate.getJobInstance(2L)).thenReturn(new JobInstance(2L, "job"));
+		this.jobRepository.setMaximumSize(1);
+
+		this.jobRepository.getJobInstance(1L);
+		this.jobRepository.getJobInstance(2L);
+		this.jobRepository.getJobInstance(1L);
+
+		verify(this.delegate, times(2)).getJobInstance(1L);
+		verify(this.delegate, times(1)).getJobInstance(2L);
+	}
+
+	private double getCount(String name, String result) {
+		return this.meterRegistry.get("spring.batch.job.repository.cache.gets")
+			.tag("spring.batch.job.repository.cache.gets.name", name)
+			.tag("spring.batch.job.repository.cache.gets.result", result)
+			.counter()
+			.count();
+	}
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JdbcJobMetadataArchiverTests {
+
+	private EmbeddedDatabase embeddedDatabase;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private JdbcTransactionManager transactionManager;
+
+	private JobRepository jobRepository;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.embeddedDatabase = new EmbeddedDatabaseBuilder()
+			.addScript("/org/springframework/batch/core/schema-drop-hsqldb.sql")
+			.addScript("/org/springframework/batch/core/schema-hsqldb.sql")
+			.generateUniqueName(true)
+			.build();
+		String schema = new ClassPathResource("/org/springframework/batch/core/schema-hsqldb.sql")
+			.getContentAsString(StandardCharsets.UTF_8);
+		new ResourceDatabasePopulator(new ByteArrayResource(
+				schema.replace("BATCH_", "ARCHIVE_").replaceAll("(?i)constraint ", "constraint ARCHIVE_").getBytes()))
+			.execute(this.embeddedDatabase);
+		this.jdbcTemplate = new JdbcTemplate(this.embeddedDatabase);
+		this.transactionManager = new JdbcTransactionManager(this.embeddedDatabase);
+		JdbcJobRepositoryFactoryBean factory = new JdbcJobRepositoryFactoryBean();
+		factory.setDataSource(this.embeddedDatabase);
+		factory.setTransactionManager(this.transactionManager);
+		factory.afterPropertiesSet();
+		this.jobRepository = factory.getObject();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.embeddedDatabase.shutdown();
+	}
+
+	@Test
+	void testArchiveOldCompletedJobInstances() {
+		JobInstance oldCompleted = runJob("old", BatchStatus.FAILED, BatchStatus.COMPLETED, 40);
+		JobInstance oldFailed = runJob("failed", BatchStatus.FAILED, 40);
+		JobInstance recentCompleted = runJob("recent", BatchStatus.COMPLETED, 1);
+		JdbcJobMetadataArchiver archiver = new JdbcJobMetadataArchiver(this.jdbcTemplate, this.transactionManager);
+		archiver.setArchiveTablePrefix("ARCHIVE_");
+		archiver.setRetention(Duration.ofDays(30));
+
+		int archived = archiver.archive();
+
+		assertEquals(1, archived);
+		assertNull(this.jobRepository.getJobInstance(oldCompleted.getInstanceId()));
+		assertNotNull(this.jobRepository.getJobInstance(oldFailed.getInstanceId()));
+		assertNotNull(this.jobRepository.getJobInstance(recentCompleted.getInstanceId()));
+		assertEquals(1, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "ARCHIVE_JOB_INSTANCE"));
+		assertEquals(2, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "ARCHIVE_JOB_EXECUTION"));
+		assertEquals(2, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "ARCHIVE_JOB_EXECUTION_PARAMS"));
+		assertEquals(2, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "ARCHIVE_JOB_EXECUTION_CONTEXT"));
+		assertEquals(2, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "ARCHIVE_STEP_EXECUTION"));
+		assertEquals(2, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "ARCHIVE_STEP_EXECUTION_CONTEXT"));
+		assertEquals(2, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "BATCH_JOB_EXECUTION"));
+		assertEquals(2, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "BATCH_STEP_EXECUTION"));
+	}
+
+	@Test
+	void testPurgeInSeveralBatches() {
+		for (int i = 0; i < 5; i++) {
+			runJob("job" + i, BatchStatus.COMPLETED, 40);
+		}
+		JdbcJobMetadataArchiver archiver = new JdbcJobMetadataArchiver(this.jdbcTemplate, this.transactionManager);
+		archiver.setBatchSize(2);
+
+		int archived = archiver.archive();
+
+		assertEquals(5, archived);
+		assertEquals(0, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "BATCH_JOB_INSTANCE"));
+		assertEquals(0, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "BATCH_STEP_EXECUTION_CONTEXT"));
+		assertEquals(0, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "ARCHIVE_JOB_INSTANCE"));
+	}
+
+	@Test
+	void testArchiveStepContextEntries() {
+		JobInstance jobInstance = runJob("old", BatchStatus.COMPLETED, 40);
+		JobExecution jobExecution = this.jobRepository.getLastJobExecution(jobInstance);
+		assertNotNull(jobExecution);
+		long stepExecutionId = jobExecution.getStepExecutions().iterator().next().getId();
+		this.jdbcTemplate.update("INSERT INTO BATCH_STEP_CONTEXT_ENTRY (STEP_EXECUTION_ID, ENTRY_KEY) VALUES (?, ?)",
+				stepExecutionId, "key");
+		JdbcJobMetadataArchiver archiver = new JdbcJobMetadataArchiver(this.jdbcTemplate, this.transactionManager);
+		archiver.setArchiveTablePrefix("ARCHIVE_");
+
+		int archived = archiver.archive();
+
+		assertEquals(1, archived);
+		assertEquals(0, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "BATCH_STEP_CONTEXT_ENTRY"));
+		assertEquals(1, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "ARCHIVE_STEP_CONTEXT_ENTRY"));
+	}
+
+	@Test
+	void testArchiveWithoutStepContextEntryTable() {
+		JobInstance jobInstance = runJob("old", BatchStatus.COMPLETED, 40);
+		JdbcTestUtils.dropTables(this.jdbcTemplate, "BATCH_STEP_CONTEXT_ENTRY", "ARCHIVE_STEP_CONTEXT_ENTRY");
+		JdbcJobMetadataArchiver archiver = new JdbcJobMetadataArchiver(this.jdbcTemplate, this.transactionManager);
+		archiver.setArchiveTablePrefix("ARCHIVE_");
+
+		int archived = archiver.archive();
+
+		assertEquals(1, archived);
+		assertNull(this.jobRepository.getJobInstance(jobInstance.getInstanceId()));
+		assertEquals(1, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "ARCHIVE_STEP_EXECUTION"));
+	}
+
+	@Test
+	void testArchiveInSeveralBatchesAfterJobInstancesToKeep() {
+		JobInstance failed = runJob("failed", BatchStatus.FAILED, 40);
+		for (int i = 0; i < 3; i++) {
+			runJob("job" + i, BatchStatus.COMPLETED, 40);
+		}
+		JdbcJobMetadataArchiver archiver = new JdbcJobMetadataArchiver(this.jdbcTemplate, this.transactionManager);
+		archiver.setArchiveTablePrefix("ARCHIVE_");
+		archiver.setBatchSize(1);
+
+		int archived = archiver.archive();
+
+		assertEquals(3, archived);
+		assertNotNull(this.jobRepository.getJobInstance(failed.getInstanceId()));
+		assertEquals(3, JdbcTestUtils.countRowsInTable(this.jdbcTemplate, "ARCHIVE_JOB_INSTANCE"));
+	}
+
+	private JobInstance runJob(String jobName, BatchStatus status, int daysAgo) {
+		return runJob(jobName, status, status, daysAgo);
+	}
+
+	private JobInstance runJob(String jobName, BatchStatus firstStatus, BatchStatus lastStatus, int daysAgo) {
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", jobName).toJobParameters();
+		JobInstance jobInstance = this.jobRepository.createJobInstance(jobName, jobParameters);
+		endExecution(jobInstance, jobParameters, firstStatus, daysAgo);
+		if (lastStatus != firstStatus) {
+			endExecution(jobInstance, jobParameters, lastStatus, daysAgo);
+		}
+		return jobInstance;
+	}
+
+	private void endExecution(JobInstance jobInstance, JobParameters jobParameters, BatchStatus status, int daysAgo) {
+		JobExecution jobExecution = this.jobRepository.createJobExecution(jobInstance, jobParameters,
+				new ExecutionContext());
+		StepExecution stepExecution = this.jobRepository.createStepExecution("step", jobExecution);
+		LocalDateTime endTime = LocalDateTime.now().minusDays(daysAgo);
+		stepExecution.setStatus(status);
+		stepExecution.setEndTime(endTime);
+		this.jobRepository.update(stepExecution);
+		jobExecution.setStatus(status);
+		jobExecution.setEndTime(endTime);
+		this.jobRepository.update(jobExecution);
+	}
+
+}
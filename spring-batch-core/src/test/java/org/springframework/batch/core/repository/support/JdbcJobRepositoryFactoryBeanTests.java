@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.database.support.DefaultDataFieldMaxValueIncrementerFactory;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JdbcJobRepositoryFactoryBeanTests {
+
+	private EmbeddedDatabase embeddedDatabase;
+
+	@BeforeEach
+	void setUp() {
+		this.embeddedDatabase = new EmbeddedDatabaseBuilder()
+			.addScript("/org/springframework/batch/core/schema-drop-hsqldb.sql")
+			.addScript("/org/springframework/batch/core/schema-hsqldb.sql")
+			.generateUniqueName(true)
+			.build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.embeddedDatabase.shutdown();
+	}
+
+	@Test
+	void testIncrementerBlockSize() throws Exception {
+		JdbcJobRepositoryFactoryBean factory = new JdbcJobRepositoryFactoryBean();
+		factory.setDataSource(this.embeddedDatabase);
+		factory.setTransactionManager(new JdbcTransactionManager(this.embeddedDatabase));
+		factory.setIncrementerBlockSize(100);
+		factory.afterPropertiesSet();
+		JobRepository jobRepository = factory.getObject();
+
+		JobInstance jobInstance = jobRepository.createJobInstance("job", new JobParameters());
+		JobExecution jobExecution = jobRepository.createJobExecution(jobInstance, new JobParameters(),
+				new ExecutionContext());
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 150; i++) {
+			ids.add(jobRepository.createStepExecution("step" + i, jobExecution).getId());
+		}
+
+		assertEquals(150, new HashSet<>(ids).size());
+		long firstBlock = ids.get(0) / 100;
+		for (int i = 0; i < 150; i++) {
+			assertEquals(firstBlock * 100 + i, ids.get(i));
+		}
+		DataFieldMaxValueIncrementer sequence = new DefaultDataFieldMaxValueIncrementerFactory(this.embeddedDatabase)
+			.getIncrementer("HSQL", "BATCH_STEP_EXECUTION_SEQ");
+		assertEquals(firstBlock + 2, sequence.nextLongValue());
+	}
+
+	@Test
+	void testInvalidIncrementerBlockSize() {
+		JdbcJobRepositoryFactoryBean factory = new JdbcJobRepositoryFactoryBean();
+		assertThrows(IllegalArgumentException.class, () -> factory.setIncrementerBlockSize(0));
+	}
+
+}
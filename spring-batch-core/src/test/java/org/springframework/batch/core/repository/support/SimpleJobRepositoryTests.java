@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.dao.ExecutionContextDao;
+import org.springframework.batch.core.repository.dao.JobExecutionDao;
+import org.springframework.batch.core.repository.dao.JobInstanceDao;
+import org.springframework.batch.core.repository.dao.StepExecutionDao;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SimpleJobRepositoryTests {
+
+	private final JobExecutionDao jobExecutionDao = mock();
+
+	private final StepExecutionDao stepExecutionDao = mock();
+
+	private final ExecutionContextDao ecDao = mock();
+
+	private final SimpleJobRepository jobRepository = new SimpleJobRepository(mock(JobInstanceDao.class),
+			this.jobExecutionDao, this.stepExecutionDao, this.ecDao);
+
+	private JobExecution jobExecution;
+
+	private StepExecution stepExecution;
+
+	@BeforeEach
+	void setUp() {
+		this.jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		this.stepExecution = new StepExecution(2L, "step", this.jobExecution);
+	}
+
+	@Test
+	void testCheckpointUpdatesDirtyExecutionContext() {
+		this.stepExecution.getExecutionContext().putString("key", "value");
+
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		verify(this.ecDao).updateExecutionContext(this.stepExecution);
+		verify(this.jobExecutionDao).synchronizeStatus(this.jobExecution);
+		verify(this.stepExecutionDao).updateStepExecution(this.stepExecution);
+		assertFalse(this.stepExecution.getExecutionContext().isDirty());
+		assertNotNull(this.stepExecution.getLastUpdated());
+	}
+
+	@Test
+	void testCheckpointMarksContextChangesAgainOnRollback() {
+		this.stepExecution.getExecutionContext().putString("key", "value");
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			this.jobRepository.checkpoint(this.stepExecution);
+			assertFalse(this.stepExecution.getExecutionContext().isDirty());
+
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(synchronization -> synchronization
+					.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		}
+		finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertTrue(this.stepExecution.getExecutionContext().isDirty());
+		assertEquals(Set.of("key"), this.stepExecution.getExecutionContext().getChangedKeys());
+	}
+
+	@Test
+	void testCheckpointSkipsCleanExecutionContext() {
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		verify(this.ecDao, never()).updateExecutionContext(this.stepExecution);
+		verify(this.stepExecutionDao).updateStepExecution(this.stepExecution);
+	}
+
+	@Test
+	void testCheckpointChecksStatusOncePerInterval() {
+		this.jobRepository.setStatusCheckInterval(Duration.ofHours(1));
+
+		this.jobRepository.checkpoint(this.stepExecution);
+		this.jobRepository.checkpoint(this.stepExecution);
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		verify(this.jobExecutionDao, times(1)).synchronizeStatus(this.jobExecution);
+		verify(this.stepExecutionDao, times(3)).updateStepExecution(this.stepExecution);
+	}
+
+	@Test
+	void testStopInvalidatesCachedStatus() {
+		this.jobRepository.setStatusCheckInterval(Duration.ofHours(1));
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		JobExecution stoppedJobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		stoppedJobExecution.setStatus(BatchStatus.STOPPING);
+		this.jobRepository.update(stoppedJobExecution);
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		verify(this.jobExecutionDao, times(2)).synchronizeStatus(same(this.jobExecution));
+	}
+
+	@Test
+	void testStatusCheckIsForgottenWhenStepExecutionEnds() {
+		this.jobRepository.setStatusCheckInterval(Duration.ofHours(1));
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		this.stepExecution.setEndTime(LocalDateTime.now());
+		this.jobRepository.update(this.stepExecution);
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		// once by each checkpoint and once by the update
+		verify(this.jobExecutionDao, times(3)).synchronizeStatus(same(this.jobExecution));
+	}
+
+	@Test
+	void testCheckpointTerminatesStepWhenJobIsStopping() {
+		this.jobExecution.setStatus(BatchStatus.STOPPING);
+
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		verify(this.stepExecutionDao).synchronizeStatus(this.stepExecution);
+		assertTrue(this.stepExecution.isTerminateOnly());
+	}
+
+	@Test
+	void testNegativeStatusCheckInterval() {
+		assertThrows(IllegalArgumentException.class,
+				() -> this.jobRepository.setStatusCheckInterval(Duration.ofSeconds(-1)));
+	}
+
+	@Test
+	void testCreateStepExecutionsInBulk() {
+		ExecutionContext context1 = new ExecutionContext(Map.of("partition", 1));
+		ExecutionContext context2 = new ExecutionContext(Map.of("partition", 2));
+		Map<String, ExecutionContext> executionContexts = new LinkedHashMap<>();
+		executionContexts.put("step:partition1", context1);
+		executionContexts.put("step:partition2", context2);
+		StepExecution partition1 = new StepExecution(3L, "step:partition1", this.jobExecution);
+		StepExecution partition2 = new StepExecution(4L, "step:partition2", this.jobExecution);
+		when(this.stepExecutionDao.createStepExecutions(executionContexts.keySet(), this.jobExecution))
+			.thenReturn(List.of(partition1, partition2));
+
+		List<StepExecution> stepExecutions = this.jobRepository.createStepExecutions(this.jobExecution,
+				executionContexts);
+
+		assertEquals(List.of(partition1, partition2), stepExecutions);
+		assertSame(context1, partition1.getExecutionContext());
+		assertSame(context2, partition2.getExecutionContext());
+		assertTrue(this.jobExecution.getStepExecutions().containsAll(stepExecutions));
+		verify(this.ecDao).saveExecutionContexts(stepExecutions);
+		verify(this.stepExecutionDao, never()).createStepExecution(any(), any());
+	}
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.WriteBehindJobRepository.FlushMode;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindJobRepositoryTests {
+
+	private EmbeddedDatabase embeddedDatabase;
+
+	private TransactionTemplate transactionTemplate;
+
+	private JobRepository delegate;
+
+	private WriteBehindJobRepository jobRepository;
+
+	private StepExecution stepExecution;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.embeddedDatabase = new EmbeddedDatabaseBuilder()
+			.addScript("/org/springframework/batch/core/schema-drop-hsqldb.sql")
+			.addScript("/org/springframework/batch/core/schema-hsqldb.sql")
+			.generateUniqueName(true)
+			.build();
+		JdbcTransactionManager transactionManager = new JdbcTransactionManager(this.embeddedDatabase);
+		JdbcJobRepositoryFactoryBean factory = new JdbcJobRepositoryFactoryBean();
+		factory.setDataSource(this.embeddedDatabase);
+		factory.setTransactionManager(transactionManager);
+		factory.afterPropertiesSet();
+		this.delegate = factory.getObject();
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.jobRepository = new WriteBehindJobRepository(this.delegate);
+
+		JobInstance jobInstance = this.jobRepository.createJobInstance("job", new JobParameters());
+		JobExecution jobExecution = this.jobRepository.createJobExecution(jobInstance, new JobParameters(),
+				new ExecutionContext());
+		this.stepExecution = this.jobRepository.createStepExecution("step", jobExecution);
+		this.stepExecution.setStatus(BatchStatus.STARTED);
+		this.jobRepository.update(this.stepExecution);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		this.jobRepository.destroy();
+		this.embeddedDatabase.shutdown();
+	}
+
+	@Test
+	void testCheckpointsAreCoalescedUntilFlush() {
+		for (int i = 1; i <= 3; i++) {
+			this.stepExecution.setReadCount(i);
+			this.stepExecution.getExecutionContext().putInt("position", i);
+			this.jobRepository.checkpoint(this.stepExecution);
+		}
+		assertEquals(0, persisted().getReadCount());
+
+		this.jobRepository.flush();
+
+		StepExecution persisted = persisted();
+		assertEquals(3, persisted.getReadCount());
+		assertEquals(3, persisted.getExecutionContext().getInt("position"));
+	}
+
+	@Test
+	void testContextChangesAreKeptWhenCoalescing() {
+		this.stepExecution.getExecutionContext().putInt("position", 1);
+		this.jobRepository.checkpoint(this.stepExecution);
+		this.stepExecution.setReadCount(1);
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		this.jobRepository.flush();
+
+		assertEquals(1, persisted().getExecutionContext().getInt("position"));
+	}
+
+	@Test
+	void testSynchronousUpdateAfterCheckpoints() {
+		this.stepExecution.setReadCount(1);
+		this.jobRepository.checkpoint(this.stepExecution);
+		this.jobRepository.flush();
+		this.stepExecution.setReadCount(2);
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		this.stepExecution.setStatus(BatchStatus.COMPLETED);
+		this.jobRepository.update(this.stepExecution);
+
+		StepExecution persisted = persisted();
+		assertEquals(BatchStatus.COMPLETED, persisted.getStatus());
+		assertEquals(2, persisted.getReadCount());
+		assertEquals(persisted.getVersion(), this.stepExecution.getVersion());
+	}
+
+	@Test
+	void testWriteBehindCheckpointIsQueuedAfterCommit() {
+		this.transactionTemplate.executeWithoutResult(status -> {
+			this.stepExecution.setReadCount(1);
+			this.jobRepository.checkpoint(this.stepExecution);
+		});
+		this.transactionTemplate.executeWithoutResult(status -> {
+			this.stepExecution.setReadCount(2);
+			this.jobRepository.checkpoint(this.stepExecution);
+			status.setRollbackOnly();
+		});
+
+		this.jobRepository.flush();
+
+		assertEquals(1, persisted().getReadCount());
+	}
+
+	@Test
+	void testBeforeCommitCheckpointIsWrittenInTransaction() {
+		this.jobRepository.setFlushMode(FlushMode.BEFORE_COMMIT);
+
+		this.transactionTemplate.executeWithoutResult(status -> {
+			this.stepExecution.setReadCount(1);
+			this.jobRepository.checkpoint(this.stepExecution);
+		});
+		assertEquals(1, persisted().getReadCount());
+
+		this.transactionTemplate.executeWithoutResult(status -> {
+			this.stepExecution.setReadCount(2);
+			this.jobRepository.checkpoint(this.stepExecution);
+			status.setRollbackOnly();
+		});
+		assertEquals(1, persisted().getReadCount());
+	}
+
+	@Test
+	void testCheckpointsAreFlushedInBackground() throws Exception {
+		this.jobRepository.setFlushInterval(Duration.ofMillis(10));
+		this.jobRepository.afterPropertiesSet();
+
+		this.stepExecution.setReadCount(5);
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (this.delegate.getStepExecution(this.stepExecution.getId()).getReadCount() != 5
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(5, persisted().getReadCount());
+	}
+
+	@Test
+	void testStopIsDetectedWhenCheckpointIsWritten() {
+		JobExecution jobExecution = this.delegate.getJobExecution(this.stepExecution.getJobExecutionId());
+		assertNotNull(jobExecution);
+		jobExecution.setStatus(BatchStatus.STOPPING);
+		this.delegate.update(jobExecution);
+
+		this.jobRepository.checkpoint(this.stepExecution);
+		assertFalse(this.stepExecution.isTerminateOnly());
+		this.jobRepository.flush();
+		// the stop is applied by the step thread only
+		assertFalse(this.stepExecution.isTerminateOnly());
+
+		this.jobRepository.checkpoint(this.stepExecution);
+		assertTrue(this.stepExecution.isTerminateOnly());
+		// the job execution used by the step is not modified by the flush
+		assertEquals(BatchStatus.STARTING, this.stepExecution.getJobExecution().getStatus());
+	}
+
+	@Test
+	void testDeltaContextUpdates() throws Exception {
+		JdbcJobRepositoryFactoryBean factory = new JdbcJobRepositoryFactoryBean();
+		factory.setDataSource(this.embeddedDatabase);
+		factory.setTransactionManager(new JdbcTransactionManager(this.embeddedDatabase));
+		factory.setDeltaContextUpdates(true);
+		factory.afterPropertiesSet();
+		WriteBehindJobRepository jobRepository = new WriteBehindJobRepository(factory.getObject());
+		ExecutionContext executionContext = this.stepExecution.getExecutionContext();
+
+		for (String key : List.of("a", "b", "c", "d", "e")) {
+			executionContext.putInt(key, 1);
+		}
+		jobRepository.checkpoint(this.stepExecution);
+		jobRepository.flush();
+		this.stepExecution.setCommitCount(1);
+		executionContext.putInt("a", 2);
+		jobRepository.checkpoint(this.stepExecution);
+		executionContext.remove("b");
+		jobRepository.checkpoint(this.stepExecution);
+		jobRepository.flush();
+
+		// only the changed entries have been written
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(this.embeddedDatabase);
+		assertEquals(2,
+				jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH_STEP_CONTEXT_ENTRY WHERE STEP_EXECUTION_ID = ?",
+						Integer.class, this.stepExecution.getId()));
+		StepExecution stepExecution = jobRepository.getStepExecution(this.stepExecution.getId());
+		assertNotNull(stepExecution);
+		ExecutionContext persisted = stepExecution.getExecutionContext();
+		assertEquals(2, persisted.getInt("a"));
+		assertFalse(persisted.containsKey("b"));
+		assertEquals(1, persisted.getInt("c"));
+	}
+
+	@SuppressWarnings("removal")
+	@Test
+	void testDeprecatedReadOperationsAreDelegated() throws Exception {
+		JobInstance jobInstance = this.stepExecution.getJobExecution().getJobInstance();
+		this.stepExecution.setReadCount(1);
+		this.jobRepository.checkpoint(this.stepExecution);
+
+		assertEquals(1, this.jobRepository.findJobInstancesByJobName("job", 0, 10).size());
+		assertEquals(1, this.jobRepository.findJobInstancesByName("job", 0, 10).size());
+		assertEquals(1, this.jobRepository.findJobExecutions(jobInstance).size());
+		assertEquals(1, this.jobRepository.getStepExecutionCount(jobInstance, "step"));
+		assertEquals(1, persisted().getReadCount());
+	}
+
+	private StepExecution persisted() {
+		StepExecution persisted = this.delegate.getStepExecution(this.stepExecution.getId());
+		assertNotNull(persisted);
+		return persisted;
+	}
+
+}
@@ -27,6 +27,8 @@ import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
@@ -136,4 +138,11 @@ class JobScopeTests {
 		assertEquals("foo", scopes[0]);
 	}
 
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void testCreatingScopedObjectsDoesNotPinVirtualThreads() throws Exception {
+		VirtualThreadPinningTestUtils.assertCreatingScopedObjectsDoesNotPin(scope,
+				() -> JobSynchronizationManager.register(jobExecution), JobSynchronizationManager::close);
+	}
+
 }
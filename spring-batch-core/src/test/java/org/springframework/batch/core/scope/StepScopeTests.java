@@ -28,6 +28,8 @@ import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
@@ -158,4 +160,11 @@ class StepScopeTests {
 		assertEquals("foo", scopes[0]);
 	}
 
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void testCreatingScopedObjectsDoesNotPinVirtualThreads() throws Exception {
+		VirtualThreadPinningTestUtils.assertCreatingScopedObjectsDoesNotPin(scope,
+				() -> StepSynchronizationManager.register(stepExecution), StepSynchronizationManager::close);
+	}
+
 }
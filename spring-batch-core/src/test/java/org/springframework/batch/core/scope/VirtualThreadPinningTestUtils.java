@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.scope;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.springframework.beans.factory.config.Scope;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Assertions on the behavior of batch scopes on virtual threads. Requires Java 21.
+ */
+final class VirtualThreadPinningTestUtils {
+
+	private VirtualThreadPinningTestUtils() {
+	}
+
+	/**
+	 * Create scoped objects concurrently on virtual threads, blocking while each object
+	 * is being created, and assert that no virtual thread was pinned meanwhile.
+	 * @param scope the scope to create the objects in
+	 * @param register registers the scope context on the current thread
+	 * @param close closes the scope context of the current thread
+	 */
+	static void assertCreatingScopedObjectsDoesNotPin(Scope scope, Runnable register, Runnable close) throws Exception {
+		VirtualThreadTaskExecutor taskExecutor = new VirtualThreadTaskExecutor("scope-");
+		List<Future<Object>> futures = new ArrayList<>();
+		Path recordingFile = Files.createTempFile("scope", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+			recording.start();
+			for (int i = 0; i < 4; i++) {
+				String name = "foo" + i;
+				futures.add(taskExecutor.submit(() -> {
+					register.run();
+					try {
+						// blocking while the scoped object is being created
+						return scope.get(name, () -> {
+							try {
+								Thread.sleep(20);
+							}
+							catch (InterruptedException e) {
+								Thread.currentThread().interrupt();
+							}
+							return name;
+						});
+					}
+					finally {
+						close.run();
+					}
+				}));
+			}
+			for (Future<Object> future : futures) {
+				assertNotNull(future.get());
+			}
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+		try {
+			List<RecordedEvent> pinnedEvents = RecordingFile.readAllEvents(recordingFile);
+			assertTrue(pinnedEvents.isEmpty(), "Virtual threads were pinned: " + pinnedEvents);
+		}
+		finally {
+			Files.deleteIfExists(recordingFile);
+		}
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.step.StepExecution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveChunkSizePolicyTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(Duration.ofMillis(100));
+
+	private final StepExecution stepExecution = new StepExecution(1L, "step",
+			new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters()));
+
+	@BeforeEach
+	void setUp() {
+		this.policy.setMeterRegistry(this.meterRegistry);
+	}
+
+	@Test
+	void testInitialChunkSize() {
+		this.policy.open(this.stepExecution, 10);
+
+		assertEquals(10, this.policy.getChunkSize(this.stepExecution));
+	}
+
+	@Test
+	void testChunkSizeGrowsAtMostTwofoldPerChunk() {
+		this.policy.open(this.stepExecution, 10);
+
+		// 1ms per item, 100 items would fit in the target duration
+		this.policy.onCommit(this.stepExecution, 10, Duration.ofMillis(10));
+		assertEquals(20, this.policy.getChunkSize(this.stepExecution));
+		this.policy.onCommit(this.stepExecution, 20, Duration.ofMillis(20));
+		assertEquals(40, this.policy.getChunkSize(this.stepExecution));
+		this.policy.onCommit(this.stepExecution, 40, Duration.ofMillis(40));
+		assertEquals(80, this.policy.getChunkSize(this.stepExecution));
+		this.policy.onCommit(this.stepExecution, 80, Duration.ofMillis(80));
+		assertEquals(100, this.policy.getChunkSize(this.stepExecution));
+		this.policy.onCommit(this.stepExecution, 100, Duration.ofMillis(100));
+		assertEquals(100, this.policy.getChunkSize(this.stepExecution));
+	}
+
+	@Test
+	void testChunkSizeShrinksWhenChunksAreSlow() {
+		this.policy.open(this.stepExecution, 100);
+
+		// 4ms per item, 25 items would fit in the target duration
+		this.policy.onCommit(this.stepExecution, 100, Duration.ofMillis(400));
+		assertEquals(50, this.policy.getChunkSize(this.stepExecution));
+		this.policy.onCommit(this.stepExecution, 50, Duration.ofMillis(200));
+		assertEquals(25, this.policy.getChunkSize(this.stepExecution));
+	}
+
+	@Test
+	void testChunkSizeBacksOffAfterRollback() {
+		this.policy.setBackoffFactor(0.25);
+		this.policy.open(this.stepExecution, 100);
+
+		this.policy.onRollback(this.stepExecution, 100, Duration.ofMillis(10));
+
+		assertEquals(25, this.policy.getChunkSize(this.stepExecution));
+	}
+
+	@Test
+	void testChunkSizeIsKeptWithinBounds() {
+		this.policy.setMinChunkSize(5);
+		this.policy.setMaxChunkSize(15);
+		this.policy.open(this.stepExecution, 20);
+		assertEquals(15, this.policy.getChunkSize(this.stepExecution));
+
+		this.policy.onCommit(this.stepExecution, 15, Duration.ofMillis(1));
+		assertEquals(15, this.policy.getChunkSize(this.stepExecution));
+		this.policy.onRollback(this.stepExecution, 15, Duration.ofMillis(1));
+		this.policy.onRollback(this.stepExecution, 7, Duration.ofMillis(1));
+		assertEquals(5, this.policy.getChunkSize(this.stepExecution));
+	}
+
+	@Test
+	void testEmptyChunkIsIgnored() {
+		this.policy.open(this.stepExecution, 10);
+
+		this.policy.onCommit(this.stepExecution, 0, Duration.ofMillis(10));
+
+		assertEquals(10, this.policy.getChunkSize(this.stepExecution));
+	}
+
+	@Test
+	void testChunkSizeGauge() {
+		this.policy.open(this.stepExecution, 10);
+		this.policy.onCommit(this.stepExecution, 10, Duration.ofMillis(10));
+
+		Gauge gauge = this.meterRegistry.get("spring.batch.step.chunk.size")
+			.tag("spring.batch.step.chunk.size.job.name", "job")
+			.tag("spring.batch.step.chunk.size.step.name", "step")
+			.gauge();
+		assertEquals(20, gauge.value());
+
+		this.policy.close(this.stepExecution);
+		assertNull(this.meterRegistry.find("spring.batch.step.chunk.size").gauge());
+	}
+
+	@Test
+	void testChunkSizeIsAdaptedPerStepExecution() {
+		StepExecution partition = new StepExecution(2L, "step:partition1", this.stepExecution.getJobExecution());
+		this.policy.open(this.stepExecution, 10);
+		this.policy.open(partition, 10);
+
+		this.policy.onCommit(this.stepExecution, 10, Duration.ofMillis(10));
+		this.policy.onRollback(partition, 10, Duration.ofMillis(10));
+
+		assertEquals(20, this.policy.getChunkSize(this.stepExecution));
+		assertEquals(5, this.policy.getChunkSize(partition));
+		assertEquals(2, this.meterRegistry.find("spring.batch.step.chunk.size").gauges().size());
+
+		this.policy.close(partition);
+		assertEquals(20, this.policy.getChunkSize(this.stepExecution));
+		assertEquals(1, this.meterRegistry.find("spring.batch.step.chunk.size").gauges().size());
+		assertThrows(IllegalStateException.class, () -> this.policy.getChunkSize(partition));
+	}
+
+	@Test
+	void testChunkSizeGaugeIsSharedByExecutionsOfTheSameStep() {
+		StepExecution otherExecution = new StepExecution(2L, "step",
+				new JobExecution(2L, new JobInstance(2L, "job"), new JobParameters()));
+		this.policy.open(this.stepExecution, 10);
+		this.policy.open(otherExecution, 10);
+
+		this.policy.onRollback(otherExecution, 10, Duration.ofMillis(10));
+
+		Gauge gauge = this.meterRegistry.get("spring.batch.step.chunk.size").gauge();
+		assertEquals(1, this.meterRegistry.find("spring.batch.step.chunk.size").gauges().size());
+		assertEquals(5, gauge.value());
+		assertEquals(10, this.policy.getChunkSize(this.stepExecution));
+
+		this.policy.close(otherExecution);
+		this.policy.onCommit(this.stepExecution, 10, Duration.ofMillis(10));
+		assertEquals(20, gauge.value());
+
+		this.policy.close(this.stepExecution);
+		assertNull(this.meterRegistry.find("spring.batch.step.chunk.size").gauge());
+	}
+
+	@Test
+	void testInvalidTargetDuration() {
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveChunkSizePolicy(Duration.ZERO));
+	}
+
+}
@@ -15,18 +15,28 @@
  */
 package org.springframework.batch.core.step.item;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.listener.ChunkListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.core.step.FatalStepExecutionException;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.step.builder.ChunkOrientedStepBuilder;
@@ -34,6 +44,7 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.skip.NeverSkipItemSkipPolicy;
 import org.springframework.batch.core.step.skip.NonSkippableProcessException;
 import org.springframework.batch.infrastructure.item.*;
+import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.batch.infrastructure.item.support.ListItemReader;
 import org.springframework.batch.infrastructure.item.support.ListItemWriter;
 import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
@@ -509,4 +520,360 @@ public class ChunkOrientedStepTests {
 				"Sequential mode should have accurate process skip count");
 	}
 
+	@Test
+	void testPipelinedModeReadsProcessesAndWritesAllItems() throws Exception {
+		// given
+		ListItemStreamReader reader = new ListItemStreamReader(List.of("1", "2", "3", "4", "5"));
+		ListItemWriter<String> writer = new ListItemWriter<>();
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStep<>("step", 2, reader, writer, jobRepository);
+		step.setItemProcessor(item -> item + item);
+		step.setPipelineTaskExecutor(new SimpleAsyncTaskExecutor());
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		assertEquals(List.of("11", "22", "33", "44", "55"), writer.getWrittenItems());
+		assertEquals(5, stepExecution.getReadCount());
+		assertEquals(5, stepExecution.getWriteCount());
+		assertEquals(3, stepExecution.getCommitCount());
+	}
+
+	@Test
+	void testPipelinedModeWithProcessAhead() throws Exception {
+		// given
+		ListItemStreamReader reader = new ListItemStreamReader(List.of("1", "2", "3", "4", "5"));
+		ListItemWriter<String> writer = new ListItemWriter<>();
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStep<>("step", 2, reader, writer, jobRepository);
+		step.setItemProcessor(item -> item.equals("3") ? null : item);
+		step.setPipelineTaskExecutor(new SimpleAsyncTaskExecutor());
+		step.setProcessAhead(true);
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		assertEquals(List.of("1", "2", "4", "5"), writer.getWrittenItems());
+		assertEquals(5, stepExecution.getReadCount());
+		assertEquals(1, stepExecution.getFilterCount());
+		assertEquals(4, stepExecution.getWriteCount());
+	}
+
+	@Test
+	void testPipelinedModeSavesReaderStateOfLastCommittedChunk() throws Exception {
+		// given
+		ListItemStreamReader reader = new ListItemStreamReader(List.of("1", "2", "3", "4", "5", "6"));
+		ItemWriter<String> writer = chunk -> {
+			if (chunk.getItems().contains("3")) {
+				throw new Exception("Expected failure");
+			}
+		};
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStep<>("step", 2, reader, writer, jobRepository);
+		step.setPipelineTaskExecutor(new SimpleAsyncTaskExecutor());
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(1, stepExecution.getCommitCount());
+		assertEquals(2, stepExecution.getExecutionContext().getInt("reader.read.count"));
+	}
+
+	@Test
+	void testPipelinedModeRestartsAfterLastCommittedChunkWithWrappedReader() throws Exception {
+		// given
+		List<String> items = List.of("1", "2", "3", "4", "5", "6");
+		ListItemStreamReader delegate = new ListItemStreamReader(items);
+		ItemReader<String> reader = delegate::read;
+		ItemWriter<String> writer = chunk -> {
+			if (chunk.getItems().contains("3")) {
+				throw new Exception("Expected failure");
+			}
+		};
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStep<>("step", 2, reader, writer, jobRepository);
+		step.registerItemStream(delegate);
+		step.setPipelineTaskExecutor(new SimpleAsyncTaskExecutor());
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(2, stepExecution.getExecutionContext().getInt("reader.read.count"));
+
+		// given
+		ListItemStreamReader restartedDelegate = new ListItemStreamReader(items);
+		ItemReader<String> restartedReader = restartedDelegate::read;
+		ListItemWriter<String> restartedWriter = new ListItemWriter<>();
+		ChunkOrientedStep<String, String> restartedStep = new ChunkOrientedStep<>("step", 2, restartedReader,
+				restartedWriter, jobRepository);
+		restartedStep.registerItemStream(restartedDelegate);
+		restartedStep.setPipelineTaskExecutor(new SimpleAsyncTaskExecutor());
+		restartedStep.afterPropertiesSet();
+		JobExecution restartedJobExecution = new JobExecution(2L, jobInstance, new JobParameters());
+		StepExecution restartedStepExecution = new StepExecution(2L, "step", restartedJobExecution);
+		restartedStepExecution.setExecutionContext(new ExecutionContext(stepExecution.getExecutionContext()));
+
+		// when
+		restartedStep.execute(restartedStepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, restartedStepExecution.getExitStatus());
+		assertEquals(List.of("3", "4", "5", "6"), restartedWriter.getWrittenItems());
+	}
+
+	@Test
+	void testPipelinedModeSavesReaderStateOfScannedChunkWithWrappedReader() throws Exception {
+		// given
+		ListItemStreamReader delegate = new ListItemStreamReader(List.of("1", "2", "3", "4", "5", "6", "7", "8"));
+		ItemReader<String> reader = delegate::read;
+		List<String> writtenItems = new ArrayList<>();
+		ItemWriter<String> writer = chunk -> {
+			if (chunk.getItems().contains("3")) {
+				throw new IllegalStateException("Expected skippable failure");
+			}
+			if (chunk.getItems().contains("5")) {
+				throw new Exception("Expected fatal failure");
+			}
+			writtenItems.addAll(chunk.getItems());
+		};
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStep<>("step", 2, reader, writer, jobRepository);
+		step.registerItemStream(delegate);
+		step.setPipelineTaskExecutor(new SimpleAsyncTaskExecutor());
+		step.setFaultTolerant(true);
+		step.setSkipPolicy((throwable, skipCount) -> throwable instanceof IllegalStateException);
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(List.of("1", "2", "4"), writtenItems);
+		assertEquals(1, stepExecution.getWriteSkipCount());
+		// the state of the scanned chunk, not the state of the chunk read ahead
+		assertEquals(4, stepExecution.getExecutionContext().getInt("reader.read.count"));
+	}
+
+	@Test
+	void testPipelinedModeAndConcurrentProcessingAreMutuallyExclusive() {
+		// given
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStep<>("step", 2, new ListItemReader<>(List.of("1")),
+				chunk -> {
+				}, new ResourcelessJobRepository());
+		step.setPipelineTaskExecutor(new SimpleAsyncTaskExecutor());
+		step.setTaskExecutor(new SimpleAsyncTaskExecutor());
+
+		// when & then
+		Assertions.assertThrows(IllegalStateException.class, step::afterPropertiesSet);
+	}
+
+	@Test
+	void testConcurrentModeProcessesBatchesInOrderWithBoundedConcurrency() throws Exception {
+		// given
+		List<Integer> items = IntStream.rangeClosed(1, 20).boxed().toList();
+		ListItemWriter<Integer> writer = new ListItemWriter<>();
+		AtomicInteger inFlightItems = new AtomicInteger();
+		AtomicInteger maxInFlightItems = new AtomicInteger();
+		ItemProcessor<Integer, Integer> processor = item -> {
+			maxInFlightItems.accumulateAndGet(inFlightItems.incrementAndGet(), Math::max);
+			Thread.sleep(5);
+			inFlightItems.decrementAndGet();
+			return item % 5 == 0 ? null : item * 10;
+		};
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>("step", 10, new ListItemReader<>(items),
+				writer, jobRepository);
+		step.setItemProcessor(processor);
+		step.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		step.setConcurrencyLimit(2);
+		step.setProcessingBatchSize(3);
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		List<Integer> expectedItems = items.stream().filter(item -> item % 5 != 0).map(item -> item * 10).toList();
+		assertEquals(expectedItems, writer.getWrittenItems());
+		assertEquals(4, stepExecution.getFilterCount());
+		Assertions.assertTrue(maxInFlightItems.get() <= 2, "At most 2 items should be processed at the same time");
+	}
+
+	@Test
+	void testConcurrentModeScansChunkAfterWriteFailure() throws Exception {
+		// given
+		ListItemReader<String> reader = new ListItemReader<>(List.of("1", "2", "3"));
+		List<String> writtenItems = new ArrayList<>();
+		ItemWriter<String> writer = chunk -> {
+			if (chunk.getItems().contains("2")) {
+				throw new IllegalStateException("Expected failure");
+			}
+			writtenItems.addAll(chunk.getItems());
+		};
+		AtomicInteger chunkErrors = new AtomicInteger();
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStep<>("step", 3, reader, writer, jobRepository);
+		step.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		step.setFaultTolerant(true);
+		step.setSkipPolicy((throwable, skipCount) -> throwable instanceof IllegalStateException);
+		step.registerChunkListener(new ChunkListener<>() {
+			@Override
+			public void onChunkError(Exception exception, Chunk<String> chunk) {
+				chunkErrors.incrementAndGet();
+			}
+		});
+		step.afterPropertiesSet();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		assertEquals(List.of("1", "3"), writtenItems);
+		assertEquals(1, stepExecution.getWriteSkipCount());
+		assertEquals(0, chunkErrors.get());
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void testConcurrentModeWithVirtualThreads() throws Exception {
+		// given
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		ItemProcessor<String, String> processor = item -> {
+			// step scoped beans must be resolvable from virtual threads
+			Assertions.assertNotNull(StepSynchronizationManager.getContext());
+			threadNames.add(Thread.currentThread().getName());
+			return item;
+		};
+		ListItemWriter<String> writer = new ListItemWriter<>();
+		ChunkOrientedStep<String, String> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<String, String>chunk(3)
+			.reader(new ListItemReader<>(List.of("1", "2", "3", "4", "5")))
+			.processor(processor)
+			.writer(writer)
+			.virtualThreads()
+			.build();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		assertEquals(List.of("1", "2", "3", "4", "5"), writer.getWrittenItems());
+		Assertions.assertFalse(threadNames.isEmpty());
+		Assertions.assertTrue(threadNames.stream().allMatch(threadName -> threadName.startsWith("step-")));
+	}
+
+	@Test
+	void testChunkSizePolicy() throws Exception {
+		// given
+		List<Integer> chunkSizes = new ArrayList<>();
+		List<Integer> reportedItemCounts = new ArrayList<>();
+		ChunkSizePolicy chunkSizePolicy = new ChunkSizePolicy() {
+
+			private int chunkSize;
+
+			@Override
+			public void open(StepExecution stepExecution, int chunkSize) {
+				this.chunkSize = chunkSize;
+			}
+
+			@Override
+			public int getChunkSize(StepExecution stepExecution) {
+				return this.chunkSize;
+			}
+
+			@Override
+			public void onCommit(StepExecution stepExecution, int itemCount, Duration duration) {
+				reportedItemCounts.add(itemCount);
+				this.chunkSize++;
+			}
+
+			@Override
+			public void onRollback(StepExecution stepExecution, int itemCount, Duration duration) {
+			}
+
+		};
+		ChunkOrientedStep<String, String> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<String, String>chunk(1)
+			.reader(new ListItemReader<>(List.of("1", "2", "3", "4", "5", "6")))
+			.writer(chunk -> chunkSizes.add(chunk.size()))
+			.chunkSizePolicy(chunkSizePolicy)
+			.build();
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		assertEquals(List.of(1, 2, 3), chunkSizes);
+		assertEquals(List.of(1, 2, 3, 0), reportedItemCounts);
+	}
+
+	private static class ListItemStreamReader extends AbstractItemCountingItemStreamItemReader<String> {
+
+		private final List<String> items;
+
+		ListItemStreamReader(List<String> items) {
+			this.items = items;
+			setName("reader");
+		}
+
+		@Override
+		protected @Nullable String doRead() {
+			int index = getCurrentItemCount() - 1;
+			return index < this.items.size() ? this.items.get(index) : null;
+		}
+
+		@Override
+		protected void doOpen() {
+		}
+
+		@Override
+		protected void doClose() {
+		}
+
+	}
+
 }
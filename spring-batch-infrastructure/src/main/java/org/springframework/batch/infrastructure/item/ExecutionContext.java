@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.batch.infrastructure.item;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -28,7 +29,8 @@ import org.jspecify.annotations.Nullable;
 /**
  * Object representing a context for an {@link ItemStream}. It is a thin wrapper for a map
  * that allows optionally for type safety on reads. It also allows for dirty checking by
- * setting a 'dirty' flag whenever any put is called.
+ * setting a 'dirty' flag whenever any put is called. The keys changed since the flag was
+ * last cleared are tracked as well, see {@link #getChangedKeys()}.
  * <p>
  * Non-transient entries should be serializable, otherwise a custom serializer should be
  * used. Note that putting <code>null</code> value is equivalent to removing the entry for
@@ -43,6 +45,8 @@ public class ExecutionContext implements Serializable {
 
 	private volatile boolean dirty = false;
 
+	private final Set<String> changedKeys = ConcurrentHashMap.newKeySet();
+
 	private final Map<String, Object> map;
 
 	/**
@@ -125,11 +129,17 @@ public class ExecutionContext implements Serializable {
 	public void put(String key, @Nullable Object value) {
 		if (value != null) {
 			Object result = this.map.put(key, value);
-			this.dirty = this.dirty || result == null || !result.equals(value);
+			if (result == null || !result.equals(value)) {
+				this.changedKeys.add(key);
+				this.dirty = true;
+			}
 		}
 		else {
 			Object result = this.map.remove(key);
-			this.dirty = this.dirty || result != null;
+			if (result != null) {
+				this.changedKeys.add(key);
+				this.dirty = true;
+			}
 		}
 	}
 
@@ -328,10 +338,34 @@ public class ExecutionContext implements Serializable {
 	}
 
 	/**
-	 * Clears the dirty flag.
+	 * Returns the keys whose value was added, changed or removed since the dirty flag was
+	 * last cleared. A key that is no longer present in the context was removed.
+	 * @return an immutable snapshot of the changed keys
+	 * @since 6.1
+	 */
+	public Set<String> getChangedKeys() {
+		return Set.copyOf(this.changedKeys);
+	}
+
+	/**
+	 * Marks the given keys as changed and the context as dirty, for example because the
+	 * write of their previous changes has been rolled back.
+	 * @param keys the keys to mark as changed
+	 * @since 6.1
+	 */
+	public void markChanged(Collection<String> keys) {
+		if (!keys.isEmpty()) {
+			this.changedKeys.addAll(keys);
+			this.dirty = true;
+		}
+	}
+
+	/**
+	 * Clears the dirty flag and the set of changed keys.
 	 */
 	public void clearDirtyFlag() {
 		this.dirty = false;
+		this.changedKeys.clear();
 	}
 
 	/**
@@ -371,7 +405,12 @@ public class ExecutionContext implements Serializable {
 	 * @see java.util.Map#remove(Object)
 	 */
 	public @Nullable Object remove(String key) {
-		return this.map.remove(key);
+		Object result = this.map.remove(key);
+		if (result != null) {
+			this.changedKeys.add(key);
+			this.dirty = true;
+		}
+		return result;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2025 the original author or authors.
+ * Copyright 2012-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package org.springframework.batch.infrastructure.item.data;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.Lock;
@@ -28,14 +29,19 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.adapter.AbstractMethodInvokingDelegator.InvocationTargetThrowableWrapper;
 import org.springframework.batch.infrastructure.item.adapter.DynamicMethodInvocationException;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -59,6 +65,15 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * By default, pages are requested with a {@link Pageable}, which usually translates to an
+ * offset query. When {@link #setKeysetPagination(boolean) keyset pagination} is enabled,
+ * pages are requested with a {@link KeysetScrollPosition} instead, so that each page
+ * starts right after the last item of the previous page. The keys of the last read
+ * position are saved in the execution context so that a restart resumes from the last
+ * committed item.
+ * </p>
+ *
+ * <p>
  * This implementation is thread-safe between calls to {@link #open(ExecutionContext)},
  * but remember to use <code>saveState=false</code> if used in a multi-threaded client (no
  * restart available).
@@ -84,6 +99,8 @@ import org.springframework.util.StringUtils;
  */
 public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> implements InitializingBean {
 
+	private static final String START_AFTER_VALUE = "start.after";
+
 	protected Log logger = LogFactory.getLog(getClass());
 
 	private PagingAndSortingRepository<?, ?> repository;
@@ -104,6 +121,12 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 
 	private @Nullable String methodName;
 
+	private boolean keysetPagination = false;
+
+	private volatile @Nullable Map<String, Object> startAfterValues;
+
+	private volatile @Nullable Map<String, Object> previousStartAfterValues;
+
 	/**
 	 * Create a new {@link RepositoryItemReader}.
 	 * @param repository the {@link PagingAndSortingRepository} to use
@@ -159,6 +182,19 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 		this.methodName = methodName;
 	}
 
+	/**
+	 * Set whether pages should be requested with keyset pagination rather than with a
+	 * {@link Pageable}. When enabled, the repository method must take a
+	 * {@link ScrollPosition}, a {@link Sort} and a {@link Limit} as its <em>last</em>
+	 * arguments, and return a {@link Window}. The sort must uniquely identify an item, so
+	 * the last sort property is typically the identifier. Defaults to {@code false}.
+	 * @param keysetPagination whether to use keyset pagination
+	 * @since 6.1
+	 */
+	public void setKeysetPagination(boolean keysetPagination) {
+		this.keysetPagination = keysetPagination;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(pageSize > 0, "Page size must be greater than 0");
@@ -228,9 +264,6 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 	 */
 	@SuppressWarnings("unchecked")
 	protected List<T> doPageRead() throws Exception {
-		@SuppressWarnings("DataFlowIssue")
-		Pageable pageRequest = PageRequest.of(page, pageSize, convertToSort(sorts));
-
 		@SuppressWarnings("DataFlowIssue")
 		MethodInvoker invoker = createMethodInvoker(repository, methodName);
 
@@ -240,6 +273,13 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 			parameters.addAll(arguments);
 		}
 
+		if (keysetPagination) {
+			return doWindowRead(invoker, parameters);
+		}
+
+		@SuppressWarnings("DataFlowIssue")
+		Pageable pageRequest = PageRequest.of(page, pageSize, convertToSort(sorts));
+
 		parameters.add(pageRequest);
 
 		invoker.setArguments(parameters.toArray());
@@ -249,6 +289,58 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 		return curPage.getContent();
 	}
 
+	@SuppressWarnings("unchecked")
+	private List<T> doWindowRead(MethodInvoker invoker, List<Object> parameters) throws Exception {
+		Map<String, Object> keys = startAfterValues;
+		previousStartAfterValues = keys;
+		ScrollPosition position = (keys == null || keys.isEmpty()) ? ScrollPosition.keyset()
+				: ScrollPosition.forward(keys);
+
+		parameters.add(position);
+		parameters.add(convertToSort(sorts));
+		parameters.add(Limit.of(pageSize));
+
+		invoker.setArguments(parameters.toArray());
+
+		Window<T> window = (Window<T>) doInvoke(invoker);
+
+		if (!window.isEmpty()) {
+			ScrollPosition lastPosition = window.positionAt(window.size() - 1);
+			Assert.state(lastPosition instanceof KeysetScrollPosition,
+					"Keyset pagination requires the repository to return keyset scroll positions");
+			startAfterValues = new LinkedHashMap<>(((KeysetScrollPosition) lastPosition).getKeys());
+		}
+
+		return window.getContent();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) {
+		if (isSaveState() && keysetPagination) {
+			startAfterValues = (Map<String, Object>) executionContext.get(getExecutionContextKey(START_AFTER_VALUE));
+		}
+
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && keysetPagination) {
+			Map<String, Object> keys = startAfterValues;
+			Map<String, Object> previousKeys = previousStartAfterValues;
+			if (getCurrentItemCount() % pageSize == 0 && keys != null) {
+				// restart on next page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), keys);
+			}
+			else if (previousKeys != null) {
+				// restart on current page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), previousKeys);
+			}
+		}
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 	}
@@ -260,6 +352,8 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 			current = 0;
 			page = 0;
 			results = null;
+			startAfterValues = null;
+			previousStartAfterValues = null;
 		}
 		finally {
 			this.lock.unlock();
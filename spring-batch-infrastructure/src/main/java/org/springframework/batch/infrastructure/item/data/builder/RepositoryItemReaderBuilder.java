@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2025 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -60,6 +60,8 @@ public class RepositoryItemReaderBuilder<T> {
 
 	private int currentItemCount;
 
+	private boolean keysetPagination;
+
 	/**
 	 * Configure if the state of the {@link ItemStreamSupport} should be persisted within
 	 * the {@link ExecutionContext} for restart purposes.
@@ -183,6 +185,23 @@ public class RepositoryItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Request pages with keyset pagination rather than with a
+	 * {@link org.springframework.data.domain.Pageable}. The repository method must then
+	 * take a {@link org.springframework.data.domain.ScrollPosition}, a {@link Sort} and a
+	 * {@link org.springframework.data.domain.Limit} as its <em>last</em> arguments and
+	 * return a {@link org.springframework.data.domain.Window}.
+	 * @param keysetPagination whether to use keyset pagination. Defaults to false.
+	 * @return The current instance of the builder.
+	 * @see RepositoryItemReader#setKeysetPagination(boolean)
+	 * @since 6.1
+	 */
+	public RepositoryItemReaderBuilder<T> keysetPagination(boolean keysetPagination) {
+		this.keysetPagination = keysetPagination;
+
+		return this;
+	}
+
 	/**
 	 * Builds the {@link RepositoryItemReader}.
 	 * @return a {@link RepositoryItemReader}
@@ -206,6 +225,7 @@ public class RepositoryItemReaderBuilder<T> {
 		reader.setCurrentItemCount(this.currentItemCount);
 		reader.setMaxItemCount(this.maxItemCount);
 		reader.setSaveState(this.saveState);
+		reader.setKeysetPagination(this.keysetPagination);
 		if (this.name != null) {
 			reader.setName(this.name);
 		}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Strategy used by the {@link JdbcBulkItemWriter} to insert rows in a table with as few
+ * round trips to the database as possible.
+ *
+ * @since 6.1
+ * @see org.springframework.batch.infrastructure.item.database.support.MultiRowInsertDialect
+ * @see org.springframework.batch.infrastructure.item.database.support.PostgresCopyInsertDialect
+ * @see org.springframework.batch.infrastructure.item.database.support.JdbcBatchInsertDialect
+ */
+public interface BulkInsertDialect {
+
+	/**
+	 * Insert rows in a table.
+	 * @param connection the connection to use, bound to the current transaction if any.
+	 * It must not be closed.
+	 * @param tableName the name of the table
+	 * @param columnNames the names of the columns
+	 * @param rows the values of each row, in the order of the column names
+	 * @return the update count of each row, which can be
+	 * {@link java.sql.Statement#SUCCESS_NO_INFO} if the count of a row is not known
+	 * @throws SQLException if the rows cannot be inserted
+	 */
+	int[] insert(Connection connection, String tableName, String[] columnNames, List<Object[]> rows)
+			throws SQLException;
+
+}
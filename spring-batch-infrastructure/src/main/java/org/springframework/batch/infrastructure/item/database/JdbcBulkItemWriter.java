@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.batch.infrastructure.item.database.support.JdbcBatchInsertDialect;
+import org.springframework.batch.infrastructure.item.database.support.MultiRowInsertDialect;
+import org.springframework.batch.infrastructure.item.database.support.PostgresCopyInsertDialect;
+import org.springframework.batch.infrastructure.item.file.transform.FieldExtractor;
+import org.springframework.batch.infrastructure.support.DatabaseType;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * <p>
+ * {@link ItemWriter} that inserts items in a table with a {@link BulkInsertDialect},
+ * which sends many rows to the database at once instead of relying on JDBC batching (that
+ * some drivers still execute row by row).
+ * </p>
+ *
+ * The user must provide the name of the table, the names of its columns and a
+ * {@link FieldExtractor} returning the values of these columns for an item. If no
+ * {@link BulkInsertDialect} is set, it is detected from the database: the {@code COPY}
+ * protocol is used for PostgreSQL (if the PostgreSQL driver is available), multi-row
+ * insert statements for the databases that support them, and JDBC batches otherwise.<br>
+ *
+ * As with the {@link JdbcBatchItemWriter}, an update count is reported for each item,
+ * which can be checked with {@link #setAssertUpdates(boolean)} and post processed in
+ * {@link #processUpdateCounts(int[])}.<br>
+ *
+ * It is expected that {@link #write(Chunk)} is called inside a transaction.<br>
+ *
+ * The writer is thread-safe after its properties are set (normal singleton behavior), so
+ * it can be used to write in multiple concurrent transactions.
+ *
+ * @param <T> type of items to write
+ * @since 6.1
+ * @see JdbcBatchItemWriter
+ */
+public class JdbcBulkItemWriter<T> implements ItemWriter<T>, InitializingBean {
+
+	protected static final Log logger = LogFactory.getLog(JdbcBulkItemWriter.class);
+
+	private static final boolean POSTGRES_DRIVER_PRESENT = ClassUtils.isPresent("org.postgresql.PGConnection",
+			JdbcBulkItemWriter.class.getClassLoader());
+
+	protected @Nullable JdbcOperations jdbcTemplate;
+
+	protected @Nullable DataSource dataSource;
+
+	protected @Nullable String tableName;
+
+	protected String @Nullable [] columnNames;
+
+	protected @Nullable FieldExtractor<T> fieldExtractor;
+
+	protected @Nullable BulkInsertDialect bulkInsertDialect;
+
+	protected boolean assertUpdates = true;
+
+	/**
+	 * Public setter for the flag that determines whether an assertion is made that all
+	 * items cause at least one row to be updated.
+	 * @param assertUpdates the flag to set. Defaults to true;
+	 */
+	public void setAssertUpdates(boolean assertUpdates) {
+		this.assertUpdates = assertUpdates;
+	}
+
+	/**
+	 * Public setter for the name of the table to insert items in.
+	 * @param tableName the name of the table
+	 */
+	public void setTableName(String tableName) {
+		this.tableName = tableName;
+	}
+
+	/**
+	 * Public setter for the names of the columns to insert values in.
+	 * @param columnNames the names of the columns
+	 */
+	public void setColumnNames(String... columnNames) {
+		this.columnNames = columnNames.clone();
+	}
+
+	/**
+	 * Public setter for the {@link FieldExtractor} returning the values of the columns
+	 * for an item, in the order of the column names.
+	 * @param fieldExtractor the {@link FieldExtractor} to set
+	 */
+	public void setFieldExtractor(FieldExtractor<T> fieldExtractor) {
+		this.fieldExtractor = fieldExtractor;
+	}
+
+	/**
+	 * Public setter for the {@link BulkInsertDialect}. Detected from the database if not
+	 * set.
+	 * @param bulkInsertDialect the {@link BulkInsertDialect} to set
+	 */
+	public void setBulkInsertDialect(BulkInsertDialect bulkInsertDialect) {
+		this.bulkInsertDialect = bulkInsertDialect;
+	}
+
+	/**
+	 * Public setter for the data source for injection purposes.
+	 * @param dataSource {@link javax.sql.DataSource} to use for inserting items
+	 */
+	public void setDataSource(DataSource dataSource) {
+		this.dataSource = dataSource;
+		if (this.jdbcTemplate == null) {
+			this.jdbcTemplate = new JdbcTemplate(dataSource);
+		}
+	}
+
+	/**
+	 * Public setter for the {@link JdbcOperations}.
+	 * @param jdbcTemplate the {@link JdbcOperations} to set
+	 */
+	public void setJdbcTemplate(JdbcOperations jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Check mandatory properties - there must be a JdbcOperations, a table name, column
+	 * names and a field extractor. Detect the {@link BulkInsertDialect} if needed.
+	 */
+	@Override
+	public void afterPropertiesSet() throws MetaDataAccessException {
+		Assert.state(this.jdbcTemplate != null, "A DataSource or a JdbcTemplate is required.");
+		Assert.state(this.tableName != null, "A table name is required.");
+		Assert.state(this.columnNames != null && this.columnNames.length > 0, "Column names are required.");
+		Assert.state(this.fieldExtractor != null, "A FieldExtractor is required.");
+		if (this.bulkInsertDialect == null) {
+			DataSource dataSource = this.dataSource;
+			if (dataSource == null && this.jdbcTemplate instanceof JdbcTemplate template) {
+				dataSource = template.getDataSource();
+			}
+			this.bulkInsertDialect = dataSource != null ? getBulkInsertDialect(DatabaseType.fromMetaData(dataSource))
+					: new JdbcBatchInsertDialect();
+		}
+	}
+
+	/**
+	 * Return the {@link BulkInsertDialect} to use for a type of database.
+	 * @param databaseType the type of database
+	 * @return the {@link BulkInsertDialect} to use
+	 */
+	protected BulkInsertDialect getBulkInsertDialect(DatabaseType databaseType) {
+		return switch (databaseType) {
+			case POSTGRES ->
+				POSTGRES_DRIVER_PRESENT ? new PostgresCopyInsertDialect() : new MultiRowInsertDialect(65535);
+			case MYSQL, MARIADB -> new MultiRowInsertDialect(65535);
+			case SQLSERVER -> new MultiRowInsertDialect(2100 - 1);
+			case SQLITE -> new MultiRowInsertDialect(32766);
+			case H2, HSQL, DERBY, DB2, DB2VSE, DB2ZOS, DB2AS400 -> new MultiRowInsertDialect();
+			default -> new JdbcBatchInsertDialect();
+		};
+	}
+
+	@SuppressWarnings("DataFlowIssue")
+	@Override
+	public void write(Chunk<? extends T> chunk) throws Exception {
+
+		if (!chunk.isEmpty()) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Inserting " + chunk.size() + " items.");
+			}
+
+			List<Object[]> rows = new ArrayList<>(chunk.size());
+			for (T item : chunk) {
+				Object[] row = this.fieldExtractor.extract(item);
+				Assert.state(row.length == this.columnNames.length, () -> "Expected " + this.columnNames.length
+						+ " values but the FieldExtractor returned " + row.length + " for item: [" + item + "]");
+				rows.add(row);
+			}
+
+			int[] updateCounts = this.jdbcTemplate
+				.execute((ConnectionCallback<int[]>) connection -> this.bulkInsertDialect.insert(connection,
+						this.tableName, this.columnNames, rows));
+
+			if (this.assertUpdates) {
+				for (int i = 0; i < updateCounts.length; i++) {
+					int value = updateCounts[i];
+					if (value == 0) {
+						throw new EmptyResultDataAccessException("Item " + i + " of " + updateCounts.length
+								+ " did not update any rows: [" + chunk.getItems().get(i) + "]", 1);
+					}
+				}
+			}
+
+			processUpdateCounts(updateCounts);
+		}
+	}
+
+	/**
+	 * Extension point to post process the update counts for each item.
+	 * @param updateCounts the array of update counts for each item
+	 */
+	protected void processUpdateCounts(int[] updateCounts) {
+		// No Op
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,11 @@
 package org.springframework.batch.infrastructure.item.database;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.persistence.EntityManager;
@@ -30,7 +33,9 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.database.orm.JpaQueryProvider;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -72,6 +77,15 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * By default, pages are read with an offset ({@code setFirstResult}), which requires the
+ * database to scan all the rows of the previous pages. When {@link #setSortKeys(Map) sort
+ * keys} are set, pages are read with keyset (seek) pagination instead: each page starts
+ * right after the sort key values of the last item of the previous page, like in the
+ * {@link JdbcPagingItemReader}. These values are saved in the execution context so that a
+ * restart resumes from the last committed item.
+ * </p>
+ *
+ * <p>
  * The implementation is thread-safe in between calls to {@link #open(ExecutionContext)},
  * but remember to use <code>saveState=false</code> if used in a multi-threaded client (no
  * restart available).
@@ -87,6 +101,10 @@ import org.springframework.util.StringUtils;
  */
 public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 
+	private static final String START_AFTER_VALUE = "start.after";
+
+	private static final Pattern ORDER_BY_PATTERN = Pattern.compile("\\border\\s+by\\b", Pattern.CASE_INSENSITIVE);
+
 	private EntityManagerFactory entityManagerFactory;
 
 	private @Nullable EntityManager entityManager;
@@ -103,6 +121,16 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 
 	private boolean transacted = true;// default value
 
+	private @Nullable Map<String, Order> sortKeys;
+
+	private @Nullable String firstPageQueryString;
+
+	private @Nullable String remainingPagesQueryString;
+
+	private @Nullable Map<String, Object> startAfterValues;
+
+	private @Nullable Map<String, Object> previousStartAfterValues;
+
 	/**
 	 * Create a new {@link JpaPagingItemReader} instance.
 	 * @param entityManagerFactory the JPA entity manager factory.
@@ -149,6 +177,22 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 		this.transacted = transacted;
 	}
 
+	/**
+	 * Set the sort keys to use for keyset pagination. Keys are JPQL paths of the query
+	 * (for example {@code c.lastName} for a query selecting {@code c}), and the part of a
+	 * key after the identification variable must be a readable property of the items
+	 * returned by the query. The sort keys must uniquely identify an item, so the last
+	 * key is typically the primary key. When set, the query string must not have an
+	 * {@code ORDER BY} clause since the ordering is derived from the sort keys, and a
+	 * query provider can not be used.
+	 * @param sortKeys the sort keys, in order of precedence
+	 * @since 6.1
+	 */
+	public void setSortKeys(Map<String, Order> sortKeys) {
+		Assert.notEmpty(sortKeys, "Sort keys must not be empty");
+		this.sortKeys = new LinkedHashMap<>(sortKeys);
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		super.afterPropertiesSet();
@@ -158,6 +202,11 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 			// of whether the queryProvider is set or not.
 			Assert.state(StringUtils.hasLength(queryString), "Query string is required when queryProvider is null");
 		}
+		if (sortKeys != null) {
+			Assert.state(queryProvider == null, "Sort keys can not be used with a query provider");
+			Assert.state(queryString != null && !ORDER_BY_PATTERN.matcher(queryString).find(),
+					"The query string must not have an ORDER BY clause when sort keys are set");
+		}
 	}
 
 	/**
@@ -187,9 +236,39 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 		if (queryProvider != null) {
 			queryProvider.setEntityManager(entityManager);
 		}
+		if (sortKeys != null && queryString != null) {
+			String orderByClause = getOrderByClause(sortKeys);
+			firstPageQueryString = queryString + orderByClause;
+			remainingPagesQueryString = addKeysetPredicate(queryString, getKeysetPredicate(sortKeys)) + orderByClause;
+		}
 
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) {
+		if (isSaveState() && sortKeys != null) {
+			startAfterValues = (Map<String, Object>) executionContext.get(getExecutionContextKey(START_AFTER_VALUE));
+		}
+
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && sortKeys != null) {
+			if (getCurrentItemCount() % getPageSize() == 0 && startAfterValues != null) {
+				// restart on next page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), startAfterValues);
+			}
+			else if (previousStartAfterValues != null) {
+				// restart on current page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), previousStartAfterValues);
+			}
+		}
+	}
+
 	@SuppressWarnings({ "unchecked", "DataFlowIssue" })
 	@Override
 	protected void doReadPage() {
@@ -204,7 +283,15 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 			entityManager.clear();
 		} // end if
 
-		Query query = createQuery().setFirstResult(getPage() * getPageSize()).setMaxResults(getPageSize());
+		Query query;
+		if (sortKeys != null) {
+			previousStartAfterValues = startAfterValues;
+			query = createKeysetQuery(sortKeys);
+		}
+		else {
+			query = createQuery().setFirstResult(getPage() * getPageSize());
+		}
+		query.setMaxResults(getPageSize());
 
 		if (parameterValues != null) {
 			for (Map.Entry<String, Object> me : parameterValues.entrySet()) {
@@ -234,6 +321,10 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 			results.addAll(query.getResultList());
 			tx.commit();
 		} // end if
+
+		if (sortKeys != null && !results.isEmpty()) {
+			startAfterValues = getSortKeyValues(sortKeys, results.get(results.size() - 1));
+		}
 	}
 
 	/**
@@ -250,10 +341,120 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 		}
 	}
 
+	/**
+	 * Create a query reading the page following the current start after values.
+	 */
+	@SuppressWarnings("DataFlowIssue")
+	private Query createKeysetQuery(Map<String, Order> sortKeys) {
+		if (startAfterValues == null || startAfterValues.isEmpty()) {
+			return entityManager.createQuery(firstPageQueryString);
+		}
+		Query query = entityManager.createQuery(remainingPagesQueryString);
+		int index = 0;
+		for (String sortKey : sortKeys.keySet()) {
+			query.setParameter("_sortKey" + index++, startAfterValues.get(sortKey));
+		}
+		return query;
+	}
+
+	private Map<String, Object> getSortKeyValues(Map<String, Order> sortKeys, T item) {
+		Map<String, Object> sortKeyValues = new LinkedHashMap<>();
+		for (String sortKey : sortKeys.keySet()) {
+			String propertyPath = sortKey.substring(sortKey.indexOf('.') + 1);
+			sortKeyValues.put(sortKey,
+					PropertyAccessorFactory.forBeanPropertyAccess(item).getPropertyValue(propertyPath));
+		}
+		return sortKeyValues;
+	}
+
+	private static String getOrderByClause(Map<String, Order> sortKeys) {
+		StringBuilder orderByClause = new StringBuilder(" order by ");
+		String separator = "";
+		for (Map.Entry<String, Order> sortKey : sortKeys.entrySet()) {
+			orderByClause.append(separator)
+				.append(sortKey.getKey())
+				.append(sortKey.getValue() == Order.DESCENDING ? " desc" : " asc");
+			separator = ", ";
+		}
+		return orderByClause.toString();
+	}
+
+	/*
+	 * Build a predicate like "(a > :_sortKey0) or (a = :_sortKey0 and b > :_sortKey1)"
+	 * selecting the items that come after the start after values.
+	 */
+	private static String getKeysetPredicate(Map<String, Order> sortKeys) {
+		List<Map.Entry<String, Order>> keys = List.copyOf(sortKeys.entrySet());
+		StringBuilder predicate = new StringBuilder();
+		for (int i = 0; i < keys.size(); i++) {
+			predicate.append(i == 0 ? "(" : " or (");
+			for (int j = 0; j < i; j++) {
+				predicate.append(keys.get(j).getKey()).append(" = :_sortKey").append(j).append(" and ");
+			}
+			predicate.append(keys.get(i).getKey())
+				.append(keys.get(i).getValue() == Order.DESCENDING ? " < " : " > ")
+				.append(":_sortKey")
+				.append(i)
+				.append(")");
+		}
+		return predicate.toString();
+	}
+
+	/*
+	 * Add the keyset predicate to the top-level WHERE clause of the query, or add a WHERE
+	 * clause if the query has none. The predicate is inserted before a top-level GROUP BY
+	 * or HAVING clause, if any.
+	 */
+	static String addKeysetPredicate(String query, String predicate) {
+		String lowerCaseQuery = query.toLowerCase(Locale.ROOT);
+		int whereIndex = -1;
+		int endIndex = query.length();
+		int depth = 0;
+		boolean inLiteral = false;
+		for (int i = 0; i < query.length(); i++) {
+			char c = query.charAt(i);
+			if (c == '\'') {
+				inLiteral = !inLiteral;
+			}
+			else if (!inLiteral && c == '(') {
+				depth++;
+			}
+			else if (!inLiteral && c == ')') {
+				depth--;
+			}
+			else if (!inLiteral && depth == 0 && isKeyword(query, lowerCaseQuery, i, "where") && whereIndex < 0) {
+				whereIndex = i;
+			}
+			else if (!inLiteral && depth == 0 && (isKeyword(query, lowerCaseQuery, i, "group")
+					|| isKeyword(query, lowerCaseQuery, i, "having"))) {
+				endIndex = i;
+				break;
+			}
+		}
+		String clauses = query.substring(endIndex);
+		if (whereIndex < 0) {
+			return (query.substring(0, endIndex).trim() + " where " + predicate + " " + clauses).trim();
+		}
+		return (query.substring(0, whereIndex + 5) + " (" + query.substring(whereIndex + 5, endIndex).trim() + ") and ("
+				+ predicate + ") " + clauses)
+			.trim();
+	}
+
+	private static boolean isKeyword(String query, String lowerCaseQuery, int index, String keyword) {
+		return lowerCaseQuery.startsWith(keyword, index) && isKeywordBoundary(query, index - 1)
+				&& isKeywordBoundary(query, index + keyword.length());
+	}
+
+	private static boolean isKeywordBoundary(String query, int index) {
+		return index < 0 || index >= query.length() || !Character.isJavaIdentifierPart(query.charAt(index));
+	}
+
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	protected void doClose() throws Exception {
 		entityManager.close();
+		startAfterValues = null;
+		previousStartAfterValues = null;
 		super.doClose();
 	}
 
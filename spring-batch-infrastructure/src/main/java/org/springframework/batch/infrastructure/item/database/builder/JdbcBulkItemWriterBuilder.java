@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.builder;
+
+import javax.sql.DataSource;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.database.BulkInsertDialect;
+import org.springframework.batch.infrastructure.item.database.JdbcBulkItemWriter;
+import org.springframework.batch.infrastructure.item.file.transform.BeanWrapperFieldExtractor;
+import org.springframework.batch.infrastructure.item.file.transform.FieldExtractor;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.util.Assert;
+
+/**
+ * A builder implementation for the {@link JdbcBulkItemWriter}.
+ *
+ * @since 6.1
+ * @see JdbcBulkItemWriter
+ */
+public class JdbcBulkItemWriterBuilder<T> {
+
+	private boolean assertUpdates = true;
+
+	private @Nullable String tableName;
+
+	private String[] columnNames = new String[0];
+
+	private @Nullable FieldExtractor<T> fieldExtractor;
+
+	private boolean beanMapped;
+
+	private @Nullable BulkInsertDialect bulkInsertDialect;
+
+	private @Nullable DataSource dataSource;
+
+	private @Nullable JdbcOperations jdbcTemplate;
+
+	/**
+	 * Configure the {@link DataSource} to be used.
+	 * @param dataSource the DataSource
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcBulkItemWriter#setDataSource(DataSource)
+	 */
+	public JdbcBulkItemWriterBuilder<T> dataSource(DataSource dataSource) {
+		this.dataSource = dataSource;
+
+		return this;
+	}
+
+	/**
+	 * If set to true, confirms that every insert results in the update of at least one
+	 * row in the database. Defaults to true.
+	 * @param assertUpdates boolean indicator
+	 * @return The current instance of the builder for chaining
+	 * @see JdbcBulkItemWriter#setAssertUpdates(boolean)
+	 */
+	public JdbcBulkItemWriterBuilder<T> assertUpdates(boolean assertUpdates) {
+		this.assertUpdates = assertUpdates;
+
+		return this;
+	}
+
+	/**
+	 * Set the name of the table to insert items in.
+	 * @param tableName the name of the table
+	 * @return The current instance of the builder for chaining
+	 * @see JdbcBulkItemWriter#setTableName(String)
+	 */
+	public JdbcBulkItemWriterBuilder<T> table(String tableName) {
+		this.tableName = tableName;
+
+		return this;
+	}
+
+	/**
+	 * Set the names of the columns to insert values in.
+	 * @param columnNames the names of the columns
+	 * @return The current instance of the builder for chaining
+	 * @see JdbcBulkItemWriter#setColumnNames(String...)
+	 */
+	public JdbcBulkItemWriterBuilder<T> columns(String... columnNames) {
+		this.columnNames = columnNames;
+
+		return this;
+	}
+
+	/**
+	 * Set the {@link FieldExtractor} returning the values of the columns for an item.
+	 * @param fieldExtractor the {@link FieldExtractor}
+	 * @return The current instance of the builder for chaining
+	 * @see JdbcBulkItemWriter#setFieldExtractor(FieldExtractor)
+	 */
+	public JdbcBulkItemWriterBuilder<T> fieldExtractor(FieldExtractor<T> fieldExtractor) {
+		this.fieldExtractor = fieldExtractor;
+
+		return this;
+	}
+
+	/**
+	 * Extract the values of the columns from the properties of the items with the same
+	 * names, using a {@link BeanWrapperFieldExtractor}.
+	 * @return The current instance of the builder for chaining
+	 */
+	public JdbcBulkItemWriterBuilder<T> beanMapped() {
+		this.beanMapped = true;
+
+		return this;
+	}
+
+	/**
+	 * Set the {@link BulkInsertDialect} to use. Detected from the database if not set.
+	 * @param bulkInsertDialect the {@link BulkInsertDialect}
+	 * @return The current instance of the builder for chaining
+	 * @see JdbcBulkItemWriter#setBulkInsertDialect(BulkInsertDialect)
+	 */
+	public JdbcBulkItemWriterBuilder<T> bulkInsertDialect(BulkInsertDialect bulkInsertDialect) {
+		this.bulkInsertDialect = bulkInsertDialect;
+
+		return this;
+	}
+
+	/**
+	 * Configure the {@link JdbcOperations} to be used.
+	 * @param jdbcTemplate the JdbcOperations
+	 * @return The current instance of the builder for chaining
+	 * @see JdbcBulkItemWriter#setJdbcTemplate(JdbcOperations)
+	 */
+	public JdbcBulkItemWriterBuilder<T> jdbcTemplate(JdbcOperations jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+
+		return this;
+	}
+
+	/**
+	 * Validates configuration and builds the {@link JdbcBulkItemWriter}.
+	 * @return a {@link JdbcBulkItemWriter}
+	 * @throws Exception if the bulk insert dialect cannot be detected from the database
+	 */
+	public JdbcBulkItemWriter<T> build() throws Exception {
+		Assert.state(this.dataSource != null || this.jdbcTemplate != null,
+				"Either a DataSource or a JdbcTemplate is required");
+		Assert.notNull(this.tableName, "A table name is required");
+		Assert.state(this.columnNames.length > 0, "Column names are required");
+		Assert.state(this.fieldExtractor == null || !this.beanMapped,
+				"Either a field extractor or bean mapping can be configured, not both");
+
+		JdbcBulkItemWriter<T> writer = new JdbcBulkItemWriter<>();
+		writer.setAssertUpdates(this.assertUpdates);
+		writer.setTableName(this.tableName);
+		writer.setColumnNames(this.columnNames);
+		if (this.beanMapped) {
+			BeanWrapperFieldExtractor<T> beanWrapperFieldExtractor = new BeanWrapperFieldExtractor<>();
+			beanWrapperFieldExtractor.setNames(this.columnNames);
+			writer.setFieldExtractor(beanWrapperFieldExtractor);
+		}
+		else if (this.fieldExtractor != null) {
+			writer.setFieldExtractor(this.fieldExtractor);
+		}
+		if (this.bulkInsertDialect != null) {
+			writer.setBulkInsertDialect(this.bulkInsertDialect);
+		}
+		if (this.jdbcTemplate != null) {
+			writer.setJdbcTemplate(this.jdbcTemplate);
+		}
+		if (this.dataSource != null) {
+			writer.setDataSource(this.dataSource);
+		}
+
+		writer.afterPropertiesSet();
+
+		return writer;
+	}
+
+}
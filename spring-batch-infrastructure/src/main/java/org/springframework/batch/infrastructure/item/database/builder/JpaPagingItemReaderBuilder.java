@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2025 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemStreamSupport;
 import org.springframework.batch.infrastructure.item.database.JpaPagingItemReader;
+import org.springframework.batch.infrastructure.item.database.Order;
 import org.springframework.batch.infrastructure.item.database.orm.JpaQueryProvider;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.util.Assert;
@@ -53,6 +54,8 @@ public class JpaPagingItemReaderBuilder<T> {
 
 	private @Nullable JpaQueryProvider queryProvider;
 
+	private @Nullable Map<String, Order> sortKeys;
+
 	private boolean saveState = true;
 
 	private @Nullable String name;
@@ -175,6 +178,20 @@ public class JpaPagingItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * The sort keys to use for keyset pagination instead of offset pagination. The query
+	 * string must not have an {@code ORDER BY} clause when sort keys are set.
+	 * @param sortKeys JPQL paths to sort by (for example {@code c.id}) and their order
+	 * @return this instance for method chaining
+	 * @see JpaPagingItemReader#setSortKeys(Map)
+	 * @since 6.1
+	 */
+	public JpaPagingItemReaderBuilder<T> sortKeys(Map<String, Order> sortKeys) {
+		this.sortKeys = sortKeys;
+
+		return this;
+	}
+
 	/**
 	 * Indicates if a transaction should be created around the read (true by default). Can
 	 * be set to false in cases where JPA implementation doesn't support a particular
@@ -218,6 +235,9 @@ public class JpaPagingItemReaderBuilder<T> {
 		if (this.queryProvider == null) {
 			Assert.hasLength(this.queryString, "Query string is required when queryProvider is null");
 		}
+		else {
+			Assert.isNull(this.sortKeys, "Sort keys can not be used with a query provider");
+		}
 
 		JpaPagingItemReader<T> reader = new JpaPagingItemReader<>(this.entityManagerFactory);
 
@@ -237,6 +257,9 @@ public class JpaPagingItemReaderBuilder<T> {
 		if (this.queryProvider != null) {
 			reader.setQueryProvider(this.queryProvider);
 		}
+		if (this.sortKeys != null) {
+			reader.setSortKeys(this.sortKeys);
+		}
 		reader.setTransacted(this.transacted);
 		reader.setCurrentItemCount(this.currentItemCount);
 		reader.setMaxItemCount(this.maxItemCount);
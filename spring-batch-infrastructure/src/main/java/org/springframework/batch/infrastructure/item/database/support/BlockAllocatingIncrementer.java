@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link DataFieldMaxValueIncrementer} that reserves blocks of ids from a delegate
+ * incrementer and hands them out without calling the delegate again until the block is
+ * exhausted. Each value {@code v} returned by the delegate reserves the ids in the range
+ * {@code [v * blockSize, (v + 1) * blockSize)}, so the underlying sequence does not need
+ * to be altered. Ids are handed out lock-free, a lock is only taken when a new block has
+ * to be reserved.
+ * <p>
+ * Ids reserved but not handed out before the JVM stops are lost, so the generated ids are
+ * unique and increasing within a JVM but not gap-free. All the clients of a given
+ * sequence must use the same block size, mixing block allocation with plain increments of
+ * the same sequence would eventually produce duplicate ids.
+ *
+ * @since 6.1
+ */
+public class BlockAllocatingIncrementer implements DataFieldMaxValueIncrementer {
+
+	private final DataFieldMaxValueIncrementer delegate;
+
+	private final int blockSize;
+
+	private final Lock lock = new ReentrantLock();
+
+	private volatile Block block = new Block(0, 0);
+
+	/**
+	 * Create a new {@link BlockAllocatingIncrementer}.
+	 * @param delegate the incrementer to reserve blocks of ids from
+	 * @param blockSize the number of ids reserved by each call to the delegate
+	 */
+	public BlockAllocatingIncrementer(DataFieldMaxValueIncrementer delegate, int blockSize) {
+		Assert.notNull(delegate, "The delegate incrementer must not be null");
+		Assert.isTrue(blockSize > 0, "The block size must be greater than zero");
+		this.delegate = delegate;
+		this.blockSize = blockSize;
+	}
+
+	@Override
+	public long nextLongValue() throws DataAccessException {
+		while (true) {
+			Block current = this.block;
+			long value = current.next.getAndIncrement();
+			if (value < current.end) {
+				return value;
+			}
+			this.lock.lock();
+			try {
+				// another thread might have reserved a new block in the meantime
+				if (this.block == current) {
+					long start = Math.multiplyExact(this.delegate.nextLongValue(), this.blockSize);
+					this.block = new Block(start, start + this.blockSize);
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public int nextIntValue() throws DataAccessException {
+		return Math.toIntExact(nextLongValue());
+	}
+
+	@Override
+	public String nextStringValue() throws DataAccessException {
+		return String.valueOf(nextLongValue());
+	}
+
+	private static final class Block {
+
+		private final AtomicLong next;
+
+		private final long end;
+
+		private Block(long start, long end) {
+			this.next = new AtomicLong(start);
+			this.end = end;
+		}
+
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.support;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+/**
+ * Utility methods for the
+ * {@link org.springframework.batch.infrastructure.item.database.BulkInsertDialect}
+ * implementations.
+ *
+ * @since 6.1
+ */
+abstract class BulkInsertUtils {
+
+	private BulkInsertUtils() {
+	}
+
+	/**
+	 * Generate an insert statement with the given number of rows in its values clause.
+	 */
+	static String generateInsertStatement(String tableName, String[] columnNames, int rowCount) {
+		StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName).append(" (");
+		sql.append(String.join(", ", columnNames)).append(") VALUES ");
+		String row = "(" + String.join(", ", Collections.nCopies(columnNames.length, "?")) + ")";
+		for (int i = 0; i < rowCount; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(row);
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * Set the values of the rows in the given range as parameters of the statement.
+	 */
+	static void setValues(PreparedStatement ps, List<Object[]> rows, int from, int to) throws SQLException {
+		int index = 1;
+		for (int i = from; i < to; i++) {
+			for (Object value : rows.get(i)) {
+				StatementCreatorUtils.setParameterValue(ps, index++, SqlTypeValue.TYPE_UNKNOWN, value);
+			}
+		}
+	}
+
+	/**
+	 * Spread the update count of a statement inserting several rows to each of these
+	 * rows.
+	 */
+	static void fillUpdateCounts(int[] updateCounts, int from, int to, long updateCount) {
+		int value;
+		if (updateCount == to - from) {
+			value = 1;
+		}
+		else if (updateCount == 0) {
+			value = 0;
+		}
+		else {
+			// the rows that were not inserted cannot be identified
+			value = Statement.SUCCESS_NO_INFO;
+		}
+		Arrays.fill(updateCounts, from, to, value);
+	}
+
+}
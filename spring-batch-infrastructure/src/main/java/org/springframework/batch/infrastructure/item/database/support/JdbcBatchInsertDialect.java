@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.support;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.batch.infrastructure.item.database.BulkInsertDialect;
+
+/**
+ * {@link BulkInsertDialect} inserting rows with a single row insert statement executed as
+ * a JDBC batch. Supported by all databases, and used as a fallback for databases that do
+ * not support multi-row inserts.
+ *
+ * @since 6.1
+ */
+public class JdbcBatchInsertDialect implements BulkInsertDialect {
+
+	@Override
+	public int[] insert(Connection connection, String tableName, String[] columnNames, List<Object[]> rows)
+			throws SQLException {
+		String sql = BulkInsertUtils.generateInsertStatement(tableName, columnNames, 1);
+		try (PreparedStatement ps = connection.prepareStatement(sql)) {
+			for (int i = 0; i < rows.size(); i++) {
+				BulkInsertUtils.setValues(ps, rows, i, i + 1);
+				ps.addBatch();
+			}
+			return ps.executeBatch();
+		}
+	}
+
+}
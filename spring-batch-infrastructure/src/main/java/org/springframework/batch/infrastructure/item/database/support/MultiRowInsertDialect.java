@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.support;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.batch.infrastructure.item.database.BulkInsertDialect;
+import org.springframework.util.Assert;
+
+/**
+ * {@link BulkInsertDialect} inserting rows with multi-row
+ * {@code INSERT INTO table (columns) VALUES (...), (...)} statements, sized to the
+ * maximum number of parameters supported by the database driver. Supported by most
+ * databases, with the notable exception of Oracle.
+ * <p>
+ * Such a statement only returns the total number of inserted rows, so each row is
+ * reported with an update count of 1 if all rows of the statement were inserted, 0 if
+ * none was, and {@link java.sql.Statement#SUCCESS_NO_INFO} otherwise.
+ *
+ * @since 6.1
+ */
+public class MultiRowInsertDialect implements BulkInsertDialect {
+
+	/**
+	 * The default maximum number of parameters per statement.
+	 */
+	public static final int DEFAULT_MAX_PARAMETERS = 32767;
+
+	/**
+	 * The default maximum number of rows per statement.
+	 */
+	public static final int DEFAULT_MAX_ROWS = 1000;
+
+	private final int maxParameters;
+
+	private int maxRows = DEFAULT_MAX_ROWS;
+
+	/**
+	 * Create a new {@link MultiRowInsertDialect} with {@link #DEFAULT_MAX_PARAMETERS}.
+	 */
+	public MultiRowInsertDialect() {
+		this(DEFAULT_MAX_PARAMETERS);
+	}
+
+	/**
+	 * Create a new {@link MultiRowInsertDialect}.
+	 * @param maxParameters the maximum number of parameters per statement supported by
+	 * the database driver
+	 */
+	public MultiRowInsertDialect(int maxParameters) {
+		Assert.isTrue(maxParameters > 0, "The maximum number of parameters must be greater than zero");
+		this.maxParameters = maxParameters;
+	}
+
+	/**
+	 * Set the maximum number of rows per statement. Defaults to {@link #DEFAULT_MAX_ROWS}
+	 * (which is the limit of SQL Server).
+	 * @param maxRows the maximum number of rows per statement
+	 */
+	public void setMaxRows(int maxRows) {
+		Assert.isTrue(maxRows > 0, "The maximum number of rows must be greater than zero");
+		this.maxRows = maxRows;
+	}
+
+	@Override
+	public int[] insert(Connection connection, String tableName, String[] columnNames, List<Object[]> rows)
+			throws SQLException {
+		int[] updateCounts = new int[rows.size()];
+		int rowsPerStatement = Math.max(1, Math.min(this.maxRows, this.maxParameters / columnNames.length));
+		int remainder = rows.size() % rowsPerStatement;
+		int end = rows.size() - remainder;
+		if (end > 0) {
+			String sql = BulkInsertUtils.generateInsertStatement(tableName, columnNames, rowsPerStatement);
+			try (PreparedStatement ps = connection.prepareStatement(sql)) {
+				for (int from = 0; from < end; from += rowsPerStatement) {
+					insert(ps, rows, from, from + rowsPerStatement, updateCounts);
+				}
+			}
+		}
+		if (remainder > 0) {
+			String sql = BulkInsertUtils.generateInsertStatement(tableName, columnNames, remainder);
+			try (PreparedStatement ps = connection.prepareStatement(sql)) {
+				insert(ps, rows, end, rows.size(), updateCounts);
+			}
+		}
+		return updateCounts;
+	}
+
+	private void insert(PreparedStatement ps, List<Object[]> rows, int from, int to, int[] updateCounts)
+			throws SQLException {
+		BulkInsertUtils.setValues(ps, rows, from, to);
+		BulkInsertUtils.fillUpdateCounts(updateCounts, from, to, ps.executeUpdate());
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.support;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link DataFieldMaxValueIncrementer} generating Snowflake-style ids without any round
+ * trip to the database. Each id is composed of a 41 bits timestamp in milliseconds since
+ * a custom epoch, a 10 bits worker id and a 12 bits sequence number, which allows up to
+ * 4096 ids per millisecond and per worker. Ids are generated lock-free.
+ * <p>
+ * Each JVM generating ids for the same table must use a distinct worker id. If the
+ * sequence number of the current millisecond is exhausted, or if the system clock moves
+ * backwards, the timestamp of the last generated id is carried forward so that ids stay
+ * unique and increasing for a given worker. Generated ids are large numbers, so this
+ * incrementer is not meant to be mixed with a sequence based incrementer on the same
+ * table.
+ * <p>
+ * Generated ids do not fit in an {@code int}, so {@link #nextIntValue()} always fails.
+ * This incrementer must only be used for {@code BIGINT} (or larger) columns, by consumers
+ * that request {@code long} or {@code String} values, like the job repository.
+ *
+ * @since 6.1
+ */
+public class SnowflakeIncrementer implements DataFieldMaxValueIncrementer {
+
+	/**
+	 * Default epoch of the generated timestamps: {@code 2026-01-01T00:00:00Z}.
+	 */
+	public static final Instant DEFAULT_EPOCH = Instant.parse("2026-01-01T00:00:00Z");
+
+	private static final int WORKER_ID_BITS = 10;
+
+	private static final int SEQUENCE_BITS = 12;
+
+	private static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+
+	private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+	private static final long MAX_TIMESTAMP = (1L << 41) - 1;
+
+	private final long workerId;
+
+	private final long epoch;
+
+	private final Clock clock;
+
+	/**
+	 * Last generated timestamp and sequence number, as
+	 * {@code (timestamp << SEQUENCE_BITS) | sequence}.
+	 */
+	private final AtomicLong state = new AtomicLong();
+
+	/**
+	 * Create a new {@link SnowflakeIncrementer} using the {@link #DEFAULT_EPOCH} and the
+	 * system clock.
+	 * @param workerId the id of this worker, between 0 and 1023
+	 */
+	public SnowflakeIncrementer(long workerId) {
+		this(workerId, DEFAULT_EPOCH, Clock.systemUTC());
+	}
+
+	/**
+	 * Create a new {@link SnowflakeIncrementer}.
+	 * @param workerId the id of this worker, between 0 and 1023
+	 * @param epoch the epoch of the generated timestamps, must not be in the future
+	 * @param clock the clock to get the current time from
+	 */
+	public SnowflakeIncrementer(long workerId, Instant epoch, Clock clock) {
+		Assert.isTrue(workerId >= 0 && workerId <= MAX_WORKER_ID,
+				"The worker id must be between 0 and " + MAX_WORKER_ID);
+		Assert.notNull(epoch, "The epoch must not be null");
+		Assert.notNull(clock, "The clock must not be null");
+		Assert.isTrue(!epoch.isAfter(clock.instant()), "The epoch must not be in the future");
+		this.workerId = workerId;
+		this.epoch = epoch.toEpochMilli();
+		this.clock = clock;
+	}
+
+	@Override
+	public long nextLongValue() throws DataAccessException {
+		while (true) {
+			long previous = this.state.get();
+			long previousTimestamp = previous >>> SEQUENCE_BITS;
+			long timestamp = Math.max(this.clock.millis() - this.epoch, previousTimestamp);
+			long sequence = 0;
+			if (timestamp == previousTimestamp) {
+				sequence = (previous & MAX_SEQUENCE) + 1;
+				if (sequence > MAX_SEQUENCE) {
+					timestamp++;
+					sequence = 0;
+				}
+			}
+			Assert.state(timestamp <= MAX_TIMESTAMP, "The timestamp of the generated ids overflowed");
+			if (this.state.compareAndSet(previous, (timestamp << SEQUENCE_BITS) | sequence)) {
+				return (timestamp << (WORKER_ID_BITS + SEQUENCE_BITS)) | (this.workerId << SEQUENCE_BITS) | sequence;
+			}
+		}
+	}
+
+	/**
+	 * Not supported, as generated ids do not fit in an {@code int}.
+	 * @throws DataAccessResourceFailureException always
+	 */
+	@Override
+	public int nextIntValue() throws DataAccessException {
+		throw new DataAccessResourceFailureException(
+				"Snowflake ids are 63 bits long and do not fit in an int, use nextLongValue() instead");
+	}
+
+	@Override
+	public String nextStringValue() throws DataAccessException {
+		return String.valueOf(nextLongValue());
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link BufferedReaderFactory} for large files on a local file system. Lines are read
+ * from a {@link FileChannel} with a large buffer (or from memory-mapped regions of the
+ * file) and split at the byte level by a {@link SeekableBufferedReader}, which avoids the
+ * overhead of decoding the input through an {@link java.io.InputStreamReader} and allows
+ * a {@link FlatFileItemReader} to restart from the byte position of the last read record.
+ * Files larger than 2GB are supported in both modes.
+ * <p>
+ * Resources that are not available as a {@link java.io.File} are read from their input
+ * stream. Only UTF-8 and single byte encodings are supported.
+ * <p>
+ * Memory-mapped files should not be modified or truncated while they are read. Mapped
+ * regions are released when they are garbage collected, not when the reader is closed.
+ *
+ * @since 6.1
+ * @see SeekableBufferedReader
+ */
+public class FileChannelBufferedReaderFactory implements BufferedReaderFactory {
+
+	/**
+	 * The default size of the read buffer in bytes.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+	/**
+	 * The default size of memory-mapped regions in bytes.
+	 */
+	public static final long DEFAULT_MAPPED_REGION_SIZE = 256L * 1024 * 1024;
+
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	private boolean memoryMapped = false;
+
+	private long mappedRegionSize = DEFAULT_MAPPED_REGION_SIZE;
+
+	/**
+	 * Set the size of the buffer used to read lines. Defaults to
+	 * {@link #DEFAULT_BUFFER_SIZE}.
+	 * @param bufferSize the buffer size in bytes
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "The buffer size must be greater than zero");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Set whether files should be memory-mapped instead of being read with a
+	 * {@link FileChannel}. Defaults to false.
+	 * @param memoryMapped true to memory-map files
+	 */
+	public void setMemoryMapped(boolean memoryMapped) {
+		this.memoryMapped = memoryMapped;
+	}
+
+	/**
+	 * Set the size of the regions of the file that are mapped in memory at once when
+	 * {@link #setMemoryMapped(boolean) memory mapping} is enabled. Must not be greater
+	 * than {@link Integer#MAX_VALUE}. Defaults to {@link #DEFAULT_MAPPED_REGION_SIZE}.
+	 * @param mappedRegionSize the region size in bytes
+	 */
+	public void setMappedRegionSize(long mappedRegionSize) {
+		Assert.isTrue(mappedRegionSize > 0 && mappedRegionSize <= Integer.MAX_VALUE,
+				"The mapped region size must be greater than zero and lower than Integer.MAX_VALUE");
+		this.mappedRegionSize = mappedRegionSize;
+	}
+
+	@Override
+	public BufferedReader create(Resource resource, String encoding) throws IOException {
+		Charset charset = Charset.forName(encoding);
+		Assert.isTrue(SeekableBufferedReader.isSupported(charset), () -> "Unsupported encoding: " + encoding);
+		InputStream inputStream;
+		if (resource.isFile()) {
+			FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+			inputStream = this.memoryMapped ? new MappedFileInputStream(channel, this.mappedRegionSize)
+					: Channels.newInputStream(channel);
+		}
+		else {
+			inputStream = resource.getInputStream();
+		}
+		return new SeekableBufferedReader(inputStream, charset, this.bufferSize);
+	}
+
+	/**
+	 * {@link InputStream} reading a file through successive memory-mapped regions.
+	 * Skipping bytes only moves the current position.
+	 */
+	private static final class MappedFileInputStream extends InputStream {
+
+		private final FileChannel channel;
+
+		private final long size;
+
+		private final long regionSize;
+
+		private long position;
+
+		private @Nullable MappedByteBuffer region;
+
+		private long regionStart;
+
+		private MappedFileInputStream(FileChannel channel, long regionSize) throws IOException {
+			this.channel = channel;
+			this.size = channel.size();
+			this.regionSize = regionSize;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] bytes = new byte[1];
+			return read(bytes, 0, 1) == -1 ? -1 : bytes[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+			if (length == 0) {
+				return 0;
+			}
+			if (this.position >= this.size) {
+				return -1;
+			}
+			MappedByteBuffer region = this.region;
+			if (region == null || this.position >= this.regionStart + region.capacity()
+					|| this.position < this.regionStart) {
+				this.regionStart = this.position;
+				region = this.channel.map(FileChannel.MapMode.READ_ONLY, this.regionStart,
+						Math.min(this.regionSize, this.size - this.regionStart));
+				this.region = region;
+			}
+			int index = (int) (this.position - this.regionStart);
+			int count = Math.min(length, region.capacity() - index);
+			region.get(index, bytes, offset, count);
+			this.position += count;
+			return count;
+		}
+
+		@Override
+		public long skip(long count) {
+			long skipped = Math.max(0, Math.min(count, this.size - this.position));
+			this.position += skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return (int) Math.min(Integer.MAX_VALUE, this.size - this.position);
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.region = null;
+			this.channel.close();
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.ReaderNotOpenException;
 import org.springframework.batch.infrastructure.item.file.separator.RecordSeparatorPolicy;
 import org.springframework.batch.infrastructure.item.file.separator.SimpleRecordSeparatorPolicy;
@@ -43,6 +44,17 @@ import org.springframework.util.StringUtils;
  * line and its line number.
  *
  * <p>
+ * If the {@link BufferedReader} created by the {@link BufferedReaderFactory} is a
+ * {@link SeekableBufferedReader} (see {@link SeekableBufferedReaderFactory}), the byte
+ * position of the last read record is saved in the {@link ExecutionContext} along with
+ * the item count, and the reader seeks straight to that position on restart instead of
+ * reading and discarding all previously read lines. A seekable reader can also be limited
+ * to a byte range of the input (see {@link #setStartPosition(long)} and
+ * {@link #setEndPosition(long)}), so that a single large file can be read by several
+ * partitions.
+ * </p>
+ *
+ * <p>
  * This reader is <b>not</b> thread-safe.
  * </p>
  *
@@ -63,6 +75,10 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	public static final String[] DEFAULT_COMMENT_PREFIXES = new String[] { "#" };
 
+	private static final String READ_POSITION = "read.position";
+
+	private static final String READ_LINE_COUNT = "read.line.count";
+
 	private RecordSeparatorPolicy recordSeparatorPolicy = new SimpleRecordSeparatorPolicy();
 
 	private @Nullable Resource resource;
@@ -87,6 +103,14 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	private BufferedReaderFactory bufferedReaderFactory = new DefaultBufferedReaderFactory();
 
+	private long restartPosition = -1;
+
+	private int restartLineCount = 0;
+
+	private long startPosition = 0;
+
+	private long endPosition = Long.MAX_VALUE;
+
 	/**
 	 * Create a new {@link FlatFileItemReader} with a {@link LineMapper}.
 	 * @param lineMapper to use to map lines to items
@@ -176,6 +200,34 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		System.arraycopy(comments, 0, this.comments, 0, comments.length);
 	}
 
+	/**
+	 * Set the byte position of the first record to read. When greater than zero, the
+	 * reader seeks to that position when opened instead of skipping
+	 * {@link #setLinesToSkip(int) header lines}, so the position is expected to be the
+	 * start of a record after the header lines. Line numbers are then relative to that
+	 * position. Requires a {@link BufferedReaderFactory} creating
+	 * {@link SeekableBufferedReader}s. Defaults to 0.
+	 * @param startPosition the byte position to start reading from
+	 * @since 6.1
+	 */
+	public void setStartPosition(long startPosition) {
+		Assert.isTrue(startPosition >= 0, "The start position must not be negative");
+		this.startPosition = startPosition;
+	}
+
+	/**
+	 * Set the byte position after which no more records are read: records starting at or
+	 * after that position are left to the reader of the next range. Requires a
+	 * {@link BufferedReaderFactory} creating {@link SeekableBufferedReader}s. Defaults to
+	 * the end of the input.
+	 * @param endPosition the byte position to stop reading at
+	 * @since 6.1
+	 */
+	public void setEndPosition(long endPosition) {
+		Assert.isTrue(endPosition >= 0, "The end position must not be negative");
+		this.endPosition = endPosition;
+	}
+
 	/**
 	 * Public setter for the input resource.
 	 */
@@ -236,6 +288,9 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 		try {
 			do {
+				if (isRangeEnd()) {
+					return null;
+				}
 				line = reader.readLine();
 				if (line == null) {
 					return null;
@@ -261,6 +316,11 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		return line;
 	}
 
+	private boolean isRangeEnd() {
+		return endPosition < Long.MAX_VALUE && reader instanceof SeekableBufferedReader seekableReader
+				&& seekableReader.getPosition() >= endPosition;
+	}
+
 	protected boolean isComment(String line) {
 		for (String prefix : comments) {
 			if (line.startsWith(prefix)) {
@@ -301,6 +361,15 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		}
 
 		reader = bufferedReaderFactory.create(resource, encoding);
+		if (startPosition > 0 || endPosition < Long.MAX_VALUE) {
+			Assert.state(reader instanceof SeekableBufferedReader,
+					"A BufferedReaderFactory creating SeekableBufferedReaders is required to read a range of the input");
+		}
+		if (startPosition > 0 && reader instanceof SeekableBufferedReader seekableReader) {
+			seekableReader.seek(startPosition);
+			noInput = false;
+			return;
+		}
 		for (int i = 0; i < linesToSkip; i++) {
 			String line = readLine();
 			if (skippedLinesCallback != null && line != null) {
@@ -310,8 +379,33 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		noInput = false;
 	}
 
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		this.restartPosition = -1;
+		if (isSaveState() && executionContext.containsKey(getExecutionContextKey(READ_POSITION))) {
+			this.restartPosition = executionContext.getLong(getExecutionContextKey(READ_POSITION));
+			this.restartLineCount = executionContext.getInt(getExecutionContextKey(READ_LINE_COUNT));
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && reader instanceof SeekableBufferedReader seekableReader) {
+			executionContext.putLong(getExecutionContextKey(READ_POSITION), seekableReader.getPosition());
+			executionContext.putInt(getExecutionContextKey(READ_LINE_COUNT), lineCount);
+		}
+	}
+
 	@Override
 	protected void jumpToItem(int itemIndex) throws Exception {
+		if (restartPosition >= 0 && reader instanceof SeekableBufferedReader seekableReader) {
+			// header lines have already been skipped, the saved position is after them
+			seekableReader.seek(restartPosition);
+			lineCount = restartLineCount;
+			return;
+		}
 		for (int i = 0; i < itemIndex; i++) {
 			readLine();
 		}
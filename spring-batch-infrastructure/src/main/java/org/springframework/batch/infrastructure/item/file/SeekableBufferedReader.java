@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link BufferedReader} that splits an {@link InputStream} into lines at the byte level
+ * and keeps track of the byte position of the end of the last line that was read, so that
+ * the same input can later be resumed from that position with {@link #seek(long)} instead
+ * of reading all previous lines again.
+ * <p>
+ * Lines are terminated by a line feed, a carriage return or a carriage return followed by
+ * a line feed, like with {@link BufferedReader#readLine()}. Only charsets in which these
+ * two bytes cannot be part of the encoding of another character are supported, that is
+ * UTF-8 and single byte charsets (like US-ASCII or ISO-8859-1).
+ * <p>
+ * This reader is <b>not</b> thread-safe.
+ *
+ * @since 6.1
+ * @see SeekableBufferedReaderFactory
+ */
+public class SeekableBufferedReader extends BufferedReader {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final byte LF = '\n';
+
+	private static final byte CR = '\r';
+
+	private final InputStream inputStream;
+
+	private final Charset charset;
+
+	private final byte[] buffer;
+
+	private int bufferPosition;
+
+	private int bufferLimit;
+
+	private byte[] lineBuffer = new byte[128];
+
+	private long position;
+
+	private @Nullable String pending;
+
+	private int pendingIndex;
+
+	private boolean closed;
+
+	/**
+	 * Create a new {@link SeekableBufferedReader}.
+	 * @param inputStream the input stream to read lines from
+	 * @param charset the charset to use to decode lines
+	 * @throws IllegalArgumentException if the charset is not supported
+	 */
+	public SeekableBufferedReader(InputStream inputStream, Charset charset) {
+		this(inputStream, charset, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Create a new {@link SeekableBufferedReader}.
+	 * @param inputStream the input stream to read lines from
+	 * @param charset the charset to use to decode lines
+	 * @param bufferSize the size of the read buffer in bytes
+	 * @throws IllegalArgumentException if the charset is not supported
+	 */
+	public SeekableBufferedReader(InputStream inputStream, Charset charset, int bufferSize) {
+		super(Reader.nullReader(), 1);
+		Assert.notNull(inputStream, "The input stream must not be null");
+		Assert.notNull(charset, "The charset must not be null");
+		Assert.isTrue(bufferSize > 0, "The buffer size must be greater than zero");
+		Assert.isTrue(isSupported(charset), () -> "Unsupported charset: " + charset.name());
+		this.inputStream = inputStream;
+		this.charset = charset;
+		this.buffer = new byte[bufferSize];
+	}
+
+	/**
+	 * Check if lines of a given charset can be tracked at the byte level.
+	 * @param charset the charset to check
+	 * @return true if the charset is UTF-8 or a single byte charset where line feeds and
+	 * carriage returns are encoded as in ASCII
+	 */
+	public static boolean isSupported(Charset charset) {
+		if (StandardCharsets.UTF_8.equals(charset)) {
+			return true;
+		}
+		if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1.0f) {
+			return false;
+		}
+		return Arrays.equals("\n\r".getBytes(charset), new byte[] { LF, CR });
+	}
+
+	/**
+	 * Return the byte position right after the last line that was read, including its
+	 * line terminator.
+	 * @return the current byte position
+	 */
+	public long getPosition() {
+		return this.position;
+	}
+
+	/**
+	 * Move forward to the given byte position, which is expected to be the start of a
+	 * line (typically a position previously returned by {@link #getPosition()} for the
+	 * same input). The bytes in between are skipped without being decoded.
+	 * @param position the byte position to move to
+	 * @throws IOException if the position is before the current position, beyond the end
+	 * of the input or if an I/O error occurs
+	 */
+	public void seek(long position) throws IOException {
+		ensureOpen();
+		if (position < this.position) {
+			throw new IOException("Cannot seek backwards from position " + this.position + " to " + position);
+		}
+		this.pending = null;
+		long remaining = position - this.position;
+		int buffered = this.bufferLimit - this.bufferPosition;
+		if (remaining <= buffered) {
+			this.bufferPosition += (int) remaining;
+		}
+		else {
+			this.bufferPosition = this.bufferLimit;
+			this.inputStream.skipNBytes(remaining - buffered);
+		}
+		this.position = position;
+	}
+
+	@Override
+	public @Nullable String readLine() throws IOException {
+		ensureOpen();
+		String line;
+		String pending = this.pending;
+		this.pending = null;
+		if (pending != null && this.pendingIndex < pending.length()) {
+			// remainder of a line partially consumed with read(), without its terminator
+			return pending.substring(this.pendingIndex, pending.length() - 1);
+		}
+		int length = 0;
+		while (true) {
+			if (this.bufferPosition == this.bufferLimit && !fill()) {
+				if (length == 0) {
+					return null;
+				}
+				this.position += length;
+				return new String(this.lineBuffer, 0, length, this.charset);
+			}
+			int start = this.bufferPosition;
+			for (int i = start; i < this.bufferLimit; i++) {
+				byte b = this.buffer[i];
+				if (b == LF || b == CR) {
+					if (length == 0) {
+						line = new String(this.buffer, start, i - start, this.charset);
+					}
+					else {
+						appendToLine(start, i - start, length);
+						line = new String(this.lineBuffer, 0, length + i - start, this.charset);
+					}
+					this.position += length + i - start + 1;
+					this.bufferPosition = i + 1;
+					if (b == CR && (this.bufferPosition < this.bufferLimit || fill())
+							&& this.buffer[this.bufferPosition] == LF) {
+						this.bufferPosition++;
+						this.position++;
+					}
+					return line;
+				}
+			}
+			appendToLine(start, this.bufferLimit - start, length);
+			length += this.bufferLimit - start;
+			this.bufferPosition = this.bufferLimit;
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		char[] chars = new char[1];
+		return read(chars, 0, 1) == -1 ? -1 : chars[0];
+	}
+
+	@Override
+	public int read(char[] chars, int offset, int length) throws IOException {
+		ensureOpen();
+		if (length == 0) {
+			return 0;
+		}
+		String pending = this.pending;
+		if (pending == null || this.pendingIndex == pending.length()) {
+			String line = readLine();
+			if (line == null) {
+				return -1;
+			}
+			// line terminators are normalized to a line feed
+			pending = line + "\n";
+			this.pending = pending;
+			this.pendingIndex = 0;
+		}
+		int count = Math.min(length, pending.length() - this.pendingIndex);
+		pending.getChars(this.pendingIndex, this.pendingIndex + count, chars, offset);
+		this.pendingIndex += count;
+		return count;
+	}
+
+	@Override
+	public boolean ready() throws IOException {
+		ensureOpen();
+		return this.bufferPosition < this.bufferLimit || this.inputStream.available() > 0;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public void mark(int readAheadLimit) throws IOException {
+		throw new IOException("mark() not supported");
+	}
+
+	@Override
+	public void reset() throws IOException {
+		throw new IOException("reset() not supported");
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!this.closed) {
+			this.closed = true;
+			this.inputStream.close();
+		}
+	}
+
+	private boolean fill() throws IOException {
+		int count;
+		do {
+			count = this.inputStream.read(this.buffer, 0, this.buffer.length);
+		}
+		while (count == 0);
+		if (count < 0) {
+			return false;
+		}
+		this.bufferPosition = 0;
+		this.bufferLimit = count;
+		return true;
+	}
+
+	private void appendToLine(int offset, int count, int length) {
+		if (length + count > this.lineBuffer.length) {
+			this.lineBuffer = Arrays.copyOf(this.lineBuffer, Math.max(this.lineBuffer.length * 2, length + count));
+		}
+		System.arraycopy(this.buffer, offset, this.lineBuffer, length, count);
+	}
+
+	private void ensureOpen() throws IOException {
+		if (this.closed) {
+			throw new IOException("Reader closed");
+		}
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link BufferedReaderFactory} creating {@link SeekableBufferedReader}s. When used
+ * with a {@link FlatFileItemReader}, the byte position of the last read record is saved
+ * in the execution context, and the reader seeks straight to that position on restart
+ * instead of reading and discarding all previously processed lines.
+ * <p>
+ * Only UTF-8 and single byte encodings are supported.
+ *
+ * @since 6.1
+ */
+public class SeekableBufferedReaderFactory implements BufferedReaderFactory {
+
+	@Override
+	public BufferedReader create(Resource resource, String encoding) throws IOException {
+		Charset charset = Charset.forName(encoding);
+		Assert.isTrue(SeekableBufferedReader.isSupported(charset), () -> "Unsupported encoding: " + encoding);
+		return new SeekableBufferedReader(resource.getInputStream(), charset);
+	}
+
+}
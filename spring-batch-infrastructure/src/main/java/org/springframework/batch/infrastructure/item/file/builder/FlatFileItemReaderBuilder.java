@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2025 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -89,6 +89,10 @@ public class FlatFileItemReaderBuilder<T> {
 
 	private @Nullable LineCallbackHandler skippedLinesCallback;
 
+	private long startPosition = 0;
+
+	private long endPosition = Long.MAX_VALUE;
+
 	private @Nullable LineMapper<T> lineMapper;
 
 	private @Nullable FieldSetMapper<T> fieldSetMapper;
@@ -274,6 +278,30 @@ public class FlatFileItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Configure the byte position of the first record to read.
+	 * @param startPosition the byte position to start reading from
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setStartPosition(long)
+	 * @since 6.1
+	 */
+	public FlatFileItemReaderBuilder<T> startPosition(long startPosition) {
+		this.startPosition = startPosition;
+		return this;
+	}
+
+	/**
+	 * Configure the byte position after which no more records are read.
+	 * @param endPosition the byte position to stop reading at
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setEndPosition(long)
+	 * @since 6.1
+	 */
+	public FlatFileItemReaderBuilder<T> endPosition(long endPosition) {
+		this.endPosition = endPosition;
+		return this;
+	}
+
 	/**
 	 * A {@link LineMapper} implementation to be used.
 	 * @param lineMapper {@link LineMapper}
@@ -347,6 +375,7 @@ public class FlatFileItemReaderBuilder<T> {
 
 		builder.fieldSetFactory(spec.fieldSetFactory);
 		builder.strict(spec.strict);
+		builder.reuseFieldSets(spec.reuseFieldSets);
 
 		return this;
 	}
@@ -549,6 +578,8 @@ public class FlatFileItemReaderBuilder<T> {
 			reader.setEncoding(this.encoding);
 		}
 		reader.setLinesToSkip(this.linesToSkip);
+		reader.setStartPosition(this.startPosition);
+		reader.setEndPosition(this.endPosition);
 		reader.setComments(this.comments.toArray(new String[0]));
 
 		if (this.skippedLinesCallback != null) {
@@ -585,6 +616,8 @@ public class FlatFileItemReaderBuilder<T> {
 
 		private boolean strict = true;
 
+		private boolean reuseFieldSets;
+
 		protected DelimitedBuilder(FlatFileItemReaderBuilder<T> parent) {
 			this.parent = parent;
 		}
@@ -671,6 +704,21 @@ public class FlatFileItemReaderBuilder<T> {
 			return this;
 		}
 
+		/**
+		 * If true, tokens are recorded as offsets in a
+		 * {@link org.springframework.batch.infrastructure.item.file.transform.CharSequenceFieldSet}
+		 * reused by the reading thread instead of being copied in a new {@link FieldSet}
+		 * for each line. Defaults to false.
+		 * @param reuseFieldSets the reuseFieldSets flag to set
+		 * @return The instance of the builder for chaining.
+		 * @since 6.1
+		 * @see DelimitedLineTokenizer#setReuseFieldSets(boolean)
+		 */
+		public DelimitedBuilder<T> reuseFieldSets(boolean reuseFieldSets) {
+			this.reuseFieldSets = reuseFieldSets;
+			return this;
+		}
+
 		/**
 		 * Returns a {@link DelimitedLineTokenizer}
 		 * @return {@link DelimitedLineTokenizer}
@@ -707,6 +755,7 @@ public class FlatFileItemReaderBuilder<T> {
 
 			tokenizer.setFieldSetFactory(this.fieldSetFactory);
 			tokenizer.setStrict(this.strict);
+			tokenizer.setReuseFieldSets(this.reuseFieldSets);
 
 			try {
 				tokenizer.afterPropertiesSet();
@@ -898,6 +947,18 @@ public class FlatFileItemReaderBuilder<T> {
 		 */
 		DelimitedSpec<T> strict(boolean strict);
 
+		/**
+		 * If true, tokens are recorded as offsets in a
+		 * {@link org.springframework.batch.infrastructure.item.file.transform.CharSequenceFieldSet}
+		 * reused by the reading thread instead of being copied in a new {@link FieldSet}
+		 * for each line. Defaults to false.
+		 * @param reuseFieldSets the reuseFieldSets flag to set
+		 * @return The instance of the specification for chaining.
+		 * @since 6.1
+		 * @see DelimitedLineTokenizer#setReuseFieldSets(boolean)
+		 */
+		DelimitedSpec<T> reuseFieldSets(boolean reuseFieldSets);
+
 	}
 
 	/**
@@ -975,6 +1036,8 @@ public class FlatFileItemReaderBuilder<T> {
 
 		private boolean strict = true;
 
+		private boolean reuseFieldSets;
+
 		@Override
 		public DelimitedSpec<T> delimiter(String delimiter) {
 			this.delimiter = delimiter;
@@ -1017,6 +1080,12 @@ public class FlatFileItemReaderBuilder<T> {
 			return this;
 		}
 
+		@Override
+		public DelimitedSpec<T> reuseFieldSets(boolean reuseFieldSets) {
+			this.reuseFieldSets = reuseFieldSets;
+			return this;
+		}
+
 	}
 
 	private static class FixedLengthSpecImpl<T> implements FixedLengthSpec<T> {
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file.mapping;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.file.transform.FieldSet;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link FieldSetMapper} that resolves how to create and populate instances of the target
+ * type once, and then maps each {@link FieldSet} through {@link MethodHandle}s without
+ * any per-item reflection, data binder or {@link java.util.Properties} lookup.
+ * <p>
+ * If the target type has a resolvable constructor with parameters (like the canonical
+ * constructor of a record), each parameter is read from the field with the same name.
+ * Otherwise, the target type is instantiated with its default constructor and each field
+ * of the {@link FieldSet} is written with the setter of the property of the same name.
+ * Field names are matched exactly first, then ignoring case and underscores, so that
+ * {@code ITEM_ID} matches the {@code itemId} property. The fields to properties mapping
+ * is resolved from the names of the first mapped {@link FieldSet}: all mapped field sets
+ * are expected to have the same names. Nested property paths are not supported.
+ * <p>
+ * Values are converted with the typed accessors of the {@link FieldSet} for
+ * {@link String}, primitive, primitive wrapper, {@link BigDecimal} and {@link Date}
+ * properties (blank values are mapped to {@code null} for non-primitive types), and with
+ * the {@link ConversionService} for all other types.
+ *
+ * @param <T> type of mapped items
+ * @since 6.1
+ * @see RecordFieldSetMapper
+ * @see BeanWrapperFieldSetMapper
+ */
+public class MethodHandleFieldSetMapper<T> implements FieldSetMapper<T> {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private final Class<T> targetType;
+
+	private final ConversionService conversionService;
+
+	private final MethodHandle constructor;
+
+	private final ValueReader[] constructorArguments;
+
+	private final Map<String, PropertyDescriptor> properties = new HashMap<>();
+
+	private boolean strict = true;
+
+	private volatile PropertyWriter @Nullable [] propertyWriters;
+
+	/**
+	 * Create a new {@link MethodHandleFieldSetMapper}.
+	 * @param targetType type of mapped items
+	 */
+	public MethodHandleFieldSetMapper(Class<T> targetType) {
+		this(targetType, new DefaultConversionService());
+	}
+
+	/**
+	 * Create a new {@link MethodHandleFieldSetMapper}.
+	 * @param targetType type of mapped items
+	 * @param conversionService service to use to convert raw data to typed fields that
+	 * are not natively supported by {@link FieldSet}
+	 */
+	public MethodHandleFieldSetMapper(Class<T> targetType, ConversionService conversionService) {
+		Assert.notNull(targetType, "Target type must not be null");
+		Assert.notNull(conversionService, "Conversion service must not be null");
+		this.targetType = targetType;
+		this.conversionService = conversionService;
+		Constructor<T> mappedConstructor = BeanUtils.getResolvableConstructor(targetType);
+		ReflectionUtils.makeAccessible(mappedConstructor);
+		int parameterCount = mappedConstructor.getParameterCount();
+		try {
+			this.constructor = LOOKUP.unreflectConstructor(mappedConstructor)
+				.asSpreader(Object[].class, parameterCount)
+				.asType(MethodType.methodType(Object.class, Object[].class));
+		}
+		catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to access constructor of " + targetType.getName(), e);
+		}
+		this.constructorArguments = new ValueReader[parameterCount];
+		if (parameterCount > 0) {
+			@Nullable String[] parameterNames = BeanUtils.getParameterNames(mappedConstructor);
+			Class<?>[] parameterTypes = mappedConstructor.getParameterTypes();
+			for (int i = 0; i < parameterCount; i++) {
+				String parameterName = parameterNames[i];
+				Assert.notNull(parameterName, "Constructor parameter names must not be null");
+				this.constructorArguments[i] = valueReader(parameterName, parameterTypes[i]);
+			}
+		}
+		else {
+			for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(targetType)) {
+				if (descriptor.getWriteMethod() != null) {
+					this.properties.put(descriptor.getName(), descriptor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Public setter for the strict property. If true, then {@link #mapFieldSet(FieldSet)}
+	 * will fail if the {@link FieldSet} contains fields that cannot be mapped to a
+	 * writable property of the target type. If false, these fields are ignored. Not used
+	 * when the target type is created with constructor arguments. Defaults to true.
+	 * @param strict the strict flag to set
+	 */
+	public void setStrict(boolean strict) {
+		this.strict = strict;
+	}
+
+	@Override
+	public T mapFieldSet(FieldSet fieldSet) {
+		Assert.isTrue(fieldSet.hasNames(), "Field names must be specified");
+		try {
+			@Nullable Object[] arguments = new Object[this.constructorArguments.length];
+			for (int i = 0; i < arguments.length; i++) {
+				arguments[i] = this.constructorArguments[i].read(fieldSet);
+			}
+			Object target = (Object) this.constructor.invokeExact(arguments);
+			if (arguments.length == 0) {
+				for (PropertyWriter propertyWriter : getPropertyWriters(fieldSet)) {
+					propertyWriter.write(target, fieldSet);
+				}
+			}
+			return this.targetType.cast(target);
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new IllegalStateException("Unable to map field set to " + this.targetType.getName(), e);
+		}
+	}
+
+	private PropertyWriter[] getPropertyWriters(FieldSet fieldSet) {
+		PropertyWriter[] propertyWriters = this.propertyWriters;
+		if (propertyWriters == null) {
+			List<PropertyWriter> writers = new ArrayList<>();
+			for (String name : fieldSet.getNames()) {
+				PropertyDescriptor descriptor = findProperty(name);
+				if (descriptor != null) {
+					writers.add(propertyWriter(name, descriptor));
+				}
+				else if (this.strict) {
+					throw new IllegalStateException(
+							"No writable property found for field [" + name + "] in " + this.targetType.getName());
+				}
+			}
+			propertyWriters = writers.toArray(new PropertyWriter[0]);
+			this.propertyWriters = propertyWriters;
+		}
+		return propertyWriters;
+	}
+
+	private @Nullable PropertyDescriptor findProperty(String name) {
+		PropertyDescriptor descriptor = this.properties.get(name);
+		if (descriptor != null) {
+			return descriptor;
+		}
+		String normalizedName = normalize(name);
+		for (Map.Entry<String, PropertyDescriptor> property : this.properties.entrySet()) {
+			if (normalize(property.getKey()).equals(normalizedName)) {
+				Assert.state(descriptor == null,
+						() -> "Field [" + name + "] matches more than one property in " + this.targetType.getName());
+				descriptor = property.getValue();
+			}
+		}
+		return descriptor;
+	}
+
+	private static String normalize(String name) {
+		return name.replace("_", "").toLowerCase(Locale.ROOT);
+	}
+
+	private PropertyWriter propertyWriter(String name, PropertyDescriptor descriptor) {
+		Method writeMethod = descriptor.getWriteMethod();
+		ReflectionUtils.makeAccessible(writeMethod);
+		MethodHandle setter;
+		try {
+			setter = LOOKUP.unreflect(writeMethod);
+		}
+		catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to access setter of property [" + descriptor.getName() + "] in "
+					+ this.targetType.getName(), e);
+		}
+		Class<?> type = descriptor.getPropertyType();
+		// typed invocations avoid boxing primitive values
+		if (type == int.class) {
+			MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+			return (target, fieldSet) -> {
+				handle.invokeExact(target, fieldSet.readInt(name));
+			};
+		}
+		if (type == long.class) {
+			MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+			return (target, fieldSet) -> {
+				handle.invokeExact(target, fieldSet.readLong(name));
+			};
+		}
+		if (type == double.class) {
+			MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+			return (target, fieldSet) -> {
+				handle.invokeExact(target, fieldSet.readDouble(name));
+			};
+		}
+		MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		ValueReader valueReader = valueReader(name, type);
+		return (target, fieldSet) -> {
+			handle.invokeExact(target, valueReader.read(fieldSet));
+		};
+	}
+
+	private ValueReader valueReader(String name, Class<?> type) {
+		if (type == String.class) {
+			return fieldSet -> fieldSet.readString(name);
+		}
+		if (type.isPrimitive()) {
+			if (type == int.class) {
+				return fieldSet -> fieldSet.readInt(name);
+			}
+			if (type == long.class) {
+				return fieldSet -> fieldSet.readLong(name);
+			}
+			if (type == double.class) {
+				return fieldSet -> fieldSet.readDouble(name);
+			}
+			if (type == float.class) {
+				return fieldSet -> fieldSet.readFloat(name);
+			}
+			if (type == short.class) {
+				return fieldSet -> fieldSet.readShort(name);
+			}
+			if (type == byte.class) {
+				return fieldSet -> fieldSet.readByte(name);
+			}
+			if (type == char.class) {
+				return fieldSet -> fieldSet.readChar(name);
+			}
+		}
+		ValueReader valueReader;
+		if (type == Integer.class) {
+			valueReader = fieldSet -> fieldSet.readInt(name);
+		}
+		else if (type == Long.class) {
+			valueReader = fieldSet -> fieldSet.readLong(name);
+		}
+		else if (type == Double.class) {
+			valueReader = fieldSet -> fieldSet.readDouble(name);
+		}
+		else if (type == Float.class) {
+			valueReader = fieldSet -> fieldSet.readFloat(name);
+		}
+		else if (type == Short.class) {
+			valueReader = fieldSet -> fieldSet.readShort(name);
+		}
+		else if (type == Byte.class) {
+			valueReader = fieldSet -> fieldSet.readByte(name);
+		}
+		else if (type == Character.class) {
+			valueReader = fieldSet -> fieldSet.readChar(name);
+		}
+		else if (type == BigDecimal.class) {
+			valueReader = fieldSet -> fieldSet.readBigDecimal(name);
+		}
+		else if (type == Date.class) {
+			valueReader = fieldSet -> fieldSet.readDate(name);
+		}
+		else {
+			Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(type);
+			return fieldSet -> this.conversionService.convert(fieldSet.readString(name), targetType);
+		}
+		return fieldSet -> isBlank(fieldSet.readString(name)) ? null : valueReader.read(fieldSet);
+	}
+
+	private static boolean isBlank(@Nullable String value) {
+		return value == null || value.isEmpty();
+	}
+
+	/**
+	 * Strategy to read and convert the value of a field.
+	 */
+	@FunctionalInterface
+	private interface ValueReader {
+
+		@Nullable Object read(FieldSet fieldSet);
+
+	}
+
+	/**
+	 * Strategy to write the value of a field in a property of the target object.
+	 */
+	@FunctionalInterface
+	private interface PropertyWriter {
+
+		void write(Object target, FieldSet fieldSet) throws Throwable;
+
+	}
+
+}
@@ -0,0 +1,708 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.file.transform;
+
+import java.math.BigDecimal;
+import java.text.DateFormat;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * {@link FieldSet} implementation backed by the line it was tokenized from and the
+ * offsets of its fields in that line. Primitive, {@link BigDecimal} and default format
+ * {@link Date} values are parsed straight from the line without creating intermediate
+ * {@link String} instances, falling back to the same parsing rules as
+ * {@link DefaultFieldSet} for values that are not plain decimal numbers or ISO dates.
+ * <p>
+ * Instances are reused by the {@link DelimitedLineTokenizer} that created them (see
+ * {@link DelimitedLineTokenizer#setReuseFieldSets(boolean)}): a field set is only valid
+ * until the next line is tokenized by the same thread, so it must not be retained by
+ * clients (for example as the item returned by a
+ * {@link org.springframework.batch.infrastructure.item.file.mapping.FieldSetMapper}).
+ * This class is not thread-safe.
+ *
+ * @since 6.1
+ */
+public class CharSequenceFieldSet implements FieldSet {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+			1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	private final DateFormat dateFormat;
+
+	private final ZoneId zoneId;
+
+	private final NumberFormat numberFormat = NumberFormat.getInstance(Locale.US);
+
+	private CharSequence line = "";
+
+	private int[] starts = new int[INITIAL_CAPACITY];
+
+	private int[] ends = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Values of quoted fields containing escaped quotes, which can not be represented by
+	 * offsets in the line. {@code null} for all other fields.
+	 */
+	private @Nullable String[] values = new String[INITIAL_CAPACITY];
+
+	private int fieldCount;
+
+	private String[] names = new String[0];
+
+	private Map<String, Integer> nameIndexMap = new HashMap<>();
+
+	CharSequenceFieldSet() {
+		SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+		dateFormat.setLenient(false);
+		this.dateFormat = dateFormat;
+		this.zoneId = dateFormat.getTimeZone().toZoneId();
+	}
+
+	/**
+	 * Prepare this field set for the fields of a new line.
+	 * @param line the line the fields belong to
+	 * @param names the names of the fields, or an empty array if the fields are anonymous
+	 */
+	void reset(CharSequence line, String[] names) {
+		this.line = line;
+		this.fieldCount = 0;
+		if (names != this.names) {
+			this.names = names;
+			this.nameIndexMap = CollectionUtils.newHashMap(names.length);
+			for (int i = 0; i < names.length; i++) {
+				this.nameIndexMap.put(names[i], i);
+			}
+		}
+	}
+
+	/**
+	 * Add a field located between the given offsets of the current line.
+	 * @param start the start offset of the field (inclusive)
+	 * @param end the end offset of the field (exclusive)
+	 */
+	void addToken(int start, int end) {
+		Objects.checkFromToIndex(start, end, this.line.length());
+		ensureCapacity();
+		this.starts[this.fieldCount] = start;
+		this.ends[this.fieldCount] = end;
+		this.values[this.fieldCount] = null;
+		this.fieldCount++;
+	}
+
+	/**
+	 * Add a field which value can not be expressed as a range of the current line.
+	 * @param value the value of the field
+	 */
+	void addToken(String value) {
+		ensureCapacity();
+		this.values[this.fieldCount] = value;
+		this.fieldCount++;
+	}
+
+	/**
+	 * Pad with empty fields or truncate the fields of this field set to match the given
+	 * number of fields.
+	 * @param count the expected number of fields
+	 */
+	void adjustFieldCount(int count) {
+		while (this.fieldCount < count) {
+			addToken("");
+		}
+		this.fieldCount = count;
+	}
+
+	private void ensureCapacity() {
+		if (this.fieldCount == this.starts.length) {
+			int capacity = this.fieldCount * 2;
+			this.starts = Arrays.copyOf(this.starts, capacity);
+			this.ends = Arrays.copyOf(this.ends, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+		}
+	}
+
+	@Override
+	public String[] getNames() {
+		if (this.names.length == 0) {
+			throw new IllegalStateException("Field names are not known");
+		}
+		return this.names.clone();
+	}
+
+	@Override
+	public boolean hasNames() {
+		return this.names.length > 0;
+	}
+
+	@Override
+	public String[] getValues() {
+		String[] values = new String[this.fieldCount];
+		for (int i = 0; i < this.fieldCount; i++) {
+			values[i] = readRawString(i);
+		}
+		return values;
+	}
+
+	@Override
+	public String readString(int index) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		return source.subSequence(start, trimmedEnd(source, index, start)).toString();
+	}
+
+	@Override
+	public String readString(String name) {
+		return readString(indexOf(name));
+	}
+
+	@Override
+	public String readRawString(int index) {
+		Objects.checkIndex(index, this.fieldCount);
+		String value = this.values[index];
+		return value != null ? value : this.line.subSequence(this.starts[index], this.ends[index]).toString();
+	}
+
+	@Override
+	public String readRawString(String name) {
+		return readRawString(indexOf(name));
+	}
+
+	@Override
+	public boolean readBoolean(int index) {
+		return readBoolean(index, "true");
+	}
+
+	@Override
+	public boolean readBoolean(String name) {
+		return readBoolean(indexOf(name));
+	}
+
+	@Override
+	public boolean readBoolean(int index, String trueValue) {
+		Assert.notNull(trueValue, "'trueValue' cannot be null.");
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		if (end - start != trueValue.length()) {
+			return false;
+		}
+		for (int i = 0; i < trueValue.length(); i++) {
+			if (source.charAt(start + i) != trueValue.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean readBoolean(String name, String trueValue) {
+		return readBoolean(indexOf(name), trueValue);
+	}
+
+	@Override
+	public char readChar(int index) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		Assert.isTrue(end - start == 1,
+				() -> "Cannot convert field value '" + source.subSequence(start, end) + "' to char.");
+		return source.charAt(start);
+	}
+
+	@Override
+	public char readChar(String name) {
+		return readChar(indexOf(name));
+	}
+
+	@Override
+	public byte readByte(int index) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		if (isInteger(source, start, end, 3)) {
+			long value = parseDigits(source, start, end);
+			if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+				return (byte) value;
+			}
+		}
+		return Byte.parseByte(source.subSequence(start, end).toString());
+	}
+
+	@Override
+	public byte readByte(String name) {
+		return readByte(indexOf(name));
+	}
+
+	@Override
+	public short readShort(int index) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		if (isInteger(source, start, end, 5)) {
+			long value = parseDigits(source, start, end);
+			if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+				return (short) value;
+			}
+		}
+		return Short.parseShort(source.subSequence(start, end).toString());
+	}
+
+	@Override
+	public short readShort(String name) {
+		return readShort(indexOf(name));
+	}
+
+	@Override
+	public int readInt(int index) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		if (isInteger(source, start, end, 18)) {
+			return (int) parseDigits(source, start, end);
+		}
+		return parseNumber(source.subSequence(start, end).toString()).intValue();
+	}
+
+	@Override
+	public int readInt(String name) {
+		return readInt(indexOf(name));
+	}
+
+	@Override
+	public int readInt(int index, int defaultValue) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		if (start == end) {
+			return defaultValue;
+		}
+		if (isInteger(source, start, end, 9)) {
+			return (int) parseDigits(source, start, end);
+		}
+		return Integer.parseInt(source.subSequence(start, end).toString());
+	}
+
+	@Override
+	public int readInt(String name, int defaultValue) {
+		return readInt(indexOf(name), defaultValue);
+	}
+
+	@Override
+	public long readLong(int index) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		if (isInteger(source, start, end, 18)) {
+			return parseDigits(source, start, end);
+		}
+		return parseNumber(source.subSequence(start, end).toString()).longValue();
+	}
+
+	@Override
+	public long readLong(String name) {
+		return readLong(indexOf(name));
+	}
+
+	@Override
+	public long readLong(int index, long defaultValue) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		if (start == end) {
+			return defaultValue;
+		}
+		if (isInteger(source, start, end, 18)) {
+			return parseDigits(source, start, end);
+		}
+		return Long.parseLong(source.subSequence(start, end).toString());
+	}
+
+	@Override
+	public long readLong(String name, long defaultValue) {
+		return readLong(indexOf(name), defaultValue);
+	}
+
+	@Override
+	public float readFloat(int index) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		double value = parseDecimal(source, start, end);
+		return Double.isNaN(value) ? parseNumber(source.subSequence(start, end).toString()).floatValue()
+				: (float) value;
+	}
+
+	@Override
+	public float readFloat(String name) {
+		return readFloat(indexOf(name));
+	}
+
+	@Override
+	public double readDouble(int index) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		double value = parseDecimal(source, start, end);
+		return Double.isNaN(value) ? parseNumber(source.subSequence(start, end).toString()).doubleValue() : value;
+	}
+
+	@Override
+	public double readDouble(String name) {
+		return readDouble(indexOf(name));
+	}
+
+	@Override
+	public @Nullable BigDecimal readBigDecimal(int index) {
+		return readBigDecimal(index, null);
+	}
+
+	@Override
+	public @Nullable BigDecimal readBigDecimal(String name) {
+		return readBigDecimal(name, null);
+	}
+
+	@Override
+	public @Nullable BigDecimal readBigDecimal(int index, @Nullable BigDecimal defaultValue) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		if (start == end) {
+			return defaultValue;
+		}
+		int scale = decimalScale(source, start, end, 18);
+		if (scale >= 0) {
+			return BigDecimal.valueOf(parseDigits(source, start, end), scale);
+		}
+		String candidate = source.subSequence(start, end).toString();
+		try {
+			return new BigDecimal(candidate.replace(",", ""));
+		}
+		catch (NumberFormatException e) {
+			throw new NumberFormatException("Unparseable number: " + candidate);
+		}
+	}
+
+	@Override
+	public @Nullable BigDecimal readBigDecimal(String name, @Nullable BigDecimal defaultValue) {
+		try {
+			return readBigDecimal(indexOf(name), defaultValue);
+		}
+		catch (NumberFormatException e) {
+			throw new NumberFormatException(e.getMessage() + ", name: [" + name + "]");
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + ", name: [" + name + "]");
+		}
+	}
+
+	@Override
+	public Date readDate(int index) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		Date date = parseIsoDate(source, start, end);
+		return date != null ? date : parseDate(source.subSequence(start, end).toString(), this.dateFormat);
+	}
+
+	@Override
+	public Date readDate(int index, Date defaultValue) {
+		CharSequence source = source(index);
+		int start = trimmedStart(source, index);
+		int end = trimmedEnd(source, index, start);
+		return start == end ? defaultValue : readDate(index);
+	}
+
+	@Override
+	public Date readDate(String name) {
+		try {
+			return readDate(indexOf(name));
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + ", name: [" + name + "]");
+		}
+	}
+
+	@Override
+	public Date readDate(String name, Date defaultValue) {
+		try {
+			return readDate(indexOf(name), defaultValue);
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + ", name: [" + name + "]");
+		}
+	}
+
+	@Override
+	public Date readDate(int index, String pattern) {
+		SimpleDateFormat sdf = new SimpleDateFormat(pattern);
+		sdf.setLenient(false);
+		return parseDate(readString(index), sdf);
+	}
+
+	@Override
+	public Date readDate(int index, String pattern, Date defaultValue) {
+		String candidate = readString(index);
+		return candidate.isEmpty() ? defaultValue : parseDate(candidate, pattern);
+	}
+
+	@Override
+	public Date readDate(String name, String pattern) {
+		try {
+			return readDate(indexOf(name), pattern);
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + ", name: [" + name + "]");
+		}
+	}
+
+	@Override
+	public Date readDate(String name, String pattern, Date defaultValue) {
+		try {
+			return readDate(indexOf(name), pattern, defaultValue);
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + ", name: [" + name + "]");
+		}
+	}
+
+	@Override
+	public int getFieldCount() {
+		return this.fieldCount;
+	}
+
+	@Override
+	public Properties getProperties() {
+		if (this.names.length == 0) {
+			throw new IllegalStateException("Cannot create properties without meta data");
+		}
+		Properties props = new Properties();
+		for (int i = 0; i < this.fieldCount; i++) {
+			props.setProperty(this.names[i], readString(i));
+		}
+		return props;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object instanceof CharSequenceFieldSet fs) {
+			return Arrays.equals(getValues(), fs.getValues());
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(getValues());
+	}
+
+	@Override
+	public String toString() {
+		if (this.names.length > 0) {
+			return getProperties().toString();
+		}
+		return Arrays.toString(getValues());
+	}
+
+	/**
+	 * Retrieve the index of where a specified column is located based on the {@code name}
+	 * parameter.
+	 * @param name the name of the column
+	 * @return the index of the column
+	 * @throws IllegalArgumentException if a column with given name is not defined.
+	 */
+	protected int indexOf(String name) {
+		if (this.names.length == 0) {
+			throw new IllegalArgumentException("Cannot access columns by name without meta data");
+		}
+		Integer index = this.nameIndexMap.get(name);
+		if (index != null) {
+			return index;
+		}
+		throw new IllegalArgumentException("Cannot access column [" + name + "] from " + Arrays.toString(this.names));
+	}
+
+	private CharSequence source(int index) {
+		Objects.checkIndex(index, this.fieldCount);
+		String value = this.values[index];
+		return value != null ? value : this.line;
+	}
+
+	private int trimmedStart(CharSequence source, int index) {
+		boolean inLine = this.values[index] == null;
+		int start = inLine ? this.starts[index] : 0;
+		int end = inLine ? this.ends[index] : source.length();
+		while (start < end && source.charAt(start) <= ' ') {
+			start++;
+		}
+		return start;
+	}
+
+	private int trimmedEnd(CharSequence source, int index, int start) {
+		int end = this.values[index] == null ? this.ends[index] : source.length();
+		while (end > start && source.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return end;
+	}
+
+	/**
+	 * Check if the given range is an optionally negative sequence of at most
+	 * {@code maxDigits} ASCII digits.
+	 */
+	private static boolean isInteger(CharSequence source, int start, int end, int maxDigits) {
+		int digitsStart = start < end && source.charAt(start) == '-' ? start + 1 : start;
+		if (digitsStart == end || end - digitsStart > maxDigits) {
+			return false;
+		}
+		for (int i = digitsStart; i < end; i++) {
+			if (!isDigit(source.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return the number of fraction digits of the given range if it is an optionally
+	 * negative decimal number of at most {@code maxDigits} ASCII digits with an optional
+	 * '.' decimal separator, -1 otherwise.
+	 */
+	private static int decimalScale(CharSequence source, int start, int end, int maxDigits) {
+		int digitsStart = start < end && source.charAt(start) == '-' ? start + 1 : start;
+		int digits = 0;
+		int separator = -1;
+		for (int i = digitsStart; i < end; i++) {
+			char c = source.charAt(i);
+			if (isDigit(c)) {
+				digits++;
+			}
+			else if (c == '.' && separator < 0) {
+				separator = i;
+			}
+			else {
+				return -1;
+			}
+		}
+		if (digits == 0 || digits > maxDigits) {
+			return -1;
+		}
+		return separator < 0 ? 0 : end - separator - 1;
+	}
+
+	/**
+	 * Parse a range validated by {@link #isInteger(CharSequence, int, int, int)} or
+	 * {@link #decimalScale(CharSequence, int, int, int)}, ignoring the decimal separator.
+	 */
+	private static long parseDigits(CharSequence source, int start, int end) {
+		boolean negative = source.charAt(start) == '-';
+		long value = 0;
+		for (int i = negative ? start + 1 : start; i < end; i++) {
+			char c = source.charAt(i);
+			if (c != '.') {
+				value = value * 10 + (c - '0');
+			}
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Parse a plain decimal number, returning {@link Double#NaN} if the range is not a
+	 * decimal number of at most 15 digits. Such a number is exactly represented by a
+	 * (long) mantissa and a power of ten, so their division is correctly rounded.
+	 */
+	private static double parseDecimal(CharSequence source, int start, int end) {
+		int scale = decimalScale(source, start, end, 15);
+		if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+			return Double.NaN;
+		}
+		double value = Math.abs(parseDigits(source, start, end)) / POWERS_OF_TEN[scale];
+		return source.charAt(start) == '-' ? -value : value;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Parse a date in the default {@code yyyy-MM-dd} format, returning {@code null} if
+	 * the range is not in that exact format or does not denote a valid Gregorian date.
+	 */
+	private @Nullable Date parseIsoDate(CharSequence source, int start, int end) {
+		if (end - start != 10 || source.charAt(start + 4) != '-' || source.charAt(start + 7) != '-'
+				|| !isInteger(source, start, start + 4, 4) || !isInteger(source, start + 5, start + 7, 2)
+				|| !isInteger(source, start + 8, end, 2)) {
+			return null;
+		}
+		int year = (int) parseDigits(source, start, start + 4);
+		// SimpleDateFormat uses the Julian calendar before the Gregorian cutover
+		if (year < 1600) {
+			return null;
+		}
+		try {
+			LocalDate date = LocalDate.of(year, (int) parseDigits(source, start + 5, start + 7),
+					(int) parseDigits(source, start + 8, end));
+			return Date.from(date.atStartOfDay(this.zoneId).toInstant());
+		}
+		catch (DateTimeException e) {
+			return null;
+		}
+	}
+
+	private Date parseDate(String input, String pattern) {
+		SimpleDateFormat sdf = new SimpleDateFormat(pattern);
+		sdf.setLenient(false);
+		return parseDate(input, sdf);
+	}
+
+	private Number parseNumber(String input) {
+		try {
+			return this.numberFormat.parse(input);
+		}
+		catch (ParseException e) {
+			throw new NumberFormatException("Unparseable number: " + input);
+		}
+	}
+
+	private static Date parseDate(String input, DateFormat dateFormat) {
+		try {
+			return dateFormat.parse(input);
+		}
+		catch (ParseException e) {
+			String pattern = dateFormat instanceof SimpleDateFormat sdf ? sdf.toPattern() : dateFormat.toString();
+			throw new IllegalArgumentException(e.getMessage() + ", format: [" + pattern + "]");
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -29,6 +31,12 @@ import org.springframework.util.StringUtils;
  * A {@link LineTokenizer} implementation that splits the input String on a configurable
  * delimiter. This implementation also supports the use of an escape character to escape
  * delimiters and line endings.
+ * <p>
+ * By default, each line is split in a new list of {@link String} tokens wrapped in a
+ * {@link FieldSet} created by the configured {@link FieldSetFactory}. When
+ * {@link #setReuseFieldSets(boolean) reuseFieldSets} is enabled, the offsets of the
+ * tokens are instead recorded in a {@link CharSequenceFieldSet} that is reused for all
+ * lines tokenized by the same thread.
  *
  * @author Rob Harrop
  * @author Dave Syer
@@ -65,6 +73,10 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 
 	private final Set<Integer> includedFields = new HashSet<>();
 
+	private boolean reuseFieldSets;
+
+	private final ThreadLocal<CharSequenceFieldSet> fieldSets = ThreadLocal.withInitial(CharSequenceFieldSet::new);
+
 	/**
 	 * Create a new instance of the {@link DelimitedLineTokenizer} class for the common
 	 * case where the delimiter is a {@link #DELIMITER_COMMA comma}.
@@ -129,6 +141,54 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 		this.escapedQuoteString = String.valueOf(quoteCharacter) + quoteCharacter;
 	}
 
+	/**
+	 * Public setter for the reuseFieldSets flag. If true, tokens are not extracted in
+	 * separate {@link String} instances but recorded as offsets in a
+	 * {@link CharSequenceFieldSet} that is reused for all lines tokenized by the current
+	 * thread, and that parses numbers and dates straight from the line. The returned
+	 * {@link FieldSet} is therefore only valid until the next line is tokenized by the
+	 * same thread and must not be retained by clients (which excludes using a
+	 * {@link org.springframework.batch.infrastructure.item.file.mapping.PassThroughFieldSetMapper}).
+	 * The {@link FieldSetFactory} is not used in this mode. Defaults to false.
+	 * @param reuseFieldSets the reuseFieldSets flag to set
+	 * @since 6.1
+	 */
+	public void setReuseFieldSets(boolean reuseFieldSets) {
+		this.reuseFieldSets = reuseFieldSets;
+	}
+
+	@Override
+	public FieldSet tokenize(@Nullable String line) {
+		if (!this.reuseFieldSets) {
+			return super.tokenize(line);
+		}
+		String input = line == null ? "" : line;
+		CharSequenceFieldSet fieldSet = this.fieldSets.get();
+		fieldSet.reset(input, this.names);
+		doTokenize(input, new TokenHandler() {
+
+			@Override
+			public void handle(int start, int end) {
+				fieldSet.addToken(start, end);
+			}
+
+			@Override
+			public void handle(String token) {
+				fieldSet.addToken(token);
+			}
+
+		});
+		if (this.names.length != 0) {
+			if (!isStrict()) {
+				fieldSet.adjustFieldCount(this.names.length);
+			}
+			else if (fieldSet.getFieldCount() != this.names.length) {
+				throw new IncorrectTokenCountException(this.names.length, fieldSet.getFieldCount(), input);
+			}
+		}
+		return fieldSet;
+	}
+
 	/**
 	 * Yields the tokens resulting from the splitting of the supplied <code>line</code>.
 	 * @param line the line to be tokenized
@@ -138,6 +198,23 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 	protected List<String> doTokenize(String line) {
 
 		List<String> tokens = new ArrayList<>();
+		doTokenize(line, new TokenHandler() {
+
+			@Override
+			public void handle(int start, int end) {
+				tokens.add(line.substring(start, end));
+			}
+
+			@Override
+			public void handle(String token) {
+				tokens.add(token);
+			}
+
+		});
+		return tokens;
+	}
+
+	private void doTokenize(String line, TokenHandler tokens) {
 
 		// line is never null in current implementation
 		// line is checked in parent: AbstractLineTokenizer.tokenize()
@@ -165,15 +242,14 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 				}
 
 				if (includedFields.isEmpty() || includedFields.contains(fieldCount)) {
-					String value = substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(line, lastCut, endPosition);
-					tokens.add(value);
+					substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(line, lastCut, endPosition, tokens);
 				}
 
 				fieldCount++;
 
 				if (isEnd && isDelimiter) {
 					if (includedFields.isEmpty() || includedFields.contains(fieldCount)) {
-						tokens.add("");
+						tokens.handle(length, length);
 					}
 					fieldCount++;
 				}
@@ -185,8 +261,6 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 			}
 
 		}
-
-		return tokens;
 	}
 
 	/**
@@ -198,11 +272,12 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 	 * @param line the string
 	 * @param offset index from which to begin extracting substring
 	 * @param count length of substring
-	 * @return a substring from the specified offset within the character array with any
-	 * leading or trailing whitespace trimmed.
+	 * @param tokens the handler of the substring from the specified offset within the
+	 * character array with any leading or trailing whitespace trimmed.
 	 * @see String#trim()
 	 */
-	private String substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(String line, int offset, int count) {
+	private void substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(String line, int offset, int count,
+			TokenHandler tokens) {
 		int start = offset;
 		int len = count;
 
@@ -216,22 +291,30 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 			len--;
 		}
 
-		String value;
-
 		if ((line.length() >= 2) && isQuoteCharacter(line.charAt(start))
 				&& isQuoteCharacter(line.charAt(start + len - 1))) {
 			int beginIndex = start + 1;
 			int endIndex = len - 2;
-			value = line.substring(beginIndex, beginIndex + endIndex);
-			if (value.contains(escapedQuoteString)) {
-				value = StringUtils.replace(value, escapedQuoteString, quoteString);
+			if (containsEscapedQuote(line, beginIndex, beginIndex + endIndex)) {
+				String value = line.substring(beginIndex, beginIndex + endIndex);
+				tokens.handle(StringUtils.replace(value, escapedQuoteString, quoteString));
+			}
+			else {
+				tokens.handle(beginIndex, beginIndex + endIndex);
 			}
 		}
 		else {
-			value = line.substring(offset, offset + count);
+			tokens.handle(offset, offset + count);
 		}
+	}
 
-		return value;
+	private boolean containsEscapedQuote(String line, int beginIndex, int endIndex) {
+		for (int i = beginIndex; i <= endIndex - escapedQuoteString.length(); i++) {
+			if (line.startsWith(escapedQuoteString, i)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -281,4 +364,16 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 		Assert.state(StringUtils.hasLength(this.delimiter), "A delimiter is required");
 	}
 
+	/**
+	 * Callback receiving the tokens of a line, either as a range of the line or as a
+	 * value when quotes had to be unescaped.
+	 */
+	private interface TokenHandler {
+
+		void handle(int start, int end);
+
+		void handle(String token);
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -106,6 +107,32 @@ class ExecutionContextTests {
 		assertFalse(context.isDirty());
 	}
 
+	@Test
+	void testChangedKeys() {
+		context.putString("1", "test");
+		context.putString("2", "test");
+		assertEquals(Set.of("1", "2"), context.getChangedKeys());
+
+		context.clearDirtyFlag();
+		assertTrue(context.getChangedKeys().isEmpty());
+		context.putString("1", "test"); // same value
+		context.putString("2", "other");
+		context.putString("3", null); // remove a non-existent item
+		context.remove("1");
+		assertEquals(Set.of("1", "2"), context.getChangedKeys());
+	}
+
+	@Test
+	void testDirtyWithRemove() {
+		context.putString("1", "test");
+		context.clearDirtyFlag();
+
+		context.remove("1");
+
+		assertTrue(context.isDirty());
+		assertEquals(Set.of("1"), context.getChangedKeys());
+	}
+
 	@Test
 	void testContains() {
 		context.putString("1", "testString");
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database;
+
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcBulkItemWriterBuilder;
+import org.springframework.batch.infrastructure.item.database.support.JdbcBatchInsertDialect;
+import org.springframework.batch.infrastructure.item.database.support.MultiRowInsertDialect;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JdbcBulkItemWriterTests {
+
+	private EmbeddedDatabase dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		this.dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+			.generateUniqueName(true)
+			.build();
+		this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+		this.jdbcTemplate.execute("create table person (id bigint primary key, name varchar(20), age int)");
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.dataSource.shutdown();
+	}
+
+	@Test
+	void testWriteWithMultiRowInserts() throws Exception {
+		// 7 parameters allow 2 rows of 3 columns per statement
+		JdbcBulkItemWriter<Person> writer = createWriter(new MultiRowInsertDialect(7));
+
+		writer.write(Chunk.of(new Person(1, "foo", 10), new Person(2, "bar", null), new Person(3, "baz", 30),
+				new Person(4, "qux", 40), new Person(5, "quux", 50)));
+
+		assertEquals(5, this.jdbcTemplate.queryForObject("select count(*) from person", Integer.class));
+		assertEquals("baz", this.jdbcTemplate.queryForObject("select name from person where id = 3", String.class));
+		assertEquals(null, this.jdbcTemplate.queryForObject("select age from person where id = 2", Integer.class));
+	}
+
+	@Test
+	void testWriteWithJdbcBatch() throws Exception {
+		JdbcBulkItemWriter<Person> writer = createWriter(new JdbcBatchInsertDialect());
+
+		writer.write(Chunk.of(new Person(1, "foo", 10), new Person(2, "bar", 20)));
+
+		assertEquals(2, this.jdbcTemplate.queryForObject("select count(*) from person", Integer.class));
+	}
+
+	@Test
+	void testDialectIsDetectedFromDatabase() throws Exception {
+		JdbcBulkItemWriter<Person> writer = new JdbcBulkItemWriterBuilder<Person>().dataSource(this.dataSource)
+			.table("person")
+			.columns("id", "name", "age")
+			.beanMapped()
+			.build();
+
+		assertInstanceOf(MultiRowInsertDialect.class, writer.bulkInsertDialect);
+		writer.write(Chunk.of(new Person(1, "foo", 10)));
+		assertEquals(1, this.jdbcTemplate.queryForObject("select count(*) from person", Integer.class));
+	}
+
+	@Test
+	void testUpdateCountsAreReportedPerItem() throws Exception {
+		AtomicReference<int[]> updateCounts = new AtomicReference<>();
+		JdbcBulkItemWriter<Person> writer = new JdbcBulkItemWriter<>() {
+			@Override
+			protected void processUpdateCounts(int[] counts) {
+				updateCounts.set(counts);
+			}
+		};
+		configure(writer, new MultiRowInsertDialect(7));
+
+		writer.write(Chunk.of(new Person(1, "foo", 10), new Person(2, "bar", 20), new Person(3, "baz", 30)));
+
+		assertArrayEquals(new int[] { 1, 1, 1 }, updateCounts.get());
+	}
+
+	@Test
+	void testAssertUpdates() throws Exception {
+		JdbcBulkItemWriter<Person> writer = createWriter(
+				(connection, tableName, columnNames, rows) -> new int[] { 1, 0, Statement.SUCCESS_NO_INFO });
+
+		Exception exception = assertThrows(EmptyResultDataAccessException.class, () -> writer
+			.write(Chunk.of(new Person(1, "foo", 10), new Person(2, "bar", 20), new Person(3, "baz", 30))));
+		assertEquals("Item 1 of 3 did not update any rows: [Person[id=2, name=bar, age=20]]", exception.getMessage());
+
+		writer.setAssertUpdates(false);
+		writer.write(Chunk.of(new Person(1, "foo", 10), new Person(2, "bar", 20), new Person(3, "baz", 30)));
+	}
+
+	@Test
+	void testWrongNumberOfValues() throws Exception {
+		JdbcBulkItemWriter<Person> writer = createWriter(new MultiRowInsertDialect());
+		writer.setFieldExtractor(person -> new Object[] { person.id() });
+
+		assertThrows(IllegalStateException.class, () -> writer.write(Chunk.of(new Person(1, "foo", 10))));
+	}
+
+	@Test
+	void testMandatoryProperties() {
+		JdbcBulkItemWriter<Person> writer = new JdbcBulkItemWriter<>();
+		assertThrows(IllegalStateException.class, writer::afterPropertiesSet);
+		writer.setDataSource(this.dataSource);
+		assertThrows(IllegalStateException.class, writer::afterPropertiesSet);
+		writer.setTableName("person");
+		assertThrows(IllegalStateException.class, writer::afterPropertiesSet);
+		writer.setColumnNames("id", "name", "age");
+		assertThrows(IllegalStateException.class, writer::afterPropertiesSet);
+	}
+
+	private JdbcBulkItemWriter<Person> createWriter(BulkInsertDialect dialect) throws Exception {
+		JdbcBulkItemWriter<Person> writer = new JdbcBulkItemWriter<>();
+		configure(writer, dialect);
+		return writer;
+	}
+
+	private void configure(JdbcBulkItemWriter<Person> writer, BulkInsertDialect dialect) throws Exception {
+		writer.setDataSource(this.dataSource);
+		writer.setTableName("person");
+		writer.setColumnNames("id", "name", "age");
+		writer.setFieldExtractor(person -> new Object[] { person.id(), person.name(), person.age() });
+		writer.setBulkInsertDialect(dialect);
+		writer.afterPropertiesSet();
+	}
+
+	public record Person(long id, String name, Integer age) {
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.AbstractItemStreamItemReaderTests;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.sample.Foo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringJUnitConfig(locations = "JpaPagingItemReaderCommonTests-context.xml")
+class JpaPagingItemReaderKeysetTests extends AbstractItemStreamItemReaderTests {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Override
+	protected ItemReader<Foo> getItemReader() throws Exception {
+		return createReader("select f from Foo f", Map.of("f.id", Order.ASCENDING), 3);
+	}
+
+	@Override
+	protected void pointToEmptyInput(ItemReader<Foo> tested) throws Exception {
+		JpaPagingItemReader<Foo> reader = (JpaPagingItemReader<Foo>) tested;
+		reader.close();
+		reader.setQueryString("select f from Foo f where f.id = -1");
+		reader.afterPropertiesSet();
+		reader.open(new ExecutionContext());
+	}
+
+	@Test
+	void testRestartAtEndOfPage() throws Exception {
+		for (int i = 1; i <= 3; i++) {
+			assertEquals(i, tested.read().getValue());
+		}
+		testedAsStream().update(executionContext);
+		testedAsStream().close();
+
+		assertEquals(Map.of("f.id", 3), executionContext.get("JpaPagingItemReader.start.after"));
+
+		tested = getItemReader();
+		testedAsStream().open(executionContext);
+
+		assertEquals(4, tested.read().getValue());
+		assertEquals(5, tested.read().getValue());
+		assertEquals(null, tested.read());
+	}
+
+	@Test
+	void testWhereClauseIsKeptAsAWhole() throws Exception {
+		JpaPagingItemReader<Foo> reader = createReader("select f from Foo f where f.value = 1 or f.value > 3",
+				Map.of("f.id", Order.ASCENDING), 1);
+
+		assertEquals(List.of(1, 4, 5), readValues(reader));
+	}
+
+	@Test
+	void testCompositeSortKeys() throws Exception {
+		Map<String, Order> sortKeys = new LinkedHashMap<>();
+		sortKeys.put("f.name", Order.DESCENDING);
+		sortKeys.put("f.id", Order.ASCENDING);
+		JpaPagingItemReader<Foo> reader = createReader("select f from Foo f", sortKeys, 2);
+
+		assertEquals(List.of(5, 4, 3, 2, 1), readValues(reader));
+	}
+
+	@Test
+	void testKeysetPredicateIsAddedBeforeGroupByAndHaving() {
+		assertEquals(
+				"select f.name, count(f) from Foo f where (f.value > 1) and (f.name > :_sortKey0) "
+						+ "group by f.name having count(f) > 0",
+				JpaPagingItemReader.addKeysetPredicate(
+						"select f.name, count(f) from Foo f where f.value > 1 group by f.name having count(f) > 0",
+						"f.name > :_sortKey0"));
+		assertEquals("select f.name, count(f) from Foo f where f.name > :_sortKey0 group by f.name", JpaPagingItemReader
+			.addKeysetPredicate("select f.name, count(f) from Foo f group by f.name", "f.name > :_sortKey0"));
+		assertEquals("select f from Foo f where (f.name = 'group by') and (f.id > :_sortKey0)", JpaPagingItemReader
+			.addKeysetPredicate("select f from Foo f where f.name = 'group by'", "f.id > :_sortKey0"));
+	}
+
+	@Test
+	void testOrderByClauseIsRejected() {
+		JpaPagingItemReader<Foo> reader = new JpaPagingItemReader<>(this.entityManagerFactory);
+		reader.setQueryString("select f from Foo f order by f.id");
+		reader.setSortKeys(Map.of("f.id", Order.ASCENDING));
+
+		assertThrows(IllegalStateException.class, reader::afterPropertiesSet);
+	}
+
+	private JpaPagingItemReader<Foo> createReader(String queryString, Map<String, Order> sortKeys, int pageSize)
+			throws Exception {
+		JpaPagingItemReader<Foo> reader = new JpaPagingItemReader<>(this.entityManagerFactory);
+		reader.setQueryString(queryString);
+		reader.setSortKeys(sortKeys);
+		reader.setPageSize(pageSize);
+		reader.afterPropertiesSet();
+		reader.setSaveState(true);
+		return reader;
+	}
+
+	private List<Integer> readValues(JpaPagingItemReader<Foo> reader) throws Exception {
+		List<Integer> values = new ArrayList<>();
+		reader.open(new ExecutionContext());
+		try {
+			for (Foo foo = reader.read(); foo != null; foo = reader.read()) {
+				values.add(foo.getValue());
+			}
+		}
+		finally {
+			reader.close();
+		}
+		return values;
+	}
+
+}
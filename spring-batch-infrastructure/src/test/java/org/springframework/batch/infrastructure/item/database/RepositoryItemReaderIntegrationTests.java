@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 the original author or authors.
+ * Copyright 2020-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,10 @@ package org.springframework.batch.infrastructure.item.database;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -27,7 +29,9 @@ import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.data.RepositoryItemReader;
 import org.springframework.batch.infrastructure.item.sample.books.Author;
 import org.springframework.batch.infrastructure.item.sample.books.Book;
+import org.springframework.batch.infrastructure.item.sample.books.data.AuthorRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +44,9 @@ class RepositoryItemReaderIntegrationTests {
 	@Autowired
 	private RepositoryItemReader<Author> reader;
 
+	@Autowired
+	private AuthorRepository authorRepository;
+
 	@AfterEach
 	void reinitializeReader() {
 		reader.close();
@@ -118,4 +125,62 @@ class RepositoryItemReaderIntegrationTests {
 		assertEquals("author 3 - book 2", books.get(1).getName(), "Second book must be author 3 - book 2");
 	}
 
+	@Test
+	void testKeysetPagination() throws Exception {
+		RepositoryItemReader<Author> keysetReader = createKeysetReader();
+		keysetReader.open(new ExecutionContext());
+
+		assertEquals("author 1", keysetReader.read().getName());
+		assertEquals("author 2", keysetReader.read().getName());
+		assertEquals("author 3", keysetReader.read().getName());
+		assertNull(keysetReader.read());
+		keysetReader.close();
+	}
+
+	@Test
+	void testKeysetPaginationRestartWithinPage() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		RepositoryItemReader<Author> keysetReader = createKeysetReader();
+		keysetReader.open(executionContext);
+		keysetReader.read();
+		keysetReader.update(executionContext);
+		keysetReader.close();
+
+		keysetReader = createKeysetReader();
+		keysetReader.open(executionContext);
+
+		assertEquals("author 2", keysetReader.read().getName());
+		keysetReader.close();
+	}
+
+	@Test
+	void testKeysetPaginationRestartOnNewPage() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		RepositoryItemReader<Author> keysetReader = createKeysetReader();
+		keysetReader.open(executionContext);
+		keysetReader.read();
+		keysetReader.read();
+		keysetReader.update(executionContext);
+		keysetReader.close();
+
+		assertEquals(Map.of("id", 2), executionContext.get("keysetAuthorReader.start.after"));
+
+		keysetReader = createKeysetReader();
+		keysetReader.open(executionContext);
+
+		assertEquals("author 3", keysetReader.read().getName());
+		assertNull(keysetReader.read());
+		keysetReader.close();
+	}
+
+	private RepositoryItemReader<Author> createKeysetReader() {
+		RepositoryItemReader<Author> keysetReader = new RepositoryItemReader<>(this.authorRepository,
+				Map.of("id", Sort.Direction.ASC));
+		keysetReader.setMethodName("findBy");
+		keysetReader.setPageSize(2);
+		keysetReader.setKeysetPagination(true);
+		keysetReader.setName("keysetAuthorReader");
+		return keysetReader;
+	}
+
 }
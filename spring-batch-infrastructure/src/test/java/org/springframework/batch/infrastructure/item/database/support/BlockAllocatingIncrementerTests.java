@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.support;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlockAllocatingIncrementerTests {
+
+	@Test
+	void testIdsAreHandedOutFromReservedBlocks() {
+		DataFieldMaxValueIncrementer delegate = mock();
+		when(delegate.nextLongValue()).thenReturn(1L, 2L);
+		BlockAllocatingIncrementer incrementer = new BlockAllocatingIncrementer(delegate, 3);
+
+		assertEquals(3, incrementer.nextLongValue());
+		assertEquals(4, incrementer.nextLongValue());
+		assertEquals(5, incrementer.nextLongValue());
+		assertEquals(6, incrementer.nextLongValue());
+		verify(delegate, times(2)).nextLongValue();
+	}
+
+	@Test
+	void testConcurrentIdsAreUnique() throws Exception {
+		AtomicLong sequence = new AtomicLong();
+		DataFieldMaxValueIncrementer delegate = mock();
+		when(delegate.nextLongValue()).thenAnswer(invocation -> sequence.incrementAndGet());
+		BlockAllocatingIncrementer incrementer = new BlockAllocatingIncrementer(delegate, 1000);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 10000; i++) {
+			executor.execute(() -> ids.add(incrementer.nextLongValue()));
+		}
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+
+		assertEquals(10000, ids.size());
+		assertEquals(10, sequence.get());
+	}
+
+	@Test
+	void testInvalidBlockSize() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new BlockAllocatingIncrementer(mock(DataFieldMaxValueIncrementer.class), 0));
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.support;
+
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.database.JdbcBulkItemWriter;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcBulkItemWriterBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresCopyInsertDialectIntegrationTests {
+
+	// TODO find the best way to externalize and manage image versions
+	private static final DockerImageName POSTGRESQL_IMAGE = DockerImageName.parse("postgres:17.5");
+
+	@Container
+	public static PostgreSQLContainer postgres = new PostgreSQLContainer(POSTGRESQL_IMAGE);
+
+	@Test
+	void testWriteWithCopy() throws Exception {
+		PGSimpleDataSource dataSource = new PGSimpleDataSource();
+		dataSource.setURL(postgres.getJdbcUrl());
+		dataSource.setUser(postgres.getUsername());
+		dataSource.setPassword(postgres.getPassword());
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table person (id bigint primary key, name varchar(50), age int)");
+		JdbcBulkItemWriter<Object[]> writer = new JdbcBulkItemWriterBuilder<Object[]>()
+			.dataSource((DataSource) dataSource)
+			.table("person")
+			.columns("id", "name", "age")
+			.fieldExtractor(item -> item)
+			.build();
+
+		writer.write(Chunk.of(new Object[] { 1L, "foo", 10 }, new Object[] { 2L, "\"bar\",\nbaz", null }));
+
+		assertEquals(List.of("foo", "\"bar\",\nbaz"),
+				jdbcTemplate.queryForList("select name from person order by id", String.class));
+		assertEquals(1, jdbcTemplate.queryForObject("select count(*) from person where age is null", Integer.class));
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.support;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PostgresCopyInsertDialectTests {
+
+	@Test
+	void testAppendRow() {
+		StringBuilder buffer = new StringBuilder();
+
+		PostgresCopyInsertDialect.appendRow(buffer,
+				new Object[] { 1, null, "", "a \"quoted\", multi\nline value", new BigDecimal("1.50"), true,
+						new byte[] { 1, (byte) 0xAB }, LocalDate.of(2026, 1, 2),
+						Timestamp.valueOf("2026-01-02 03:04:05.123456") });
+
+		assertEquals("1,,\"\",\"a \"\"quoted\"\", multi\nline value\",1.50,true,\"\\x01ab\",\"2026-01-02\","
+				+ "\"2026-01-02 03:04:05.123456\"\n", buffer.toString());
+	}
+
+	@Test
+	void testAppendCalendarWithItsOffset() {
+		StringBuilder buffer = new StringBuilder();
+		Calendar calendar = GregorianCalendar
+			.from(ZonedDateTime.of(2026, 1, 2, 3, 4, 5, 0, ZoneId.of("America/New_York")));
+
+		PostgresCopyInsertDialect.appendRow(buffer, new Object[] { calendar });
+
+		assertEquals("\"2026-01-02T03:04:05-05:00\"\n", buffer.toString());
+	}
+
+}
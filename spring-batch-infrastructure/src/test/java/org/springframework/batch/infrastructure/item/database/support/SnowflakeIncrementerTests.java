@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.support;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeIncrementerTests {
+
+	private static final Instant EPOCH = Instant.parse("2026-01-01T00:00:00Z");
+
+	@Test
+	void testIdLayout() {
+		Clock clock = Clock.fixed(EPOCH.plusMillis(5), ZoneOffset.UTC);
+		SnowflakeIncrementer incrementer = new SnowflakeIncrementer(3, EPOCH, clock);
+
+		assertEquals((5L << 22) | (3L << 12), incrementer.nextLongValue());
+		assertEquals((5L << 22) | (3L << 12) | 1, incrementer.nextLongValue());
+	}
+
+	@Test
+	void testSequenceOverflowCarriesTimestampForward() {
+		Clock clock = Clock.fixed(EPOCH.plusMillis(5), ZoneOffset.UTC);
+		SnowflakeIncrementer incrementer = new SnowflakeIncrementer(0, EPOCH, clock);
+
+		long previous = -1;
+		for (int i = 0; i < 10000; i++) {
+			long id = incrementer.nextLongValue();
+			assertTrue(id > previous);
+			previous = id;
+		}
+		assertEquals(7, previous >>> 22);
+	}
+
+	@Test
+	void testInvalidWorkerId() {
+		assertThrows(IllegalArgumentException.class, () -> new SnowflakeIncrementer(1024));
+		assertThrows(IllegalArgumentException.class, () -> new SnowflakeIncrementer(-1));
+	}
+
+	@Test
+	void testNextIntValueIsNotSupported() {
+		assertThrows(DataAccessResourceFailureException.class, () -> new SnowflakeIncrementer(1).nextIntValue());
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileChannelBufferedReaderFactoryTests {
+
+	private static final String CONTENT = "first\r\nsecond line\nthïrd\n\nlast";
+
+	@TempDir
+	private Path directory;
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testReadLines(boolean memoryMapped) throws Exception {
+		FileChannelBufferedReaderFactory factory = new FileChannelBufferedReaderFactory();
+		factory.setMemoryMapped(memoryMapped);
+		factory.setMappedRegionSize(4);
+		factory.setBufferSize(3);
+
+		try (BufferedReader reader = factory.create(createFile(), "UTF-8")) {
+			assertEquals("first", reader.readLine());
+			assertEquals("second line", reader.readLine());
+			assertEquals("thïrd", reader.readLine());
+			assertEquals("", reader.readLine());
+			assertEquals("last", reader.readLine());
+			assertNull(reader.readLine());
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testSeek(boolean memoryMapped) throws Exception {
+		FileChannelBufferedReaderFactory factory = new FileChannelBufferedReaderFactory();
+		factory.setMemoryMapped(memoryMapped);
+		factory.setMappedRegionSize(5);
+
+		try (BufferedReader reader = factory.create(createFile(), "UTF-8")) {
+			SeekableBufferedReader seekableReader = assertInstanceOf(SeekableBufferedReader.class, reader);
+			seekableReader.seek(("first\r\nsecond line\n").length());
+
+			assertEquals("thïrd", reader.readLine());
+		}
+	}
+
+	@Test
+	void testReadFromInputStreamWhenResourceIsNotAFile() throws Exception {
+		FileChannelBufferedReaderFactory factory = new FileChannelBufferedReaderFactory();
+
+		try (BufferedReader reader = factory.create(new ByteArrayResource(CONTENT.getBytes(StandardCharsets.UTF_8)),
+				"UTF-8")) {
+			assertEquals("first", reader.readLine());
+		}
+	}
+
+	@Test
+	void testUnsupportedEncoding() throws Exception {
+		FileChannelBufferedReaderFactory factory = new FileChannelBufferedReaderFactory();
+
+		assertThrows(IllegalArgumentException.class, () -> factory.create(createFile(), "UTF-16"));
+	}
+
+	private FileSystemResource createFile() throws Exception {
+		Path file = Files.writeString(this.directory.resolve("input.txt"), CONTENT, StandardCharsets.UTF_8);
+		return new FileSystemResource(file);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2023 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +27,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +43,7 @@ import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
 import org.springframework.batch.infrastructure.item.file.FlatFileParseException;
 import org.springframework.batch.infrastructure.item.file.LineMapper;
 import org.springframework.batch.infrastructure.item.file.mapping.PassThroughLineMapper;
+import org.springframework.batch.infrastructure.item.file.separator.DefaultRecordSeparatorPolicy;
 import org.springframework.batch.infrastructure.item.file.separator.RecordSeparatorPolicy;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.ByteArrayResource;
@@ -509,6 +515,73 @@ class FlatFileItemReaderTests {
 		assertEquals(3, item3.getItemCount());
 	}
 
+	@Test
+	void testRestartFromBytePosition() throws Exception {
+		String input = "header\r\n# comment\r\ntestLine1\r\n\"multi\nline\"\r\ntestLine\u00e92\ntestLine3\rtestLine4";
+		reader.setResource(getInputResource(input));
+		reader.setBufferedReaderFactory(new SeekableBufferedReaderFactory());
+		reader.setRecordSeparatorPolicy(new DefaultRecordSeparatorPolicy());
+		reader.setLinesToSkip(1);
+		reader.open(executionContext);
+
+		assertEquals("testLine1", reader.read());
+		assertEquals("\"multi\nline\"", reader.read());
+		assertEquals("testLine\u00e92", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		String key = ClassUtils.getShortName(FlatFileItemReader.class);
+		int position = "header\r\n# comment\r\ntestLine1\r\n\"multi\nline\"\r\ntestLine\u00e92\n"
+			.getBytes(StandardCharsets.UTF_8).length;
+		assertEquals(3, executionContext.getInt(key + ".read.count"));
+		assertEquals(position, executionContext.getLong(key + ".read.position"));
+		assertEquals(6, executionContext.getInt(key + ".read.line.count"));
+
+		// lines before the saved position are not read again on restart
+		byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+		Arrays.fill(bytes, 8, position, (byte) 'x');
+		reader.setResource(new ByteArrayResource(bytes));
+		List<String> skippedLines = new ArrayList<>();
+		reader.setSkippedLinesCallback(skippedLines::add);
+		reader.setLineMapper((line, lineNumber) -> line + "@" + lineNumber);
+		reader.open(executionContext);
+
+		assertEquals(List.of("header"), skippedLines);
+		assertEquals("testLine3@7", reader.read());
+		assertEquals("testLine4@8", reader.read());
+		assertNull(reader.read());
+	}
+
+	@Test
+	void testRestartFromItemCountWithSeekableReader() throws Exception {
+		reader.setBufferedReaderFactory(new SeekableBufferedReaderFactory());
+		executionContext.putInt(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.count", 2);
+
+		reader.open(executionContext);
+
+		assertEquals("testLine3", reader.read());
+	}
+
+	@Test
+	void testReadRange() throws Exception {
+		reader.setBufferedReaderFactory(new SeekableBufferedReaderFactory());
+		reader.setStartPosition("testLine1\ntestLine2\n".length());
+		reader.setEndPosition("testLine1\ntestLine2\ntestLine3\ntestLine4\n".length());
+		reader.open(executionContext);
+
+		assertEquals("testLine3", reader.read());
+		assertEquals("testLine4", reader.read());
+		assertNull(reader.read());
+	}
+
+	@Test
+	void testReadRangeRequiresSeekableReader() {
+		reader.setEndPosition(10);
+
+		Exception exception = assertThrows(ItemStreamException.class, () -> reader.open(executionContext));
+		assertInstanceOf(IllegalStateException.class, exception.getCause());
+	}
+
 	private Resource getInputResource(String input) {
 		return new ByteArrayResource(input.getBytes());
 	}
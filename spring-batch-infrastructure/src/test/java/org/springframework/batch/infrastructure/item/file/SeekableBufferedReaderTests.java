@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.core.io.ByteArrayResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeekableBufferedReaderTests {
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 3, 8192 })
+	void testLinesMatchBufferedReader(int bufferSize) throws Exception {
+		String input = "a\nbb\r\nccc\r\rdé€\n\n\r\nlast";
+		BufferedReader expected = new BufferedReader(new StringReader(input));
+		SeekableBufferedReader actual = reader(input, bufferSize);
+
+		String line;
+		long position = 0;
+		while ((line = expected.readLine()) != null) {
+			assertEquals(line, actual.readLine());
+			assertTrue(actual.getPosition() > position);
+			position = actual.getPosition();
+		}
+		assertNull(actual.readLine());
+		assertEquals(input.getBytes(StandardCharsets.UTF_8).length, actual.getPosition());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 4, 8192 })
+	void testSeek(int bufferSize) throws Exception {
+		String input = "first\r\nsecondé\nthird\nfourth";
+		SeekableBufferedReader reader = reader(input, bufferSize);
+		reader.readLine();
+		reader.readLine();
+		long position = reader.getPosition();
+		assertEquals(("first\r\nsecondé\n").getBytes(StandardCharsets.UTF_8).length, position);
+
+		SeekableBufferedReader restarted = reader(input, bufferSize);
+		restarted.readLine();
+		restarted.seek(position);
+
+		assertEquals(position, restarted.getPosition());
+		assertEquals("third", restarted.readLine());
+		assertEquals("fourth", restarted.readLine());
+		assertNull(restarted.readLine());
+		assertThrows(IOException.class, () -> restarted.seek(0));
+	}
+
+	@Test
+	void testReadCharacters() throws Exception {
+		SeekableBufferedReader reader = reader("ab\r\ncd", 8192);
+
+		assertEquals('a', reader.read());
+		assertEquals("b", reader.readLine());
+		char[] chars = new char[8];
+		assertEquals(3, reader.read(chars, 0, 8));
+		assertEquals("cd\n", new String(chars, 0, 3));
+		assertEquals(-1, reader.read());
+	}
+
+	@Test
+	void testSupportedCharsets() {
+		assertTrue(SeekableBufferedReader.isSupported(StandardCharsets.UTF_8));
+		assertTrue(SeekableBufferedReader.isSupported(StandardCharsets.US_ASCII));
+		assertTrue(SeekableBufferedReader.isSupported(StandardCharsets.ISO_8859_1));
+		assertTrue(SeekableBufferedReader.isSupported(Charset.forName("windows-1252")));
+		assertFalse(SeekableBufferedReader.isSupported(StandardCharsets.UTF_16));
+		assertFalse(SeekableBufferedReader.isSupported(StandardCharsets.UTF_16LE));
+		assertThrows(IllegalArgumentException.class,
+				() -> new SeekableBufferedReaderFactory().create(new ByteArrayResource(new byte[0]), "UTF-16"));
+	}
+
+	private static SeekableBufferedReader reader(String input, int bufferSize) {
+		return new SeekableBufferedReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+				StandardCharsets.UTF_8, bufferSize);
+	}
+
+}
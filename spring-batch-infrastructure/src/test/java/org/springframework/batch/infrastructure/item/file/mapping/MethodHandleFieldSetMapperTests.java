@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file.mapping;
+
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.file.transform.DefaultFieldSet;
+import org.springframework.batch.infrastructure.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.infrastructure.item.file.transform.FieldSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MethodHandleFieldSetMapperTests {
+
+	@Test
+	void testMapFieldSetToBean() throws Exception {
+		// given
+		MethodHandleFieldSetMapper<Trade> mapper = new MethodHandleFieldSetMapper<>(Trade.class);
+		FieldSet fieldSet = new DefaultFieldSet(
+				new String[] { "ISIN123", " 10 ", "12.50", "1234567890123", "0.5", "2007-10-12", "SECONDS", "7", "" },
+				new String[] { "isin", "quantity", "price", "id", "ratio", "tradeDate", "unit", "count", "total" });
+
+		// when
+		Trade trade = mapper.mapFieldSet(fieldSet);
+
+		// then
+		assertEquals("ISIN123", trade.getIsin());
+		assertEquals(10, trade.getQuantity());
+		assertEquals(new BigDecimal("12.50"), trade.getPrice());
+		assertEquals(1234567890123L, trade.getId());
+		assertEquals(0.5, trade.getRatio());
+		assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("2007-10-12"), trade.getTradeDate());
+		assertEquals(TimeUnit.SECONDS, trade.getUnit());
+		assertEquals(7, trade.getCount());
+		assertNull(trade.getTotal());
+	}
+
+	@Test
+	void testMapFieldSetToBeanWithFuzzyNames() {
+		// given
+		MethodHandleFieldSetMapper<Trade> mapper = new MethodHandleFieldSetMapper<>(Trade.class);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "ISIN123", "10", "2007-10-12" },
+				new String[] { "ISIN", "Quantity", "TRADE_DATE" });
+
+		// when
+		Trade trade = mapper.mapFieldSet(fieldSet);
+
+		// then
+		assertEquals("ISIN123", trade.getIsin());
+		assertEquals(10, trade.getQuantity());
+		assertEquals(2007 - 1900, trade.getTradeDate().getYear());
+	}
+
+	@Test
+	void testMapFieldSetsFromReusedFieldSet() {
+		// given
+		MethodHandleFieldSetMapper<Trade> mapper = new MethodHandleFieldSetMapper<>(Trade.class);
+		DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+		tokenizer.setNames("isin", "quantity", "price");
+		tokenizer.setReuseFieldSets(true);
+
+		// when
+		Trade first = mapper.mapFieldSet(tokenizer.tokenize("A,1,1.5"));
+		Trade second = mapper.mapFieldSet(tokenizer.tokenize("B,2,2.5"));
+
+		// then
+		assertEquals("A", first.getIsin());
+		assertEquals(1, first.getQuantity());
+		assertEquals(new BigDecimal("1.5"), first.getPrice());
+		assertEquals("B", second.getIsin());
+		assertEquals(2, second.getQuantity());
+		assertEquals(new BigDecimal("2.5"), second.getPrice());
+	}
+
+	@Test
+	void testMapFieldSetWithUnknownField() {
+		// given
+		MethodHandleFieldSetMapper<Trade> mapper = new MethodHandleFieldSetMapper<>(Trade.class);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "ISIN123", "foo" }, new String[] { "isin", "unknown" });
+
+		// when
+		Exception exception = assertThrows(IllegalStateException.class, () -> mapper.mapFieldSet(fieldSet));
+
+		// then
+		assertEquals("No writable property found for field [unknown] in " + Trade.class.getName(),
+				exception.getMessage());
+	}
+
+	@Test
+	void testMapFieldSetWithUnknownFieldWhenNotStrict() {
+		// given
+		MethodHandleFieldSetMapper<Trade> mapper = new MethodHandleFieldSetMapper<>(Trade.class);
+		mapper.setStrict(false);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "ISIN123", "foo" }, new String[] { "isin", "unknown" });
+
+		// when
+		Trade trade = mapper.mapFieldSet(fieldSet);
+
+		// then
+		assertEquals("ISIN123", trade.getIsin());
+	}
+
+	@Test
+	void testMapFieldSetToRecord() {
+		// given
+		MethodHandleFieldSetMapper<Person> mapper = new MethodHandleFieldSetMapper<>(Person.class);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "foo", "1" }, new String[] { "name", "id" });
+
+		// when
+		Person person = mapper.mapFieldSet(fieldSet);
+
+		// then
+		assertEquals(1, person.id());
+		assertEquals("foo", person.name());
+	}
+
+	@Test
+	void testMapFieldSetWhenFieldNamesAreNotSpecified() {
+		// given
+		MethodHandleFieldSetMapper<Person> mapper = new MethodHandleFieldSetMapper<>(Person.class);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "1", "foo" });
+
+		// when
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> mapper.mapFieldSet(fieldSet));
+
+		// then
+		assertEquals("Field names must be specified", exception.getMessage());
+	}
+
+	@Test
+	void testMapFieldSetWithInvalidValue() {
+		// given
+		MethodHandleFieldSetMapper<Trade> mapper = new MethodHandleFieldSetMapper<>(Trade.class);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "abc" }, new String[] { "quantity" });
+
+		// when + then
+		assertThrows(NumberFormatException.class, () -> mapper.mapFieldSet(fieldSet));
+	}
+
+	record Person(int id, String name) {
+	}
+
+	public static class Trade {
+
+		private String isin;
+
+		private int quantity;
+
+		private BigDecimal price;
+
+		private long id;
+
+		private double ratio;
+
+		private java.util.Date tradeDate;
+
+		private TimeUnit unit;
+
+		private Integer count;
+
+		private Long total;
+
+		public String getIsin() {
+			return isin;
+		}
+
+		public void setIsin(String isin) {
+			this.isin = isin;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public BigDecimal getPrice() {
+			return price;
+		}
+
+		public void setPrice(BigDecimal price) {
+			this.price = price;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public double getRatio() {
+			return ratio;
+		}
+
+		public void setRatio(double ratio) {
+			this.ratio = ratio;
+		}
+
+		public java.util.Date getTradeDate() {
+			return tradeDate;
+		}
+
+		public void setTradeDate(java.util.Date tradeDate) {
+			this.tradeDate = tradeDate;
+		}
+
+		public TimeUnit getUnit() {
+			return unit;
+		}
+
+		public void setUnit(TimeUnit unit) {
+			this.unit = unit;
+		}
+
+		public Integer getCount() {
+			return count;
+		}
+
+		public void setCount(Integer count) {
+			this.count = count;
+		}
+
+		public Long getTotal() {
+			return total;
+		}
+
+		public void setTotal(Long total) {
+			this.total = total;
+		}
+
+	}
+
+}
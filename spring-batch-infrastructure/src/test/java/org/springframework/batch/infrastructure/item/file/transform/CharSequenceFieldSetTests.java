@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.file.transform;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CharSequenceFieldSetTests {
+
+	private final DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+
+	private final DelimitedLineTokenizer reusingTokenizer = new DelimitedLineTokenizer();
+
+	private final DelimitedLineTokenizer valueTokenizer = new DelimitedLineTokenizer(";");
+
+	CharSequenceFieldSetTests() {
+		this.reusingTokenizer.setReuseFieldSets(true);
+		this.valueTokenizer.setReuseFieldSets(true);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "a,b,c", "sfd,\"Well,I have no idea\",sFj, asdf,,as", "First string,", "   ", "\"\"",
+			"\"a\"\"b\"\"c\",d", " \"quoted\" , x ", "a,,", "" })
+	void testTokensMatchDefaultFieldSet(String line) {
+		FieldSet expected = this.tokenizer.tokenize(line);
+		FieldSet actual = this.reusingTokenizer.tokenize(line);
+
+		assertInstanceOf(CharSequenceFieldSet.class, actual);
+		assertEquals(expected.getFieldCount(), actual.getFieldCount());
+		assertArrayEquals(expected.getValues(), actual.getValues());
+		for (int i = 0; i < expected.getFieldCount(); i++) {
+			assertEquals(expected.readString(i), actual.readString(i));
+			assertEquals(expected.readRawString(i), actual.readRawString(i));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "0", "42", " 42 ", "-42", "007", "-0", "2147483648", "123456789012345678", "1,234", "12.7",
+			"+5", "abc", "" })
+	void testReadIntegersMatchDefaultFieldSet(String value) {
+		assertSameResult(value, fieldSet -> fieldSet.readInt(0));
+		assertSameResult(value, fieldSet -> fieldSet.readInt(0, -1));
+		assertSameResult(value, fieldSet -> fieldSet.readLong(0));
+		assertSameResult(value, fieldSet -> fieldSet.readLong(0, -1L));
+		assertSameResult(value, fieldSet -> fieldSet.readShort(0));
+		assertSameResult(value, fieldSet -> fieldSet.readByte(0));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "0", "1.5", "-1.5", "-0", "-0.0", ".5", "5.", "124.3", "0.1", "3.141592653589793",
+			"123456789012345678901", "1,234.5", "1e3", "", "-" })
+	void testReadDecimalsMatchDefaultFieldSet(String value) {
+		assertSameResult(value, fieldSet -> fieldSet.readDouble(0));
+		assertSameResult(value, fieldSet -> fieldSet.readFloat(0));
+		assertSameResult(value, fieldSet -> fieldSet.readBigDecimal(0));
+		assertSameResult(value, fieldSet -> fieldSet.readBigDecimal(0, BigDecimal.TEN));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "2007-10-12", " 2024-02-29 ", "2023-02-29", "2007-13-01", "1200-01-01", "2007-1-5",
+			"12-10-2007", "" })
+	void testReadDatesMatchDefaultFieldSet(String value) {
+		assertSameResult(value, fieldSet -> fieldSet.readDate(0));
+		assertSameResult(value, fieldSet -> fieldSet.readDate(0, new Date(0)));
+		assertSameResult(value, fieldSet -> fieldSet.readDate(0, "dd-MM-yyyy"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "true", " true ", "TRUE", "false", "x", "xy", "" })
+	void testReadBooleansAndCharsMatchDefaultFieldSet(String value) {
+		assertSameResult(value, fieldSet -> fieldSet.readBoolean(0));
+		assertSameResult(value, fieldSet -> fieldSet.readBoolean(0, "x"));
+		assertSameResult(value, fieldSet -> fieldSet.readChar(0));
+	}
+
+	@Test
+	void testFieldSetIsReusedByTheSameThread() throws Exception {
+		FieldSet first = this.reusingTokenizer.tokenize("a,b");
+		FieldSet second = this.reusingTokenizer.tokenize("c,d,e");
+
+		assertSame(first, second);
+		assertArrayEquals(new String[] { "c", "d", "e" }, second.getValues());
+
+		AtomicReference<FieldSet> other = new AtomicReference<>();
+		Thread thread = new Thread(() -> other.set(this.reusingTokenizer.tokenize("f")));
+		thread.start();
+		thread.join();
+		assertNotSame(second, other.get());
+		assertArrayEquals(new String[] { "c", "d", "e" }, second.getValues());
+	}
+
+	@Test
+	void testNamesAndStrictMode() {
+		this.reusingTokenizer.setNames("first", "second", "third");
+
+		FieldSet fieldSet = this.reusingTokenizer.tokenize("1, 2.5 ,2007-10-12");
+		assertTrue(fieldSet.hasNames());
+		assertEquals(1, fieldSet.readInt("first"));
+		assertEquals(2.5, fieldSet.readDouble("second"));
+		assertEquals("2007-10-12", fieldSet.readString("third"));
+		assertEquals("2.5", fieldSet.getProperties().getProperty("second"));
+		assertThrows(IllegalArgumentException.class, () -> fieldSet.readString("unknown"));
+
+		Exception exception = assertThrows(IncorrectTokenCountException.class,
+				() -> this.reusingTokenizer.tokenize("1,2"));
+		assertEquals("Incorrect number of tokens found in record: expected 3 actual 2", exception.getMessage());
+
+		this.reusingTokenizer.setStrict(false);
+		assertArrayEquals(new String[] { "1", "2", "" }, this.reusingTokenizer.tokenize("1,2").getValues());
+		assertArrayEquals(new String[] { "1", "2", "3" }, this.reusingTokenizer.tokenize("1,2,3,4").getValues());
+	}
+
+	@Test
+	void testIncludedFieldsAndCustomDelimiter() {
+		this.reusingTokenizer.setDelimiter("||");
+		this.reusingTokenizer.setIncludedFields(0, 2);
+
+		FieldSet fieldSet = this.reusingTokenizer.tokenize("a||b||c");
+
+		assertFalse(fieldSet.hasNames());
+		assertArrayEquals(new String[] { "a", "c" }, fieldSet.getValues());
+	}
+
+	@Test
+	void testReadOutOfBounds() {
+		FieldSet fieldSet = this.reusingTokenizer.tokenize("a,b");
+
+		assertThrows(IndexOutOfBoundsException.class, () -> fieldSet.readString(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> fieldSet.readInt(-1));
+	}
+
+	private void assertSameResult(String value, Function<FieldSet, Object> reader) {
+		FieldSet expected = new DefaultFieldSet(new String[] { value });
+		// the trailing delimiter makes sure that the value is tokenized as a single field
+		FieldSet actual = this.valueTokenizer.tokenize(value + ";");
+		Object expectedResult;
+		try {
+			expectedResult = reader.apply(expected);
+		}
+		catch (RuntimeException e) {
+			RuntimeException actualException = assertThrows(RuntimeException.class, () -> reader.apply(actual),
+					"Expected exception for [" + value + "]");
+			assertEquals(e.getClass(), actualException.getClass(), "Exception type for [" + value + "]");
+			return;
+		}
+		assertEquals(expectedResult, reader.apply(actual), "Value for [" + value + "]");
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 the original author or authors.
+ * Copyright 2020-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,16 @@
 package org.springframework.batch.infrastructure.item.sample.books.data;
 
 import org.springframework.batch.infrastructure.item.sample.books.Author;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AuthorRepository extends PagingAndSortingRepository<Author, Integer> {
 
+	Window<Author> findBy(ScrollPosition position, Sort sort, Limit limit);
+
 }
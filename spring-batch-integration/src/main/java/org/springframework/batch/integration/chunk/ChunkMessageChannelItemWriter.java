@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,16 @@
 
 package org.springframework.batch.integration.chunk;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -39,7 +43,9 @@ import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.integration.core.MessagingTemplate;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.PollableChannel;
+import org.springframework.messaging.SubscribableChannel;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.util.Assert;
 
@@ -67,6 +73,20 @@ public class ChunkMessageChannelItemWriter<T>
 
 	protected PollableChannel replyChannel;
 
+	private ChunkMessageCodec<T> codec;
+
+	private SubscribableChannel asyncReplyChannel;
+
+	private Duration replyTimeout = Duration.ofMinutes(1);
+
+	private final MessageHandler replyHandler = this::handleReply;
+
+	private final ReentrantLock replyLock = new ReentrantLock();
+
+	private final Condition replyReceived = this.replyLock.newCondition();
+
+	private final AtomicReference<Throwable> replyFailure = new AtomicReference<>();
+
 	/**
 	 * The maximum number of times to wait at the end of a step for a non-null result from
 	 * the remote workers. This is a multiplier on the receive timeout set separately on
@@ -95,12 +115,62 @@ public class ChunkMessageChannelItemWriter<T>
 		this.replyChannel = replyChannel;
 	}
 
+	/**
+	 * Set a channel on which replies from the workers are dispatched asynchronously,
+	 * instead of polling the {@link #setReplyChannel(PollableChannel) reply channel}. The
+	 * writer subscribes to this channel for the duration of the step and records each
+	 * reply as soon as it is dispatched. The number of chunks in flight is kept within
+	 * the {@link #setThrottleLimit(long) throttle limit}, and a new chunk is sent as soon
+	 * as a reply frees a slot, without waiting for a receive timeout. Failed replies are
+	 * reported by the next write, or at the end of the step.
+	 * @param asyncReplyChannel the channel on which replies are dispatched
+	 * @since 6.1
+	 * @see #setReplyTimeout(Duration)
+	 */
+	public void setAsyncReplyChannel(SubscribableChannel asyncReplyChannel) {
+		this.asyncReplyChannel = asyncReplyChannel;
+	}
+
+	/**
+	 * Set the maximum time to wait for the next reply when replies are dispatched
+	 * {@link #setAsyncReplyChannel(SubscribableChannel) asynchronously}. The wait is
+	 * reset each time a reply is received, so a slow worker does not make the step fail
+	 * as long as the workers make progress. Defaults to one minute.
+	 * @param replyTimeout the maximum time to wait for the next reply
+	 * @since 6.1
+	 */
+	public void setReplyTimeout(Duration replyTimeout) {
+		Assert.notNull(replyTimeout, "The reply timeout must not be null");
+		Assert.isTrue(!replyTimeout.isNegative(), "The reply timeout must not be negative");
+		this.replyTimeout = replyTimeout;
+	}
+
+	/**
+	 * Set the codec used to encode chunk requests and decode chunk responses. By default,
+	 * requests are sent as {@link ChunkRequest} objects. The workers must be configured
+	 * with the same codec.
+	 * @param codec the codec of the chunk messages
+	 * @since 6.1
+	 */
+	public void setChunkMessageCodec(ChunkMessageCodec<T> codec) {
+		this.codec = codec;
+	}
+
 	@Override
 	public void write(Chunk<? extends T> items) throws Exception {
 
 		// Block until expecting <= throttle limit
-		while (localState.getExpecting() > throttleLimit) {
-			getNextResult();
+		if (asyncReplyChannel != null) {
+			rethrowReplyFailure();
+			if (!awaitReplies(throttleLimit, true)) {
+				throw new AsynchronousFailureException(
+						"Timed out waiting for a reply with " + localState.getExpecting() + " chunks in flight");
+			}
+		}
+		else {
+			while (localState.getExpecting() > throttleLimit) {
+				getNextResult();
+			}
 		}
 
 		if (!items.isEmpty()) {
@@ -109,7 +179,8 @@ public class ChunkMessageChannelItemWriter<T>
 			if (logger.isDebugEnabled()) {
 				logger.debug("Dispatching chunk: " + request);
 			}
-			messagingGateway.send(new GenericMessage<>(request));
+			Object payload = codec != null ? codec.encodeRequest(request) : request;
+			messagingGateway.send(new GenericMessage<>(payload));
 			localState.incrementExpected();
 
 		}
@@ -119,10 +190,28 @@ public class ChunkMessageChannelItemWriter<T>
 	@Override
 	public void beforeStep(StepExecution stepExecution) {
 		localState.setStepExecution(stepExecution);
+		if (asyncReplyChannel != null) {
+			// initialise the state before replies can be received, open() only adds the
+			// backlog of a previous execution to it
+			localState.reset();
+			replyFailure.set(null);
+			asyncReplyChannel.subscribe(replyHandler);
+		}
 	}
 
 	@Override
 	public ExitStatus afterStep(StepExecution stepExecution) {
+		try {
+			return waitForResults(stepExecution);
+		}
+		finally {
+			if (asyncReplyChannel != null) {
+				asyncReplyChannel.unsubscribe(replyHandler);
+			}
+		}
+	}
+
+	private ExitStatus waitForResults(StepExecution stepExecution) {
 		if (!(stepExecution.getStatus() == BatchStatus.COMPLETED)) {
 			return ExitStatus.EXECUTING;
 		}
@@ -196,6 +285,14 @@ public class ChunkMessageChannelItemWriter<T>
 	 * @return true if successfully received a result, false if timed out
 	 */
 	protected boolean waitForResults() throws AsynchronousFailureException {
+		if (asyncReplyChannel != null) {
+			if (logger.isInfoEnabled()) {
+				logger.info("Waiting for " + localState.getExpecting() + " results");
+			}
+			boolean completed = awaitReplies(0, false);
+			rethrowReplyFailure();
+			return completed;
+		}
 		int count = 0;
 		int maxCount = maxWaitTimeouts;
 		Throwable failure = null;
@@ -226,34 +323,101 @@ public class ChunkMessageChannelItemWriter<T>
 	 * @throws IllegalStateException if the result contains the wrong job instance id
 	 * (maybe we are sharing a channel and we shouldn't be)
 	 */
-	@SuppressWarnings("unchecked")
 	protected void getNextResult() throws AsynchronousFailureException {
-		Message<ChunkResponse> message = (Message<ChunkResponse>) messagingGateway.receive(replyChannel);
+		Message<?> message = messagingGateway.receive(replyChannel);
 		if (message != null) {
-			ChunkResponse payload = message.getPayload();
-			if (logger.isDebugEnabled()) {
-				logger.debug("Found result: " + payload);
+			handleResponse(message);
+		}
+	}
+
+	/**
+	 * Record a reply dispatched asynchronously and wake up the thread waiting for
+	 * replies, if any.
+	 */
+	private void handleReply(Message<?> message) {
+		try {
+			handleResponse(message);
+		}
+		catch (RuntimeException e) {
+			logger.error("Detected error in remote result.", e);
+			replyFailure.compareAndSet(null, e);
+		}
+		finally {
+			replyLock.lock();
+			try {
+				replyReceived.signalAll();
 			}
-			Long jobInstanceId = payload.getJobInstanceId();
-			Assert.state(jobInstanceId != null, "Message did not contain job instance id.");
-			Assert.state(jobInstanceId.equals(localState.getJobInstanceId()),
-					"Message contained wrong job instance id [" + jobInstanceId + "] should have been ["
-							+ localState.getJobInstanceId() + "].");
-			if (payload.isRedelivered()) {
-				logger.warn(
-						"Redelivered result detected, which may indicate stale state. In the best case, we just picked up a timed out message "
-								+ "from a previous failed execution. In the worst case (and if this is not a restart), "
-								+ "the step may now timeout.  In that case if you believe that all messages "
-								+ "from workers have been sent, the business state "
-								+ "is probably inconsistent, and the step will fail.");
-				localState.incrementRedelivered();
+			finally {
+				replyLock.unlock();
 			}
-			localState.pushResponse(payload);
-			localState.incrementActual();
-			if (!payload.isSuccessful()) {
-				throw new AsynchronousFailureException(
-						"Failure or interrupt detected in handler: " + payload.getMessage());
+		}
+	}
+
+	/**
+	 * Wait until at most the given number of replies are expected. The wait time is reset
+	 * each time a reply is received.
+	 * @return true if enough replies have been received, false if timed out
+	 */
+	private boolean awaitReplies(long maxExpecting, boolean failFast) throws AsynchronousFailureException {
+		long timeout = replyTimeout.toNanos();
+		long remaining = timeout;
+		replyLock.lock();
+		try {
+			int actual = localState.actual.get();
+			while (localState.getExpecting() > maxExpecting) {
+				if (failFast) {
+					rethrowReplyFailure();
+				}
+				if (remaining <= 0) {
+					return false;
+				}
+				remaining = replyReceived.awaitNanos(remaining);
+				if (localState.actual.get() != actual) {
+					actual = localState.actual.get();
+					remaining = timeout;
+				}
 			}
+			return true;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AsynchronousFailureException("Interrupted while waiting for results", e);
+		}
+		finally {
+			replyLock.unlock();
+		}
+	}
+
+	private void rethrowReplyFailure() throws AsynchronousFailureException {
+		Throwable failure = replyFailure.getAndSet(null);
+		if (failure != null) {
+			throw wrapIfNecessary(failure);
+		}
+	}
+
+	private void handleResponse(Message<?> message) throws AsynchronousFailureException {
+		ChunkResponse payload = message.getPayload() instanceof byte[] bytes && codec != null
+				? codec.decodeResponse(bytes) : (ChunkResponse) message.getPayload();
+		if (logger.isDebugEnabled()) {
+			logger.debug("Found result: " + payload);
+		}
+		Long jobInstanceId = payload.getJobInstanceId();
+		Assert.state(jobInstanceId != null, "Message did not contain job instance id.");
+		Assert.state(jobInstanceId.equals(localState.getJobInstanceId()), "Message contained wrong job instance id ["
+				+ jobInstanceId + "] should have been [" + localState.getJobInstanceId() + "].");
+		if (payload.isRedelivered()) {
+			logger.warn(
+					"Redelivered result detected, which may indicate stale state. In the best case, we just picked up a timed out message "
+							+ "from a previous failed execution. In the worst case (and if this is not a restart), "
+							+ "the step may now timeout.  In that case if you believe that all messages "
+							+ "from workers have been sent, the business state "
+							+ "is probably inconsistent, and the step will fail.");
+			localState.incrementRedelivered();
+		}
+		localState.pushResponse(payload);
+		localState.incrementActual();
+		if (!payload.isSuccessful()) {
+			throw new AsynchronousFailureException("Failure or interrupt detected in handler: " + payload.getMessage());
 		}
 	}
 
@@ -295,9 +459,15 @@ public class ChunkMessageChannelItemWriter<T>
 			return new ChunkRequest<>(current.incrementAndGet(), items, getJobInstanceId(), createStepContribution());
 		}
 
+		/**
+		 * Add the counts saved by a previous execution, keeping the replies that have
+		 * already been received by this one.
+		 * @param expectedValue the number of chunks sent by the previous execution
+		 * @param actualValue the number of replies received by the previous execution
+		 */
 		public void open(int expectedValue, int actualValue) {
-			actual.set(actualValue);
-			expected.set(expectedValue);
+			actual.addAndGet(actualValue);
+			expected.addAndGet(expectedValue);
 		}
 
 		public Collection<ChunkResponse> pollChunkResponses() {
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.chunk;
+
+/**
+ * Strategy to encode the chunk requests and responses exchanged between the manager and
+ * the workers of a remote chunking step into a compact binary payload, instead of sending
+ * them as Java serialized objects. The same codec must be configured on both sides: on
+ * the {@link ChunkMessageChannelItemWriter} of the manager and in front of the
+ * {@link ChunkRequestHandler} of the workers, for example with
+ * {@link RemoteChunkingWorkerBuilder#codec(ChunkMessageCodec)}.
+ *
+ * @param <T> the type of the items in the chunks
+ * @since 6.1
+ * @see CompactChunkMessageCodec
+ */
+public interface ChunkMessageCodec<T> {
+
+	/**
+	 * Encode a chunk request sent by the manager.
+	 * @param request the chunk request
+	 * @return the encoded request
+	 */
+	byte[] encodeRequest(ChunkRequest<T> request);
+
+	/**
+	 * Decode a chunk request received by a worker.
+	 * @param payload the encoded request
+	 * @return the chunk request
+	 */
+	ChunkRequest<T> decodeRequest(byte[] payload);
+
+	/**
+	 * Encode a chunk response sent by a worker.
+	 * @param response the chunk response
+	 * @return the encoded response
+	 */
+	byte[] encodeResponse(ChunkResponse response);
+
+	/**
+	 * Decode a chunk response received by the manager.
+	 * @param payload the encoded response
+	 * @return the chunk response
+	 */
+	ChunkResponse decodeResponse(byte[] payload);
+
+}
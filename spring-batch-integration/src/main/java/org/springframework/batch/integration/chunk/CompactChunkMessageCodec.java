@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.chunk;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ChunkMessageCodec} that writes chunk requests and responses in a compact binary
+ * format. Instead of the whole {@link StepContribution} and its {@link StepExecution}, a
+ * request only carries the items, the sequence number of the chunk and the identifiers of
+ * the job and step executions. A response only carries the counts and the exit status of
+ * the contribution. The step execution of the decoded contributions is a placeholder that
+ * only holds these identifiers.
+ * <p>
+ * Items are written with the configured {@link Serializer}, which uses Java serialization
+ * by default. The payloads can optionally be {@link #setCompressed(boolean) compressed}.
+ * Decoding detects whether a payload was compressed, so the manager and the workers do
+ * not need to be switched at the same time.
+ *
+ * @param <T> the type of the items in the chunks
+ * @since 6.1
+ */
+public class CompactChunkMessageCodec<T> implements ChunkMessageCodec<T> {
+
+	private static final byte VERSION = 1;
+
+	private static final byte COMPRESSED = 1;
+
+	private static final byte SUCCESSFUL = 1 << 1;
+
+	private static final byte REDELIVERED = 1 << 2;
+
+	private static final byte HAS_MESSAGE = 1 << 3;
+
+	private final Serializer<? super T> itemSerializer;
+
+	private final Deserializer<? extends T> itemDeserializer;
+
+	private boolean compressed = false;
+
+	/**
+	 * Create a new {@link CompactChunkMessageCodec} that writes items with Java
+	 * serialization.
+	 */
+	@SuppressWarnings("unchecked")
+	public CompactChunkMessageCodec() {
+		this(new DefaultSerializer(), (Deserializer<? extends T>) new DefaultDeserializer());
+	}
+
+	/**
+	 * Create a new {@link CompactChunkMessageCodec}.
+	 * @param itemSerializer the serializer of the items
+	 * @param itemDeserializer the deserializer of the items
+	 */
+	public CompactChunkMessageCodec(Serializer<? super T> itemSerializer, Deserializer<? extends T> itemDeserializer) {
+		Assert.notNull(itemSerializer, "The item serializer must not be null");
+		Assert.notNull(itemDeserializer, "The item deserializer must not be null");
+		this.itemSerializer = itemSerializer;
+		this.itemDeserializer = itemDeserializer;
+	}
+
+	/**
+	 * Set whether payloads are compressed with the Deflate algorithm. Compression trades
+	 * CPU for bandwidth and pays off for chunks of large or repetitive items. Defaults to
+	 * {@code false}.
+	 * @param compressed {@code true} to compress the payloads
+	 */
+	public void setCompressed(boolean compressed) {
+		this.compressed = compressed;
+	}
+
+	@Override
+	public byte[] encodeRequest(ChunkRequest<T> request) {
+		return encode((byte) 0, output -> {
+			output.writeInt(request.getSequence());
+			writeStepExecution(output, request.getStepContribution().getStepExecution());
+			output.writeLong(request.getStepContribution().getStepSkipCount());
+			List<? extends T> items = request.getItems().getItems();
+			output.writeInt(items.size());
+			ByteArrayOutputStream item = new ByteArrayOutputStream();
+			for (T value : items) {
+				item.reset();
+				this.itemSerializer.serialize(value, item);
+				output.writeInt(item.size());
+				item.writeTo(output);
+			}
+		});
+	}
+
+	@Override
+	public ChunkRequest<T> decodeRequest(byte[] payload) {
+		return decode(payload, (flags, input) -> {
+			int sequence = input.readInt();
+			StepExecution stepExecution = readStepExecution(input);
+			stepExecution.setReadSkipCount(input.readLong());
+			int size = input.readInt();
+			List<T> items = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				byte[] item = new byte[input.readInt()];
+				input.readFully(item);
+				items.add(this.itemDeserializer.deserialize(new ByteArrayInputStream(item)));
+			}
+			return new ChunkRequest<>(sequence, new Chunk<>(items), stepExecution.getJobExecution().getJobInstanceId(),
+					new StepContribution(stepExecution));
+		});
+	}
+
+	@Override
+	public byte[] encodeResponse(ChunkResponse response) {
+		String message = response.getMessage();
+		byte flags = (byte) ((response.isSuccessful() ? SUCCESSFUL : 0) | (response.isRedelivered() ? REDELIVERED : 0)
+				| (message != null ? HAS_MESSAGE : 0));
+		return encode(flags, output -> {
+			output.writeInt(response.getSequence());
+			StepContribution contribution = response.getStepContribution();
+			writeStepExecution(output, contribution.getStepExecution());
+			output.writeLong(contribution.getReadCount());
+			output.writeLong(contribution.getWriteCount());
+			output.writeLong(contribution.getFilterCount());
+			output.writeLong(contribution.getReadSkipCount());
+			output.writeLong(contribution.getWriteSkipCount());
+			output.writeLong(contribution.getProcessSkipCount());
+			writeString(output, contribution.getExitStatus().getExitCode());
+			writeString(output, contribution.getExitStatus().getExitDescription());
+			if (message != null) {
+				writeString(output, message);
+			}
+		});
+	}
+
+	@Override
+	public ChunkResponse decodeResponse(byte[] payload) {
+		return decode(payload, (flags, input) -> {
+			int sequence = input.readInt();
+			StepContribution contribution = new StepContribution(readStepExecution(input));
+			contribution.incrementReadCount(input.readLong());
+			contribution.incrementWriteCount(input.readLong());
+			contribution.incrementFilterCount(input.readLong());
+			contribution.incrementReadSkipCount(input.readLong());
+			contribution.incrementWriteSkipCount(input.readLong());
+			contribution.incrementProcessSkipCount(input.readLong());
+			contribution.setExitStatus(new ExitStatus(readString(input), readString(input)));
+			String message = (flags & HAS_MESSAGE) != 0 ? readString(input) : null;
+			return new ChunkResponse((flags & SUCCESSFUL) != 0, sequence,
+					contribution.getStepExecution().getJobExecution().getJobInstanceId(), contribution, message,
+					(flags & REDELIVERED) != 0);
+		});
+	}
+
+	private void writeStepExecution(DataOutputStream output, StepExecution stepExecution) throws IOException {
+		JobExecution jobExecution = stepExecution.getJobExecution();
+		output.writeLong(jobExecution.getJobInstanceId());
+		writeString(output, jobExecution.getJobInstance().getJobName());
+		output.writeLong(jobExecution.getId());
+		output.writeLong(stepExecution.getId());
+		writeString(output, stepExecution.getStepName());
+	}
+
+	private StepExecution readStepExecution(DataInputStream input) throws IOException {
+		JobInstance jobInstance = new JobInstance(input.readLong(), readString(input));
+		JobExecution jobExecution = new JobExecution(input.readLong(), jobInstance, new JobParameters());
+		return new StepExecution(input.readLong(), readString(input), jobExecution);
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private byte[] encode(byte flags, PayloadWriter writer) {
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		payload.write(VERSION);
+		payload.write(this.compressed ? flags | COMPRESSED : flags);
+		OutputStream stream = this.compressed ? new DeflaterOutputStream(payload) : payload;
+		try (DataOutputStream output = new DataOutputStream(stream)) {
+			writer.write(output);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Could not encode chunk message", e);
+		}
+		return payload.toByteArray();
+	}
+
+	private <R> R decode(byte[] payload, PayloadReader<R> reader) {
+		Assert.isTrue(payload.length >= 2 && payload[0] == VERSION, "Unsupported chunk message format");
+		byte flags = payload[1];
+		InputStream stream = new ByteArrayInputStream(payload, 2, payload.length - 2);
+		if ((flags & COMPRESSED) != 0) {
+			stream = new InflaterInputStream(stream);
+		}
+		try (DataInputStream input = new DataInputStream(stream)) {
+			return reader.read(flags, input);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Could not decode chunk message", e);
+		}
+	}
+
+	@FunctionalInterface
+	private interface PayloadWriter {
+
+		void write(DataOutputStream output) throws IOException;
+
+	}
+
+	@FunctionalInterface
+	private interface PayloadReader<R> {
+
+		R read(byte flags, DataInputStream input) throws IOException;
+
+	}
+
+}
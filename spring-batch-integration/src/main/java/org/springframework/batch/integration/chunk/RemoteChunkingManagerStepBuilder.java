@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2025 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.batch.integration.chunk;
 
+import java.time.Duration;
+
 import org.jspecify.annotations.NullUnmarked;
 
 import org.springframework.batch.core.listener.ChunkListener;
@@ -38,6 +40,7 @@ import org.springframework.batch.infrastructure.repeat.exception.ExceptionHandle
 import org.springframework.integration.core.MessagingTemplate;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.PollableChannel;
+import org.springframework.messaging.SubscribableChannel;
 import org.springframework.retry.RetryPolicy;
 import org.springframework.retry.backoff.BackOffPolicy;
 import org.springframework.retry.policy.RetryContextCache;
@@ -75,6 +78,10 @@ public class RemoteChunkingManagerStepBuilder<I, O> extends FaultTolerantStepBui
 
 	private PollableChannel inputChannel;
 
+	private SubscribableChannel asyncInputChannel;
+
+	private Duration replyTimeout;
+
 	private MessageChannel outputChannel;
 
 	private final int DEFAULT_MAX_WAIT_TIMEOUTS = 40;
@@ -85,6 +92,8 @@ public class RemoteChunkingManagerStepBuilder<I, O> extends FaultTolerantStepBui
 
 	private long throttleLimit = DEFAULT_THROTTLE_LIMIT;
 
+	private ChunkMessageCodec<O> codec;
+
 	/**
 	 * Create a new {@link RemoteChunkingManagerStepBuilder}.
 	 * @param stepName name of the manager step
@@ -110,6 +119,36 @@ public class RemoteChunkingManagerStepBuilder<I, O> extends FaultTolerantStepBui
 		return this;
 	}
 
+	/**
+	 * Set the input channel on which replies from workers are dispatched asynchronously,
+	 * instead of being polled from an {@link #inputChannel(PollableChannel) input
+	 * channel}. The provided channel will be set as an asynchronous reply channel on the
+	 * {@link ChunkMessageChannelItemWriter} created by this builder.
+	 * @param asyncInputChannel the input channel
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see ChunkMessageChannelItemWriter#setAsyncReplyChannel
+	 */
+	public RemoteChunkingManagerStepBuilder<I, O> asyncInputChannel(SubscribableChannel asyncInputChannel) {
+		Assert.notNull(asyncInputChannel, "asyncInputChannel must not be null");
+		this.asyncInputChannel = asyncInputChannel;
+		return this;
+	}
+
+	/**
+	 * Set the maximum time to wait for the next reply when replies are dispatched
+	 * asynchronously.
+	 * @param replyTimeout the maximum time to wait for the next reply
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see ChunkMessageChannelItemWriter#setReplyTimeout(Duration)
+	 */
+	public RemoteChunkingManagerStepBuilder<I, O> replyTimeout(Duration replyTimeout) {
+		Assert.notNull(replyTimeout, "replyTimeout must not be null");
+		this.replyTimeout = replyTimeout;
+		return this;
+	}
+
 	/**
 	 * Set the output channel on which requests to workers will be sent. By using this
 	 * setter, a default messaging template will be created and the output channel will be
@@ -177,6 +216,20 @@ public class RemoteChunkingManagerStepBuilder<I, O> extends FaultTolerantStepBui
 		return this;
 	}
 
+	/**
+	 * Set the codec used to encode chunk requests and decode chunk responses. The workers
+	 * must be configured with the same codec.
+	 * @param codec the codec of the chunk messages
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see ChunkMessageChannelItemWriter#setChunkMessageCodec(ChunkMessageCodec)
+	 */
+	public RemoteChunkingManagerStepBuilder<I, O> codec(ChunkMessageCodec<O> codec) {
+		Assert.notNull(codec, "codec must not be null");
+		this.codec = codec;
+		return this;
+	}
+
 	/**
 	 * Build a manager {@link TaskletStep}.
 	 * @return the configured manager step
@@ -184,7 +237,9 @@ public class RemoteChunkingManagerStepBuilder<I, O> extends FaultTolerantStepBui
 	 */
 	@Override
 	public TaskletStep build() {
-		Assert.notNull(this.inputChannel, "An InputChannel must be provided");
+		Assert.isTrue(this.inputChannel != null || this.asyncInputChannel != null, "An InputChannel must be provided");
+		Assert.state(this.inputChannel == null || this.asyncInputChannel == null,
+				"You must specify either an inputChannel or an asyncInputChannel but not both.");
 		Assert.state(this.outputChannel == null || this.messagingTemplate == null,
 				"You must specify either an outputChannel or a messagingTemplate but not both.");
 
@@ -202,7 +257,18 @@ public class RemoteChunkingManagerStepBuilder<I, O> extends FaultTolerantStepBui
 		chunkMessageChannelItemWriter.setMessagingOperations(this.messagingTemplate);
 		chunkMessageChannelItemWriter.setMaxWaitTimeouts(this.maxWaitTimeouts);
 		chunkMessageChannelItemWriter.setThrottleLimit(this.throttleLimit);
-		chunkMessageChannelItemWriter.setReplyChannel(this.inputChannel);
+		if (this.asyncInputChannel != null) {
+			chunkMessageChannelItemWriter.setAsyncReplyChannel(this.asyncInputChannel);
+		}
+		else {
+			chunkMessageChannelItemWriter.setReplyChannel(this.inputChannel);
+		}
+		if (this.replyTimeout != null) {
+			chunkMessageChannelItemWriter.setReplyTimeout(this.replyTimeout);
+		}
+		if (this.codec != null) {
+			chunkMessageChannelItemWriter.setChunkMessageCodec(this.codec);
+		}
 		super.writer(chunkMessageChannelItemWriter);
 
 		return super.build();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,6 +56,8 @@ public class RemoteChunkingWorkerBuilder<I, O> {
 
 	private MessageChannel outputChannel;
 
+	private ChunkMessageCodec<I> codec;
+
 	/**
 	 * Set the {@link ItemProcessor} to use to process items sent by the manager step.
 	 * @param itemProcessor to use
@@ -100,6 +102,20 @@ public class RemoteChunkingWorkerBuilder<I, O> {
 		return this;
 	}
 
+	/**
+	 * Set the codec used to decode chunk requests and encode chunk responses. The manager
+	 * step must be configured with the same codec.
+	 * @param codec the codec of the chunk messages
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see RemoteChunkingManagerStepBuilder#codec(ChunkMessageCodec)
+	 */
+	public RemoteChunkingWorkerBuilder<I, O> codec(ChunkMessageCodec<I> codec) {
+		Assert.notNull(codec, "codec must not be null");
+		this.codec = codec;
+		return this;
+	}
+
 	/**
 	 * Create an {@link IntegrationFlow} with a {@link ChunkProcessorChunkRequestHandler}
 	 * configured as a service activator listening to the input channel and replying on
@@ -120,6 +136,15 @@ public class RemoteChunkingWorkerBuilder<I, O> {
 		ChunkProcessorChunkRequestHandler<I> chunkProcessorChunkRequestHandler = new ChunkProcessorChunkRequestHandler<>();
 		chunkProcessorChunkRequestHandler.setChunkProcessor(chunkProcessor);
 
+		if (this.codec != null) {
+			ChunkMessageCodec<I> codec = this.codec;
+			return IntegrationFlow.from(this.inputChannel)
+				.transform(byte[].class, codec::decodeRequest)
+				.handle(chunkProcessorChunkRequestHandler, SERVICE_ACTIVATOR_METHOD_NAME)
+				.transform(ChunkResponse.class, codec::encodeResponse)
+				.channel(this.outputChannel)
+				.get();
+		}
 		return IntegrationFlow.from(this.inputChannel)
 			.handle(chunkProcessorChunkRequestHandler, SERVICE_ACTIVATOR_METHOD_NAME)
 			.channel(this.outputChannel)
@@ -1,5 +1,5 @@
 /*
- * Copyright 2009-2025 the original author or authors.
+ * Copyright 2009-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,13 +15,16 @@
  */
 package org.springframework.batch.integration.partition;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
@@ -71,6 +74,18 @@ import org.springframework.util.CollectionUtils;
  * independently within the job repository, we can poll the store to determine the state
  * without the need of the workers to formally respond.</li>
  * </ul>
+ * When polling the job repository, a {@link #setCompletionChannel(PollableChannel)
+ * completion channel} can be configured on which workers publish a
+ * {@link StepExecutionCompletion} for each partition they finish. The job repository is
+ * then only queried once all partitions have reported, or when no notification was
+ * received within the poll interval.
+ * <p>
+ * When polling the job repository, the number of partitions dispatched to the workers at
+ * a time can be {@link #setMaxInFlightPartitions(int) limited}. The remaining requests
+ * are kept by the manager and sent as soon as a dispatched partition has finished, so
+ * that a worker that becomes free picks up the next partition instead of partitions being
+ * assigned up front. Combined with a grid size much larger than the number of workers,
+ * this balances skewed partitions across the workers.
  *
  * Note: The reply channel for this is instance based. Sharing this component across
  * multiple step instances may result in the crossing of messages. It's recommended that
@@ -105,12 +120,18 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 	 */
 	private PollableChannel replyChannel;
 
+	private PollableChannel completionChannel;
+
+	private int maxInFlightPartitions = 0;
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(stepName != null, "A step name must be provided for the remote workers.");
 		Assert.state(messagingGateway != null, "The MessagingOperations must be set");
 
 		pollRepositoryForResults = jobRepository != null;
+		Assert.state(maxInFlightPartitions == 0 || pollRepositoryForResults,
+				"Limiting the partitions in flight requires polling the job repository for worker results.");
 
 		if (pollRepositoryForResults) {
 			logger.debug("MessageChannelPartitionHandler is configured to poll the job repository for worker results");
@@ -150,6 +171,41 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 		this.pollInterval = pollInterval;
 	}
 
+	/**
+	 * When using job repository polling, a channel on which workers notify the completion
+	 * of their partitions with a {@link StepExecutionCompletion} payload. When set, the
+	 * job repository is only queried once every partition has been reported as complete
+	 * or when no notification arrives within the {@link #setPollInterval(long) poll
+	 * interval}, which then acts as a fallback for lost notifications. Optional, the job
+	 * repository is polled at a fixed interval by default.
+	 * <p>
+	 * Completions are consumed from the channel whichever step execution they report, so
+	 * each manager step needs its own completion channel: receiving the completion of a
+	 * partition of another step fails the manager step. Concurrent executions of the same
+	 * manager step consume each other's completions and then rely on the poll interval.
+	 * @param completionChannel the channel to receive completion notifications from
+	 * @since 6.1
+	 * @see StepExecutionRequestHandler#setCompletionChannel(MessageChannel)
+	 */
+	public void setCompletionChannel(PollableChannel completionChannel) {
+		this.completionChannel = completionChannel;
+	}
+
+	/**
+	 * When using job repository polling, the maximum number of partitions dispatched to
+	 * the workers at a time. A new request is sent each time a dispatched partition has
+	 * finished, as reported on the {@link #setCompletionChannel(PollableChannel)
+	 * completion channel} or found when polling the job repository. Defaults to 0, which
+	 * sends the requests of all partitions up front.
+	 * @param maxInFlightPartitions the maximum number of partitions in flight, or 0 for
+	 * no limit
+	 * @since 6.1
+	 */
+	public void setMaxInFlightPartitions(int maxInFlightPartitions) {
+		Assert.isTrue(maxInFlightPartitions >= 0, "The maximum number of partitions in flight must not be negative");
+		this.maxInFlightPartitions = maxInFlightPartitions;
+	}
+
 	/**
 	 * A pre-configured gateway for sending and receiving messages to the remote workers.
 	 * Using this property allows a large degree of control over the timeouts and other
@@ -210,16 +266,14 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 			return partitionStepExecutions;
 		}
 
-		int count = 0;
+		if (maxInFlightPartitions > 0 && maxInFlightPartitions < partitionStepExecutions.size()) {
+			return dispatchAndWait(managerStepExecution, partitionStepExecutions,
+					new ArrayDeque<>(partitionStepExecutions));
+		}
 
-		long jobExecutionId = managerStepExecution.getJobExecution().getId();
+		int count = 0;
 		for (StepExecution stepExecution : partitionStepExecutions) {
-			Message<StepExecutionRequest> request = createMessage(count++, partitionStepExecutions.size(),
-					new StepExecutionRequest(stepName, stepExecution.getId()), jobExecutionId, replyChannel);
-			if (logger.isDebugEnabled()) {
-				logger.debug("Sending request: " + request);
-			}
-			messagingGateway.send(request);
+			send(managerStepExecution, stepExecution, count++, partitionStepExecutions.size());
 		}
 
 		if (!pollRepositoryForResults) {
@@ -230,17 +284,122 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 		}
 	}
 
+	private void send(StepExecution managerStepExecution, StepExecution stepExecution, int sequenceNumber,
+			int sequenceSize) {
+		long jobExecutionId = managerStepExecution.getJobExecution().getId();
+		Message<StepExecutionRequest> request = createMessage(sequenceNumber, sequenceSize,
+				new StepExecutionRequest(stepName, stepExecution.getId()), jobExecutionId, replyChannel);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Sending request: " + request);
+		}
+		messagingGateway.send(request);
+	}
+
+	/*
+	 * Send the requests of the partitions not dispatched yet within the limit of
+	 * partitions in flight, sending the next request each time a dispatched partition has
+	 * finished, and wait for all partitions to finish. Completions are received from the
+	 * completion channel if any. The job repository is queried once all partitions
+	 * reported, or every poll interval in case notifications were lost (or if there is no
+	 * completion channel).
+	 */
+	private Set<StepExecution> dispatchAndWait(StepExecution managerStepExecution,
+			Set<StepExecution> partitionStepExecutions, Deque<StepExecution> undispatched) throws Exception {
+		int size = partitionStepExecutions.size();
+		Set<Long> partitionStepExecutionIds = getIds(partitionStepExecutions);
+		Set<Long> pendingStepExecutionIds = new HashSet<>(partitionStepExecutionIds);
+		long deadline = timeout >= 0 ? System.currentTimeMillis() + timeout : Long.MAX_VALUE;
+		long lastQuery = System.currentTimeMillis();
+
+		while (true) {
+			while (!undispatched.isEmpty()
+					&& pendingStepExecutionIds.size() - undispatched.size() < maxInFlightPartitions) {
+				StepExecution stepExecution = undispatched.poll();
+				send(managerStepExecution, stepExecution, size - undispatched.size() - 1, size);
+			}
+
+			long remaining = deadline - System.currentTimeMillis();
+			if (remaining < 0) {
+				throw new TimeoutException(String.format("Timeout occurred before all partitions completed, %d pending",
+						pendingStepExecutionIds.size()));
+			}
+			if (completionChannel != null) {
+				receiveCompletions(completionChannel, pendingStepExecutionIds, Math.min(pollInterval, remaining));
+			}
+			else {
+				Thread.sleep(Math.min(pollInterval, remaining));
+			}
+
+			long now = System.currentTimeMillis();
+			if (completionChannel == null || pendingStepExecutionIds.isEmpty() || now - lastQuery >= pollInterval) {
+				lastQuery = now;
+				Set<StepExecution> finishedStepExecutions = findFinishedStepExecutions(managerStepExecution,
+						partitionStepExecutionIds);
+				if (finishedStepExecutions.size() == size) {
+					return finishedStepExecutions;
+				}
+				finishedStepExecutions.forEach(stepExecution -> pendingStepExecutionIds.remove(stepExecution.getId()));
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Currently waiting on %d partitions to finish, %d not dispatched yet",
+							pendingStepExecutionIds.size(), undispatched.size()));
+				}
+			}
+		}
+	}
+
+	/*
+	 * Wait up to the given time for a completion, then drain the completions already
+	 * received, removing the step executions they report from the pending ones.
+	 */
+	private void receiveCompletions(PollableChannel completionChannel, Set<Long> pendingStepExecutionIds,
+			long receiveTimeout) {
+		Message<?> message = completionChannel.receive(receiveTimeout);
+		while (message != null) {
+			if (message.getPayload() instanceof StepExecutionCompletion completion) {
+				Assert.state(stepName.equals(completion.getStepName()),
+						() -> "Received a completion of step [" + completion.getStepName()
+								+ "] on the completion channel of step [" + stepName
+								+ "]: each manager step needs its own completion channel");
+				if (pendingStepExecutionIds.remove(completion.getStepExecutionId())) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Received completion: " + completion);
+					}
+				}
+				else if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring completion of a step execution not handled by this step: " + completion);
+				}
+			}
+			else if (logger.isWarnEnabled()) {
+				logger.warn("Ignoring unexpected message on the completion channel: " + message);
+			}
+			message = completionChannel.receive(0);
+		}
+	}
+
+	private Set<StepExecution> findFinishedStepExecutions(StepExecution managerStepExecution,
+			Set<Long> partitionStepExecutionIds) {
+		JobExecution jobExecution = jobRepository.getJobExecution(managerStepExecution.getJobExecutionId());
+		return jobExecution.getStepExecutions()
+			.stream()
+			.filter(stepExecution -> partitionStepExecutionIds.contains(stepExecution.getId()))
+			.filter(stepExecution -> !stepExecution.getStatus().isRunning())
+			.collect(Collectors.toSet());
+	}
+
+	private static Set<Long> getIds(Set<StepExecution> stepExecutions) {
+		return stepExecutions.stream().map(StepExecution::getId).collect(Collectors.toSet());
+	}
+
 	private Set<StepExecution> pollReplies(StepExecution managerStepExecution, final Set<StepExecution> split)
 			throws Exception {
-		Set<Long> partitionStepExecutionIds = split.stream().map(StepExecution::getId).collect(Collectors.toSet());
+		if (completionChannel != null) {
+			return dispatchAndWait(managerStepExecution, split, new ArrayDeque<>());
+		}
 
+		Set<Long> partitionStepExecutionIds = getIds(split);
 		Callable<Set<StepExecution>> callback = () -> {
-			JobExecution jobExecution = jobRepository.getJobExecution(managerStepExecution.getJobExecutionId());
-			Set<StepExecution> finishedStepExecutions = jobExecution.getStepExecutions()
-				.stream()
-				.filter(stepExecution -> partitionStepExecutionIds.contains(stepExecution.getId()))
-				.filter(stepExecution -> !stepExecution.getStatus().isRunning())
-				.collect(Collectors.toSet());
+			Set<StepExecution> finishedStepExecutions = findFinishedStepExecutions(managerStepExecution,
+					partitionStepExecutionIds);
 
 			if (logger.isDebugEnabled()) {
 				logger.debug(String.format("Currently waiting on %s partitions to finish", split.size()));
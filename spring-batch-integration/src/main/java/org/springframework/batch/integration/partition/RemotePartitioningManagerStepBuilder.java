@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2025 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -75,6 +75,10 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 
 	private long timeout = DEFAULT_TIMEOUT;
 
+	private PollableChannel completionChannel;
+
+	private int maxInFlightPartitions;
+
 	/**
 	 * Create a new {@link RemotePartitioningManagerStepBuilder}.
 	 * @param stepName name of the manager step
@@ -157,6 +161,38 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 		return this;
 	}
 
+	/**
+	 * When using job repository polling, set the channel on which workers notify the
+	 * completion of their partitions. The job repository is then queried once all
+	 * partitions have completed, the poll interval only being used as a fallback.
+	 * @param completionChannel the completion channel
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see MessageChannelPartitionHandler#setCompletionChannel(PollableChannel)
+	 */
+	public RemotePartitioningManagerStepBuilder completionChannel(PollableChannel completionChannel) {
+		Assert.notNull(completionChannel, "completionChannel must not be null");
+		this.completionChannel = completionChannel;
+		return this;
+	}
+
+	/**
+	 * When using job repository polling, set the maximum number of partitions dispatched
+	 * to the workers at a time. The next partition is sent as soon as a dispatched one
+	 * has finished, so that free workers pick up the remaining partitions. Use with a
+	 * grid size larger than the number of workers to balance skewed partitions.
+	 * @param maxInFlightPartitions the maximum number of partitions in flight
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see MessageChannelPartitionHandler#setMaxInFlightPartitions(int)
+	 */
+	public RemotePartitioningManagerStepBuilder maxInFlightPartitions(int maxInFlightPartitions) {
+		Assert.isTrue(maxInFlightPartitions > 0,
+				"The maximum number of partitions in flight must be greater than zero");
+		this.maxInFlightPartitions = maxInFlightPartitions;
+		return this;
+	}
+
 	/**
 	 * Set the bean factory.
 	 * @param beanFactory the bean factory to use
@@ -171,6 +207,10 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 	public Step build() {
 		Assert.state(this.outputChannel == null || this.messagingTemplate == null,
 				"You must specify either an outputChannel or a messagingTemplate but not both.");
+		Assert.state(this.completionChannel == null || isPolling(),
+				"A completionChannel can only be used when polling the job repository for worker results.");
+		Assert.state(this.maxInFlightPartitions == 0 || isPolling(),
+				"Limiting the partitions in flight requires polling the job repository for worker results.");
 
 		// configure messaging template
 		if (this.messagingTemplate == null) {
@@ -191,6 +231,8 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 			partitionHandler.setJobRepository(getJobRepository());
 			partitionHandler.setPollInterval(this.pollInterval);
 			partitionHandler.setTimeout(this.timeout);
+			partitionHandler.setCompletionChannel(this.completionChannel);
+			partitionHandler.setMaxInFlightPartitions(this.maxInFlightPartitions);
 		}
 		else {
 			PollableChannel replies = new QueueChannel();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -78,6 +78,8 @@ public class RemotePartitioningWorkerStepBuilder extends StepBuilder {
 
 	private StepLocator stepLocator;
 
+	private MessageChannel completionChannel;
+
 	private BeanFactory beanFactory;
 
 	/**
@@ -113,6 +115,20 @@ public class RemotePartitioningWorkerStepBuilder extends StepBuilder {
 		return this;
 	}
 
+	/**
+	 * Set the channel on which the completion of each partition is notified to the
+	 * manager step when it polls the job repository for worker results.
+	 * @param completionChannel the completion channel
+	 * @return this builder instance for fluent chaining
+	 * @since 6.1
+	 * @see StepExecutionRequestHandler#setCompletionChannel(MessageChannel)
+	 */
+	public RemotePartitioningWorkerStepBuilder completionChannel(MessageChannel completionChannel) {
+		Assert.notNull(completionChannel, "completionChannel must not be null");
+		this.completionChannel = completionChannel;
+		return this;
+	}
+
 	/**
 	 * Set the step locator used to locate the worker step to execute.
 	 * @param stepLocator the step locator to use
@@ -239,6 +255,7 @@ public class RemotePartitioningWorkerStepBuilder extends StepBuilder {
 		StepExecutionRequestHandler stepExecutionRequestHandler = new StepExecutionRequestHandler();
 		stepExecutionRequestHandler.setJobRepository(getJobRepository());
 		stepExecutionRequestHandler.setStepLocator(this.stepLocator);
+		stepExecutionRequestHandler.setCompletionChannel(this.completionChannel);
 
 		StandardIntegrationFlow standardIntegrationFlow = IntegrationFlow.from(this.inputChannel)
 			.handle(stepExecutionRequestHandler, SERVICE_ACTIVATOR_METHOD_NAME)
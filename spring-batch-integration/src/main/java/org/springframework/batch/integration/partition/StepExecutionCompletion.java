@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.partition;
+
+import java.io.Serializable;
+
+import org.springframework.batch.core.BatchStatus;
+
+/**
+ * Notification sent by a remote worker when it has finished the execution of a partition,
+ * so that the manager does not have to wait for its next job repository poll.
+ *
+ * @since 6.1
+ * @see StepExecutionRequestHandler#setCompletionChannel(org.springframework.messaging.MessageChannel)
+ * @see MessageChannelPartitionHandler#setCompletionChannel(org.springframework.messaging.PollableChannel)
+ */
+public class StepExecutionCompletion implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private long stepExecutionId;
+
+	private String stepName;
+
+	private BatchStatus status;
+
+	private StepExecutionCompletion() {
+		// For Jackson deserialization
+	}
+
+	/**
+	 * Create a new {@link StepExecutionCompletion} instance.
+	 * @param stepName the name of the executed step
+	 * @param stepExecutionId the id of the step execution
+	 * @param status the status of the step execution
+	 */
+	public StepExecutionCompletion(String stepName, long stepExecutionId, BatchStatus status) {
+		this.stepName = stepName;
+		this.stepExecutionId = stepExecutionId;
+		this.status = status;
+	}
+
+	public long getStepExecutionId() {
+		return stepExecutionId;
+	}
+
+	public String getStepName() {
+		return stepName;
+	}
+
+	public BatchStatus getStatus() {
+		return status;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("StepExecutionCompletion: [stepExecutionId=%d, stepName=%s, status=%s]", stepExecutionId,
+				stepName, status);
+	}
+
+}
@@ -8,6 +8,9 @@ import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.step.StepLocator;
 import org.springframework.integration.annotation.MessageEndpoint;
 import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.integration.core.MessagingTemplate;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.MessageChannel;
 
 /**
  * A {@link MessageEndpoint} that can handle a {@link StepExecutionRequest} and return a
@@ -24,6 +27,10 @@ public class StepExecutionRequestHandler {
 
 	private StepLocator stepLocator;
 
+	private MessageChannel completionChannel;
+
+	private final MessagingTemplate messagingTemplate = new MessagingTemplate();
+
 	/**
 	 * Used to locate a {@link Step} to execute for each request.
 	 * @param stepLocator a {@link StepLocator}
@@ -41,6 +48,18 @@ public class StepExecutionRequestHandler {
 		this.jobRepository = jobRepository;
 	}
 
+	/**
+	 * A channel on which a {@link StepExecutionCompletion} is sent each time a step
+	 * execution has been handled, so that the manager can react to it without waiting for
+	 * its next job repository poll. Optional, no notification is sent by default.
+	 * @param completionChannel the channel to notify completions to
+	 * @since 6.1
+	 * @see MessageChannelPartitionHandler#setCompletionChannel(org.springframework.messaging.PollableChannel)
+	 */
+	public void setCompletionChannel(MessageChannel completionChannel) {
+		this.completionChannel = completionChannel;
+	}
+
 	@ServiceActivator
 	public StepExecution handle(StepExecutionRequest request) {
 
@@ -69,6 +88,12 @@ public class StepExecutionRequestHandler {
 			// The receiver should update the stepExecution in repository
 		}
 
+		if (completionChannel != null) {
+			StepExecutionCompletion completion = new StepExecutionCompletion(stepName, stepExecution.getId(),
+					stepExecution.getStatus());
+			messagingTemplate.send(completionChannel, MessageBuilder.withPayload(completion).build());
+		}
+
 		return stepExecution;
 
 	}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.chunk;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.core.MessagingTemplate;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkMessageChannelItemWriterTests {
+
+	private final ExecutorService workers = Executors.newFixedThreadPool(4);
+
+	private final DirectChannel requests = new DirectChannel();
+
+	private final DirectChannel replies = new DirectChannel();
+
+	private final List<ChunkRequest<String>> pendingRequests = new ArrayList<>();
+
+	private final ChunkMessageChannelItemWriter<String> writer = new ChunkMessageChannelItemWriter<>();
+
+	private final StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+	@BeforeEach
+	void setUp() {
+		MessagingTemplate messagingTemplate = new MessagingTemplate();
+		messagingTemplate.setDefaultChannel(this.requests);
+		this.writer.setMessagingOperations(messagingTemplate);
+		this.writer.setAsyncReplyChannel(this.replies);
+		this.writer.beforeStep(this.stepExecution);
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.workers.shutdownNow();
+	}
+
+	@Test
+	void testAsyncRepliesRefillWindow() throws Exception {
+		this.requests.subscribe(message -> {
+			@SuppressWarnings("unchecked")
+			ChunkRequest<String> request = (ChunkRequest<String>) message.getPayload();
+			this.workers.execute(() -> reply(request, true));
+		});
+		this.writer.setThrottleLimit(1);
+
+		for (int i = 0; i < 10; i++) {
+			this.writer.write(Chunk.of("foo", "bar"));
+		}
+		this.stepExecution.setStatus(BatchStatus.COMPLETED);
+		ExitStatus exitStatus = this.writer.afterStep(this.stepExecution);
+
+		assertEquals(ExitStatus.COMPLETED.getExitCode(), exitStatus.getExitCode());
+		assertEquals(20, this.stepExecution.getWriteCount());
+		assertEquals(0, this.writer.localState.getExpecting());
+		assertEquals(0, this.replies.getSubscriberCount());
+	}
+
+	@Test
+	void testFailedReplyIsReportedByNextWrite() throws Exception {
+		this.requests.subscribe(message -> {
+			@SuppressWarnings("unchecked")
+			ChunkRequest<String> request = (ChunkRequest<String>) message.getPayload();
+			reply(request, false);
+		});
+
+		this.writer.write(Chunk.of("foo"));
+
+		assertThrows(AsynchronousFailureException.class, () -> this.writer.write(Chunk.of("bar")));
+	}
+
+	@Test
+	void testTimeoutWaitingForReplies() throws Exception {
+		this.requests.subscribe(message -> {
+			@SuppressWarnings("unchecked")
+			ChunkRequest<String> request = (ChunkRequest<String>) message.getPayload();
+			this.pendingRequests.add(request);
+		});
+		this.writer.setReplyTimeout(Duration.ofMillis(100));
+
+		this.writer.write(Chunk.of("foo"));
+		this.writer.write(Chunk.of("bar"));
+		reply(this.pendingRequests.get(0), true);
+		this.stepExecution.setStatus(BatchStatus.COMPLETED);
+		ExitStatus exitStatus = this.writer.afterStep(this.stepExecution);
+
+		assertEquals(ExitStatus.FAILED.getExitCode(), exitStatus.getExitCode());
+		assertTrue(exitStatus.getExitDescription().contains("Timed out waiting for 1 backlog"));
+		assertEquals(1, this.stepExecution.getWriteCount());
+	}
+
+	@Test
+	void testReplyReceivedBeforeOpenIsKept() {
+		ChunkRequest<String> request = this.writer.localState.getRequest(Chunk.of("foo"));
+		this.writer.setReplyTimeout(Duration.ofMillis(100));
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putInt(ChunkMessageChannelItemWriter.EXPECTED, 1);
+		executionContext.putInt(ChunkMessageChannelItemWriter.ACTUAL, 0);
+
+		// backlog of the previous execution, received as soon as the writer subscribes
+		reply(request, true);
+		this.writer.open(executionContext);
+
+		assertEquals(0, this.writer.localState.getExpecting());
+	}
+
+	private void reply(ChunkRequest<String> request, boolean successful) {
+		StepContribution contribution = request.getStepContribution();
+		contribution.incrementWriteCount(request.getItems().size());
+		this.replies.send(new GenericMessage<>(new ChunkResponse(successful, request.getSequence(),
+				request.getJobInstanceId(), contribution, successful ? null : "failure")));
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.chunk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.util.SerializationUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactChunkMessageCodecTests {
+
+	private final CompactChunkMessageCodec<String> codec = new CompactChunkMessageCodec<>();
+
+	private final StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution("step", 123L);
+
+	@Test
+	void testRequestRoundTrip() {
+		this.stepExecution.setReadSkipCount(2);
+		ChunkRequest<String> request = new ChunkRequest<>(5, Chunk.of("foo", "bar"),
+				this.stepExecution.getJobExecution().getJobInstanceId(), this.stepExecution.createStepContribution());
+
+		ChunkRequest<String> result = this.codec.decodeRequest(this.codec.encodeRequest(request));
+
+		assertEquals(5, result.getSequence());
+		assertEquals(request.getJobInstanceId(), result.getJobInstanceId());
+		assertEquals(List.of("foo", "bar"), result.getItems().getItems());
+		StepContribution contribution = result.getStepContribution();
+		assertEquals(2, contribution.getStepSkipCount());
+		assertEquals(123L, contribution.getStepExecution().getId());
+		assertEquals("step", contribution.getStepExecution().getStepName());
+		assertEquals(this.stepExecution.getJobExecutionId(), contribution.getStepExecution().getJobExecutionId());
+		assertEquals(this.stepExecution.getJobExecution().getJobInstance().getJobName(),
+				contribution.getStepExecution().getJobExecution().getJobInstance().getJobName());
+	}
+
+	@Test
+	void testResponseRoundTrip() {
+		StepContribution contribution = this.stepExecution.createStepContribution();
+		contribution.incrementWriteCount(3);
+		contribution.incrementFilterCount(1);
+		contribution.incrementProcessSkipCount();
+		contribution.setExitStatus(new ExitStatus("CUSTOM", "description"));
+		ChunkResponse response = new ChunkResponse(false, 7, 11L, contribution, "failure", true);
+
+		ChunkResponse result = this.codec.decodeResponse(this.codec.encodeResponse(response));
+
+		assertFalse(result.isSuccessful());
+		assertTrue(result.isRedelivered());
+		assertEquals(7, result.getSequence());
+		assertEquals(this.stepExecution.getJobExecution().getJobInstanceId(), result.getJobInstanceId());
+		assertEquals("failure", result.getMessage());
+		StepContribution resultContribution = result.getStepContribution();
+		assertEquals(0, resultContribution.getReadCount());
+		assertEquals(3, resultContribution.getWriteCount());
+		assertEquals(1, resultContribution.getFilterCount());
+		assertEquals(1, resultContribution.getProcessSkipCount());
+		assertEquals(new ExitStatus("CUSTOM", "description"), resultContribution.getExitStatus());
+	}
+
+	@Test
+	void testResponseWithoutMessage() {
+		ChunkResponse response = new ChunkResponse(1, 11L, this.stepExecution.createStepContribution());
+
+		ChunkResponse result = this.codec.decodeResponse(this.codec.encodeResponse(response));
+
+		assertTrue(result.isSuccessful());
+		assertNull(result.getMessage());
+	}
+
+	@Test
+	void testCompressedRequestIsSmaller() {
+		List<String> items = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			items.add("item with a repetitive payload " + i);
+		}
+		ChunkRequest<String> request = new ChunkRequest<>(0, new Chunk<>(items), 11L,
+				this.stepExecution.createStepContribution());
+		byte[] uncompressed = this.codec.encodeRequest(request);
+		CompactChunkMessageCodec<String> compressingCodec = new CompactChunkMessageCodec<>();
+		compressingCodec.setCompressed(true);
+
+		byte[] compressed = compressingCodec.encodeRequest(request);
+
+		assertTrue(compressed.length < uncompressed.length);
+		assertTrue(uncompressed.length < SerializationUtils.serialize(request).length);
+		// decoding detects the compression
+		assertEquals(items, this.codec.decodeRequest(compressed).getItems().getItems());
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -186,6 +186,23 @@ class RemoteChunkingManagerStepBuilderTests {
 			.hasMessage("You must specify either an outputChannel or a messagingTemplate but not both.");
 	}
 
+	@Test
+	void eitherInputChannelOrAsyncInputChannelMustBeProvided() {
+		// given
+		RemoteChunkingManagerStepBuilder<String, String> builder = new RemoteChunkingManagerStepBuilder<String, String>(
+				"step", this.jobRepository)
+			.inputChannel(this.inputChannel)
+			.asyncInputChannel(new DirectChannel())
+			.outputChannel(this.outputChannel);
+
+		// when
+		final Exception expectedException = assertThrows(IllegalStateException.class, builder::build);
+
+		// then
+		assertThat(expectedException)
+			.hasMessage("You must specify either an inputChannel or an asyncInputChannel but not both.");
+	}
+
 	@Test
 	void testUnsupportedOperationExceptionWhenSpecifyingAnItemWriter() {
 		// when
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2022 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -118,6 +118,32 @@ class RemoteChunkingWorkerBuilderTests {
 		assertThat(expectedException).hasMessage("An OutputChannel must be provided");
 	}
 
+	@Test
+	void codecMustNotBeNull() {
+		// when
+		final Exception expectedException = assertThrows(IllegalArgumentException.class,
+				() -> new RemoteChunkingWorkerBuilder<String, String>().codec(null).build());
+
+		// then
+		assertThat(expectedException).hasMessage("codec must not be null");
+	}
+
+	@Test
+	void testIntegrationFlowCreationWithCodec() {
+		// given
+		RemoteChunkingWorkerBuilder<String, String> builder = new RemoteChunkingWorkerBuilder<String, String>()
+			.itemWriter(this.itemWriter)
+			.inputChannel(new DirectChannel())
+			.outputChannel(new DirectChannel())
+			.codec(new CompactChunkMessageCodec<>());
+
+		// when
+		IntegrationFlow integrationFlow = builder.build();
+
+		// then
+		assertNotNull(integrationFlow);
+	}
+
 	@Test
 	void testIntegrationFlowCreation() {
 		// given
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 the original author or authors.
+ * Copyright 2020-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -16,11 +16,18 @@
 
 package org.springframework.batch.integration.partition;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,9 +39,13 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.partition.StepExecutionSplitter;
 import org.springframework.integration.MessageTimeoutException;
+import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.core.MessagingTemplate;
+import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.PollableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -251,4 +262,208 @@ class MessageChannelPartitionHandlerTests {
 				() -> messageChannelPartitionHandler.handle(stepExecutionSplitter, managerStepExecution));
 	}
 
+	@Test
+	void testHandleWithJobRepositoryPollingAndCompletionChannel() throws Exception {
+		// execute with no default set
+		messageChannelPartitionHandler = new MessageChannelPartitionHandler();
+		// mock
+		JobExecution jobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution managerStepExecution = new StepExecution(1L, "step1", jobExecution);
+		StepExecutionSplitter stepExecutionSplitter = mock();
+		MessagingTemplate operations = mock();
+		JobRepository jobRepository = mock();
+		// when
+		HashSet<StepExecution> stepExecutions = new HashSet<>();
+		StepExecution partition1 = new StepExecution(2L, "step1:partition1", jobExecution);
+		StepExecution partition2 = new StepExecution(3L, "step1:partition2", jobExecution);
+		partition1.setStatus(BatchStatus.COMPLETED);
+		partition2.setStatus(BatchStatus.FAILED);
+		stepExecutions.add(partition1);
+		stepExecutions.add(partition2);
+		when(stepExecutionSplitter.split(any(StepExecution.class), eq(1))).thenReturn(stepExecutions);
+		JobExecution completedJobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
+		completedJobExecution.addStepExecutions(Arrays.asList(partition1, partition2));
+		when(jobRepository.getJobExecution(5L)).thenReturn(completedJobExecution);
+		QueueChannel completionChannel = new QueueChannel();
+		completionChannel
+			.send(MessageBuilder.withPayload(new StepExecutionCompletion("step1", 2L, BatchStatus.COMPLETED)).build());
+		completionChannel
+			.send(MessageBuilder.withPayload(new StepExecutionCompletion("step1", 42L, BatchStatus.COMPLETED)).build());
+		completionChannel
+			.send(MessageBuilder.withPayload(new StepExecutionCompletion("step1", 3L, BatchStatus.FAILED)).build());
+
+		// set
+		messageChannelPartitionHandler.setMessagingOperations(operations);
+		messageChannelPartitionHandler.setJobRepository(jobRepository);
+		messageChannelPartitionHandler.setStepName("step1");
+		messageChannelPartitionHandler.setPollInterval(60000L);
+		messageChannelPartitionHandler.setTimeout(10000L);
+		messageChannelPartitionHandler.setCompletionChannel(completionChannel);
+		messageChannelPartitionHandler.afterPropertiesSet();
+
+		// execute
+		Collection<StepExecution> executions = messageChannelPartitionHandler.handle(stepExecutionSplitter,
+				managerStepExecution);
+		// verify
+		assertEquals(2, executions.size());
+		assertTrue(executions.contains(partition1));
+		assertTrue(executions.contains(partition2));
+		verify(jobRepository, times(1)).getJobExecution(5L);
+	}
+
+	@Test
+	void testHandleWithCompletionChannelSharedWithAnotherStep() throws Exception {
+		// execute with no default set
+		messageChannelPartitionHandler = new MessageChannelPartitionHandler();
+		// mock
+		JobExecution jobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution managerStepExecution = new StepExecution(1L, "step1", jobExecution);
+		StepExecutionSplitter stepExecutionSplitter = mock();
+		MessagingTemplate operations = mock();
+		JobRepository jobRepository = mock();
+		// when
+		HashSet<StepExecution> stepExecutions = new HashSet<>();
+		stepExecutions.add(new StepExecution(2L, "step1:partition1", jobExecution));
+		when(stepExecutionSplitter.split(any(StepExecution.class), eq(1))).thenReturn(stepExecutions);
+		QueueChannel completionChannel = new QueueChannel();
+		completionChannel
+			.send(MessageBuilder.withPayload(new StepExecutionCompletion("otherStep", 42L, BatchStatus.COMPLETED))
+				.build());
+
+		// set
+		messageChannelPartitionHandler.setMessagingOperations(operations);
+		messageChannelPartitionHandler.setJobRepository(jobRepository);
+		messageChannelPartitionHandler.setStepName("step1");
+		messageChannelPartitionHandler.setPollInterval(60000L);
+		messageChannelPartitionHandler.setTimeout(10000L);
+		messageChannelPartitionHandler.setCompletionChannel(completionChannel);
+		messageChannelPartitionHandler.afterPropertiesSet();
+
+		// execute
+		assertThrows(IllegalStateException.class,
+				() -> messageChannelPartitionHandler.handle(stepExecutionSplitter, managerStepExecution));
+	}
+
+	@Test
+	void testHandleWithJobRepositoryPollingAndCompletionChannelTimeout() throws Exception {
+		// execute with no default set
+		messageChannelPartitionHandler = new MessageChannelPartitionHandler();
+		// mock
+		JobExecution jobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution managerStepExecution = new StepExecution(1L, "step1", jobExecution);
+		StepExecutionSplitter stepExecutionSplitter = mock();
+		MessagingTemplate operations = mock();
+		JobRepository jobRepository = mock();
+		// when
+		StepExecution partition1 = new StepExecution(2L, "step1:partition1", jobExecution);
+		partition1.setStatus(BatchStatus.STARTED);
+		when(stepExecutionSplitter.split(any(StepExecution.class), eq(1)))
+			.thenReturn(Collections.singleton(partition1));
+		JobExecution runningJobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
+		runningJobExecution.addStepExecutions(Collections.singletonList(partition1));
+		when(jobRepository.getJobExecution(5L)).thenReturn(runningJobExecution);
+
+		// set
+		messageChannelPartitionHandler.setMessagingOperations(operations);
+		messageChannelPartitionHandler.setJobRepository(jobRepository);
+		messageChannelPartitionHandler.setStepName("step1");
+		messageChannelPartitionHandler.setPollInterval(100L);
+		messageChannelPartitionHandler.setTimeout(500L);
+		messageChannelPartitionHandler.setCompletionChannel(new QueueChannel());
+		messageChannelPartitionHandler.afterPropertiesSet();
+
+		// execute
+		assertThrows(TimeoutException.class,
+				() -> messageChannelPartitionHandler.handle(stepExecutionSplitter, managerStepExecution));
+	}
+
+	@Test
+	void testHandleWithMaxInFlightPartitions() throws Exception {
+		// execute with no default set
+		messageChannelPartitionHandler = new MessageChannelPartitionHandler();
+		// mock
+		JobExecution jobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution managerStepExecution = new StepExecution(1L, "step1", jobExecution);
+		StepExecutionSplitter stepExecutionSplitter = mock();
+		JobRepository jobRepository = mock();
+		// when
+		Map<Long, StepExecution> partitions = new ConcurrentHashMap<>();
+		for (long i = 0; i < 10; i++) {
+			StepExecution partition = new StepExecution(10L + i, "step1:partition" + i, jobExecution);
+			partition.setStatus(BatchStatus.STARTED);
+			partitions.put(partition.getId(), partition);
+		}
+		Set<StepExecution> stepExecutions = new HashSet<>(partitions.values());
+		when(stepExecutionSplitter.split(any(StepExecution.class), eq(1))).thenReturn(stepExecutions);
+		JobExecution repositoryJobExecution = new JobExecution(5L, new JobInstance(1L, "job"), new JobParameters());
+		repositoryJobExecution.addStepExecutions(new ArrayList<>(stepExecutions));
+		when(jobRepository.getJobExecution(5L)).thenReturn(repositoryJobExecution);
+
+		// a shared queue of requests, consumed by three local workers
+		QueueChannel requests = new QueueChannel();
+		QueueChannel completionChannel = new QueueChannel();
+		AtomicInteger dispatched = new AtomicInteger();
+		AtomicInteger completed = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		requests.addInterceptor(new ChannelInterceptor() {
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				maxInFlight.accumulateAndGet(dispatched.incrementAndGet() - completed.get(), Math::max);
+				return message;
+			}
+		});
+		ExecutorService workers = Executors.newFixedThreadPool(3);
+		for (int i = 0; i < 3; i++) {
+			workers.execute(() -> {
+				Message<?> message;
+				while ((message = requests.receive(5000)) != null) {
+					StepExecutionRequest request = (StepExecutionRequest) message.getPayload();
+					StepExecution partition = partitions.get(request.getStepExecutionId());
+					partition.setStatus(BatchStatus.COMPLETED);
+					completed.incrementAndGet();
+					completionChannel.send(MessageBuilder
+						.withPayload(new StepExecutionCompletion("step1", partition.getId(), BatchStatus.COMPLETED))
+						.build());
+				}
+			});
+		}
+		MessagingTemplate operations = new MessagingTemplate();
+		operations.setDefaultChannel(requests);
+
+		// set
+		messageChannelPartitionHandler.setMessagingOperations(operations);
+		messageChannelPartitionHandler.setJobRepository(jobRepository);
+		messageChannelPartitionHandler.setStepName("step1");
+		messageChannelPartitionHandler.setPollInterval(60000L);
+		messageChannelPartitionHandler.setTimeout(10000L);
+		messageChannelPartitionHandler.setCompletionChannel(completionChannel);
+		messageChannelPartitionHandler.setMaxInFlightPartitions(2);
+		messageChannelPartitionHandler.afterPropertiesSet();
+
+		// execute
+		Collection<StepExecution> executions;
+		try {
+			executions = messageChannelPartitionHandler.handle(stepExecutionSplitter, managerStepExecution);
+		}
+		finally {
+			workers.shutdownNow();
+		}
+		// verify
+		assertEquals(10, executions.size());
+		assertEquals(10, dispatched.get());
+		assertEquals(2, maxInFlight.get());
+		assertTrue(executions.stream().allMatch(execution -> execution.getStatus() == BatchStatus.COMPLETED));
+		verify(jobRepository, times(1)).getJobExecution(5L);
+	}
+
+	@Test
+	void testMaxInFlightPartitionsRequiresJobRepositoryPolling() {
+		messageChannelPartitionHandler = new MessageChannelPartitionHandler();
+		messageChannelPartitionHandler.setMessagingOperations(new MessagingTemplate());
+		messageChannelPartitionHandler.setStepName("step1");
+		messageChannelPartitionHandler.setMaxInFlightPartitions(2);
+
+		assertThrows(IllegalStateException.class, () -> messageChannelPartitionHandler.afterPropertiesSet());
+	}
+
 }
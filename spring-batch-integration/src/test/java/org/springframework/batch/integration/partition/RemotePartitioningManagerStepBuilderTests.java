@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -122,6 +122,23 @@ class RemotePartitioningManagerStepBuilderTests {
 			.hasMessage("You must specify either an outputChannel or a messagingTemplate but not both.");
 	}
 
+	@Test
+	void completionChannelRequiresJobRepositoryPolling() {
+		// given
+		RemotePartitioningManagerStepBuilder builder = new RemotePartitioningManagerStepBuilder("step",
+				this.jobRepository)
+			.outputChannel(new DirectChannel())
+			.inputChannel(new DirectChannel())
+			.completionChannel(new QueueChannel());
+
+		// when
+		final Exception expectedException = assertThrows(IllegalStateException.class, builder::build);
+
+		// then
+		assertThat(expectedException)
+			.hasMessage("A completionChannel can only be used when polling the job repository for worker results.");
+	}
+
 	@Test
 	void testUnsupportedOperationExceptionWhenSpecifyingPartitionHandler() {
 		// given